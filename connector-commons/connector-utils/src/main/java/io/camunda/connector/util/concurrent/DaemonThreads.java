@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.util.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the background threads of pools and caches, e.g. to evict idle connections. The threads
+ * are daemon threads, so they never keep the runtime from shutting down.
+ */
+public final class DaemonThreads {
+
+  private DaemonThreads() {}
+
+  /** A factory of daemon threads that all have the given name. */
+  public static ThreadFactory factory(String name) {
+    return runnable -> {
+      Thread thread = new Thread(runnable, name);
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Runs the task on a single daemon thread with the given delay between the end of one run and the
+   * start of the next. The first run starts after the delay.
+   */
+  public static ScheduledExecutorService scheduleWithFixedDelay(
+      String name, Runnable task, Duration delay) {
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(factory(name));
+    executor.scheduleWithFixedDelay(
+        task, delay.toMillis(), delay.toMillis(), TimeUnit.MILLISECONDS);
+    return executor;
+  }
+
+  /**
+   * A single daemon thread executing tasks in order. The thread is only started when a task is
+   * submitted and ends after being idle for the keep-alive time.
+   */
+  public static ThreadPoolExecutor onDemand(String name, Duration keepAlive) {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            keepAlive.toNanos(),
+            TimeUnit.NANOSECONDS,
+            new LinkedBlockingQueue<>(),
+            factory(name));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
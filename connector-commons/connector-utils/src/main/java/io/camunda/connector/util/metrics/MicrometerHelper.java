@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.util.metrics;
+
+/**
+ * Micrometer is an optional dependency of the connectors and the shared clients. Classes
+ * referencing Micrometer types must only be loaded after checking {@link #isMicrometerAvailable()}.
+ */
+public final class MicrometerHelper {
+
+  private static final String MICROMETER_CLASS = "io.micrometer.core.instrument.Metrics";
+
+  private static final boolean MICROMETER_AVAILABLE = detectMicrometer();
+
+  private MicrometerHelper() {}
+
+  public static boolean isMicrometerAvailable() {
+    return MICROMETER_AVAILABLE;
+  }
+
+  private static boolean detectMicrometer() {
+    try {
+      Class.forName(MICROMETER_CLASS, false, MicrometerHelper.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+}
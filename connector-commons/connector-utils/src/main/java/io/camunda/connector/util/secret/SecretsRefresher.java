@@ -0,0 +1,233 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.util.secret;
+
+import io.camunda.connector.util.concurrent.DaemonThreads;
+import io.camunda.connector.util.metrics.MicrometerHelper;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the secrets loaded from a remote secret store and reloads them in the background.
+ *
+ * <p>The secrets are loaded synchronously on the first lookup. A lookup that finds the secrets
+ * older than the refresh interval starts a reload in the background, unless one is running, and is
+ * served the current snapshot, which is atomically swapped once the reload completes. Resolving a
+ * secret never waits for the remote secret store, and the store is not called while no secrets are
+ * resolved. If a reload fails, the current snapshot is served and the next reload waits for an
+ * exponential backoff starting at the refresh interval, with jitter.
+ *
+ * <p>The refresh latency, failures and staleness are published with {@link
+ * SecretsRefresherMetrics}.
+ *
+ * @param <T> the loaded secrets, together with their version in the secret store if known
+ */
+public final class SecretsRefresher<T> implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SecretsRefresher.class);
+
+  private static final Duration MAX_BACKOFF = Duration.ofMinutes(2);
+  // the exponent is capped so the backoff cannot overflow
+  private static final int MAX_BACKOFF_EXPONENT = 16;
+  private static final Duration REFRESH_THREAD_KEEP_ALIVE = Duration.ofMinutes(1);
+
+  private final String threadName;
+  private final Loader<T> loader;
+  private final AtomicReference<Snapshot<T>> snapshot = new AtomicReference<>();
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private final AtomicLong refreshCount = new AtomicLong();
+  private final AtomicLong refreshTimeNanos = new AtomicLong();
+  private final AtomicLong refreshFailureCount = new AtomicLong();
+  private volatile Duration refreshInterval;
+  private ThreadPoolExecutor refresher; // guarded by this
+  private volatile long nextRefreshNanos;
+  private int consecutiveFailures;
+
+  /**
+   * @param threadName the name of the thread reloading the secrets
+   * @param refreshInterval the age after which the secrets are reloaded
+   * @param loader loads the secrets from the secret store
+   */
+  public SecretsRefresher(String threadName, Duration refreshInterval, Loader<T> loader) {
+    this.threadName = threadName;
+    this.refreshInterval = refreshInterval;
+    this.loader = loader;
+  }
+
+  /**
+   * Returns the current secrets, loading them on the first call.
+   *
+   * @throws RuntimeException if the secrets could not be loaded initially
+   */
+  public T get() {
+    Snapshot<T> current = snapshot.get();
+    if (current == null) {
+      current = loadInitialSnapshot();
+    } else if (System.nanoTime() - nextRefreshNanos >= 0) {
+      refreshInBackground();
+    }
+    return current.secrets();
+  }
+
+  /**
+   * Publishes the meters of the secrets to the global Micrometer registry, if Micrometer is on the
+   * classpath.
+   *
+   * @param provider the name of the secret provider, e.g. its simple class name
+   */
+  public void bindMetricsToGlobalRegistry(String provider) {
+    if (MicrometerHelper.isMicrometerAvailable()) {
+      SecretsRefresherMetrics.bindToGlobalRegistry(this, provider);
+    }
+  }
+
+  /** Sets the refresh interval and discards the secrets, they are loaded again on the next call. */
+  public synchronized void reset(Duration refreshInterval) {
+    this.refreshInterval = refreshInterval;
+    snapshot.set(null);
+  }
+
+  /** Stops the reloading thread, a later reload starts a new one. */
+  @Override
+  public synchronized void close() {
+    if (refresher != null) {
+      refresher.shutdownNow();
+      refresher = null;
+    }
+  }
+
+  public long getRefreshCount() {
+    return refreshCount.get();
+  }
+
+  public long getRefreshTimeNanos() {
+    return refreshTimeNanos.get();
+  }
+
+  public long getRefreshFailureCount() {
+    return refreshFailureCount.get();
+  }
+
+  /** Time since the served secrets were last confirmed to be up to date, zero before loading. */
+  public Duration getStaleness() {
+    Snapshot<T> current = snapshot.get();
+    return current != null
+        ? Duration.ofNanos(System.nanoTime() - current.loadedAtNanos())
+        : Duration.ZERO;
+  }
+
+  private synchronized Snapshot<T> loadInitialSnapshot() {
+    Snapshot<T> current = snapshot.get();
+    if (current != null) {
+      return current;
+    }
+    try {
+      current = timedLoad(null);
+    } catch (RuntimeException e) {
+      refreshFailureCount.incrementAndGet();
+      throw e;
+    } catch (Exception e) {
+      refreshFailureCount.incrementAndGet();
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+    consecutiveFailures = 0;
+    nextRefreshNanos = System.nanoTime() + refreshInterval.toNanos();
+    snapshot.set(current);
+    return current;
+  }
+
+  /** Starts a reload unless one is running, lookups keep being served the current snapshot. */
+  private synchronized void refreshInBackground() {
+    if (!refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    if (refresher == null) {
+      // the thread only lives while secrets are resolved, it ends after the keep-alive time
+      refresher = DaemonThreads.onDemand(threadName, REFRESH_THREAD_KEEP_ALIVE);
+    }
+    try {
+      refresher.execute(this::refresh);
+    } catch (RejectedExecutionException e) {
+      refreshing.set(false);
+    }
+  }
+
+  private void refresh() {
+    try {
+      Snapshot<T> current = snapshot.get();
+      if (current == null) {
+        // discarded by reset, the next lookup loads the secrets again
+        return;
+      }
+      try {
+        snapshot.compareAndSet(current, timedLoad(current.secrets()));
+        consecutiveFailures = 0;
+        nextRefreshNanos = System.nanoTime() + refreshInterval.toNanos();
+      } catch (Exception e) {
+        refreshFailureCount.incrementAndGet();
+        consecutiveFailures++;
+        Duration backoff = backoff(consecutiveFailures);
+        nextRefreshNanos = System.nanoTime() + backoff.toNanos();
+        LOGGER.warn(
+            "Failed to refresh secrets, serving secrets loaded {} ago, retrying after {}",
+            getStaleness(),
+            backoff,
+            e);
+      }
+    } finally {
+      refreshing.set(false);
+    }
+  }
+
+  private Snapshot<T> timedLoad(T current) throws Exception {
+    long start = System.nanoTime();
+    try {
+      return new Snapshot<>(loader.load(current), System.nanoTime());
+    } finally {
+      refreshCount.incrementAndGet();
+      refreshTimeNanos.addAndGet(System.nanoTime() - start);
+    }
+  }
+
+  private Duration backoff(int failures) {
+    long base = Math.max(refreshInterval.toNanos(), 1);
+    long max = Math.max(base, MAX_BACKOFF.toNanos());
+    int exponent = Math.min(failures, MAX_BACKOFF_EXPONENT);
+    long backoff = base > max >> exponent ? max : Math.min(base << exponent, max);
+    return Duration.ofNanos(ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1));
+  }
+
+  /** Loads the secrets from the secret store. */
+  @FunctionalInterface
+  public interface Loader<T> {
+
+    /**
+     * @param current the secrets served so far, {@code null} on the initial load
+     * @return the loaded secrets, or {@code current} if the store reports them as unchanged
+     */
+    T load(T current) throws Exception;
+  }
+
+  private record Snapshot<T>(T secrets, long loadedAtNanos) {}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.util.secret;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the refresh latency, refresh failures and staleness of the secrets of a {@link
+ * SecretsRefresher} as Micrometer meters, tagged with the secret provider.
+ *
+ * <p>Micrometer is an optional dependency, this class must only be loaded after checking that it is
+ * on the classpath.
+ */
+public class SecretsRefresherMetrics implements MeterBinder {
+
+  public static final String METRIC_NAME_REFRESH = "camunda.connector.secrets.refresh";
+  public static final String METRIC_NAME_REFRESH_FAILURES =
+      "camunda.connector.secrets.refresh.failures";
+  public static final String METRIC_NAME_STALENESS = "camunda.connector.secrets.staleness";
+  public static final String TAG_PROVIDER = "provider";
+
+  private final SecretsRefresher<?> refresher;
+  private final String provider;
+
+  /**
+   * @param provider the name of the secret provider, e.g. its simple class name
+   */
+  public SecretsRefresherMetrics(SecretsRefresher<?> refresher, String provider) {
+    this.refresher = refresher;
+    this.provider = provider;
+  }
+
+  public static void bindToGlobalRegistry(SecretsRefresher<?> refresher, String provider) {
+    new SecretsRefresherMetrics(refresher, provider).bindTo(Metrics.globalRegistry);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    FunctionTimer.builder(
+            METRIC_NAME_REFRESH,
+            refresher,
+            SecretsRefresher::getRefreshCount,
+            SecretsRefresher::getRefreshTimeNanos,
+            TimeUnit.NANOSECONDS)
+        .description("Time spent loading secrets from the secret store")
+        .tag(TAG_PROVIDER, provider)
+        .register(meterRegistry);
+    FunctionCounter.builder(
+            METRIC_NAME_REFRESH_FAILURES, refresher, SecretsRefresher::getRefreshFailureCount)
+        .description("Failed attempts to load secrets from the secret store")
+        .tag(TAG_PROVIDER, provider)
+        .register(meterRegistry);
+    TimeGauge.builder(
+            METRIC_NAME_STALENESS, refresher, TimeUnit.NANOSECONDS, r -> r.getStaleness().toNanos())
+        .description("Time since the served secrets were last loaded from the secret store")
+        .tag(TAG_PROVIDER, provider)
+        .register(meterRegistry);
+  }
+}
@@ -68,6 +68,30 @@ public class OAuthService {
 
   public String extractTokenFromResponse(StreamingHttpResponse body) {
     var jsonNode = ResponseMappers.asJsonNode(() -> OBJECT_MAPPER).apply(body);
+    return extractAccessToken(jsonNode);
+  }
+
+  /**
+   * Extracts the access token and its lifetime ({@code expires_in}) from a token endpoint response.
+   *
+   * @return the token, or {@code null} if the response does not contain an access token
+   */
+  public OAuthToken extractOAuthTokenFromResponse(StreamingHttpResponse body) {
+    var jsonNode = ResponseMappers.asJsonNode(() -> OBJECT_MAPPER).apply(body);
+    String accessToken = extractAccessToken(jsonNode);
+    if (accessToken == null) {
+      return null;
+    }
+    Long expiresIn =
+        Optional.ofNullable(jsonNode.findValue(OAuthConstants.EXPIRES_IN))
+            .filter(node -> node.isNumber() || node.isTextual())
+            .map(node -> node.asLong(-1))
+            .filter(value -> value > 0)
+            .orElse(null);
+    return new OAuthToken(accessToken, expiresIn);
+  }
+
+  private String extractAccessToken(JsonNode jsonNode) {
     return Optional.ofNullable(jsonNode)
         .filter(JsonNode::isObject)
         .map(node -> node.findValue(OAuthConstants.ACCESS_TOKEN))
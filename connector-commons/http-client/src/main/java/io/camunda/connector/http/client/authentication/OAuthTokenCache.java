@@ -0,0 +1,354 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.client.authentication;
+
+import io.camunda.connector.http.client.model.auth.OAuthAuthentication;
+import io.camunda.connector.http.client.utils.EnvVarHelper;
+import io.camunda.connector.util.concurrent.DaemonThreads;
+import io.camunda.connector.util.metrics.MicrometerHelper;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process-wide cache for OAuth client credentials tokens.
+ *
+ * <p>Tokens are keyed by token endpoint, client ID, client authentication method, audience, scopes
+ * and a hash of the client secret. A token is served from the cache until its {@code expires_in}
+ * lifetime minus a safety margin has elapsed. Once 80% of that usable lifetime has passed, the next
+ * access triggers a refresh in the background while the current token is still returned.
+ *
+ * <p>Concurrent fetches for the same key are deduplicated: only one request is sent to the token
+ * endpoint, all other callers wait for its result. Tokens without {@code expires_in} are never
+ * cached.
+ *
+ * <p>A failed background refresh is retried no earlier than after a jittered backoff, which doubles
+ * with every consecutive failure of the key, so that an unavailable token endpoint is not called
+ * with every use of the cached token.
+ *
+ * <p>The cache holds at most a configured number of tokens. When it is full, expired tokens are
+ * removed first, then the token that expires next.
+ *
+ * <p>The cache can be tuned with the following environment variables:
+ *
+ * <ul>
+ *   <li>CONNECTOR_HTTP_CLIENT_OAUTH_EXPIRY_MARGIN_SECONDS (default: 30)
+ *   <li>CONNECTOR_HTTP_CLIENT_OAUTH_CACHE_MAX_SIZE (default: 1000)
+ * </ul>
+ */
+public class OAuthTokenCache {
+
+  public static final String ENV_VAR_EXPIRY_MARGIN_SECONDS =
+      "CONNECTOR_HTTP_CLIENT_OAUTH_EXPIRY_MARGIN_SECONDS";
+  public static final String ENV_VAR_MAX_SIZE = "CONNECTOR_HTTP_CLIENT_OAUTH_CACHE_MAX_SIZE";
+  public static final int DEFAULT_MAX_SIZE = 1000;
+
+  private static final Logger LOG = LoggerFactory.getLogger(OAuthTokenCache.class);
+  private static final double REFRESH_AHEAD_RATIO = 0.8;
+  static final Duration MIN_REFRESH_BACKOFF = Duration.ofSeconds(5);
+  static final Duration MAX_REFRESH_BACKOFF = Duration.ofMinutes(5);
+
+  private static final class Holder {
+    private static final OAuthTokenCache INSTANCE = createDefault();
+  }
+
+  private final Map<CacheKey, CachedToken> tokens = new ConcurrentHashMap<>();
+  private final Map<CacheKey, CompletableFuture<OAuthToken>> inFlight = new ConcurrentHashMap<>();
+  private final Map<CacheKey, RefreshFailure> refreshBackoff = new ConcurrentHashMap<>();
+  private final Executor refreshExecutor;
+  private final Duration expiryMargin;
+  private final int maxSize;
+  private final Clock clock;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder refreshes = new LongAdder();
+  private final LongAdder refreshFailures = new LongAdder();
+
+  record CacheKey(
+      String tokenEndpoint,
+      String clientId,
+      String clientAuthentication,
+      String audience,
+      String scopes,
+      String clientSecretHash) {}
+
+  record CachedToken(String accessToken, Instant refreshAt, Instant expiresAt) {}
+
+  /** The consecutive failed refreshes of a key, and the time before which none is started. */
+  record RefreshFailure(int failures, Instant retryAfter) {}
+
+  OAuthTokenCache(Duration expiryMargin, Clock clock, Executor refreshExecutor) {
+    this(expiryMargin, DEFAULT_MAX_SIZE, clock, refreshExecutor);
+  }
+
+  OAuthTokenCache(Duration expiryMargin, int maxSize, Clock clock, Executor refreshExecutor) {
+    this.expiryMargin = expiryMargin;
+    this.maxSize = maxSize;
+    this.clock = clock;
+    this.refreshExecutor = refreshExecutor;
+  }
+
+  public static OAuthTokenCache get() {
+    return Holder.INSTANCE;
+  }
+
+  private static OAuthTokenCache createDefault() {
+    var cache =
+        new OAuthTokenCache(
+            Duration.ofSeconds(EnvVarHelper.getPositiveInt(ENV_VAR_EXPIRY_MARGIN_SECONDS, 30)),
+            EnvVarHelper.getPositiveInt(ENV_VAR_MAX_SIZE, DEFAULT_MAX_SIZE),
+            Clock.systemUTC(),
+            Executors.newSingleThreadExecutor(
+                DaemonThreads.factory("connectors-oauth-token-refresh")));
+    if (MicrometerHelper.isMicrometerAvailable()) {
+      OAuthTokenCacheMetrics.bindToGlobalRegistry(cache);
+    }
+    return cache;
+  }
+
+  /**
+   * Returns a valid access token for the given authentication, fetching it with the given fetcher
+   * if there is no usable token in the cache.
+   *
+   * @param authentication the OAuth client credentials
+   * @param fetcher requests a new token from the token endpoint
+   * @return the access token, or {@code null} if the token endpoint did not return one
+   */
+  public String getToken(
+      OAuthAuthentication authentication, Function<OAuthAuthentication, OAuthToken> fetcher) {
+    CacheKey key = keyOf(authentication);
+    Instant now = clock.instant();
+    CachedToken cached = tokens.get(key);
+    if (cached != null && now.isBefore(cached.expiresAt())) {
+      hits.increment();
+      if (!now.isBefore(cached.refreshAt())) {
+        refreshInBackground(key, authentication, fetcher, now);
+      }
+      return cached.accessToken();
+    }
+    misses.increment();
+    OAuthToken token = join(fetchOnce(key, authentication, fetcher));
+    return token == null ? null : token.accessToken();
+  }
+
+  /**
+   * Removes the cached token for the given authentication, e.g. because the target rejected it with
+   * HTTP 401. The next request fetches a new token.
+   */
+  public void invalidate(OAuthAuthentication authentication) {
+    if (tokens.remove(keyOf(authentication)) != null) {
+      LOG.debug("Invalidated cached OAuth token for {}", authentication.oauthTokenEndpoint());
+    }
+  }
+
+  /** Removes all cached tokens. */
+  public void invalidateAll() {
+    tokens.clear();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getRefreshCount() {
+    return refreshes.sum();
+  }
+
+  public long getRefreshFailureCount() {
+    return refreshFailures.sum();
+  }
+
+  public int size() {
+    return tokens.size();
+  }
+
+  private void refreshInBackground(
+      CacheKey key,
+      OAuthAuthentication authentication,
+      Function<OAuthAuthentication, OAuthToken> fetcher,
+      Instant now) {
+    RefreshFailure failure = refreshBackoff.get(key);
+    if (failure != null && now.isBefore(failure.retryAfter())) {
+      return;
+    }
+    // registered before the task is submitted, so concurrent callers do not submit it again
+    CompletableFuture<OAuthToken> own = new CompletableFuture<>();
+    if (inFlight.putIfAbsent(key, own) != null) {
+      return;
+    }
+    refreshes.increment();
+    own.exceptionally(
+        e -> {
+          refreshFailures.increment();
+          RefreshFailure recorded = recordRefreshFailure(key);
+          LOG.warn(
+              "Failed to refresh OAuth token for {}, the cached token is used until it expires, next"
+                  + " refresh not before {}",
+              authentication.oauthTokenEndpoint(),
+              recorded.retryAfter(),
+              e);
+          return null;
+        });
+    try {
+      refreshExecutor.execute(() -> fetch(key, authentication, fetcher, own));
+    } catch (RejectedExecutionException e) {
+      inFlight.remove(key, own);
+      own.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * Delays the next refresh of the key by a backoff starting at {@link #MIN_REFRESH_BACKOFF} and
+   * doubling with every consecutive failure up to {@link #MAX_REFRESH_BACKOFF}. Between half and
+   * all of the backoff is applied, so that the keys of one token endpoint do not retry at once.
+   */
+  private RefreshFailure recordRefreshFailure(CacheKey key) {
+    return refreshBackoff.compute(
+        key,
+        (k, previous) -> {
+          int failures = previous == null ? 1 : previous.failures() + 1;
+          long backoffMillis =
+              Math.min(
+                  MIN_REFRESH_BACKOFF.toMillis() << Math.min(failures - 1, 16),
+                  MAX_REFRESH_BACKOFF.toMillis());
+          long jitteredMillis =
+              backoffMillis / 2 + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1);
+          return new RefreshFailure(failures, clock.instant().plusMillis(jitteredMillis));
+        });
+  }
+
+  /**
+   * Fetches a token unless a fetch for the same key is already in flight, in which case the pending
+   * result is returned.
+   */
+  private CompletableFuture<OAuthToken> fetchOnce(
+      CacheKey key,
+      OAuthAuthentication authentication,
+      Function<OAuthAuthentication, OAuthToken> fetcher) {
+    CompletableFuture<OAuthToken> own = new CompletableFuture<>();
+    CompletableFuture<OAuthToken> pending = inFlight.putIfAbsent(key, own);
+    if (pending != null) {
+      return pending;
+    }
+    fetch(key, authentication, fetcher, own);
+    return own;
+  }
+
+  /** Fetches a token into the future registered as in flight for the key. */
+  private void fetch(
+      CacheKey key,
+      OAuthAuthentication authentication,
+      Function<OAuthAuthentication, OAuthToken> fetcher,
+      CompletableFuture<OAuthToken> result) {
+    try {
+      Instant requestedAt = clock.instant();
+      OAuthToken token = fetcher.apply(authentication);
+      store(key, token, requestedAt);
+      refreshBackoff.remove(key);
+      result.complete(token);
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    } finally {
+      inFlight.remove(key, result);
+    }
+  }
+
+  private void store(CacheKey key, OAuthToken token, Instant requestedAt) {
+    if (token == null || token.accessToken() == null || token.expiresInSeconds() == null) {
+      tokens.remove(key);
+      return;
+    }
+    Duration usableLifetime = Duration.ofSeconds(token.expiresInSeconds()).minus(expiryMargin);
+    if (usableLifetime.isNegative() || usableLifetime.isZero()) {
+      tokens.remove(key);
+      return;
+    }
+    // the lifetime is measured from the time the token was requested to stay on the safe side
+    Instant refreshAt =
+        requestedAt.plusMillis((long) (usableLifetime.toMillis() * REFRESH_AHEAD_RATIO));
+    if (!tokens.containsKey(key) && tokens.size() >= maxSize) {
+      evict(requestedAt);
+    }
+    tokens.put(
+        key, new CachedToken(token.accessToken(), refreshAt, requestedAt.plus(usableLifetime)));
+  }
+
+  /** Makes room for a new token, removing expired tokens or else the one that expires next. */
+  private void evict(Instant now) {
+    tokens.values().removeIf(cached -> !now.isBefore(cached.expiresAt()));
+    refreshBackoff.keySet().retainAll(tokens.keySet());
+    while (tokens.size() >= maxSize) {
+      tokens.entrySet().stream()
+          .min(Map.Entry.comparingByValue(Comparator.comparing(CachedToken::expiresAt)))
+          .ifPresent(eldest -> tokens.remove(eldest.getKey(), eldest.getValue()));
+    }
+  }
+
+  private static OAuthToken join(CompletableFuture<OAuthToken> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  static CacheKey keyOf(OAuthAuthentication authentication) {
+    return new CacheKey(
+        authentication.oauthTokenEndpoint(),
+        authentication.clientId(),
+        authentication.clientAuthentication(),
+        authentication.audience(),
+        authentication.scopes(),
+        hash(authentication.clientSecret()));
+  }
+
+  private static String hash(String secret) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of()
+          .formatHex(digest.digest(Objects.toString(secret, "").getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.client.authentication;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the hit, miss and refresh counts of the {@link OAuthTokenCache} as Micrometer meters.
+ */
+public class OAuthTokenCacheMetrics implements MeterBinder {
+
+  public static final String METRIC_NAME_REQUESTS = "camunda.connector.http.client.oauth.cache";
+  public static final String METRIC_NAME_SIZE = "camunda.connector.http.client.oauth.cache.size";
+  public static final String TAG_RESULT = "result";
+
+  private final OAuthTokenCache cache;
+
+  public OAuthTokenCacheMetrics(OAuthTokenCache cache) {
+    this.cache = cache;
+  }
+
+  static void bindToGlobalRegistry(OAuthTokenCache cache) {
+    new OAuthTokenCacheMetrics(cache).bindTo(Metrics.globalRegistry);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    registerCounter(meterRegistry, "hit", OAuthTokenCache::getHitCount);
+    registerCounter(meterRegistry, "miss", OAuthTokenCache::getMissCount);
+    registerCounter(meterRegistry, "refresh", OAuthTokenCache::getRefreshCount);
+    registerCounter(meterRegistry, "refresh-failure", OAuthTokenCache::getRefreshFailureCount);
+    Gauge.builder(METRIC_NAME_SIZE, cache, OAuthTokenCache::size)
+        .description("Number of cached OAuth tokens")
+        .register(meterRegistry);
+  }
+
+  private void registerCounter(
+      MeterRegistry meterRegistry, String result, ToDoubleFunction<OAuthTokenCache> count) {
+    FunctionCounter.builder(METRIC_NAME_REQUESTS, cache, count)
+        .description("OAuth token cache lookups and refreshes")
+        .tag(TAG_RESULT, result)
+        .register(meterRegistry);
+  }
+}
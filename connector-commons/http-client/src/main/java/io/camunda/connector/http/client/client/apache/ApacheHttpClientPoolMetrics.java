@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.client.client.apache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.pool.PoolStats;
+
+/**
+ * Publishes the connection pool statistics of the {@link ApacheHttpClientRegistry} as Micrometer
+ * gauges. Totals are registered immediately, per-route gauges as soon as the pool holds connections
+ * for a new route.
+ */
+public class ApacheHttpClientPoolMetrics implements MeterBinder {
+
+  public static final String METRIC_NAME_POOL = "camunda.connector.http.client.pool";
+  public static final String TAG_STATE = "state";
+  public static final String TAG_ROUTE = "route";
+  public static final String ROUTE_TOTAL = "total";
+
+  private final ApacheHttpClientRegistry registry;
+  private final Map<HttpRoute, Boolean> boundRoutes = new ConcurrentHashMap<>();
+
+  public ApacheHttpClientPoolMetrics(ApacheHttpClientRegistry registry) {
+    this.registry = registry;
+  }
+
+  static void bindToGlobalRegistry(ApacheHttpClientRegistry registry) {
+    var metrics = new ApacheHttpClientPoolMetrics(registry);
+    metrics.bindTo(Metrics.globalRegistry);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    registerGauges(meterRegistry, ROUTE_TOTAL, registry::getTotalStats);
+    registry.setRouteListener(routes -> bindRoutes(meterRegistry, routes));
+  }
+
+  private void bindRoutes(MeterRegistry meterRegistry, Set<HttpRoute> routes) {
+    for (HttpRoute route : routes) {
+      if (boundRoutes.putIfAbsent(route, Boolean.TRUE) == null) {
+        registerGauges(meterRegistry, route.toString(), () -> registry.getStats(route));
+      }
+    }
+  }
+
+  private void registerGauges(
+      MeterRegistry meterRegistry, String route, Supplier<PoolStats> stats) {
+    registerGauge(meterRegistry, route, "leased", stats, PoolStats::getLeased);
+    registerGauge(meterRegistry, route, "pending", stats, PoolStats::getPending);
+    registerGauge(meterRegistry, route, "available", stats, PoolStats::getAvailable);
+    registerGauge(meterRegistry, route, "max", stats, PoolStats::getMax);
+  }
+
+  private void registerGauge(
+      MeterRegistry meterRegistry,
+      String route,
+      String state,
+      Supplier<PoolStats> stats,
+      ToIntFunction<PoolStats> value) {
+    Gauge.builder(METRIC_NAME_POOL, () -> value.applyAsInt(stats.get()))
+        .description("Connections of the shared outbound HTTP client pool")
+        .tag(TAG_ROUTE, route)
+        .tag(TAG_STATE, state)
+        .register(meterRegistry);
+  }
+}
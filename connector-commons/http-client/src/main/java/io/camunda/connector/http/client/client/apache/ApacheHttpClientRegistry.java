@@ -0,0 +1,206 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.client.client.apache;
+
+import io.camunda.connector.http.client.client.apache.proxy.ProxyAwareHttpClient;
+import io.camunda.connector.http.client.client.apache.proxy.ProxyAwareHttpClient.ProxyContext;
+import io.camunda.connector.http.client.client.apache.proxy.ProxyAwareHttpClient.TimeoutConfiguration;
+import io.camunda.connector.http.client.proxy.ProxyConfiguration;
+import io.camunda.connector.http.client.proxy.ProxyConfiguration.ProxyDetails;
+import io.camunda.connector.http.client.utils.EnvVarHelper;
+import io.camunda.connector.util.concurrent.DaemonThreads;
+import io.camunda.connector.util.metrics.MicrometerHelper;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runtime-wide registry of long-lived {@link ProxyAwareHttpClient} instances.
+ *
+ * <p>All clients lease their connections from a single bounded {@link
+ * PoolingHttpClientConnectionManager}, so keep-alive connections and TLS sessions are reused across
+ * requests. Clients are keyed by the proxy route of the target scheme and by the timeout profile of
+ * the request. Idle and expired connections are evicted in the background.
+ *
+ * <p>The pool can be tuned with the following environment variables:
+ *
+ * <ul>
+ *   <li>CONNECTOR_HTTP_CLIENT_MAX_CONNECTIONS (default: 500)
+ *   <li>CONNECTOR_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE (default: 50)
+ *   <li>CONNECTOR_HTTP_CLIENT_CONNECTION_TTL_SECONDS (default: 300)
+ *   <li>CONNECTOR_HTTP_CLIENT_IDLE_TIMEOUT_SECONDS (default: 60)
+ * </ul>
+ *
+ * <p>If Micrometer is on the classpath, pool statistics are published to the global meter registry,
+ * see {@link ApacheHttpClientPoolMetrics}.
+ */
+public final class ApacheHttpClientRegistry {
+
+  public static final String ENV_VAR_MAX_CONNECTIONS = "CONNECTOR_HTTP_CLIENT_MAX_CONNECTIONS";
+  public static final String ENV_VAR_MAX_CONNECTIONS_PER_ROUTE =
+      "CONNECTOR_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE";
+  public static final String ENV_VAR_CONNECTION_TTL_SECONDS =
+      "CONNECTOR_HTTP_CLIENT_CONNECTION_TTL_SECONDS";
+  public static final String ENV_VAR_IDLE_TIMEOUT_SECONDS =
+      "CONNECTOR_HTTP_CLIENT_IDLE_TIMEOUT_SECONDS";
+
+  private static final Logger LOG = LoggerFactory.getLogger(ApacheHttpClientRegistry.class);
+
+  /** Connections idle for longer than this are validated before they are leased again. */
+  private static final TimeValue VALIDATE_AFTER_INACTIVITY = TimeValue.ofSeconds(2);
+
+  private static final long EVICTION_INTERVAL_SECONDS = 10;
+
+  private static final class Holder {
+    private static final ApacheHttpClientRegistry INSTANCE = new ApacheHttpClientRegistry();
+  }
+
+  private final PoolingHttpClientConnectionManager connectionManager;
+  private final Map<ClientKey, ProxyAwareHttpClient> clients = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService evictor;
+  private final TimeValue idleTimeout;
+  private volatile Consumer<Set<HttpRoute>> routeListener = routes -> {};
+
+  /**
+   * The key of a pooled client. The route is determined by the proxy configured for the target
+   * scheme (if any), the timeouts by the request.
+   */
+  record ClientKey(String scheme, ProxyDetails proxy, TimeoutConfiguration timeouts) {}
+
+  private ApacheHttpClientRegistry() {
+    this(
+        EnvVarHelper.getPositiveInt(ENV_VAR_MAX_CONNECTIONS, 500),
+        EnvVarHelper.getPositiveInt(ENV_VAR_MAX_CONNECTIONS_PER_ROUTE, 50),
+        TimeValue.ofSeconds(EnvVarHelper.getPositiveInt(ENV_VAR_CONNECTION_TTL_SECONDS, 300)),
+        TimeValue.ofSeconds(EnvVarHelper.getPositiveInt(ENV_VAR_IDLE_TIMEOUT_SECONDS, 60)));
+  }
+
+  ApacheHttpClientRegistry(
+      int maxConnections, int maxConnectionsPerRoute, TimeValue timeToLive, TimeValue idleTimeout) {
+    this.idleTimeout = idleTimeout;
+    this.connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setDefaultSocketConfig(SocketConfig.custom().setSoKeepAlive(true).build())
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setTimeToLive(timeToLive)
+                    .setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY)
+                    .build())
+            .build();
+    this.evictor =
+        DaemonThreads.scheduleWithFixedDelay(
+            "connectors-http-client-evictor",
+            this::evictConnections,
+            Duration.ofSeconds(EVICTION_INTERVAL_SECONDS));
+    bindMetricsIfAvailable();
+  }
+
+  public static ApacheHttpClientRegistry get() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Returns the pooled client for the given timeout profile and target scheme, creating it on first
+   * use.
+   */
+  public ProxyAwareHttpClient getClient(
+      TimeoutConfiguration timeoutConfiguration, ProxyContext proxyContext) {
+    var proxy = new ProxyConfiguration().getProxyDetails(proxyContext.scheme()).orElse(null);
+    var key = new ClientKey(proxyContext.scheme(), proxy, timeoutConfiguration);
+    return clients.computeIfAbsent(
+        key, k -> new ProxyAwareHttpClient(k.timeouts(), proxyContext, connectionManager));
+  }
+
+  /** Returns the statistics of the whole connection pool. */
+  public PoolStats getTotalStats() {
+    return connectionManager.getTotalStats();
+  }
+
+  /** Returns the statistics of the connection pool for a single route. */
+  public PoolStats getStats(HttpRoute route) {
+    return connectionManager.getStats(route);
+  }
+
+  /** Returns all routes the connection pool currently holds connections for. */
+  public Set<HttpRoute> getRoutes() {
+    return connectionManager.getRoutes();
+  }
+
+  /** Number of distinct clients (proxy route and timeout profile combinations) in use. */
+  public int getClientCount() {
+    return clients.size();
+  }
+
+  /**
+   * Sets a listener that is periodically notified with the routes currently held by the pool, e.g.
+   * to register per-route metrics.
+   */
+  void setRouteListener(Consumer<Set<HttpRoute>> routeListener) {
+    this.routeListener = routeListener;
+  }
+
+  /** Closes all pooled clients and the shared connection pool. Used on shutdown and in tests. */
+  public void close() {
+    evictor.shutdownNow();
+    clients
+        .values()
+        .forEach(
+            client -> {
+              try {
+                client.close();
+              } catch (IOException e) {
+                LOG.debug("Failed to close pooled HTTP client", e);
+              }
+            });
+    clients.clear();
+    connectionManager.close(CloseMode.GRACEFUL);
+  }
+
+  private void evictConnections() {
+    try {
+      connectionManager.closeExpired();
+      connectionManager.closeIdle(idleTimeout);
+      routeListener.accept(connectionManager.getRoutes());
+    } catch (Exception e) {
+      LOG.warn("Failed to evict idle HTTP connections", e);
+    }
+  }
+
+  private void bindMetricsIfAvailable() {
+    if (!MicrometerHelper.isMicrometerAvailable()) {
+      LOG.debug("Micrometer not found on the classpath, HTTP client pool metrics are disabled");
+      return;
+    }
+    ApacheHttpClientPoolMetrics.bindToGlobalRegistry(this);
+  }
+}
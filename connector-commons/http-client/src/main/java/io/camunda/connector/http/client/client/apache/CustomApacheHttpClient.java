@@ -17,6 +17,7 @@
 package io.camunda.connector.http.client.client.apache;
 
 import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.http.client.authentication.OAuthTokenCache;
 import io.camunda.connector.http.client.blocklist.DefaultHttpBlocklistManager;
 import io.camunda.connector.http.client.blocklist.HttpBlockListManager;
 import io.camunda.connector.http.client.client.HttpClient;
@@ -25,6 +26,7 @@ import io.camunda.connector.http.client.mapper.HttpResponse;
 import io.camunda.connector.http.client.mapper.ResponseMapper;
 import io.camunda.connector.http.client.mapper.StreamingHttpResponse;
 import io.camunda.connector.http.client.model.HttpClientRequest;
+import io.camunda.connector.http.client.model.auth.OAuthAuthentication;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import org.apache.hc.client5.http.ClientProtocolException;
@@ -33,6 +35,15 @@ import org.apache.hc.core5.http.HttpStatus;
 public class CustomApacheHttpClient implements HttpClient {
 
   private final HttpBlockListManager httpBlocklistManager = new DefaultHttpBlocklistManager();
+  private final ApacheHttpClientRegistry clientRegistry;
+
+  public CustomApacheHttpClient() {
+    this(ApacheHttpClientRegistry.get());
+  }
+
+  public CustomApacheHttpClient(ApacheHttpClientRegistry clientRegistry) {
+    this.clientRegistry = clientRegistry;
+  }
 
   /**
    * Converts the given {@link HttpClientRequest} to an Apache {@link
@@ -49,14 +60,19 @@ public class CustomApacheHttpClient implements HttpClient {
     var host = apacheRequest.getAuthority().getHostName();
     var scheme = apacheRequest.getScheme();
 
-    try (var client =
-        new ProxyAwareHttpClient(
+    // Pooled client, must not be closed after the request so that connections can be reused
+    var client =
+        clientRegistry.getClient(
             new ProxyAwareHttpClient.TimeoutConfiguration(
                 request.getConnectionTimeoutInSeconds(), request.getReadTimeoutInSeconds()),
-            new ProxyAwareHttpClient.ProxyContext(scheme, host))) {
+            new ProxyAwareHttpClient.ProxyContext(scheme, host));
 
+    try {
       var apacheResponseHandler = new CustomResponseHandler<>(responseMapper);
       return client.execute(apacheRequest, apacheResponseHandler);
+    } catch (ConnectorException e) {
+      invalidateOAuthTokenIfRejected(request, e);
+      throw e;
     } catch (ClientProtocolException e) {
       throw new ConnectorException(
           String.valueOf(HttpStatus.SC_SERVER_ERROR),
@@ -74,4 +90,15 @@ public class CustomApacheHttpClient implements HttpClient {
           e);
     }
   }
+
+  /**
+   * If the target rejected the cached OAuth token (e.g. because it was revoked), drop it so that
+   * the next attempt fetches a new one.
+   */
+  private void invalidateOAuthTokenIfRejected(HttpClientRequest request, ConnectorException e) {
+    if (request.getAuthentication() instanceof OAuthAuthentication authentication
+        && String.valueOf(HttpStatus.SC_UNAUTHORIZED).equals(e.getErrorCode())) {
+      OAuthTokenCache.get().invalidate(authentication);
+    }
+  }
 }
@@ -23,6 +23,8 @@ import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.http.client.HttpClientObjectMapperSupplier;
 import io.camunda.connector.http.client.authentication.Base64Helper;
 import io.camunda.connector.http.client.authentication.OAuthService;
+import io.camunda.connector.http.client.authentication.OAuthToken;
+import io.camunda.connector.http.client.authentication.OAuthTokenCache;
 import io.camunda.connector.http.client.client.apache.CustomApacheHttpClient;
 import io.camunda.connector.http.client.model.HttpClientRequest;
 import io.camunda.connector.http.client.model.auth.ApiKeyAuthentication;
@@ -68,9 +70,13 @@ public class ApacheRequestAuthenticationBuilder implements ApacheRequestPartBuil
   }
 
   String fetchOAuthToken(OAuthAuthentication authentication) {
+    return OAuthTokenCache.get().getToken(authentication, this::requestOAuthToken);
+  }
+
+  private OAuthToken requestOAuthToken(OAuthAuthentication authentication) {
     HttpClientRequest oAuthRequest = oAuthService.createOAuthRequestFrom(authentication);
     return new CustomApacheHttpClient()
-        .execute(oAuthRequest, oAuthService::extractTokenFromResponse)
+        .execute(oAuthRequest, oAuthService::extractOAuthTokenFromResponse)
         .entity();
   }
 }
@@ -23,6 +23,7 @@ import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
 import org.apache.hc.core5.http.ClassicHttpRequest;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
@@ -40,6 +41,7 @@ public class ProxyAwareHttpClient implements Closeable {
   private final ProxyHandler proxyHandler = new ProxyHandler();
   private final TimeoutConfiguration timeoutConfiguration;
   private final ProxyContext proxyContext;
+  private final HttpClientConnectionManager sharedConnectionManager;
   private final CloseableHttpClient client;
 
   public record TimeoutConfiguration(int connectionTimeoutInSeconds, int readTimeoutInSeconds) {}
@@ -48,8 +50,24 @@ public class ProxyAwareHttpClient implements Closeable {
 
   public ProxyAwareHttpClient(
       TimeoutConfiguration timeoutConfiguration, ProxyContext proxyContext) {
+    this(timeoutConfiguration, proxyContext, null);
+  }
+
+  /**
+   * Creates a client that leases its connections from the given connection manager. The connection
+   * manager is not owned by this client and will not be closed by {@link #close()}, which allows
+   * several clients to share one connection pool.
+   *
+   * @param sharedConnectionManager the connection manager to use, or {@code null} to create a
+   *     dedicated one
+   */
+  public ProxyAwareHttpClient(
+      TimeoutConfiguration timeoutConfiguration,
+      ProxyContext proxyContext,
+      HttpClientConnectionManager sharedConnectionManager) {
     this.timeoutConfiguration = timeoutConfiguration;
     this.proxyContext = proxyContext;
+    this.sharedConnectionManager = sharedConnectionManager;
     this.client = createClient();
   }
 
@@ -96,6 +114,15 @@ public class ProxyAwareHttpClient implements Closeable {
   }
 
   private HttpClientBuilder createHttpClientBuilder() {
+    if (sharedConnectionManager != null) {
+      // a shared client serves every job with the same timeouts, cookies set by the response to
+      // one job must not be sent with the requests of the next one
+      return HttpClients.custom()
+          .setConnectionManager(sharedConnectionManager)
+          .setConnectionManagerShared(true)
+          .disableCookieManagement()
+          .disableRedirectHandling();
+    }
     return HttpClients.custom()
         .setConnectionManager(createConnectionManager())
         .disableRedirectHandling();
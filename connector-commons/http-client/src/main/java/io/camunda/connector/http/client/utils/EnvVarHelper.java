@@ -21,28 +21,33 @@ public class EnvVarHelper {
   private static final String ENV_VAR_MAX_BODY_SIZE = "CONNECTOR_HTTP_CLIENT_MAX_BODY_SIZE";
 
   public static int getMaxInMemoryBodySize() {
-    String envVar = System.getenv(ENV_VAR_MAX_BODY_SIZE);
+    return getPositiveInt(ENV_VAR_MAX_BODY_SIZE, 50 * 1024 * 1024); // Default to 50 MB
+  }
+
+  /**
+   * Reads a positive integer from the given environment variable.
+   *
+   * @param name the name of the environment variable
+   * @param defaultValue the value to use if the environment variable is not set
+   * @return the configured value, or the default value if the variable is not set
+   * @throws IllegalArgumentException if the variable is set but not a positive integer
+   */
+  public static int getPositiveInt(String name, int defaultValue) {
+    String envVar = System.getenv(name);
     if (envVar != null) {
       try {
-        int size = Integer.parseInt(envVar);
-        if (size > 0) {
-          return size;
+        int value = Integer.parseInt(envVar);
+        if (value > 0) {
+          return value;
         } else {
           throw new IllegalArgumentException(
-              "Environment variable "
-                  + ENV_VAR_MAX_BODY_SIZE
-                  + " must be a positive integer, but was: "
-                  + envVar);
+              "Environment variable " + name + " must be a positive integer, but was: " + envVar);
         }
       } catch (NumberFormatException e) {
         throw new IllegalArgumentException(
-            "Environment variable "
-                + ENV_VAR_MAX_BODY_SIZE
-                + " must be a valid integer, but was: "
-                + envVar,
-            e);
+            "Environment variable " + name + " must be a valid integer, but was: " + envVar, e);
       }
     }
-    return 50 * 1024 * 1024; // Default to 50 MB
+    return defaultValue;
   }
 }
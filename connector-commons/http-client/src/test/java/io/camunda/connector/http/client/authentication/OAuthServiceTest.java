@@ -168,5 +168,35 @@ public class OAuthServiceTest {
       // Then
       assertThat(token).isEqualTo("abcd");
     }
+
+    @Test
+    public void shouldReturnTokenWithExpiry_whenExtractingOAuthTokenFromResponse() {
+      // Given
+      String body = "{\"access_token\": \"abcd\", \"expires_in\":86400,\"token_type\":\"Bearer\"}";
+      var response =
+          new StreamingHttpResponse(200, null, null, new ByteArrayInputStream(body.getBytes()));
+
+      // When
+      OAuthToken token = oAuthService.extractOAuthTokenFromResponse(response);
+
+      // Then
+      assertThat(token.accessToken()).isEqualTo("abcd");
+      assertThat(token.expiresInSeconds()).isEqualTo(86400L);
+    }
+
+    @Test
+    public void shouldReturnTokenWithoutExpiry_whenResponseHasNoExpiresIn() {
+      // Given
+      String body = "{\"access_token\": \"abcd\", \"token_type\":\"Bearer\"}";
+      var response =
+          new StreamingHttpResponse(200, null, null, new ByteArrayInputStream(body.getBytes()));
+
+      // When
+      OAuthToken token = oAuthService.extractOAuthTokenFromResponse(response);
+
+      // Then
+      assertThat(token.accessToken()).isEqualTo("abcd");
+      assertThat(token.expiresInSeconds()).isNull();
+    }
   }
 }
@@ -0,0 +1,291 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.client.authentication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.camunda.connector.http.client.model.auth.OAuthAuthentication;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class OAuthTokenCacheTest {
+
+  private static final OAuthAuthentication AUTHENTICATION =
+      new OAuthAuthentication(
+          "https://idp.example.com/token",
+          "clientId",
+          "clientSecret",
+          "audience",
+          OAuthConstants.CREDENTIALS_BODY,
+          "read");
+
+  private final MutableClock clock = new MutableClock();
+  private final OAuthTokenCache cache =
+      new OAuthTokenCache(Duration.ofSeconds(30), clock, Runnable::run);
+  private final AtomicInteger fetches = new AtomicInteger();
+
+  private final Function<OAuthAuthentication, OAuthToken> fetcher =
+      auth -> new OAuthToken("token-" + fetches.incrementAndGet(), 3600L);
+
+  @Test
+  void shouldReturnCachedToken_whenNotExpired() {
+    var first = cache.getToken(AUTHENTICATION, fetcher);
+    clock.advance(Duration.ofMinutes(10));
+    var second = cache.getToken(AUTHENTICATION, fetcher);
+
+    assertThat(first).isEqualTo("token-1");
+    assertThat(second).isEqualTo("token-1");
+    assertThat(fetches).hasValue(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldFetchNewToken_whenExpiredIncludingMargin() {
+    cache.getToken(AUTHENTICATION, fetcher);
+    clock.advance(Duration.ofSeconds(3600 - 30));
+
+    assertThat(cache.getToken(AUTHENTICATION, fetcher)).isEqualTo("token-2");
+    assertThat(fetches).hasValue(2);
+  }
+
+  @Test
+  void shouldRefreshInBackground_whenRefreshAheadWindowReached() {
+    cache.getToken(AUTHENTICATION, fetcher);
+    // 80% of (3600 - 30) seconds
+    clock.advance(Duration.ofSeconds(2856));
+
+    // the current token is still returned, the refreshed one is used from now on
+    assertThat(cache.getToken(AUTHENTICATION, fetcher)).isEqualTo("token-1");
+    assertThat(cache.getToken(AUTHENTICATION, fetcher)).isEqualTo("token-2");
+    assertThat(cache.getRefreshCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSubmitRefreshOnlyOnce_whenRequestedConcurrently() {
+    List<Runnable> submitted = new ArrayList<>();
+    var queuedCache = new OAuthTokenCache(Duration.ofSeconds(30), clock, submitted::add);
+    queuedCache.getToken(AUTHENTICATION, fetcher);
+    clock.advance(Duration.ofSeconds(2856));
+
+    // the refresh has not started yet when the next callers see the token
+    queuedCache.getToken(AUTHENTICATION, fetcher);
+    queuedCache.getToken(AUTHENTICATION, fetcher);
+    queuedCache.getToken(AUTHENTICATION, fetcher);
+
+    assertThat(submitted).hasSize(1);
+    assertThat(queuedCache.getRefreshCount()).isEqualTo(1);
+    submitted.getFirst().run();
+    assertThat(queuedCache.getToken(AUTHENTICATION, fetcher)).isEqualTo("token-2");
+    assertThat(fetches).hasValue(2);
+  }
+
+  @Test
+  void shouldEvictTokenExpiringNext_whenFull() {
+    var boundedCache = new OAuthTokenCache(Duration.ofSeconds(30), 2, clock, Runnable::run);
+    boundedCache.getToken(authentication("first"), fetcher);
+    clock.advance(Duration.ofMinutes(1));
+    boundedCache.getToken(authentication("second"), fetcher);
+    boundedCache.getToken(authentication("third"), fetcher);
+
+    assertThat(boundedCache.size()).isEqualTo(2);
+    // the first token expires first and was evicted
+    assertThat(boundedCache.getToken(authentication("second"), fetcher)).isEqualTo("token-2");
+    assertThat(boundedCache.getToken(authentication("first"), fetcher)).isEqualTo("token-4");
+  }
+
+  @Test
+  void shouldEvictExpiredTokens_whenFull() {
+    var boundedCache = new OAuthTokenCache(Duration.ofSeconds(30), 2, clock, Runnable::run);
+    boundedCache.getToken(authentication("first"), fetcher);
+    boundedCache.getToken(authentication("second"), fetcher);
+    clock.advance(Duration.ofHours(2));
+
+    boundedCache.getToken(authentication("third"), fetcher);
+
+    assertThat(boundedCache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepCachedToken_whenBackgroundRefreshFails() {
+    cache.getToken(AUTHENTICATION, fetcher);
+    clock.advance(Duration.ofSeconds(3000));
+
+    var token =
+        cache.getToken(
+            AUTHENTICATION,
+            auth -> {
+              throw new IllegalStateException("IdP unavailable");
+            });
+
+    assertThat(token).isEqualTo("token-1");
+    assertThat(cache.getRefreshFailureCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotRetryRefresh_untilBackoffElapsed() {
+    cache.getToken(AUTHENTICATION, fetcher);
+    clock.advance(Duration.ofSeconds(3000));
+    Function<OAuthAuthentication, OAuthToken> failing =
+        auth -> {
+          fetches.incrementAndGet();
+          throw new IllegalStateException("IdP unavailable");
+        };
+    cache.getToken(AUTHENTICATION, failing);
+
+    // the next hits within the backoff do not call the token endpoint
+    clock.advance(Duration.ofSeconds(1));
+    cache.getToken(AUTHENTICATION, failing);
+    cache.getToken(AUTHENTICATION, failing);
+
+    assertThat(fetches).hasValue(2);
+    assertThat(cache.getRefreshCount()).isEqualTo(1);
+
+    // retried once the backoff elapsed, the refreshed token clears the backoff
+    clock.advance(OAuthTokenCache.MIN_REFRESH_BACKOFF);
+    assertThat(cache.getToken(AUTHENTICATION, fetcher)).isEqualTo("token-1");
+    assertThat(cache.getToken(AUTHENTICATION, fetcher)).isEqualTo("token-3");
+    assertThat(cache.getRefreshCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotCacheToken_whenExpiresInMissing() {
+    Function<OAuthAuthentication, OAuthToken> noExpiry =
+        auth -> new OAuthToken("token-" + fetches.incrementAndGet(), null);
+
+    cache.getToken(AUTHENTICATION, noExpiry);
+    cache.getToken(AUTHENTICATION, noExpiry);
+
+    assertThat(fetches).hasValue(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldFetchNewToken_whenInvalidated() {
+    cache.getToken(AUTHENTICATION, fetcher);
+    cache.invalidate(AUTHENTICATION);
+
+    assertThat(cache.getToken(AUTHENTICATION, fetcher)).isEqualTo("token-2");
+  }
+
+  @Test
+  void shouldUseSeparateEntries_whenClientSecretDiffers() {
+    var otherSecret =
+        new OAuthAuthentication(
+            AUTHENTICATION.oauthTokenEndpoint(),
+            AUTHENTICATION.clientId(),
+            "otherSecret",
+            AUTHENTICATION.audience(),
+            AUTHENTICATION.clientAuthentication(),
+            AUTHENTICATION.scopes());
+
+    cache.getToken(AUTHENTICATION, fetcher);
+
+    assertThat(cache.getToken(otherSecret, fetcher)).isEqualTo("token-2");
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldPropagateException_whenFetchFails() {
+    var exception =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                cache.getToken(
+                    AUTHENTICATION,
+                    auth -> {
+                      throw new IllegalStateException("IdP unavailable");
+                    }));
+
+    assertThat(exception).hasMessage("IdP unavailable");
+  }
+
+  @Test
+  void shouldFetchOnlyOnce_whenRequestedConcurrently() throws Exception {
+    var release = new CountDownLatch(1);
+    Function<OAuthAuthentication, OAuthToken> slowFetcher =
+        auth -> {
+          try {
+            release.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return new OAuthToken("token-" + fetches.incrementAndGet(), 3600L);
+        };
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(executor.submit(() -> cache.getToken(AUTHENTICATION, slowFetcher)));
+      }
+      Thread.sleep(200);
+      release.countDown();
+
+      for (Future<String> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+      }
+      assertThat(fetches).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static OAuthAuthentication authentication(String clientId) {
+    return new OAuthAuthentication(
+        AUTHENTICATION.oauthTokenEndpoint(),
+        clientId,
+        AUTHENTICATION.clientSecret(),
+        AUTHENTICATION.audience(),
+        AUTHENTICATION.clientAuthentication(),
+        AUTHENTICATION.scopes());
+  }
+
+  private static class MutableClock extends Clock {
+    private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(java.time.ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
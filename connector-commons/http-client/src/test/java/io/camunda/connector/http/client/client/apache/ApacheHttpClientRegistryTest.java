@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.client.client.apache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.camunda.connector.http.client.client.apache.proxy.ProxyAwareHttpClient.ProxyContext;
+import io.camunda.connector.http.client.client.apache.proxy.ProxyAwareHttpClient.TimeoutConfiguration;
+import io.camunda.connector.http.client.mapper.ResponseMappers;
+import io.camunda.connector.http.client.model.HttpClientRequest;
+import io.camunda.connector.http.client.model.HttpMethod;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@WireMockTest
+public class ApacheHttpClientRegistryTest {
+
+  private final ApacheHttpClientRegistry registry =
+      new ApacheHttpClientRegistry(10, 5, TimeValue.ofMinutes(1), TimeValue.ofMinutes(1));
+
+  @AfterEach
+  public void tearDown() {
+    registry.close();
+  }
+
+  @Test
+  public void shouldReuseClient_whenTimeoutsAndSchemeAreEqual() {
+    var first =
+        registry.getClient(new TimeoutConfiguration(20, 20), new ProxyContext("http", "a.com"));
+    var second =
+        registry.getClient(new TimeoutConfiguration(20, 20), new ProxyContext("http", "b.com"));
+
+    assertThat(first).isSameAs(second);
+    assertThat(registry.getClientCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldCreateSeparateClients_whenTimeoutsDiffer() {
+    var first =
+        registry.getClient(new TimeoutConfiguration(20, 20), new ProxyContext("http", "a.com"));
+    var second =
+        registry.getClient(new TimeoutConfiguration(20, 30), new ProxyContext("http", "a.com"));
+    var third =
+        registry.getClient(new TimeoutConfiguration(20, 20), new ProxyContext("https", "a.com"));
+
+    assertThat(first).isNotSameAs(second).isNotSameAs(third);
+    assertThat(registry.getClientCount()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldKeepConnectionAlive_betweenRequests(WireMockRuntimeInfo wmRuntimeInfo) {
+    stubFor(get("/path").willReturn(ok().withBody("Hello, world!")));
+    var client = new CustomApacheHttpClient(registry);
+    var request = new HttpClientRequest();
+    request.setMethod(HttpMethod.GET);
+    request.setUrl(wmRuntimeInfo.getHttpBaseUrl() + "/path");
+
+    client.execute(request, ResponseMappers.asString());
+    client.execute(request, ResponseMappers.asString());
+
+    var stats = registry.getTotalStats();
+    assertThat(stats.getLeased()).isZero();
+    assertThat(stats.getAvailable()).isEqualTo(1);
+    assertThat(stats.getMax()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldNotSendCookies_ofPreviousResponses(WireMockRuntimeInfo wmRuntimeInfo) {
+    stubFor(get("/login").willReturn(ok().withHeader("Set-Cookie", "SESSION=secret; Path=/")));
+    stubFor(get("/path").willReturn(ok().withBody("Hello, world!")));
+    var client = new CustomApacheHttpClient(registry);
+    var login = new HttpClientRequest();
+    login.setMethod(HttpMethod.GET);
+    login.setUrl(wmRuntimeInfo.getHttpBaseUrl() + "/login");
+    var request = new HttpClientRequest();
+    request.setMethod(HttpMethod.GET);
+    request.setUrl(wmRuntimeInfo.getHttpBaseUrl() + "/path");
+
+    client.execute(login, ResponseMappers.asString());
+    client.execute(request, ResponseMappers.asString());
+
+    verify(getRequestedFor(urlEqualTo("/path")).withoutHeader("Cookie"));
+  }
+
+  @Test
+  public void shouldPublishPoolMetrics() {
+    var meterRegistry = new SimpleMeterRegistry();
+    new ApacheHttpClientPoolMetrics(registry).bindTo(meterRegistry);
+
+    var max =
+        meterRegistry
+            .get(ApacheHttpClientPoolMetrics.METRIC_NAME_POOL)
+            .tag(ApacheHttpClientPoolMetrics.TAG_ROUTE, ApacheHttpClientPoolMetrics.ROUTE_TOTAL)
+            .tag(ApacheHttpClientPoolMetrics.TAG_STATE, "max")
+            .gauge();
+    assertThat(max.value()).isEqualTo(10);
+  }
+}
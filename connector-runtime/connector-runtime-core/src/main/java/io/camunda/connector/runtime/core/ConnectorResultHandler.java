@@ -20,7 +20,7 @@ import static io.camunda.connector.feel.FeelEngineWrapperUtil.wrapResponse;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.api.inbound.InboundConnectorExecutable;
@@ -31,7 +31,11 @@ import io.camunda.connector.feel.FeelEngineWrapperException;
 import io.camunda.connector.runtime.core.error.BpmnError;
 import io.camunda.connector.runtime.core.error.ConnectorError;
 import io.camunda.connector.runtime.core.outbound.ErrorExpressionJobContext;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -41,11 +45,20 @@ public class ConnectorResultHandler {
   private static final String ERROR_CANNOT_PARSE_VARIABLES = "Cannot parse '%s' as '%s'.";
   public static List<String> FORBIDDEN_LITERALS = List.of(IntrinsicFunctionModel.DISCRIMINATOR_KEY);
 
-  private FeelEngineWrapper feelEngineWrapper = new FeelEngineWrapper();
-  private ObjectMapper objectMapper;
+  private final FeelEngineWrapper feelEngineWrapper;
+  private final ObjectMapper objectMapper;
 
+  /**
+   * Creates a handler with its own {@link FeelEngineWrapper}. Prefer {@link
+   * #ConnectorResultHandler(ObjectMapper, FeelEngineWrapper)} to share the engine of the runtime.
+   */
   public ConnectorResultHandler(ObjectMapper objectMapper) {
+    this(objectMapper, new FeelEngineWrapper());
+  }
+
+  public ConnectorResultHandler(ObjectMapper objectMapper, FeelEngineWrapper feelEngineWrapper) {
     this.objectMapper = objectMapper;
+    this.feelEngineWrapper = feelEngineWrapper;
   }
 
   /**
@@ -64,17 +77,12 @@ public class ConnectorResultHandler {
     }
 
     if (isNotBlank(resultExpression)) {
-      var mappedResponseJson =
-          feelEngineWrapper.evaluateToJson(
+      Object mappedResponse =
+          feelEngineWrapper.evaluate(
               resultExpression, responseContent, wrapResponse(responseContent));
-      if (mappedResponseJson != null) {
-        verifyNoForbiddenLiterals(mappedResponseJson);
-        var mappedResponse =
-            parseJsonVarsAsTypeOrThrow(
-                mappedResponseJson, Map.class, resultExpression, "Result expression");
-        if (mappedResponse != null) {
-          outputVariables.putAll(mappedResponse);
-        }
+      if (mappedResponse != null) {
+        outputVariables.putAll(
+            toJsonObjectOrThrow(mappedResponse, resultExpression, "Result expression", true));
       }
     }
     return outputVariables;
@@ -89,16 +97,11 @@ public class ConnectorResultHandler {
         .filter(s -> !s.isBlank())
         .map(
             expression ->
-                feelEngineWrapper.evaluateToJson(
+                feelEngineWrapper.evaluate(
                     expression, responseContent, wrapResponse(responseContent), jobContext))
-        .filter(
-            json ->
-                !parseJsonVarsAsTypeOrThrow(json, Map.class, errorExpression, "Error expression")
-                    .isEmpty())
-        .map(
-            json ->
-                parseJsonVarsAsTypeOrThrow(
-                    json, ConnectorError.class, errorExpression, "Error expression"))
+        .map(result -> toJsonObjectOrThrow(result, errorExpression, "Error expression", false))
+        .filter(error -> !error.isEmpty())
+        .map(error -> convertOrThrow(error, ConnectorError.class, errorExpression))
         .filter(
             error -> {
               if (error instanceof BpmnError bpmnError) {
@@ -108,50 +111,139 @@ public class ConnectorResultHandler {
             });
   }
 
-  private <T> T parseJsonVarsAsTypeOrThrow(
-      final String jsonVars,
-      Class<T> type,
+  /**
+   * Converts the result of an expression to the output variables in a single pass. Values without a
+   * JSON counterpart (e.g. dates) are converted like the FEEL engine serializes them, and numbers
+   * are represented as if the result had been parsed from JSON.
+   *
+   * @throws ConnectorInputException if the result is not a JSON object, or if it contains a
+   *     forbidden literal and {@code verifyNoForbiddenLiterals} is set
+   */
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> toJsonObjectOrThrow(
+      final Object result,
       final String expression,
-      final String expressionNameForError) {
-    try {
-      // When expecting a Map (from a FEEL evaluation), check if it's actually a JSON object
-      if (type.equals(Map.class)) {
-        JsonNode node = objectMapper.readTree(jsonVars);
-        if (!node.isObject()) {
-          throw new ConnectorInputException(
-              new FeelEngineWrapperException(
-                  String.format(
-                      "%s must return a JSON object, but got %s. Evaluated value: %s",
-                      expressionNameForError, node.getNodeType().name().toLowerCase(), jsonVars),
-                  expression,
-                  jsonVars));
-        }
+      final String expressionNameForError,
+      final boolean verifyNoForbiddenLiterals) {
+    var value = toJsonValue(result, verifyNoForbiddenLiterals);
+    if (value instanceof Map<?, ?> map) {
+      return (Map<String, Object>) map;
+    }
+    var json = toJsonForError(value);
+    throw new ConnectorInputException(
+        new FeelEngineWrapperException(
+            String.format(
+                "%s must return a JSON object, but got %s. Evaluated value: %s",
+                expressionNameForError, jsonTypeName(value), json),
+            expression,
+            json));
+  }
+
+  private Object toJsonValue(final Object value, final boolean verifyNoForbiddenLiterals) {
+    if (value == null || value instanceof Boolean) {
+      return value;
+    } else if (value instanceof String string) {
+      if (verifyNoForbiddenLiterals) {
+        verifyNoForbiddenLiterals(string);
       }
-      return objectMapper.readValue(jsonVars, type);
-    } catch (ConnectorInputException e) {
-      // Re-throw our custom exception
-      throw e;
-    } catch (JsonProcessingException e) {
-      // For other types (like ConnectorError), keep the original message
+      return string;
+    } else if (value instanceof Number number) {
+      return toJsonNumber(number);
+    } else if (value instanceof Map<?, ?> map) {
+      Map<String, Object> object = new LinkedHashMap<>();
+      map.forEach(
+          (key, entry) -> {
+            var name = String.valueOf(key);
+            if (verifyNoForbiddenLiterals) {
+              verifyNoForbiddenLiterals(name);
+            }
+            object.put(name, toJsonValue(entry, verifyNoForbiddenLiterals));
+          });
+      return object;
+    } else if (value instanceof Iterable<?> iterable) {
+      List<Object> array = new ArrayList<>();
+      iterable.forEach(element -> array.add(toJsonValue(element, verifyNoForbiddenLiterals)));
+      return array;
+    }
+    return toJsonValue(feelEngineWrapper.toJsonValue(value), verifyNoForbiddenLiterals);
+  }
+
+  /** Represents a number as the object mapper would when reading it from JSON. */
+  private Number toJsonNumber(final Number number) {
+    if (number instanceof Integer
+        || number instanceof Long
+        || number instanceof Short
+        || number instanceof Byte
+        || number instanceof BigInteger
+        || number instanceof BigDecimal decimal && decimal.scale() == 0) {
+      var integer =
+          number instanceof BigInteger bigInteger
+              ? bigInteger
+              : number instanceof BigDecimal decimal
+                  ? decimal.toBigInteger()
+                  : BigInteger.valueOf(number.longValue());
+      if (objectMapper.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)) {
+        return integer;
+      } else if (integer.bitLength() < Integer.SIZE
+          && !objectMapper.isEnabled(DeserializationFeature.USE_LONG_FOR_INTS)) {
+        return integer.intValue();
+      } else if (integer.bitLength() < Long.SIZE) {
+        return integer.longValue();
+      }
+      return integer;
+    }
+    if (objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+      return number instanceof BigDecimal decimal ? decimal : new BigDecimal(number.toString());
+    }
+    return number instanceof Float ? Double.parseDouble(number.toString()) : number.doubleValue();
+  }
+
+  private static String jsonTypeName(final Object value) {
+    if (value instanceof Iterable<?>) {
+      return "array";
+    } else if (value instanceof String) {
+      return "string";
+    } else if (value instanceof Number) {
+      return "number";
+    } else if (value instanceof Boolean) {
+      return "boolean";
+    }
+    return "null";
+  }
+
+  private <T> T convertOrThrow(
+      final Map<String, Object> value, final Class<T> type, final String expression) {
+    try {
+      return objectMapper.convertValue(value, type);
+    } catch (IllegalArgumentException e) {
+      var json = toJsonForError(value);
       throw new ConnectorInputException(
           new FeelEngineWrapperException(
-              String.format(ERROR_CANNOT_PARSE_VARIABLES, jsonVars, type.getName()),
+              String.format(ERROR_CANNOT_PARSE_VARIABLES, json, type.getName()),
               expression,
-              jsonVars,
+              json,
               e));
     }
   }
 
-  private void verifyNoForbiddenLiterals(String json) {
+  private String toJsonForError(final Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      return String.valueOf(value);
+    }
+  }
+
+  private void verifyNoForbiddenLiterals(String value) {
     FORBIDDEN_LITERALS.forEach(
         literal -> {
-          if (json.contains(literal)) {
+          if (value.contains(literal)) {
             throw new ConnectorInputException(
                 new FeelEngineWrapperException(
                     String.format(
                         "The connector result contains a forbidden literal '%s'.", literal),
                     literal,
-                    json));
+                    value));
           }
         });
   }
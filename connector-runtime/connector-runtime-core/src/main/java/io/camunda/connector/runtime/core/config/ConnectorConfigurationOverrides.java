@@ -20,7 +20,8 @@ import java.util.Optional;
 import java.util.function.Function;
 
 /**
- * Handles connector overrides such as type and timeout using environment variables.
+ * Handles connector overrides such as type, timeout, and max in-flight jobs using environment
+ * variables.
  *
  * <p>Lookup is done by normalizing the connector name to a set of variables to look for. For
  * example, for a connector named "My Connector", the following environment variables will be
@@ -29,11 +30,13 @@ import java.util.function.Function;
  * <ul>
  *   <li>CONNECTOR_MY_CONNECTOR_TYPE
  *   <li>CONNECTOR_MY_CONNECTOR_TIMEOUT
+ *   <li>CONNECTOR_MY_CONNECTOR_MAX_IN_FLIGHT
  * </ul>
  */
 public class ConnectorConfigurationOverrides {
   private static final String TYPE_PROPERTY_TPL = "CONNECTOR_%s_TYPE";
   private static final String TIMEOUT_PROPERTY_TPL = "CONNECTOR_%s_TIMEOUT";
+  private static final String MAX_IN_FLIGHT_PROPERTY_TPL = "CONNECTOR_%s_MAX_IN_FLIGHT";
 
   private final String normalizedConnectorName;
   private final Function<String, String> propertySource;
@@ -53,6 +56,12 @@ public class ConnectorConfigurationOverrides {
         .map(Long::parseLong);
   }
 
+  public Optional<Integer> maxInFlightOverride() {
+    return Optional.ofNullable(
+            getProperty(MAX_IN_FLIGHT_PROPERTY_TPL.formatted(normalizedConnectorName)))
+        .map(Integer::parseInt);
+  }
+
   private String getProperty(String propertyName) {
     return propertySource.apply(propertyName);
   }
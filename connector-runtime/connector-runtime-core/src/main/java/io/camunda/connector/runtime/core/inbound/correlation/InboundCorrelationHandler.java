@@ -62,7 +62,7 @@ public class InboundCorrelationHandler {
     this.camundaClient = camundaClient;
     this.feelEngine = feelEngine;
     this.defaultMessageTtl = defaultMessageTtl;
-    this.connectorResultHandler = new ConnectorResultHandler(objectMapper);
+    this.connectorResultHandler = new ConnectorResultHandler(objectMapper, feelEngine);
   }
 
   public CorrelationResult correlate(List<InboundConnectorElement> elements, Object variables) {
@@ -18,7 +18,9 @@ package io.camunda.connector.runtime.core.secret;
 
 import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import io.camunda.connector.api.secret.SecretContext;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -30,61 +32,114 @@ public class SecretUtil {
 
   private static final JsonStringEncoder encoder = JsonStringEncoder.getInstance();
 
+  private static final String SECRETS_PREFIX = "secrets.";
+
   private static final Pattern SECRET_PATTERN_SECRETS =
       Pattern.compile("secrets\\.(?<secret>([a-zA-Z0-9]+[\\/._-])*[a-zA-Z0-9]+)");
 
   private static final Pattern SECRET_PATTERN_PARENTHESES =
       Pattern.compile("\\{\\{\\s*secrets\\.(?<secret>\\S+?\\s*)}}");
 
+  /**
+   * Replaces all secret references in the input, both {@code {{secrets.NAME}}} and {@code
+   * secrets.NAME}, in a single pass.
+   *
+   * <p>The input is scanned for the {@code secrets.} prefix, so text without any reference is
+   * skipped without running the patterns on it, and an input without references is returned as is.
+   * Each distinct secret name is resolved once per call, and replacement values are not scanned for
+   * further references. References that cannot be resolved are kept unchanged.
+   */
   public static String replaceSecrets(
       String input, SecretContext context, SecretReplacer secretReplacer) {
     if (input == null) {
       throw new IllegalStateException("input cant be null.");
     }
-    input = replaceSecretsWithParentheses(input, context, secretReplacer);
-    input = replaceSecretsWithoutParentheses(input, context, secretReplacer);
-    return input;
+    int next = input.indexOf(SECRETS_PREFIX);
+    if (next < 0) {
+      return input;
+    }
+    Matcher parenthesesMatcher = SECRET_PATTERN_PARENTHESES.matcher(input);
+    Matcher secretsMatcher = SECRET_PATTERN_SECRETS.matcher(input);
+    Map<String, String> resolvedValues = new HashMap<>();
+    StringBuilder output = null;
+    int lastIndex = 0;
+    int unresolvedParenthesesEnd = 0;
+    while (next >= 0) {
+      int parenthesesStart = findParenthesesStart(input, next, lastIndex);
+      Matcher matcher = null;
+      String value = null;
+      if (parenthesesStart >= unresolvedParenthesesEnd
+          && parenthesesMatcher.region(parenthesesStart, input.length()).lookingAt()) {
+        value = resolveSecretValue(context, secretReplacer, parenthesesMatcher, resolvedValues);
+        if (value != null) {
+          matcher = parenthesesMatcher;
+        } else {
+          // an unresolved reference is kept, but may contain resolvable secrets.NAME references
+          unresolvedParenthesesEnd = parenthesesMatcher.end();
+        }
+      }
+      if (matcher == null && secretsMatcher.region(next, input.length()).lookingAt()) {
+        value = resolveSecretValue(context, secretReplacer, secretsMatcher, resolvedValues);
+        matcher = secretsMatcher;
+      }
+      if (matcher == null) {
+        next = input.indexOf(SECRETS_PREFIX, next + 1);
+        continue;
+      }
+      if (output == null) {
+        output = new StringBuilder(input.length());
+      }
+      output.append(input, lastIndex, matcher.start());
+      if (value != null) {
+        output.append(value);
+      } else {
+        output.append(input, matcher.start(), matcher.end());
+      }
+      lastIndex = matcher.end();
+      next = input.indexOf(SECRETS_PREFIX, lastIndex);
+    }
+    if (output == null) {
+      return input;
+    }
+    return output.append(input, lastIndex, input.length()).toString();
   }
 
-  private static String replaceSecretsWithParentheses(
-      String input, SecretContext context, SecretReplacer secretReplacer) {
-    var secretVariableNameWithParenthesesMatcher = SECRET_PATTERN_PARENTHESES.matcher(input);
-    while (secretVariableNameWithParenthesesMatcher.find()) {
-      input =
-          replaceTokens(
-              input,
-              SECRET_PATTERN_PARENTHESES,
-              matcher -> resolveSecretValue(context, secretReplacer, matcher));
+  /**
+   * Returns the index of the two opening braces preceding the {@code secrets.} prefix at the given
+   * index, or -1 if the prefix is not preceded by two opening braces and optional whitespace.
+   */
+  private static int findParenthesesStart(String input, int secretsIndex, int lowerBound) {
+    int index = secretsIndex - 1;
+    while (index >= lowerBound && isPatternWhitespace(input.charAt(index))) {
+      index--;
     }
-    return input;
+    if (index - 1 >= lowerBound && input.charAt(index) == '{' && input.charAt(index - 1) == '{') {
+      return index - 1;
+    }
+    return -1;
   }
 
-  private static String replaceSecretsWithoutParentheses(
-      String input, SecretContext context, SecretReplacer secretReplacer) {
-    var secretVariableNameWithParenthesesMatcher = SECRET_PATTERN_SECRETS.matcher(input);
-    while (secretVariableNameWithParenthesesMatcher.find()) {
-      input =
-          replaceTokens(
-              input,
-              SECRET_PATTERN_SECRETS,
-              matcher -> resolveSecretValue(context, secretReplacer, matcher));
-    }
-    return input;
+  /** Whitespace as matched by {@code \s} in {@link #SECRET_PATTERN_PARENTHESES}. */
+  private static boolean isPatternWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
   }
 
   private static String resolveSecretValue(
-      SecretContext context, SecretReplacer secretReplacer, Matcher matcher) {
+      SecretContext context,
+      SecretReplacer secretReplacer,
+      Matcher matcher,
+      Map<String, String> resolvedValues) {
     var secretName = matcher.group("secret").trim();
-    if (!secretName.isBlank()) {
-      var result = secretReplacer.replaceSecrets(secretName, context);
-      if (result != null) {
-        return new String(encoder.quoteAsString(result));
-      } else {
-        return matcher.group();
-      }
-    } else {
+    if (secretName.isBlank()) {
       return null;
     }
+    if (resolvedValues.containsKey(secretName)) {
+      return resolvedValues.get(secretName);
+    }
+    var result = secretReplacer.replaceSecrets(secretName, context);
+    var value = result != null ? new String(encoder.quoteAsString(result)) : null;
+    resolvedValues.put(secretName, value);
+    return value;
   }
 
   public static String replaceTokens(
@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.api.error.ConnectorInputException;
+import io.camunda.connector.runtime.core.error.BpmnError;
 import io.camunda.connector.runtime.core.outbound.ErrorExpressionJobContext;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -211,4 +212,61 @@ class ConnectorResultHandlerTest {
         .contains("array")
         .contains("[1,2,3]");
   }
+
+  @Test
+  void ensureCanNotProduceIntrinsicFunction_WhenNested() {
+    final String resultExpression =
+        """
+        {
+          "outer": [{"camunda.function.type": "fun"}]
+        }
+        """;
+    final var exception =
+        assertThrows(
+            ConnectorInputException.class,
+            () -> connectorResultHandler.createOutputVariables(Map.of(), null, resultExpression));
+
+    assertThat(exception)
+        .hasMessageContaining(
+            "The connector result contains a forbidden literal 'camunda.function.type'");
+  }
+
+  @Test
+  void shouldCreateOutputVariables_AsIfParsedFromJson() {
+    // given
+    final var response = Map.of("items", List.of(Map.of("id", 1, "price", 2.5)));
+
+    // when
+    final var actual =
+        connectorResultHandler.createOutputVariables(
+            response,
+            null,
+            "= {first: response.items[1], big: 12345678901, nothing: null, when: date(\"2024-01-01\")}");
+
+    // then
+    assertThat(actual)
+        .containsEntry("first", Map.of("id", 1, "price", 2.5))
+        .containsEntry("big", 12345678901L)
+        .containsEntry("nothing", null)
+        .containsEntry("when", "2024-01-01");
+  }
+
+  @Test
+  void shouldReturnBpmnError_WhenErrorExpressionMatches() {
+    // given
+    final Object responseContent = Map.of("status", 404);
+    final Map<String, String> jobHeaders =
+        Map.of(
+            Keywords.ERROR_EXPRESSION_KEYWORD,
+            "= if response.status = 404 then bpmnError(\"NOT_FOUND\", \"Not found\") else null");
+    final ErrorExpressionJobContext jobContext =
+        new ErrorExpressionJobContext(new ErrorExpressionJobContext.ErrorExpressionJob(3));
+
+    // when
+    final var error =
+        connectorResultHandler.examineErrorExpression(responseContent, jobHeaders, jobContext);
+
+    // then
+    assertThat(error).contains(new BpmnError("NOT_FOUND", "Not found", null));
+  }
 }
@@ -19,12 +19,15 @@ package io.camunda.connector.runtime.core;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 import io.camunda.connector.runtime.core.secret.SecretReplacer;
 import io.camunda.connector.runtime.core.secret.SecretUtil;
 import java.util.Map;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -82,4 +85,51 @@ public class SecretUtilTests {
     var result = SecretUtil.replaceSecrets(input, null, secretReplacer);
     assertThat(result).isEqualTo(output);
   }
+
+  @Test
+  void shouldReturnInput_WhenNoSecretReferences() {
+    var secretReplacer = mock(SecretReplacer.class);
+    var input = "{\"field1\": \"value\", \"field2\": \"{{notASecret}}\"}";
+    var result = SecretUtil.replaceSecrets(input, null, secretReplacer);
+    assertThat(result).isSameAs(input);
+    verifyNoInteractions(secretReplacer);
+  }
+
+  @Test
+  void shouldResolveEachSecretOnce() {
+    SecretReplacer secretReplacer = mock(SecretReplacer.class);
+    when(secretReplacer.replaceSecrets(eq("KEY1"), any())).thenReturn("VALUE1");
+    var input =
+        "{\"a\": \"secrets.KEY1\", \"b\": \"{{secrets.KEY1}}\", \"c\": \"x secrets.KEY1 y\"}";
+    var result = SecretUtil.replaceSecrets(input, null, secretReplacer);
+    assertThat(result).isEqualTo("{\"a\": \"VALUE1\", \"b\": \"VALUE1\", \"c\": \"x VALUE1 y\"}");
+    verify(secretReplacer, times(1)).replaceSecrets(eq("KEY1"), any());
+  }
+
+  @Test
+  void shouldReplaceMixedReferences() {
+    SecretReplacer secretReplacer = (name, context) -> secrets.get(name);
+    var input =
+        "{\"url\": \"https://{{ secrets.KEY1 }}/path?token=secrets.KEY2\", \"v\": \"{{{secrets.KEY3}}}\"}";
+    var result = SecretUtil.replaceSecrets(input, null, secretReplacer);
+    assertThat(result)
+        .isEqualTo("{\"url\": \"https://VALUE1/path?token=VALUE2\", \"v\": \"{VALUE3}\"}");
+  }
+
+  @Test
+  void shouldKeepUnresolvedReferences() {
+    SecretReplacer secretReplacer = (name, context) -> secrets.get(name);
+    var input = "{\"a\": \"{{secrets.UNKNOWN}}\", \"b\": \"secrets.KEY1\"}";
+    var result = SecretUtil.replaceSecrets(input, null, secretReplacer);
+    assertThat(result).isEqualTo("{\"a\": \"{{secrets.UNKNOWN}}\", \"b\": \"VALUE1\"}");
+  }
+
+  @Test
+  void shouldEscapeSecretValues_AndNotResolveReferencesInValues() {
+    SecretReplacer secretReplacer =
+        (name, context) -> "KEY1".equals(name) ? "quote\" secrets.KEY2" : "VALUE2";
+    var input = "{\"a\": \"secrets.KEY1\"}";
+    var result = SecretUtil.replaceSecrets(input, null, secretReplacer);
+    assertThat(result).isEqualTo("{\"a\": \"quote\\\" secrets.KEY2\"}");
+  }
 }
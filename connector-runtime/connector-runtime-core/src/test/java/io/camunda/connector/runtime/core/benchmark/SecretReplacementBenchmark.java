@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.benchmark;
+
+import io.camunda.connector.runtime.core.secret.SecretReplacer;
+import io.camunda.connector.runtime.core.secret.SecretUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures secret replacement in job variable documents of 10 KB to 5 MB, as done for every
+ * outbound job. Every tenth item references one of ten secrets in either notation, {@code
+ * secretReferences=false} measures documents without any reference.
+ *
+ * <p>Run from the module directory after {@code mvn test-compile}, the GC profiler is enabled by
+ * default:
+ *
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=io.camunda.connector.runtime.core.benchmark.SecretReplacementBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecretReplacementBenchmark {
+
+  private static final SecretReplacer SECRET_REPLACER =
+      (name, context) -> "value-of-" + name.toLowerCase();
+
+  @Param({"10", "1024", "5120"})
+  public int sizeKb;
+
+  @Param({"true", "false"})
+  public boolean secretReferences;
+
+  private String variables;
+
+  @Setup
+  public void setUp() {
+    int targetLength = sizeKb * 1024;
+    StringBuilder json = new StringBuilder(targetLength + 256).append("{\"items\":[");
+    for (int i = 0; json.length() < targetLength; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"id\":").append(i).append(",\"name\":\"item-").append(i).append('"');
+      json.append(",\"description\":\"Lorem ipsum dolor sit amet, consectetur adipiscing elit\"");
+      if (secretReferences && i % 10 == 0) {
+        json.append(",\"token\":\"")
+            .append(i % 20 == 0 ? "{{secrets.TOKEN_" : "Bearer secrets.TOKEN_")
+            .append(i / 10 % 10)
+            .append(i % 20 == 0 ? "}}\"" : "\"");
+      }
+      json.append('}');
+    }
+    variables = json.append("]}").toString();
+  }
+
+  @Benchmark
+  public String replaceSecrets() {
+    return SecretUtil.replaceSecrets(variables, null, SECRET_REPLACER);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(SecretReplacementBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
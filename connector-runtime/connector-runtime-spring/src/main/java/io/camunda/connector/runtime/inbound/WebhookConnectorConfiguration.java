@@ -16,8 +16,13 @@
  */
 package io.camunda.connector.runtime.inbound;
 
+import io.camunda.connector.runtime.inbound.webhook.AsyncWebhookCorrelator;
 import io.camunda.connector.runtime.inbound.webhook.InboundWebhookRestController;
 import io.camunda.connector.runtime.inbound.webhook.WebhookConnectorRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -30,4 +35,13 @@ public class WebhookConnectorConfiguration {
   public WebhookConnectorRegistry webhookConnectorRegistry() {
     return new WebhookConnectorRegistry();
   }
+
+  @Bean(destroyMethod = "close")
+  public AsyncWebhookCorrelator asyncWebhookCorrelator(
+      @Value("${camunda.connector.webhook.async.workers:16}") int workers,
+      @Value("${camunda.connector.webhook.async.max-queued:1000}") int maxQueued,
+      @Value("${camunda.connector.webhook.async.result-retention:PT10M}") Duration resultRetention,
+      @Autowired(required = false) MeterRegistry meterRegistry) {
+    return new AsyncWebhookCorrelator(workers, maxQueued, resultRetention, meterRegistry);
+  }
 }
@@ -0,0 +1,273 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import io.camunda.connector.api.inbound.CorrelationResult;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
+import io.camunda.connector.util.concurrent.DaemonThreads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Correlates webhook requests in the background for webhooks that opted into asynchronous
+ * correlation, see {@link
+ * io.camunda.connector.runtime.inbound.webhook.model.CommonWebhookProperties#isAsyncCorrelation()}.
+ *
+ * <p>The web server thread validates the request and hands the correlation to a bounded queue that
+ * is drained by a fixed number of workers. When the queue is full, the request is rejected so that
+ * the sender retries later, instead of piling up web server threads waiting for the engine. The
+ * outcome of each correlation is kept for the result retention and can be looked up by the
+ * correlation ID returned to the sender.
+ *
+ * <p>The workers are started with the first request, a runtime without webhooks that opted into
+ * asynchronous correlation does not run any of them.
+ */
+public class AsyncWebhookCorrelator implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncWebhookCorrelator.class);
+  private static final Duration MIN_EVICTION_INTERVAL = Duration.ofSeconds(1);
+
+  private final BlockingQueue<QueuedCorrelation> queue;
+  private final Map<String, CorrelationStatus> statuses = new ConcurrentHashMap<>();
+  private final Duration resultRetention;
+  private final int workerCount;
+  private final List<Thread> workers = new ArrayList<>(); // guarded by this
+  private ScheduledExecutorService evictor; // guarded by this
+  private volatile boolean started;
+  private boolean closed; // guarded by this
+  private final Timer queueWait;
+  private final Counter rejected;
+
+  /**
+   * @param workers the number of correlations running at the same time
+   * @param maxQueued the number of correlations that may wait for a worker before requests are
+   *     rejected
+   * @param resultRetention how long the outcome of a correlation can be looked up
+   * @param meterRegistry the registry for the queue metrics, may be null
+   */
+  public AsyncWebhookCorrelator(
+      int workers, int maxQueued, Duration resultRetention, MeterRegistry meterRegistry) {
+    if (workers <= 0) {
+      throw new IllegalArgumentException("workers must be positive, got " + workers);
+    }
+    if (maxQueued <= 0) {
+      throw new IllegalArgumentException("maxQueued must be positive, got " + maxQueued);
+    }
+    this.queue = new ArrayBlockingQueue<>(maxQueued);
+    this.workerCount = workers;
+    this.resultRetention = resultRetention;
+    if (meterRegistry != null) {
+      Gauge.builder(ConnectorMetrics.Inbound.METRIC_NAME_WEBHOOK_QUEUE_DEPTH, queue::size)
+          .description("Webhook requests waiting to be correlated")
+          .register(meterRegistry);
+      Gauge.builder(ConnectorMetrics.Inbound.METRIC_NAME_WEBHOOK_QUEUE_AGE, this::oldestAgeSeconds)
+          .description("Age in seconds of the oldest webhook request waiting to be correlated")
+          .baseUnit("seconds")
+          .register(meterRegistry);
+      this.queueWait =
+          Timer.builder(ConnectorMetrics.Inbound.METRIC_NAME_WEBHOOK_QUEUE_WAIT)
+              .description("Time a webhook request waited to be correlated")
+              .register(meterRegistry);
+      this.rejected =
+          Counter.builder(ConnectorMetrics.Inbound.METRIC_NAME_WEBHOOK_REJECTED)
+              .description("Webhook requests rejected because the correlation queue was full")
+              .register(meterRegistry);
+    } else {
+      this.queueWait = null;
+      this.rejected = null;
+    }
+  }
+
+  /**
+   * Queues the correlation of a webhook request.
+   *
+   * @param context the context path of the webhook, the status can only be looked up for it
+   * @param correlation correlates the request, called on a worker thread
+   * @return the correlation ID, empty if the queue is full
+   */
+  public Optional<String> submit(String context, Supplier<CorrelationResult> correlation) {
+    start();
+    var id = UUID.randomUUID().toString();
+    var accepted = CorrelationStatus.queued(id, context);
+    statuses.put(id, accepted);
+    if (!queue.offer(new QueuedCorrelation(accepted, correlation, System.nanoTime()))) {
+      statuses.remove(id);
+      if (rejected != null) {
+        rejected.increment();
+      }
+      return Optional.empty();
+    }
+    return Optional.of(id);
+  }
+
+  /** The status of a correlation submitted for the given context. */
+  public Optional<CorrelationStatus> status(String context, String correlationId) {
+    return Optional.ofNullable(statuses.get(correlationId))
+        .filter(status -> status.context().equals(context));
+  }
+
+  int queued() {
+    return queue.size();
+  }
+
+  synchronized int workers() {
+    return workers.size();
+  }
+
+  void evictExpired() {
+    var expiredBefore = Instant.now().minus(resultRetention);
+    statuses
+        .values()
+        .removeIf(
+            status -> status.completedAt() != null && !status.completedAt().isAfter(expiredBefore));
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    if (evictor != null) {
+      evictor.shutdownNow();
+    }
+    workers.forEach(Thread::interrupt);
+    if (!queue.isEmpty()) {
+      LOG.warn(
+          "Discarding {} webhook requests that were accepted but not yet correlated", queue.size());
+      queue.clear();
+    }
+  }
+
+  private void start() {
+    if (started) {
+      return;
+    }
+    synchronized (this) {
+      if (started || closed) {
+        return;
+      }
+      for (int i = 0; i < workerCount; i++) {
+        workers.add(
+            Thread.ofVirtual().name("connectors-webhook-correlation-" + i).start(this::drain));
+      }
+      long interval = Math.max(resultRetention.toMillis() / 2, MIN_EVICTION_INTERVAL.toMillis());
+      evictor =
+          DaemonThreads.scheduleWithFixedDelay(
+              "connectors-webhook-status-eviction",
+              this::evictExpired,
+              Duration.ofMillis(interval));
+      started = true;
+    }
+  }
+
+  private void drain() {
+    while (!Thread.currentThread().isInterrupted()) {
+      QueuedCorrelation queued;
+      try {
+        queued = queue.take();
+      } catch (InterruptedException e) {
+        return;
+      }
+      if (queueWait != null) {
+        queueWait.record(System.nanoTime() - queued.queuedAt(), TimeUnit.NANOSECONDS);
+      }
+      var status = queued.status();
+      try {
+        var result = queued.correlation().get();
+        statuses.put(status.correlationId(), status.completed(result));
+      } catch (Exception e) {
+        LOG.warn("Failed to correlate webhook request on context {}", status.context(), e);
+        statuses.put(status.correlationId(), status.failed(e));
+      }
+    }
+  }
+
+  private double oldestAgeSeconds() {
+    var oldest = queue.peek();
+    return oldest == null ? 0 : (System.nanoTime() - oldest.queuedAt()) / 1e9;
+  }
+
+  private record QueuedCorrelation(
+      CorrelationStatus status, Supplier<CorrelationResult> correlation, long queuedAt) {}
+
+  /**
+   * The outcome of a webhook request correlated in the background.
+   *
+   * @param correlationId the ID returned to the sender of the request
+   * @param context the context path of the webhook
+   * @param state whether the request is still queued, has been correlated or failed
+   * @param result the correlation result, {@code null} while queued or if the correlation threw
+   * @param error the message of the failure, {@code null} unless failed
+   * @param acceptedAt when the request was accepted
+   * @param completedAt when the correlation finished, {@code null} while queued
+   */
+  public record CorrelationStatus(
+      String correlationId,
+      String context,
+      State state,
+      CorrelationResult result,
+      String error,
+      Instant acceptedAt,
+      Instant completedAt) {
+
+    public enum State {
+      QUEUED,
+      CORRELATED,
+      FAILED
+    }
+
+    static CorrelationStatus queued(String correlationId, String context) {
+      return new CorrelationStatus(
+          correlationId, context, State.QUEUED, null, null, Instant.now(), null);
+    }
+
+    CorrelationStatus completed(CorrelationResult result) {
+      if (result instanceof CorrelationResult.Failure failure) {
+        return new CorrelationStatus(
+            correlationId,
+            context,
+            State.FAILED,
+            failure,
+            failure.message(),
+            acceptedAt,
+            Instant.now());
+      }
+      return new CorrelationStatus(
+          correlationId, context, State.CORRELATED, result, null, acceptedAt, Instant.now());
+    }
+
+    CorrelationStatus failed(Exception e) {
+      return new CorrelationStatus(
+          correlationId, context, State.FAILED, null, e.getMessage(), acceptedAt, Instant.now());
+    }
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import io.camunda.connector.runtime.inbound.webhook.AsyncWebhookCorrelator.CorrelationStatus;
+import io.camunda.connector.runtime.inbound.webhook.AsyncWebhookCorrelator.CorrelationStatus.State;
+import java.time.Instant;
+
+/**
+ * The status of an asynchronous correlation as returned to the sender of the webhook request. The
+ * correlation result and failure are not included, they may contain details of the process or the
+ * engine.
+ */
+public record CorrelationStatusResponse(
+    String correlationId, State state, Instant acceptedAt, Instant completedAt) {
+
+  static CorrelationStatusResponse of(CorrelationStatus status) {
+    return new CorrelationStatusResponse(
+        status.correlationId(), status.state(), status.acceptedAt(), status.completedAt());
+  }
+}
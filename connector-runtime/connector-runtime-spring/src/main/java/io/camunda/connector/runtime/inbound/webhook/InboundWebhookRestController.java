@@ -54,6 +54,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.Part;
 import java.io.IOException;
+import java.net.URI;
 import java.util.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,10 +75,18 @@ public class InboundWebhookRestController {
   private static final Logger LOG = LoggerFactory.getLogger(InboundWebhookRestController.class);
 
   private final WebhookConnectorRegistry webhookConnectorRegistry;
+  private final AsyncWebhookCorrelator asyncCorrelator;
 
+  /**
+   * @param asyncCorrelator correlates the requests of webhooks that opted into asynchronous
+   *     correlation, if {@code null} all requests are correlated synchronously
+   */
   @Autowired
-  public InboundWebhookRestController(final WebhookConnectorRegistry webhookConnectorRegistry) {
+  public InboundWebhookRestController(
+      final WebhookConnectorRegistry webhookConnectorRegistry,
+      final AsyncWebhookCorrelator asyncCorrelator) {
     this.webhookConnectorRegistry = webhookConnectorRegistry;
+    this.asyncCorrelator = asyncCorrelator;
   }
 
   protected static ResponseEntity<?> toResponseEntity(WebhookHttpResponse webhookHttpResponse) {
@@ -146,9 +155,10 @@ public class InboundWebhookRestController {
     byte[] bodyAsByteArray = httpServletRequest.getInputStream().readAllBytes();
 
     return webhookConnectorRegistry
-        .getActiveWebhook(context)
+        .getRoute(context)
         .map(
-            connector -> {
+            route -> {
+              var connector = route.executable();
               // In Tomcat 11.0.12 (2025-10-07), the Coyote HTTP stack was updated to
               // “store HTTP request headers using the original case for the header name rather
               // than forcing it to lower case.”
@@ -163,11 +173,83 @@ public class InboundWebhookRestController {
                       lowercaseHeaders,
                       bodyAsByteArray,
                       getParts(httpServletRequest));
+              if (asyncCorrelator != null && route.properties().isAsyncCorrelation()) {
+                return acceptWebhook(context, connector, payload);
+              }
               return processWebhook(connector, payload);
             })
         .orElseGet(() -> ResponseEntity.notFound().build());
   }
 
+  @RequestMapping(method = GET, path = "/inbound/{context}/correlations/{correlationId}")
+  public ResponseEntity<?> correlationStatus(
+      @PathVariable(value = "context") String context,
+      @PathVariable(value = "correlationId") String correlationId) {
+    if (asyncCorrelator == null) {
+      return ResponseEntity.notFound().build();
+    }
+    return asyncCorrelator
+        .status(context, correlationId)
+        .<ResponseEntity<?>>map(status -> ResponseEntity.ok(CorrelationStatusResponse.of(status)))
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Verifies and triggers the webhook on the calling thread, but leaves the correlation to the
+   * {@link AsyncWebhookCorrelator}. The sender receives the correlation ID to look up the outcome
+   * with, the response expression of the webhook is not evaluated.
+   */
+  private ResponseEntity<?> acceptWebhook(
+      String context, RegisteredExecutable.Activated connector, WebhookProcessingPayload payload) {
+    try {
+      WebhookConnectorExecutable connectorHook =
+          (WebhookConnectorExecutable) connector.executable();
+      var response = verify(connectorHook, payload, connector.context());
+      if (response != null) {
+        return response;
+      }
+      connector
+          .context()
+          .log(
+              activity ->
+                  activity
+                      .withSeverity(Severity.INFO)
+                      .withTag(payload.method())
+                      .withMessage("URL: " + payload.requestURL()));
+      var webhookResult = connectorHook.triggerWebhook(payload);
+      var documents = createDocuments(connector.context(), webhookResult, payload.parts());
+      var ctxData = toWebhookTriggerResultContext(webhookResult, documents);
+      return asyncCorrelator
+          .submit(
+              context,
+              () ->
+                  connector
+                      .context()
+                      .correlate(CorrelationRequest.builder().variables(ctxData).build()))
+          .<ResponseEntity<?>>map(
+              correlationId ->
+                  ResponseEntity.accepted()
+                      .location(
+                          URI.create("/inbound/" + context + "/correlations/" + correlationId))
+                      .body(Map.of("correlationId", correlationId)))
+          .orElseGet(
+              () -> {
+                LOG.warn("Rejecting webhook request on {}, the correlation queue is full", context);
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+              });
+    } catch (Exception e) {
+      connector
+          .context()
+          .log(
+              activity ->
+                  activity
+                      .withSeverity(Severity.ERROR)
+                      .withTag(payload.method())
+                      .withMessage("Webhook processing failed", e));
+      return buildErrorResponse(e);
+    }
+  }
+
   private ResponseEntity<?> processWebhook(
       RegisteredExecutable.Activated connector, WebhookProcessingPayload payload) {
     ResponseEntity<?> response;
@@ -22,27 +22,52 @@ import java.util.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Routes inbound HTTP requests to the webhook connector registered for their context path.
+ *
+ * <p>Registrations are changed by the inbound executable processor, while requests are routed on
+ * the threads of the web server. Changes are applied under a lock and published as an immutable
+ * routing table, which request threads read without locking. The table holds the active executable
+ * of each context and its bound {@link CommonWebhookProperties}.
+ */
 public class WebhookConnectorRegistry {
 
   private final Logger LOG = LoggerFactory.getLogger(WebhookConnectorRegistry.class);
 
+  // guarded by this
   private final Map<String, WebhookExecutables> executablesByContext = new HashMap<>();
 
+  private volatile Map<String, WebhookRoute> routes = Map.of();
+
+  /**
+   * The executable currently serving a context together with its properties.
+   *
+   * @param executable the active executable of the context
+   * @param properties the properties bound when the route was published
+   */
+  public record WebhookRoute(
+      RegisteredExecutable.Activated executable, CommonWebhookProperties properties) {}
+
   public Optional<RegisteredExecutable.Activated> getActiveWebhook(String context) {
-    return Optional.ofNullable(executablesByContext.get(context))
-        .map(WebhookExecutables::getActiveWebhook);
+    return getRoute(context).map(WebhookRoute::executable);
+  }
+
+  public Optional<WebhookRoute> getRoute(String context) {
+    return Optional.ofNullable(routes.get(context));
   }
 
-  public Map<String, WebhookExecutables> getExecutablesByContext() {
-    return executablesByContext;
+  /** A snapshot of the registered executables by context. */
+  public synchronized Map<String, WebhookExecutables> getExecutablesByContext() {
+    return Map.copyOf(executablesByContext);
   }
 
-  public boolean register(RegisteredExecutable.Activated connector) {
+  public synchronized boolean register(RegisteredExecutable.Activated connector) {
     var context = getContext(connector);
 
     WebhookConnectorValidationUtil.logIfWebhookPathDeprecated(connector, context);
     createExecutablesOrGetExisting(context, connector)
         .ifPresent(existingExecutables -> existingExecutables.markAsDownAndAdd(connector));
+    publishRoutes();
 
     return registeredAsActiveConnector(connector, context);
   }
@@ -62,7 +87,7 @@ public class WebhookConnectorRegistry {
         executablesByContext.putIfAbsent(context, new WebhookExecutables(connector, context)));
   }
 
-  public void deregister(RegisteredExecutable.Activated connector) {
+  public synchronized void deregister(RegisteredExecutable.Activated connector) {
     var context = getContext(connector);
     var executables = executablesByContext.get(context);
     if (executables == null) {
@@ -71,19 +96,50 @@ public class WebhookConnectorRegistry {
       throw new RuntimeException(logMessage);
     }
 
-    var hasActiveConnector = executables.deregister(connector);
-    if (!hasActiveConnector) {
-      executablesByContext.remove(context);
+    try {
+      var hasActiveConnector = executables.deregister(connector);
+      if (!hasActiveConnector) {
+        executablesByContext.remove(context);
+      }
+    } finally {
+      // the next executable may have been activated even if its activation failed
+      publishRoutes();
     }
   }
 
-  public void reset() {
+  public synchronized void reset() {
     executablesByContext.clear();
+    publishRoutes();
+  }
+
+  /**
+   * Rebuilds the routing table from the registered executables. Properties are only bound again for
+   * contexts whose active executable changed.
+   */
+  private void publishRoutes() {
+    var previous = routes;
+    Map<String, WebhookRoute> next = new HashMap<>();
+    executablesByContext.forEach(
+        (context, executables) ->
+            executables
+                .findActiveWebhook()
+                .ifPresent(
+                    active -> {
+                      var route = previous.get(context);
+                      if (route == null || route.executable() != active) {
+                        route = new WebhookRoute(active, bindProperties(active));
+                      }
+                      next.put(context, route);
+                    }));
+    routes = Map.copyOf(next);
+  }
+
+  private CommonWebhookProperties bindProperties(RegisteredExecutable.Activated connector) {
+    return connector.context().bindProperties(CommonWebhookProperties.class);
   }
 
   private String getContext(RegisteredExecutable.Activated connector) {
-    var properties = connector.context().bindProperties(CommonWebhookProperties.class);
-    var context = properties.getContext();
+    var context = bindProperties(connector).getContext();
     if (context == null) {
       var logMessage = "Webhook path not provided";
       LOG.debug(logMessage);
@@ -105,6 +105,11 @@ public class WebhookExecutables {
     return true;
   }
 
+  /** The active executable, empty while the context has none. */
+  public Optional<RegisteredExecutable.Activated> findActiveWebhook() {
+    return Optional.ofNullable(activeExecutable);
+  }
+
   public RegisteredExecutable.Activated getActiveWebhook() {
     if (activeExecutable == null) {
       throw new IllegalStateException(
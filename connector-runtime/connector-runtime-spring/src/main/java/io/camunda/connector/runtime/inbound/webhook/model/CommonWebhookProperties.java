@@ -20,10 +20,20 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public record CommonWebhookProperties(CommonContext inbound) {
+
+  /**
+   * @param context the path segment of the webhook URL
+   * @param asyncCorrelation whether requests are acknowledged with 202 Accepted once validated and
+   *     correlated in the background, see {@code AsyncWebhookCorrelator}
+   */
   @JsonIgnoreProperties(ignoreUnknown = true)
-  public record CommonContext(String context) {}
+  public record CommonContext(String context, Boolean asyncCorrelation) {}
 
   public String getContext() {
     return inbound.context;
   }
+
+  public boolean isAsyncCorrelation() {
+    return Boolean.TRUE.equals(inbound.asyncCorrelation);
+  }
 }
@@ -35,6 +35,8 @@ public class ConnectorMetrics {
 
     public static final String METRIC_NAME_INVOCATIONS = "camunda.connector.outbound.invocations";
     public static final String METRIC_NAME_TIME = "camunda.connector.outbound.execution-time";
+    public static final String METRIC_NAME_IN_FLIGHT = "camunda.connector.outbound.in-flight";
+    public static final String METRIC_NAME_QUEUED = "camunda.connector.outbound.queued";
   }
 
   public static class Inbound {
@@ -51,6 +53,15 @@ public class ConnectorMetrics {
     public static final String ACTION_ACTIVATION_CONDITION_FAILED = "activation-condition-failed";
     public static final String ACTION_CORRELATED = "correlated";
     public static final String ACTION_CORRELATION_FAILED = "correlation-failed";
+
+    public static final String METRIC_NAME_WEBHOOK_QUEUE_DEPTH =
+        "camunda.connector.inbound.webhook.queue.depth";
+    public static final String METRIC_NAME_WEBHOOK_QUEUE_AGE =
+        "camunda.connector.inbound.webhook.queue.oldest-age";
+    public static final String METRIC_NAME_WEBHOOK_QUEUE_WAIT =
+        "camunda.connector.inbound.webhook.queue.wait";
+    public static final String METRIC_NAME_WEBHOOK_REJECTED =
+        "camunda.connector.inbound.webhook.rejected";
   }
 
   public static CounterMetricsContext counter(ActivatedJob job) {
@@ -25,6 +25,7 @@ import io.camunda.connector.api.document.DocumentFactory;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.api.outbound.OutboundConnectorProvider;
 import io.camunda.connector.api.validation.ValidationProvider;
+import io.camunda.connector.feel.FeelEngineWrapper;
 import io.camunda.connector.runtime.annotation.ConnectorsObjectMapper;
 import io.camunda.connector.runtime.annotation.OutboundConnectorObjectMapper;
 import io.camunda.connector.runtime.core.document.DocumentFactoryImpl;
@@ -34,8 +35,15 @@ import io.camunda.connector.runtime.core.outbound.DefaultOutboundConnectorFactor
 import io.camunda.connector.runtime.core.outbound.OutboundConnectorFactory;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
 import io.camunda.connector.runtime.core.validation.ValidationUtil;
+import io.camunda.connector.runtime.outbound.job.OutboundJobExecutor;
 import io.camunda.connector.runtime.outbound.lifecycle.OutboundConnectorManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -70,6 +78,29 @@ public class OutboundConnectorRuntimeConfiguration {
     return ValidationUtil.discoverDefaultValidationProviderImplementation();
   }
 
+  /**
+   * Opt-in executor that runs connector functions off the job worker threads, limiting the jobs in
+   * flight per job type.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "camunda.connector.outbound.async.enabled", havingValue = "true")
+  public OutboundJobExecutor outboundJobExecutor(
+      Environment environment,
+      @Value("${camunda.connector.outbound.async.virtual-threads:true}") boolean virtualThreads,
+      @Value("${camunda.connector.outbound.async.threads:32}") int threads,
+      @Value("${camunda.connector.outbound.async.max-in-flight:32}") int maxInFlight,
+      @Value("${camunda.connector.outbound.async.max-queued:0}") int maxQueued,
+      @Autowired(required = false) MeterRegistry meterRegistry) {
+    ExecutorService executor =
+        virtualThreads
+            ? Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("connector-outbound-virtual-", 0).factory())
+            : Executors.newFixedThreadPool(
+                threads, Thread.ofPlatform().name("connector-outbound-", 0).factory());
+    return new OutboundJobExecutor(
+        executor, maxInFlight, maxQueued, environment::getProperty, meterRegistry);
+  }
+
   @Bean
   public OutboundConnectorManager outboundConnectorManager(
       JobWorkerManager jobWorkerManager,
@@ -79,7 +110,9 @@ public class OutboundConnectorRuntimeConfiguration {
       ValidationProvider validationProvider,
       MetricsRecorder metricsRecorder,
       DocumentFactory documentFactory,
-      @OutboundConnectorObjectMapper ObjectMapper objectMapper) {
+      @OutboundConnectorObjectMapper ObjectMapper objectMapper,
+      FeelEngineWrapper feelEngineWrapper,
+      @Autowired(required = false) OutboundJobExecutor outboundJobExecutor) {
     return new OutboundConnectorManager(
         jobWorkerManager,
         connectorFactory,
@@ -88,6 +121,8 @@ public class OutboundConnectorRuntimeConfiguration {
         validationProvider,
         documentFactory,
         objectMapper,
-        metricsRecorder);
+        metricsRecorder,
+        feelEngineWrapper,
+        outboundJobExecutor);
   }
 }
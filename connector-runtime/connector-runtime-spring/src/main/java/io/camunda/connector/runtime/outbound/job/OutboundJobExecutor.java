@@ -0,0 +1,223 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.job;
+
+import io.camunda.connector.runtime.core.config.ConnectorConfigurationOverrides;
+import io.camunda.connector.runtime.core.config.OutboundConnectorConfiguration;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes outbound connector jobs off the job worker thread, bounding the number of jobs in flight
+ * per job type.
+ *
+ * <p>Each job type gets its own lane that runs at most {@code maxInFlight} jobs at the same time
+ * and holds at most {@code maxQueued} further jobs. When a lane is full, {@link #execute(String,
+ * Runnable)} blocks the calling job worker thread until a slot frees up. As the job worker does not
+ * activate new jobs while its handlers are busy, this applies backpressure to job activation
+ * instead of piling up jobs that would time out in memory.
+ *
+ * <p>The limit of a job type can be overridden with the {@code CONNECTOR_<NAME>_MAX_IN_FLIGHT}
+ * property, see {@link ConnectorConfigurationOverrides}.
+ */
+public class OutboundJobExecutor implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OutboundJobExecutor.class);
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+  private final ExecutorService executor;
+  private final int defaultMaxInFlight;
+  private final int maxQueued;
+  private final Function<String, String> propertySource;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, JobTypeLane> lanes = new ConcurrentHashMap<>();
+
+  /**
+   * @param executor the executor running the connector functions, e.g. a virtual thread per task
+   *     executor
+   * @param defaultMaxInFlight the number of jobs per job type that may run at the same time
+   * @param maxQueued the number of jobs per job type that may wait for a free slot before the job
+   *     worker is blocked
+   * @param propertySource the source of connector overrides, usually the Spring environment
+   * @param meterRegistry the registry for the in-flight and queue depth gauges, may be null
+   */
+  public OutboundJobExecutor(
+      ExecutorService executor,
+      int defaultMaxInFlight,
+      int maxQueued,
+      Function<String, String> propertySource,
+      MeterRegistry meterRegistry) {
+    if (defaultMaxInFlight <= 0) {
+      throw new IllegalArgumentException("maxInFlight must be positive, got " + defaultMaxInFlight);
+    }
+    if (maxQueued < 0) {
+      throw new IllegalArgumentException("maxQueued must not be negative, got " + maxQueued);
+    }
+    this.executor = executor;
+    this.defaultMaxInFlight = defaultMaxInFlight;
+    this.maxQueued = maxQueued;
+    this.propertySource = propertySource;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Creates the lane of the connector's job type, applying the connector's max in-flight override
+   * if present.
+   */
+  public void register(OutboundConnectorConfiguration connector) {
+    int maxInFlight =
+        new ConnectorConfigurationOverrides(connector.name(), propertySource)
+            .maxInFlightOverride()
+            .filter(limit -> limit > 0)
+            .orElse(defaultMaxInFlight);
+    lanes.computeIfAbsent(connector.type(), type -> createLane(type, maxInFlight));
+  }
+
+  /**
+   * Runs the task asynchronously, blocking until the lane of the job type has room for it.
+   *
+   * @throws InterruptedException if interrupted while waiting for room in the lane
+   */
+  public void execute(String jobType, Runnable task) throws InterruptedException {
+    lanes.computeIfAbsent(jobType, type -> createLane(type, defaultMaxInFlight)).submit(task);
+  }
+
+  int inFlight(String jobType) {
+    JobTypeLane lane = lanes.get(jobType);
+    return lane != null ? lane.inFlight.get() : 0;
+  }
+
+  int queued(String jobType) {
+    JobTypeLane lane = lanes.get(jobType);
+    return lane != null ? lane.queued.get() : 0;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        LOG.warn(
+            "Outbound jobs still running after {}, they will be retried once their timeout expires",
+            SHUTDOWN_TIMEOUT);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private JobTypeLane createLane(String jobType, int maxInFlight) {
+    LOG.debug("Limiting job type {} to {} jobs in flight", jobType, maxInFlight);
+    JobTypeLane lane = new JobTypeLane(jobType, maxInFlight);
+    if (meterRegistry != null) {
+      Gauge.builder(
+              ConnectorMetrics.Outbound.METRIC_NAME_IN_FLIGHT, lane.inFlight, Number::doubleValue)
+          .tag(ConnectorMetrics.Tag.TYPE, jobType)
+          .register(meterRegistry);
+      Gauge.builder(ConnectorMetrics.Outbound.METRIC_NAME_QUEUED, lane.queued, Number::doubleValue)
+          .tag(ConnectorMetrics.Tag.TYPE, jobType)
+          .register(meterRegistry);
+    }
+    return lane;
+  }
+
+  /**
+   * Jobs of one type. Jobs count as queued from the moment they are submitted until they are handed
+   * to the executor, including the time the job worker waits for admission.
+   */
+  private final class JobTypeLane {
+
+    private final String jobType;
+    private final int maxInFlight;
+    private final Semaphore admission;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private JobTypeLane(String jobType, int maxInFlight) {
+      this.jobType = jobType;
+      this.maxInFlight = maxInFlight;
+      this.admission = new Semaphore(maxInFlight + maxQueued);
+    }
+
+    private void submit(Runnable task) throws InterruptedException {
+      queued.incrementAndGet();
+      try {
+        admission.acquire();
+      } catch (InterruptedException e) {
+        queued.decrementAndGet();
+        throw e;
+      }
+      pending.add(task);
+      dispatch();
+    }
+
+    private void dispatch() {
+      while (!pending.isEmpty()) {
+        int current = inFlight.get();
+        if (current >= maxInFlight) {
+          // a running job dispatches the next one when it completes
+          return;
+        }
+        if (!inFlight.compareAndSet(current, current + 1)) {
+          continue;
+        }
+        Runnable task = pending.poll();
+        if (task == null) {
+          inFlight.decrementAndGet();
+          continue;
+        }
+        queued.decrementAndGet();
+        try {
+          executor.execute(() -> run(task));
+        } catch (RejectedExecutionException e) {
+          LOG.warn(
+              "Executor rejected a job of type {}, it will be retried once its timeout expires",
+              jobType);
+          inFlight.decrementAndGet();
+          admission.release();
+        }
+      }
+    }
+
+    private void run(Runnable task) {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        LOG.warn("Unexpected error while executing a job of type {}", jobType, e);
+      } finally {
+        inFlight.decrementAndGet();
+        admission.release();
+        dispatch();
+      }
+    }
+  }
+}
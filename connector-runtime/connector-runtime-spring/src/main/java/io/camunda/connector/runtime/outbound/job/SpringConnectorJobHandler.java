@@ -33,6 +33,7 @@ import io.camunda.connector.api.document.DocumentFactory;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.connector.api.validation.ValidationProvider;
+import io.camunda.connector.feel.FeelEngineWrapper;
 import io.camunda.connector.runtime.core.ConnectorResultHandler;
 import io.camunda.connector.runtime.core.Keywords;
 import io.camunda.connector.runtime.core.error.*;
@@ -49,6 +50,9 @@ import org.slf4j.LoggerFactory;
 /**
  * An enhanced implementation of a {@link JobHandler} that adds metrics, asynchronous command
  * execution, and retries.
+ *
+ * <p>If an {@link OutboundJobExecutor} is provided, the connector function is executed on it
+ * instead of the job worker thread, bounded by the in-flight limit of the job type.
  */
 public class SpringConnectorJobHandler implements JobHandler {
 
@@ -61,6 +65,7 @@ public class SpringConnectorJobHandler implements JobHandler {
   private final MetricsRecorder connectorsOutboundMetrics;
   private final OutboundConnectorExceptionHandler outboundConnectorExceptionHandler;
   private final ConnectorResultHandler connectorResultHandler;
+  private final OutboundJobExecutor jobExecutor;
   protected SecretProvider secretProvider;
   protected ValidationProvider validationProvider;
   protected DocumentFactory documentFactory;
@@ -74,6 +79,48 @@ public class SpringConnectorJobHandler implements JobHandler {
       DocumentFactory documentFactory,
       ObjectMapper objectMapper,
       OutboundConnectorFunction connectorFunction) {
+    this(
+        outboundMetrics,
+        commandExceptionHandlingStrategy,
+        secretProviderAggregator,
+        validationProvider,
+        documentFactory,
+        objectMapper,
+        new FeelEngineWrapper(),
+        connectorFunction);
+  }
+
+  public SpringConnectorJobHandler(
+      MetricsRecorder outboundMetrics,
+      CommandExceptionHandlingStrategy commandExceptionHandlingStrategy,
+      SecretProviderAggregator secretProviderAggregator,
+      ValidationProvider validationProvider,
+      DocumentFactory documentFactory,
+      ObjectMapper objectMapper,
+      FeelEngineWrapper feelEngineWrapper,
+      OutboundConnectorFunction connectorFunction) {
+    this(
+        outboundMetrics,
+        commandExceptionHandlingStrategy,
+        secretProviderAggregator,
+        validationProvider,
+        documentFactory,
+        objectMapper,
+        feelEngineWrapper,
+        null,
+        connectorFunction);
+  }
+
+  public SpringConnectorJobHandler(
+      MetricsRecorder outboundMetrics,
+      CommandExceptionHandlingStrategy commandExceptionHandlingStrategy,
+      SecretProviderAggregator secretProviderAggregator,
+      ValidationProvider validationProvider,
+      DocumentFactory documentFactory,
+      ObjectMapper objectMapper,
+      FeelEngineWrapper feelEngineWrapper,
+      OutboundJobExecutor jobExecutor,
+      OutboundConnectorFunction connectorFunction) {
     this.call = connectorFunction;
     this.secretProvider = secretProviderAggregator;
     this.validationProvider = validationProvider;
@@ -81,9 +128,10 @@ public class SpringConnectorJobHandler implements JobHandler {
     this.objectMapper = objectMapper;
     this.outboundConnectorExceptionHandler =
         new OutboundConnectorExceptionHandler(getSecretProvider());
-    this.connectorResultHandler = new ConnectorResultHandler(objectMapper);
+    this.connectorResultHandler = new ConnectorResultHandler(objectMapper, feelEngineWrapper);
     this.commandExceptionHandlingStrategy = commandExceptionHandlingStrategy;
     this.connectorsOutboundMetrics = outboundMetrics;
+    this.jobExecutor = jobExecutor;
   }
 
   protected static FinalCommandStep<CompleteJobResponse> prepareCompleteJobCommand(
@@ -142,6 +190,27 @@ public class SpringConnectorJobHandler implements JobHandler {
     CounterMetricsContext counterMetricsContext = ConnectorMetrics.counter(job);
     TimerMetricsContext timerMetricsContext = ConnectorMetrics.timer(job);
     connectorsOutboundMetrics.increaseActivated(counterMetricsContext);
+    if (jobExecutor == null) {
+      executeJobWithTimer(client, job, counterMetricsContext, timerMetricsContext);
+      return;
+    }
+    jobExecutor.execute(
+        job.getType(),
+        () -> {
+          try {
+            executeJobWithTimer(client, job, counterMetricsContext, timerMetricsContext);
+          } catch (Exception e) {
+            LOGGER.warn("Failed to handle job: {} of type: {}", job.getKey(), job.getType(), e);
+          }
+        });
+  }
+
+  private void executeJobWithTimer(
+      JobClient client,
+      ActivatedJob job,
+      CounterMetricsContext counterMetricsContext,
+      TimerMetricsContext timerMetricsContext)
+      throws Exception {
     connectorsOutboundMetrics.executeWithTimer(
         timerMetricsContext,
         () -> {
@@ -30,9 +30,11 @@ import io.camunda.client.metrics.MetricsRecorder;
 import io.camunda.connector.api.document.DocumentFactory;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.api.validation.ValidationProvider;
+import io.camunda.connector.feel.FeelEngineWrapper;
 import io.camunda.connector.runtime.core.config.OutboundConnectorConfiguration;
 import io.camunda.connector.runtime.core.outbound.OutboundConnectorFactory;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
+import io.camunda.connector.runtime.outbound.job.OutboundJobExecutor;
 import io.camunda.connector.runtime.outbound.job.SpringConnectorJobHandler;
 import java.time.Duration;
 import java.util.Arrays;
@@ -52,6 +54,8 @@ public class OutboundConnectorManager implements CamundaClientLifecycleAware {
   private final ObjectMapper objectMapper;
   private final DocumentFactory documentFactory;
   private final MetricsRecorder metricsRecorder;
+  private final FeelEngineWrapper feelEngineWrapper;
+  private final OutboundJobExecutor jobExecutor;
 
   public OutboundConnectorManager(
       JobWorkerManager jobWorkerManager,
@@ -61,7 +65,36 @@ public class OutboundConnectorManager implements CamundaClientLifecycleAware {
       ValidationProvider validationProvider,
       DocumentFactory documentFactory,
       ObjectMapper objectMapper,
-      MetricsRecorder metricsRecorder) {
+      MetricsRecorder metricsRecorder,
+      FeelEngineWrapper feelEngineWrapper) {
+    this(
+        jobWorkerManager,
+        connectorFactory,
+        commandExceptionHandlingStrategy,
+        secretProviderAggregator,
+        validationProvider,
+        documentFactory,
+        objectMapper,
+        metricsRecorder,
+        feelEngineWrapper,
+        null);
+  }
+
+  /**
+   * @param jobExecutor executes the connector functions off the job worker threads, may be null to
+   *     execute them on the job worker threads
+   */
+  public OutboundConnectorManager(
+      JobWorkerManager jobWorkerManager,
+      OutboundConnectorFactory connectorFactory,
+      CommandExceptionHandlingStrategy commandExceptionHandlingStrategy,
+      SecretProviderAggregator secretProviderAggregator,
+      ValidationProvider validationProvider,
+      DocumentFactory documentFactory,
+      ObjectMapper objectMapper,
+      MetricsRecorder metricsRecorder,
+      FeelEngineWrapper feelEngineWrapper,
+      OutboundJobExecutor jobExecutor) {
     this.jobWorkerManager = jobWorkerManager;
     this.connectorFactory = connectorFactory;
     this.commandExceptionHandlingStrategy = commandExceptionHandlingStrategy;
@@ -70,6 +103,8 @@ public class OutboundConnectorManager implements CamundaClientLifecycleAware {
     this.documentFactory = documentFactory;
     this.objectMapper = objectMapper;
     this.metricsRecorder = metricsRecorder;
+    this.feelEngineWrapper = feelEngineWrapper;
+    this.jobExecutor = jobExecutor;
   }
 
   @Override
@@ -105,6 +140,9 @@ public class OutboundConnectorManager implements CamundaClientLifecycleAware {
 
     OutboundConnectorFunction connectorFunction = connectorFactory.getInstance(connector.type());
     LOG.trace("Opening worker for connector {}", connector.name());
+    if (jobExecutor != null) {
+      jobExecutor.register(connector);
+    }
 
     JobHandlerFactory jobHandlerFactory =
         ctx ->
@@ -115,6 +153,8 @@ public class OutboundConnectorManager implements CamundaClientLifecycleAware {
                 validationProvider,
                 documentFactory,
                 objectMapper,
+                feelEngineWrapper,
+                jobExecutor,
                 connectorFunction);
     jobWorkerManager.createJobWorker(
         client, new ManagedJobWorker(jobWorkerValue, jobHandlerFactory), this);
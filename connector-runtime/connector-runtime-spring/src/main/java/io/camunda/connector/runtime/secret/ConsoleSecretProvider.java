@@ -16,47 +16,80 @@
  */
 package io.camunda.connector.runtime.secret;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import io.camunda.connector.api.secret.SecretContext;
 import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.connector.runtime.secret.console.ConsoleSecretApiClient;
+import io.camunda.connector.runtime.secret.console.ConsoleSecretApiClient.ConsoleSecrets;
+import io.camunda.connector.util.secret.SecretsRefresher;
+import io.camunda.connector.util.secret.SecretsRefresherMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Secret provider that fetches secrets from the Console Cluster API provided by the Camunda SaaS
  * Platform.
+ *
+ * <p>The secrets are reloaded in the background by a {@link SecretsRefresher} once they are older
+ * than the refresh interval. Refreshes send the ETag of the current secrets, so unchanged secrets
+ * are neither transferred nor parsed again.
  */
-public class ConsoleSecretProvider implements SecretProvider {
+public class ConsoleSecretProvider implements SecretProvider, AutoCloseable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ConsoleSecretProvider.class);
 
-  private static final String CACHE_KEY = "secrets";
-
-  private final LoadingCache<String, Map<String, String>> secretsCache;
+  private final ConsoleSecretApiClient consoleSecretApiClient;
+  private final SecretsRefresher<ConsoleSecretsSnapshot> refresher;
 
   public ConsoleSecretProvider(
       ConsoleSecretApiClient consoleSecretApiClient, Duration cacheRefresh) {
-    // We do not cache individual values as the response always contains all secrets
-    secretsCache =
-        CacheBuilder.newBuilder()
-            .refreshAfterWrite(cacheRefresh)
-            .build(
-                new CacheLoader<>() {
-                  @Override
-                  public Map<String, String> load(String key) {
-                    return consoleSecretApiClient.getSecrets();
-                  }
-                });
+    this(consoleSecretApiClient, cacheRefresh, null);
+  }
+
+  /**
+   * @param consoleSecretApiClient the client of the Console secrets API
+   * @param cacheRefresh the interval in which the secrets are refreshed
+   * @param meterRegistry the registry for the refresh latency, failure and staleness meters, may be
+   *     null
+   */
+  public ConsoleSecretProvider(
+      ConsoleSecretApiClient consoleSecretApiClient,
+      Duration cacheRefresh,
+      MeterRegistry meterRegistry) {
+    this.consoleSecretApiClient = consoleSecretApiClient;
+    this.refresher =
+        new SecretsRefresher<>("connectors-console-secrets-refresh", cacheRefresh, this::load);
+    if (meterRegistry != null) {
+      new SecretsRefresherMetrics(refresher, ConsoleSecretProvider.class.getSimpleName())
+          .bindTo(meterRegistry);
+    }
   }
 
   @Override
   public String getSecret(String name, SecretContext context) {
     LOGGER.debug("Resolving secret for key: {}", name);
-    return secretsCache.getUnchecked(CACHE_KEY).getOrDefault(name, null);
+    return refresher.get().secrets().getOrDefault(name, null);
   }
+
+  @Override
+  public void close() {
+    refresher.close();
+  }
+
+  private ConsoleSecretsSnapshot load(ConsoleSecretsSnapshot current) {
+    Optional<ConsoleSecrets> loaded =
+        consoleSecretApiClient.getSecretsIfModified(current != null ? current.etag() : null);
+    if (loaded.isEmpty()) {
+      LOGGER.debug("Secrets unchanged at ETag {}", current.etag());
+      return current;
+    }
+    return new ConsoleSecretsSnapshot(
+        Collections.unmodifiableMap(loaded.get().secrets()), loaded.get().etag());
+  }
+
+  private record ConsoleSecretsSnapshot(Map<String, String> secrets, String etag) {}
 }
@@ -22,10 +22,13 @@ import io.camunda.connector.jackson.ConnectorsObjectMapperSupplier;
 import io.camunda.connector.runtime.secret.console.TokenResponseMapper.JacksonTokenResponseMapper;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,21 +58,40 @@ public class ConsoleSecretApiClient {
   }
 
   public Map<String, String> getSecrets() {
+    return getSecretsIfModified(null).orElseThrow().secrets();
+  }
+
+  /**
+   * Loads the secrets unless they are unchanged since the response with the given ETag.
+   *
+   * @param etag the ETag of the previously loaded secrets, or {@code null} to load them
+   *     unconditionally
+   * @return the secrets, or empty if they did not change
+   */
+  public Optional<ConsoleSecrets> getSecretsIfModified(String etag) {
     LOGGER.debug("Loading secrets from {}", secretsEndpoint);
     try (CloseableHttpClient httpClient = HttpClientBuilder.create().build()) {
       var request = new HttpGet(secretsEndpoint);
       var authHeader = authentication.getTokenHeader();
       authHeader.forEach(request::addHeader);
-      return httpClient.execute(request, this::handleSecretsResponse);
+      if (etag != null) {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+      }
+      return Optional.ofNullable(httpClient.execute(request, this::handleSecretsResponse));
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
   }
 
-  private Map<String, String> handleSecretsResponse(ClassicHttpResponse response)
-      throws IOException {
+  private ConsoleSecrets handleSecretsResponse(ClassicHttpResponse response) throws IOException {
     return switch (response.getCode()) {
-      case 200 -> objectMapper.readValue(response.getEntity().getContent(), mapTypeReference);
+      case 200 -> {
+        Header etag = response.getFirstHeader(HttpHeaders.ETAG);
+        yield new ConsoleSecrets(
+            objectMapper.readValue(response.getEntity().getContent(), mapTypeReference),
+            etag != null ? etag.getValue() : null);
+      }
+      case 304 -> null;
       case 401, 403 -> {
         authentication.resetToken();
         throw new RuntimeException("Authentication failed: " + response.getCode());
@@ -79,4 +101,10 @@ public class ConsoleSecretApiClient {
               "Unable to handle response from Console secrets: " + response.getCode());
     };
   }
+
+  /**
+   * @param secrets the secrets by name
+   * @param etag the ETag of the response, or {@code null} if the response did not contain one
+   */
+  public record ConsoleSecrets(Map<String, String> secrets, String etag) {}
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.connector.api.inbound.CorrelationResult;
+import io.camunda.connector.runtime.inbound.webhook.AsyncWebhookCorrelator.CorrelationStatus.State;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncWebhookCorrelatorTest {
+
+  private static final String CONTEXT = "myPath";
+
+  private AsyncWebhookCorrelator correlator;
+
+  @AfterEach
+  void close() {
+    correlator.close();
+  }
+
+  @Test
+  void shouldCorrelateInBackground_AndKeepResult() {
+    // given
+    correlator = new AsyncWebhookCorrelator(1, 10, Duration.ofMinutes(1), null);
+    var result = new CorrelationResult.Success.MessagePublished(null, 1L, "<default>");
+
+    // when
+    var correlationId = correlator.submit(CONTEXT, () -> result).orElseThrow();
+
+    // then
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(correlator.status(CONTEXT, correlationId))
+                    .hasValueSatisfying(
+                        status -> {
+                          assertThat(status.state()).isEqualTo(State.CORRELATED);
+                          assertThat(status.result()).isEqualTo(result);
+                          assertThat(status.completedAt()).isNotNull();
+                        }));
+  }
+
+  @Test
+  void shouldRecordFailure_WhenCorrelationThrows() {
+    // given
+    correlator = new AsyncWebhookCorrelator(1, 10, Duration.ofMinutes(1), null);
+
+    // when
+    var correlationId =
+        correlator
+            .submit(
+                CONTEXT,
+                () -> {
+                  throw new IllegalStateException("engine unavailable");
+                })
+            .orElseThrow();
+
+    // then
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(correlator.status(CONTEXT, correlationId))
+                    .hasValueSatisfying(
+                        status -> {
+                          assertThat(status.state()).isEqualTo(State.FAILED);
+                          assertThat(status.error()).isEqualTo("engine unavailable");
+                        }));
+  }
+
+  @Test
+  void shouldRecordFailure_WhenCorrelationResultIsFailure() {
+    // given
+    correlator = new AsyncWebhookCorrelator(1, 10, Duration.ofMinutes(1), null);
+    var failure = new CorrelationResult.Failure.ZeebeClientStatus("UNAVAILABLE", "no leader");
+
+    // when
+    var correlationId = correlator.submit(CONTEXT, () -> failure).orElseThrow();
+
+    // then
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(correlator.status(CONTEXT, correlationId))
+                    .hasValueSatisfying(
+                        status -> {
+                          assertThat(status.state()).isEqualTo(State.FAILED);
+                          assertThat(status.result()).isEqualTo(failure);
+                          assertThat(status.error()).isEqualTo("no leader");
+                        }));
+  }
+
+  @Test
+  void shouldStartWorkers_WithFirstRequest() {
+    // given
+    correlator = new AsyncWebhookCorrelator(4, 10, Duration.ofMinutes(1), null);
+    assertThat(correlator.workers()).isZero();
+
+    // when
+    correlator.submit(CONTEXT, () -> new CorrelationResult.Success.MessageAlreadyCorrelated(null));
+    correlator.submit(CONTEXT, () -> new CorrelationResult.Success.MessageAlreadyCorrelated(null));
+
+    // then
+    assertThat(correlator.workers()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldReject_WhenQueueIsFull() throws Exception {
+    // given a worker blocked on the first request and one queued request
+    correlator = new AsyncWebhookCorrelator(1, 1, Duration.ofMinutes(1), null);
+    var release = new CountDownLatch(1);
+    var started = new CountDownLatch(1);
+    var first =
+        correlator.submit(
+            CONTEXT,
+            () -> {
+              started.countDown();
+              awaitLatch(release);
+              return new CorrelationResult.Success.MessageAlreadyCorrelated(null);
+            });
+    started.await();
+    var second = correlator.submit(CONTEXT, () -> null);
+
+    // when
+    var third = correlator.submit(CONTEXT, () -> null);
+
+    // then
+    assertThat(first).isPresent();
+    assertThat(second).isPresent();
+    assertThat(third).isEmpty();
+    assertThat(correlator.status(CONTEXT, second.get()))
+        .hasValueSatisfying(status -> assertThat(status.state()).isEqualTo(State.QUEUED));
+    release.countDown();
+  }
+
+  @Test
+  void shouldNotExposeStatus_ToOtherContexts_OrAfterRetention() {
+    // given
+    correlator = new AsyncWebhookCorrelator(1, 10, Duration.ZERO, null);
+    var correlationId =
+        correlator
+            .submit(CONTEXT, () -> new CorrelationResult.Success.MessageAlreadyCorrelated(null))
+            .orElseThrow();
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .until(
+            () ->
+                correlator
+                    .status(CONTEXT, correlationId)
+                    .filter(status -> status.state() == State.CORRELATED)
+                    .isPresent());
+
+    // when
+    var otherContext = correlator.status("otherPath", correlationId);
+    correlator.evictExpired();
+
+    // then
+    assertThat(otherContext).isEmpty();
+    assertThat(correlator.status(CONTEXT, correlationId)).isEmpty();
+  }
+
+  private static void awaitLatch(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -21,6 +21,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 import io.camunda.connector.api.inbound.Health;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -132,4 +136,66 @@ public class WebhookConnectorRegistryTest extends WebhookTestsBase {
     assertFalse(isRegistered(webhook, processA2));
     assertTrue(isRegistered(webhook, processA1));
   }
+
+  @Test
+  public void routeIsPublishedWithBoundProperties_AndUpdatedOnDeregistration() {
+    WebhookConnectorRegistry webhook = new WebhookConnectorRegistry();
+
+    // given
+    var processA1 = buildConnector("processA", 1, "myPath");
+    var processB1 = buildConnector("processB", 1, "myPath");
+    webhook.register(processA1);
+    webhook.register(processB1);
+    var routeA = webhook.getRoute("myPath").orElseThrow();
+
+    // when
+    webhook.deregister(processA1);
+
+    // then
+    assertThat(routeA.executable()).isEqualTo(processA1);
+    assertThat(routeA.properties().getContext()).isEqualTo("myPath");
+    var routeB = webhook.getRoute("myPath").orElseThrow();
+    assertThat(routeB.executable()).isEqualTo(processB1);
+    assertThat(routeB.properties().getContext()).isEqualTo("myPath");
+  }
+
+  @Test
+  public void requestThreadsSeeConsistentRoutesWhileRegistrationsChange() throws Exception {
+    WebhookConnectorRegistry webhook = new WebhookConnectorRegistry();
+    var connectors =
+        IntStream.range(0, 50).mapToObj(i -> buildConnector("process" + i, 1, "path" + i)).toList();
+    var running = new AtomicBoolean(true);
+    var failures = new AtomicInteger();
+
+    // given request threads routing while the registry changes
+    try (var executor = Executors.newFixedThreadPool(4)) {
+      for (int t = 0; t < 4; t++) {
+        executor.execute(
+            () -> {
+              while (running.get()) {
+                for (int i = 0; i < connectors.size(); i++) {
+                  var route = webhook.getRoute("path" + i);
+                  if (route.isPresent() && route.get().executable() != connectors.get(i)) {
+                    failures.incrementAndGet();
+                  }
+                }
+              }
+            });
+      }
+
+      // when
+      for (int round = 0; round < 20; round++) {
+        connectors.forEach(webhook::register);
+        connectors.forEach(webhook::deregister);
+      }
+      connectors.forEach(webhook::register);
+      running.set(false);
+    }
+
+    // then
+    assertThat(failures).hasValue(0);
+    for (int i = 0; i < connectors.size(); i++) {
+      assertThat(webhook.getActiveWebhook("path" + i)).contains(connectors.get(i));
+    }
+  }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.connector.runtime.core.config.OutboundConnectorConfiguration;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class OutboundJobExecutorTest {
+
+  private static final String TYPE = "io.camunda:test:1";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private OutboundJobExecutor executor;
+
+  @AfterEach
+  void close() {
+    executor.close();
+  }
+
+  @Test
+  void shouldLimitJobsInFlightPerType() throws Exception {
+    // given
+    executor = newExecutor(2, 10, Map.of());
+    var release = new CountDownLatch(1);
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+
+    // when
+    for (int i = 0; i < 6; i++) {
+      executor.execute(
+          TYPE,
+          () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            awaitQuietly(release);
+            running.decrementAndGet();
+          });
+    }
+
+    // then
+    await().untilAsserted(() -> assertThat(executor.inFlight(TYPE)).isEqualTo(2));
+    assertThat(executor.queued(TYPE)).isEqualTo(4);
+    assertThat(gauge(ConnectorMetrics.Outbound.METRIC_NAME_IN_FLIGHT)).isEqualTo(2);
+    assertThat(gauge(ConnectorMetrics.Outbound.METRIC_NAME_QUEUED)).isEqualTo(4);
+
+    release.countDown();
+    await().untilAsserted(() -> assertThat(executor.inFlight(TYPE)).isZero());
+    assertThat(executor.queued(TYPE)).isZero();
+    assertThat(maxRunning.get()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldBlockSubmitter_WhenLaneIsFull() throws Exception {
+    // given
+    executor = newExecutor(1, 1, Map.of());
+    var release = new CountDownLatch(1);
+    executor.execute(TYPE, () -> awaitQuietly(release));
+    executor.execute(TYPE, () -> {});
+
+    // when
+    var submitted = new CountDownLatch(1);
+    Thread.ofVirtual()
+        .start(
+            () -> {
+              try {
+                executor.execute(TYPE, () -> {});
+                submitted.countDown();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+
+    // then
+    assertThat(submitted.await(200, TimeUnit.MILLISECONDS)).isFalse();
+    assertThat(executor.queued(TYPE)).isEqualTo(2);
+
+    release.countDown();
+    assertThat(submitted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldNotLimitOtherTypes_WhenOneTypeIsFull() throws Exception {
+    // given
+    executor = newExecutor(1, 0, Map.of());
+    var release = new CountDownLatch(1);
+    executor.execute(TYPE, () -> awaitQuietly(release));
+
+    // when
+    var otherTypeExecuted = new CountDownLatch(1);
+    executor.execute("io.camunda:other:1", otherTypeExecuted::countDown);
+
+    // then
+    assertThat(otherTypeExecuted.await(5, TimeUnit.SECONDS)).isTrue();
+    release.countDown();
+  }
+
+  @Test
+  void shouldApplyConnectorOverride() throws Exception {
+    // given
+    executor = newExecutor(1, 10, Map.of("CONNECTOR_TEST_CONNECTOR_MAX_IN_FLIGHT", "3"));
+    executor.register(
+        new OutboundConnectorConfiguration("Test connector", new String[0], TYPE, () -> null));
+    var release = new CountDownLatch(1);
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      executor.execute(TYPE, () -> awaitQuietly(release));
+    }
+
+    // then
+    await().untilAsserted(() -> assertThat(executor.inFlight(TYPE)).isEqualTo(3));
+    assertThat(executor.queued(TYPE)).isEqualTo(2);
+    release.countDown();
+  }
+
+  @Test
+  void shouldReleaseSlot_WhenTaskThrows() throws Exception {
+    // given
+    executor = newExecutor(1, 0, Map.of());
+    executor.execute(
+        TYPE,
+        () -> {
+          throw new IllegalStateException("expected");
+        });
+
+    // when
+    var executed = new CountDownLatch(1);
+    executor.execute(TYPE, executed::countDown);
+
+    // then
+    assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private OutboundJobExecutor newExecutor(
+      int maxInFlight, int maxQueued, Map<String, String> properties) {
+    return new OutboundJobExecutor(
+        Executors.newVirtualThreadPerTaskExecutor(),
+        maxInFlight,
+        maxQueued,
+        properties::get,
+        meterRegistry);
+  }
+
+  private double gauge(String name) {
+    return meterRegistry.get(name).tag(ConnectorMetrics.Tag.TYPE, TYPE).gauge().value();
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -16,11 +16,15 @@
  */
 package io.camunda.connector.runtime.secret;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.moreThanOrExactly;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
@@ -28,6 +32,8 @@ import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import io.camunda.connector.runtime.secret.console.Authentication;
 import io.camunda.connector.runtime.secret.console.ConsoleSecretApiClient;
+import io.camunda.connector.util.secret.SecretsRefresherMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
@@ -122,7 +128,48 @@ public class ConsoleSecretProviderTest {
             .withHeader("Authorization", matching("Bearer XXX"))
             .willReturn(ResponseDefinitionBuilder.okForJson(secretsResponse)));
 
-    // New secrets should be resolved
-    assertThat(consoleSecretProvider.getSecret("secretKey", null)).isEqualTo("newSecretValue");
+    // New secrets should be resolved once the background refresh picked them up
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(consoleSecretProvider.getSecret("secretKey", null))
+                    .isEqualTo("newSecretValue"));
+    consoleSecretProvider.close();
+  }
+
+  @Test
+  void testUnchangedSecretsAreNotReloaded() {
+    // Mock response with an ETag
+    var secretsResponse = Collections.singletonMap("secretKey", "secretValue");
+    wm.stubFor(
+        get(urlPathMatching("/secrets"))
+            .withHeader("Authorization", matching("Bearer XXX"))
+            .willReturn(
+                ResponseDefinitionBuilder.okForJson(secretsResponse).withHeader("ETag", "\"v1\"")));
+    wm.stubFor(
+        get(urlPathMatching("/secrets"))
+            .withHeader("If-None-Match", equalTo("\"v1\""))
+            .willReturn(ResponseDefinitionBuilder.responseDefinition().withStatus(304)));
+
+    var meterRegistry = new SimpleMeterRegistry();
+    var consoleSecretProvider =
+        new ConsoleSecretProvider(client, Duration.ofMillis(1), meterRegistry);
+    assertThat(consoleSecretProvider.getSecret("secretKey", null)).isEqualTo("secretValue");
+
+    // Refreshes only revalidate the secrets
+    await()
+        .untilAsserted(
+            () -> {
+              consoleSecretProvider.getSecret("secretKey", null);
+              wm.verify(
+                  moreThanOrExactly(3),
+                  getRequestedFor(urlPathMatching("/secrets"))
+                      .withHeader("If-None-Match", equalTo("\"v1\"")));
+            });
+    assertThat(consoleSecretProvider.getSecret("secretKey", null)).isEqualTo("secretValue");
+    assertThat(
+            meterRegistry.get(SecretsRefresherMetrics.METRIC_NAME_REFRESH).functionTimer().count())
+        .isGreaterThanOrEqualTo(4);
+    consoleSecretProvider.close();
   }
 }
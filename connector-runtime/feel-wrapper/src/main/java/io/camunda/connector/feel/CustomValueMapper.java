@@ -23,17 +23,32 @@ import io.camunda.connector.api.document.Document;
 import java.util.Optional;
 import java.util.function.Function;
 import org.camunda.feel.syntaxtree.Val;
+import org.camunda.feel.syntaxtree.ValContext;
 import org.camunda.feel.valuemapper.JavaCustomValueMapper;
 
 public class CustomValueMapper extends JavaCustomValueMapper {
+
+  /** Must be applied before the {@link org.camunda.feel.impl.JavaValueMapper} (priority 10). */
+  private static final int PRIORITY = 20;
+
   private final ObjectMapper objectMapper;
+  private final LazyVariableContextFactory lazyVariableContextFactory;
 
   public CustomValueMapper(ObjectMapper objectMapper) {
+    this(objectMapper, new LazyVariableContextFactory(objectMapper));
+  }
+
+  CustomValueMapper(
+      ObjectMapper objectMapper, LazyVariableContextFactory lazyVariableContextFactory) {
     this.objectMapper = objectMapper;
+    this.lazyVariableContextFactory = lazyVariableContextFactory;
   }
 
   @Override
   public Optional<Val> toValue(Object object, Function<Object, Val> innerValueMapper) {
+    if (object instanceof LazyValue lazyValue) {
+      return Optional.of(lazyVariableContextFactory.toValue(lazyValue, innerValueMapper));
+    }
     // TODO: Refactor in scope of https://github.com/camunda/team-connectors/issues/964
     if (object instanceof Document document) {
       // Make sure that documents are converted to references before accessing them in FEEL
@@ -46,6 +61,16 @@ public class CustomValueMapper extends JavaCustomValueMapper {
 
   @Override
   public Optional<Object> unpackValue(Val value, Function<Val, Object> innerValueMapper) {
+    // Contexts that still read from the input must not leak lazy values into the result
+    if (value instanceof ValContext valContext
+        && valContext.context() instanceof LazyVariableContext lazyContext) {
+      return Optional.of(lazyContext.toMap(innerValueMapper));
+    }
     return Optional.empty();
   }
+
+  @Override
+  public int priority() {
+    return PRIORITY;
+  }
 }
@@ -16,43 +16,86 @@
  */
 package io.camunda.connector.feel;
 
-import static io.camunda.connector.feel.JacksonSupport.MAP_TYPE_REFERENCE;
-
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.ClassUtil;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.scala.DefaultScalaModule$;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.camunda.connector.document.jackson.JacksonModuleDocumentSerializer;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.camunda.feel.FeelEngine;
+import org.camunda.feel.context.FunctionProvider;
 import org.camunda.feel.impl.JavaValueMapper;
 import org.camunda.feel.impl.SpiServiceLoader;
+import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import scala.collection.Iterable;
 import scala.jdk.javaapi.CollectionConverters;
 
-/** Wrapper for the FEEL engine, handling type conversions and expression evaluations. */
+/**
+ * Wrapper for the FEEL engine, handling type conversions and expression evaluations.
+ *
+ * <p>The wrapper is thread-safe. Creating it is expensive (object mapper, engine and expression
+ * cache), so a single instance should be shared, e.g. as a bean in the runtime.
+ */
 public class FeelEngineWrapper {
 
   private static final String ERROR_CONTEXT_IS_NULL = "Context is null";
   private static final Logger log = LoggerFactory.getLogger(FeelEngineWrapper.class);
+
+  public static final long DEFAULT_EXPRESSION_CACHE_MAX_SIZE = 1000;
+  public static final Duration DEFAULT_EXPRESSION_CACHE_EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+  /** Function providers are stateless, the service loader lookup is only done once. */
+  private static final class FunctionProviderHolder {
+    private static final FunctionProvider INSTANCE = SpiServiceLoader.loadFunctionProvider();
+  }
+
   private final FeelEngine feelEngine;
   private final ObjectMapper objectMapper;
+  private final LazyVariableContextFactory lazyVariableContextFactory;
+  private final Cache<String, ParsedExpression> expressionCache;
+  private final LongAdder parseCount = new LongAdder();
+  private final LongAdder parseTimeNanos = new LongAdder();
 
   public FeelEngineWrapper() {
+    this(DEFAULT_EXPRESSION_CACHE_MAX_SIZE, DEFAULT_EXPRESSION_CACHE_EXPIRE_AFTER_ACCESS);
+  }
+
+  /**
+   * Creates a wrapper that caches parsed expressions.
+   *
+   * @param expressionCacheMaxSize the maximum number of parsed expressions to keep
+   * @param expressionCacheExpireAfterAccess how long an unused parsed expression is kept
+   */
+  public FeelEngineWrapper(
+      final long expressionCacheMaxSize, final Duration expressionCacheExpireAfterAccess) {
+    this.expressionCache =
+        Caffeine.newBuilder()
+            .maximumSize(expressionCacheMaxSize)
+            .expireAfterAccess(expressionCacheExpireAfterAccess)
+            .recordStats()
+            // evict on the calling thread, so the configured size is respected immediately
+            .executor(Runnable::run)
+            .build();
     this.objectMapper =
         new ObjectMapper()
             .registerModule(DefaultScalaModule$.MODULE$)
@@ -62,14 +105,14 @@ public class FeelEngineWrapper {
             .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
             .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+    this.lazyVariableContextFactory = new LazyVariableContextFactory(objectMapper);
 
     this.feelEngine =
         new FeelEngine.Builder()
             .customValueMapper(new JavaValueMapper())
-            .functionProvider(SpiServiceLoader.loadFunctionProvider())
-            .customValueMapper(new CustomValueMapper(objectMapper))
+            .functionProvider(FunctionProviderHolder.INSTANCE)
+            .customValueMapper(new CustomValueMapper(objectMapper, lazyVariableContextFactory))
             .build();
-    ;
   }
 
   private static String trimExpression(final String expression) {
@@ -80,35 +123,9 @@ public class FeelEngineWrapper {
     return feelExpression.trim();
   }
 
-  private static scala.collection.immutable.Map<String, Object> toScalaMap(
-      final Map<String, Object> responseMap) {
-    final HashMap<String, Object> context = new HashMap<>(responseMap);
-    return scala.collection.immutable.Map.from(CollectionConverters.asScala(context));
-  }
-
-  private Map<String, Object> mergeMapVariables(final Object[] variables) {
-    try {
-      Objects.requireNonNull(variables, ERROR_CONTEXT_IS_NULL);
-      Map<String, Object> variablesMap = new HashMap<>();
-      for (Object o : variables) {
-        if (o != null) {
-          tryConvertToMap(o).ifPresent(variablesMap::putAll);
-        }
-      }
-      return variablesMap;
-    } catch (IllegalArgumentException ex) {
-      throw new IllegalArgumentException(
-          String.format("Unable to parse '%s' as context", variables), ex);
-    }
-  }
-
-  private Optional<Map<String, Object>> tryConvertToMap(Object o) {
-    try {
-      return Optional.of(objectMapper.convertValue(o, MAP_TYPE_REFERENCE));
-    } catch (IllegalArgumentException ex) {
-      log.warn(ex.getMessage(), ex);
-      return Optional.empty();
-    }
+  private LazyVariableContext createVariableContext(final Object[] variables) {
+    Objects.requireNonNull(variables, ERROR_CONTEXT_IS_NULL);
+    return lazyVariableContextFactory.createRootContext(variables);
   }
 
   @SuppressWarnings("unchecked")
@@ -169,7 +186,7 @@ public class FeelEngineWrapper {
           }
         };
     var type = objectMapper.getTypeFactory().constructType(clazz);
-    return evaluateAndConvert(expression, type, converter, variables);
+    return evaluateAndConvert(expression, type, converter, true, variables);
   }
 
   /**
@@ -192,7 +209,7 @@ public class FeelEngineWrapper {
             throw new RuntimeException(e);
           }
         };
-    return evaluateAndConvert(expression, clazz, converter, variables);
+    return evaluateAndConvert(expression, clazz, converter, true, variables);
   }
 
   /**
@@ -226,7 +243,7 @@ public class FeelEngineWrapper {
             throw new RuntimeException(e);
           }
         };
-    return evaluateAndConvert(expression, clazz, converter, variables);
+    return evaluateAndConvert(expression, clazz, converter, false, variables);
   }
 
   @SuppressWarnings("unchecked")
@@ -234,12 +251,19 @@ public class FeelEngineWrapper {
       final String expression,
       final JavaType clazz,
       Function<JsonNode, T> converter,
+      final boolean convertMapsDirectly,
       final Object... variables) {
 
     Object result = evaluate(expression, variables);
-    JsonNode jsonNode = objectMapper.convertValue(result, JsonNode.class);
 
     try {
+      if (result != null) {
+        var directResult = convertDirectly(result, clazz, convertMapsDirectly);
+        if (directResult.isPresent()) {
+          return (T) directResult.get();
+        }
+      }
+      JsonNode jsonNode = objectMapper.convertValue(result, JsonNode.class);
       if (clazz.getRawClass().equals(String.class) && jsonNode.isObject()) {
         return (T) objectMapper.writeValueAsString(jsonNode);
       } else {
@@ -251,6 +275,36 @@ public class FeelEngineWrapper {
     }
   }
 
+  /**
+   * Converts the result without building an intermediate {@link JsonNode} if the target type is a
+   * string, a primitive or a map. Returns an empty optional for all other types.
+   *
+   * @param convertMapsDirectly whether maps may be converted with the wrapper's object mapper, i.e.
+   *     no deserialization context has to be applied
+   */
+  private Optional<Object> convertDirectly(
+      final Object result, final JavaType type, final boolean convertMapsDirectly)
+      throws JsonProcessingException {
+    var rawClass = type.getRawClass();
+    if (rawClass.equals(String.class)) {
+      if (result instanceof String) {
+        return Optional.of(result);
+      } else if (result instanceof Map<?, ?>) {
+        return Optional.of(objectMapper.writeValueAsString(result));
+      }
+    } else if (rawClass.isPrimitive() || ClassUtil.primitiveType(rawClass) != null) {
+      var boxedClass = rawClass.isPrimitive() ? ClassUtil.wrapperType(rawClass) : rawClass;
+      if (boxedClass.isInstance(result)) {
+        return Optional.of(result);
+      }
+    } else if (convertMapsDirectly
+        && Map.class.isAssignableFrom(rawClass)
+        && result instanceof Map<?, ?>) {
+      return Optional.of(sanitizeScalaOutput(objectMapper.convertValue(result, type)));
+    }
+    return Optional.empty();
+  }
+
   /**
    * Evaluates an expression to a JSON String.
    *
@@ -271,10 +325,22 @@ public class FeelEngineWrapper {
     }
   }
 
+  /**
+   * Converts a single value of an evaluation result that has no direct JSON counterpart, e.g. a
+   * date or a duration, to the JSON value {@link #evaluateToJson(String, Object...)} would write
+   * for it, represented as plain Java objects (string, number, boolean, list or map).
+   *
+   * @param value the value to convert
+   * @return the JSON compatible value
+   */
+  public Object toJsonValue(final Object value) {
+    return sanitizeScalaOutput(objectMapper.convertValue(value, Object.class));
+  }
+
   private Object evaluateInternal(final String expression, final Object[] variables) {
-    var variablesAsMap = mergeMapVariables(variables);
-    var variablesAsMapAsScalaMap = toScalaMap(variablesAsMap);
-    var result = feelEngine.evalExpression(trimExpression(expression), variablesAsMapAsScalaMap);
+    var variableContext = createVariableContext(variables);
+    var parsedExpression = parseExpression(trimExpression(expression));
+    var result = feelEngine.eval(parsedExpression, variableContext);
     if (result.isRight()) {
       return result.right().get();
     } else {
@@ -282,6 +348,50 @@ public class FeelEngineWrapper {
     }
   }
 
+  /**
+   * Returns the parsed expression from the cache, or parses it. Expressions that fail to parse are
+   * not cached.
+   */
+  private ParsedExpression parseExpression(final String trimmedExpression) {
+    return expressionCache.get(
+        trimmedExpression,
+        expression -> {
+          long start = System.nanoTime();
+          var parsed = feelEngine.parseExpression(expression);
+          parseTimeNanos.add(System.nanoTime() - start);
+          parseCount.increment();
+          if (parsed.isRight()) {
+            return parsed.right().get();
+          } else {
+            throw new RuntimeException(parsed.left().get().message());
+          }
+        });
+  }
+
+  /**
+   * Returns the statistics of the parsed expression cache, e.g. to report the hit ratio.
+   *
+   * @return a snapshot of the cache statistics
+   */
+  public CacheStats getExpressionCacheStats() {
+    return expressionCache.stats();
+  }
+
+  /** Returns the number of parsed expressions currently held in the cache. */
+  public long getExpressionCacheSize() {
+    return expressionCache.estimatedSize();
+  }
+
+  /** Returns how many expressions have been parsed, i.e. the number of cache loads. */
+  public long getExpressionParseCount() {
+    return parseCount.sum();
+  }
+
+  /** Returns the total time spent parsing expressions in nanoseconds. */
+  public long getExpressionParseTimeNanos() {
+    return parseTimeNanos.sum();
+  }
+
   private String resultToJson(final Object result) {
     try {
       return objectMapper.writeValueAsString(result);
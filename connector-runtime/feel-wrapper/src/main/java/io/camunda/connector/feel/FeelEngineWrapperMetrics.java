@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the parsed expression cache statistics of a {@link FeelEngineWrapper} as Micrometer
+ * meters: cache hits and misses (from which the hit ratio can be derived), cache size and the time
+ * spent parsing expressions.
+ */
+public class FeelEngineWrapperMetrics implements MeterBinder {
+
+  public static final String METRIC_NAME_CACHE = "camunda.connector.feel.expression.cache";
+  public static final String METRIC_NAME_CACHE_SIZE =
+      "camunda.connector.feel.expression.cache.size";
+  public static final String METRIC_NAME_PARSE = "camunda.connector.feel.expression.parse";
+  public static final String TAG_RESULT = "result";
+
+  private final FeelEngineWrapper feelEngineWrapper;
+
+  public FeelEngineWrapperMetrics(FeelEngineWrapper feelEngineWrapper) {
+    this.feelEngineWrapper = feelEngineWrapper;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    FunctionCounter.builder(
+            METRIC_NAME_CACHE, feelEngineWrapper, w -> w.getExpressionCacheStats().hitCount())
+        .description("Lookups of parsed FEEL expressions")
+        .tag(TAG_RESULT, "hit")
+        .register(meterRegistry);
+    FunctionCounter.builder(
+            METRIC_NAME_CACHE, feelEngineWrapper, w -> w.getExpressionCacheStats().missCount())
+        .description("Lookups of parsed FEEL expressions")
+        .tag(TAG_RESULT, "miss")
+        .register(meterRegistry);
+    Gauge.builder(
+            METRIC_NAME_CACHE_SIZE, feelEngineWrapper, FeelEngineWrapper::getExpressionCacheSize)
+        .description("Number of cached parsed FEEL expressions")
+        .register(meterRegistry);
+    FunctionTimer.builder(
+            METRIC_NAME_PARSE,
+            feelEngineWrapper,
+            FeelEngineWrapper::getExpressionParseCount,
+            FeelEngineWrapper::getExpressionParseTimeNanos,
+            TimeUnit.NANOSECONDS)
+        .description("Time spent parsing FEEL expressions")
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.camunda.feel.context.Context;
+import org.camunda.feel.context.FunctionProvider;
+import org.camunda.feel.context.VariableProvider;
+import org.camunda.feel.syntaxtree.Val;
+import scala.Option;
+import scala.collection.Iterable;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Read-only FEEL context that resolves variables directly against the original input ({@link Map},
+ * {@link JsonNode} or bean) instead of a converted copy. Values are handed to the engine as {@link
+ * LazyValue}s, so nested objects are only looked at when an expression accesses them.
+ */
+final class LazyVariableContext implements Context {
+
+  private final VariableProvider variableProvider;
+  private final Function<Object, Val> valueMapper;
+
+  LazyVariableContext(VariableProvider variableProvider, Function<Object, Val> valueMapper) {
+    this.variableProvider = variableProvider;
+    this.valueMapper = valueMapper;
+  }
+
+  /**
+   * Converts this context to a map, e.g. when it is returned as part of the evaluation result. The
+   * values are mapped and unpacked as if the input had been converted before the evaluation.
+   */
+  Map<String, Object> toMap(Function<Val, Object> unpackValue) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    CollectionConverters.asJava(variableProvider.keys())
+        .forEach(
+            name -> {
+              var value = variableProvider.getVariable(name);
+              if (value.isDefined()) {
+                result.put(name, unpackValue.apply(valueMapper.apply(value.get())));
+              }
+            });
+    return result;
+  }
+
+  @Override
+  public VariableProvider variableProvider() {
+    return variableProvider;
+  }
+
+  @Override
+  public FunctionProvider functionProvider() {
+    return FunctionProvider.EmptyFunctionProvider$.MODULE$;
+  }
+
+  /** Resolves variables from a map with string keys. */
+  record MapVariableProvider(Map<?, ?> map) implements VariableProvider {
+
+    @Override
+    public Option<Object> getVariable(String name) {
+      var value = map.get(name);
+      if (value == null && !map.containsKey(name)) {
+        return Option.empty();
+      }
+      return Option.apply(new LazyValue(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterable<String> keys() {
+      return CollectionConverters.asScala((Set<String>) map.keySet());
+    }
+  }
+
+  /** Resolves variables from the fields of a JSON object. */
+  record JsonNodeVariableProvider(JsonNode node) implements VariableProvider {
+
+    @Override
+    public Option<Object> getVariable(String name) {
+      var value = node.get(name);
+      if (value == null) {
+        return Option.empty();
+      }
+      return Option.apply(new LazyValue(value));
+    }
+
+    @Override
+    public Iterable<String> keys() {
+      List<String> keys = new ArrayList<>(node.size());
+      node.fieldNames().forEachRemaining(keys::add);
+      return CollectionConverters.asScala(keys);
+    }
+  }
+
+  /** Resolves variables from the properties Jackson would serialize for a bean. */
+  record BeanVariableProvider(Object bean, Map<String, BeanPropertyWriter> properties)
+      implements VariableProvider {
+
+    @Override
+    public Option<Object> getVariable(String name) {
+      var property = properties.get(name);
+      if (property == null) {
+        return Option.empty();
+      }
+      var value = readProperty(property);
+      if (value == null && property.willSuppressNulls()) {
+        return Option.empty();
+      }
+      return Option.apply(new LazyValue(value));
+    }
+
+    @Override
+    public Iterable<String> keys() {
+      List<String> keys = new ArrayList<>(properties.size());
+      properties.forEach(
+          (name, property) -> {
+            if (!property.willSuppressNulls() || readProperty(property) != null) {
+              keys.add(name);
+            }
+          });
+      return CollectionConverters.asScala(keys);
+    }
+
+    private Object readProperty(BeanPropertyWriter property) {
+      try {
+        return property.get(bean);
+      } catch (Exception e) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Unable to read property '%s' of %s", property.getName(), bean.getClass()),
+            e);
+      }
+    }
+  }
+
+  /**
+   * Resolves variables from several inputs. Later inputs take precedence over earlier ones, as when
+   * merging the inputs into a single map.
+   */
+  record CompositeVariableProvider(List<VariableProvider> providers) implements VariableProvider {
+
+    @Override
+    public Option<Object> getVariable(String name) {
+      for (int i = providers.size() - 1; i >= 0; i--) {
+        var value = providers.get(i).getVariable(name);
+        if (value.isDefined()) {
+          return value;
+        }
+      }
+      return Option.empty();
+    }
+
+    @Override
+    public Iterable<String> keys() {
+      Set<String> keys = new LinkedHashSet<>();
+      for (VariableProvider provider : providers) {
+        CollectionConverters.asJava(provider.keys()).forEach(keys::add);
+      }
+      return CollectionConverters.asScala(keys);
+    }
+  }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel;
+
+import static io.camunda.connector.feel.JacksonSupport.MAP_TYPE_REFERENCE;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.POJONode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import io.camunda.connector.feel.LazyVariableContext.BeanVariableProvider;
+import io.camunda.connector.feel.LazyVariableContext.CompositeVariableProvider;
+import io.camunda.connector.feel.LazyVariableContext.JsonNodeVariableProvider;
+import io.camunda.connector.feel.LazyVariableContext.MapVariableProvider;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.camunda.feel.context.VariableProvider;
+import org.camunda.feel.syntaxtree.Val;
+import org.camunda.feel.syntaxtree.ValContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link LazyVariableContext}s for the FEEL engine and resolves {@link LazyValue}s.
+ *
+ * <p>The result of an evaluation must be the same as if every input had been converted to a map
+ * with the {@link ObjectMapper} first. Therefore, only values whose Jackson representation is known
+ * are resolved lazily: maps with string keys, JSON nodes, collections, arrays, plain scalars and
+ * beans that are serialized property by property without customization. Any other value (e.g.
+ * dates, documents, optionals or beans with custom serializers) is converted with the {@link
+ * ObjectMapper} when it is accessed.
+ */
+final class LazyVariableContextFactory {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LazyVariableContextFactory.class);
+
+  private static final Set<Class<?>> PLAIN_SCALAR_TYPES =
+      Set.of(
+          String.class,
+          Boolean.class,
+          Integer.class,
+          Long.class,
+          Double.class,
+          BigDecimal.class,
+          BigInteger.class);
+
+  private static final Set<JsonInclude.Include> PLAIN_INCLUSIONS =
+      Set.of(
+          JsonInclude.Include.ALWAYS,
+          JsonInclude.Include.NON_NULL,
+          JsonInclude.Include.USE_DEFAULTS);
+
+  private final ObjectMapper objectMapper;
+
+  /** The serialized properties per bean type, empty if the type cannot be read lazily. */
+  private final Map<Class<?>, Optional<Map<String, BeanPropertyWriter>>> beanProperties =
+      new ConcurrentHashMap<>();
+
+  LazyVariableContextFactory(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Creates the root context for an evaluation. Later variables take precedence over earlier ones.
+   * Variables that cannot be represented as a context are skipped.
+   */
+  LazyVariableContext createRootContext(final Object[] variables) {
+    List<VariableProvider> providers = new ArrayList<>(variables.length);
+    for (Object variable : variables) {
+      if (variable != null) {
+        createVariableProvider(variable).ifPresent(providers::add);
+      }
+    }
+    return new LazyVariableContext(new CompositeVariableProvider(providers), null);
+  }
+
+  /**
+   * Maps a lazy value to a FEEL value. Nested objects become lazy contexts, all other values are
+   * mapped by the given inner value mapper.
+   */
+  Val toValue(final LazyValue lazyValue, final Function<Object, Val> innerValueMapper) {
+    var value = lazyValue.value();
+    if (value == null || PLAIN_SCALAR_TYPES.contains(value.getClass())) {
+      return innerValueMapper.apply(value);
+    }
+    if (value instanceof JsonNode node) {
+      return jsonNodeToValue(node, innerValueMapper);
+    }
+    if (value instanceof Map<?, ?> map && hasStringKeys(map)) {
+      return contextOf(new MapVariableProvider(map), innerValueMapper);
+    }
+    if (value instanceof Collection<?> collection) {
+      return innerValueMapper.apply(wrapAll(collection));
+    }
+    if (value instanceof Object[] array) {
+      return innerValueMapper.apply(wrapAll(Arrays.asList(array)));
+    }
+    var properties = getBeanProperties(value.getClass());
+    if (properties.isPresent()) {
+      return contextOf(new BeanVariableProvider(value, properties.get()), innerValueMapper);
+    }
+    return innerValueMapper.apply(objectMapper.convertValue(value, Object.class));
+  }
+
+  private Optional<VariableProvider> createVariableProvider(final Object variable) {
+    if (variable instanceof JsonNode node && node.isObject()) {
+      return Optional.of(new JsonNodeVariableProvider(node));
+    }
+    if (variable instanceof Map<?, ?> map && hasStringKeys(map)) {
+      return Optional.of(new MapVariableProvider(map));
+    }
+    if (!(variable instanceof JsonNode)) {
+      var properties = getBeanProperties(variable.getClass());
+      if (properties.isPresent()) {
+        return Optional.of(new BeanVariableProvider(variable, properties.get()));
+      }
+    }
+    try {
+      return Optional.of(
+          new MapVariableProvider(objectMapper.convertValue(variable, MAP_TYPE_REFERENCE)));
+    } catch (IllegalArgumentException ex) {
+      LOG.warn(ex.getMessage(), ex);
+      return Optional.empty();
+    }
+  }
+
+  private Val jsonNodeToValue(final JsonNode node, final Function<Object, Val> innerValueMapper) {
+    if (node.isObject()) {
+      return contextOf(new JsonNodeVariableProvider(node), innerValueMapper);
+    } else if (node.isArray()) {
+      List<Object> elements = new ArrayList<>(node.size());
+      node.forEach(element -> elements.add(new LazyValue(element)));
+      return innerValueMapper.apply(elements);
+    } else if (node.isNull() || node.isMissingNode()) {
+      return innerValueMapper.apply(null);
+    } else if (node.isTextual()) {
+      return innerValueMapper.apply(node.textValue());
+    } else if (node.isBoolean()) {
+      return innerValueMapper.apply(node.booleanValue());
+    } else if (node.isNumber()) {
+      return innerValueMapper.apply(node.numberValue());
+    } else if (node instanceof POJONode pojoNode) {
+      return toValue(new LazyValue(pojoNode.getPojo()), innerValueMapper);
+    }
+    return innerValueMapper.apply(objectMapper.convertValue(node, Object.class));
+  }
+
+  private static Val contextOf(
+      final VariableProvider provider, final Function<Object, Val> valueMapper) {
+    return new ValContext(new LazyVariableContext(provider, valueMapper));
+  }
+
+  private static List<Object> wrapAll(final Collection<?> values) {
+    List<Object> wrapped = new ArrayList<>(values.size());
+    for (Object value : values) {
+      wrapped.add(new LazyValue(value));
+    }
+    return wrapped;
+  }
+
+  private static boolean hasStringKeys(final Map<?, ?> map) {
+    for (Object key : map.keySet()) {
+      if (!(key instanceof String)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Optional<Map<String, BeanPropertyWriter>> getBeanProperties(final Class<?> type) {
+    return beanProperties.computeIfAbsent(type, this::introspectBeanProperties);
+  }
+
+  /**
+   * Returns the properties of the given type if Jackson serializes it as a plain bean, i.e. with
+   * the default bean serializer, without type information, filters, any-getters or property
+   * customizations.
+   */
+  private Optional<Map<String, BeanPropertyWriter>> introspectBeanProperties(final Class<?> type) {
+    if (type.isEnum() || type.isArray() || type.getName().startsWith("java.")) {
+      return Optional.empty();
+    }
+    try {
+      var provider = objectMapper.getSerializerProviderInstance();
+      var serializer = provider.findValueSerializer(type);
+      if (serializer.getClass() != BeanSerializer.class) {
+        return Optional.empty();
+      }
+      var config = objectMapper.getSerializationConfig();
+      var javaType = config.constructType(type);
+      var description = config.introspect(javaType);
+      if (provider.findTypeSerializer(javaType) != null
+          || description.findAnyGetter() != null
+          || description.getObjectIdInfo() != null
+          || config.getAnnotationIntrospector().findFilterId(description.getClassInfo()) != null) {
+        return Optional.empty();
+      }
+      var defaultInclusion =
+          config.getDefaultPropertyInclusion(
+              type, description.findPropertyInclusion(config.getDefaultPropertyInclusion()));
+      Map<String, BeanPropertyDefinition> definitions = new LinkedHashMap<>();
+      description.findProperties().forEach(d -> definitions.put(d.getName(), d));
+
+      Map<String, BeanPropertyWriter> properties = new LinkedHashMap<>();
+      var writers = ((BeanSerializer) serializer).properties();
+      while (writers.hasNext()) {
+        var writer = writers.next();
+        if (!(writer instanceof BeanPropertyWriter property)
+            || property.getClass() != BeanPropertyWriter.class
+            || property.getTypeSerializer() != null
+            || property.getViews() != null
+            || !isPlainProperty(property, definitions.get(property.getName()), defaultInclusion)) {
+          return Optional.empty();
+        }
+        properties.put(property.getName(), property);
+      }
+      return Optional.of(Collections.unmodifiableMap(properties));
+    } catch (JsonMappingException | RuntimeException e) {
+      LOG.debug("Type {} cannot be read lazily, it will be converted instead", type, e);
+      return Optional.empty();
+    }
+  }
+
+  private static boolean isPlainProperty(
+      final BeanPropertyWriter property,
+      final BeanPropertyDefinition definition,
+      final JsonInclude.Value defaultInclusion) {
+    if (definition == null) {
+      return false;
+    }
+    var member = property.getMember();
+    if (member.hasAnnotation(JsonSerialize.class)
+        || member.hasAnnotation(JsonFormat.class)
+        || member.hasAnnotation(JsonRawValue.class)) {
+      return false;
+    }
+    // nulls are suppressed by the property writer itself, other inclusion rules are not supported
+    var inclusion = defaultInclusion.withOverrides(definition.findInclusion());
+    return PLAIN_INCLUSIONS.contains(inclusion.getValueInclusion());
+  }
+}
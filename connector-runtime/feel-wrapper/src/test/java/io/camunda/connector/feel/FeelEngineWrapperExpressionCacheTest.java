@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel;
+
+import static io.camunda.connector.feel.FeelEngineWrapperUtil.wrapResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class FeelEngineWrapperExpressionCacheTest {
+
+  private final FeelEngineWrapper objectUnderTest = new FeelEngineWrapper();
+
+  @Test
+  void evaluate_ShouldParseOnce_WhenSameExpressionEvaluatedRepeatedly() {
+    // given
+    final var resultExpression = "= {\"status\": response.statusCode}";
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      Map<String, Object> result =
+          objectUnderTest.evaluate(resultExpression, wrapResponse(Map.of("statusCode", i)));
+      assertThat(result).containsEntry("status", (long) i);
+    }
+
+    // then
+    assertThat(objectUnderTest.getExpressionParseCount()).isEqualTo(1);
+    assertThat(objectUnderTest.getExpressionCacheStats().hitCount()).isEqualTo(4);
+    assertThat(objectUnderTest.getExpressionCacheStats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void evaluate_ShouldShareCacheEntry_WhenExpressionsDifferOnlyByPrefixAndWhitespace() {
+    // when
+    objectUnderTest.evaluate("=a + 1", Map.of("a", 1));
+    objectUnderTest.evaluateToJson("  a + 1 ", Map.of("a", 2));
+    objectUnderTest.evaluate("= a + 1", Integer.class, Map.of("a", 3));
+
+    // then
+    assertThat(objectUnderTest.getExpressionCacheSize()).isEqualTo(1);
+    assertThat(objectUnderTest.getExpressionParseCount()).isEqualTo(1);
+  }
+
+  @Test
+  void evaluate_ShouldNotCacheExpression_WhenParsingFails() {
+    // when
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> objectUnderTest.evaluate("= {a: ", Map.of()))
+          .isInstanceOf(FeelEngineWrapperException.class)
+          .hasMessageContaining("failed to parse expression");
+    }
+
+    // then
+    assertThat(objectUnderTest.getExpressionCacheSize()).isZero();
+    assertThat(objectUnderTest.getExpressionParseCount()).isEqualTo(2);
+  }
+
+  @Test
+  void evaluate_ShouldParseEveryTime_WhenCacheDisabled() {
+    // given
+    final var uncached = new FeelEngineWrapper(0, Duration.ofHours(1));
+
+    // when
+    uncached.evaluate("a + 1", Map.of("a", 1));
+    uncached.evaluate("a + 1", Map.of("a", 1));
+
+    // then
+    assertThat(uncached.getExpressionParseCount()).isEqualTo(2);
+  }
+}
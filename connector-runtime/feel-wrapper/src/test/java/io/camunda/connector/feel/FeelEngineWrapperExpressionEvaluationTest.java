@@ -244,6 +244,17 @@ class FeelEngineWrapperExpressionEvaluationTest {
     assertThat(objectUnderTest.evaluateToJson("null", jsonDeserialized)).isEqualTo(null);
   }
 
+  @Test
+  void toJsonValue_ShouldConvertTemporalValues_AsEvaluateToJson() {
+    // given
+    Object date = objectUnderTest.evaluate("date(\"2024-01-01\")", Map.of());
+    Object duration = objectUnderTest.evaluate("duration(\"PT1M\")", Map.of());
+
+    // then
+    assertThat(objectUnderTest.toJsonValue(date)).isEqualTo("2024-01-01");
+    assertThat(objectUnderTest.toJsonValue(duration)).isEqualTo("PT1M");
+  }
+
   @Test
   void shouldSanitizeScalaMapOutput() {
     // given
@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel;
+
+import static io.camunda.connector.feel.FeelEngineWrapperUtil.wrapResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class FeelEngineWrapperVariableContextTest {
+
+  private final FeelEngineWrapper objectUnderTest = new FeelEngineWrapper();
+
+  @Test
+  void evaluate_ShouldOnlyReadAccessedProperties_WhenInputIsBean() {
+    // given
+    var body = new CountingBody("123", "large payload");
+
+    // when
+    String result = objectUnderTest.evaluate("= response.id", wrapResponse(body));
+
+    // then
+    assertThat(result).isEqualTo("123");
+    assertThat(body.payloadReads).hasValue(0);
+  }
+
+  @Test
+  void evaluate_ShouldUseJacksonPropertyNames_WhenInputIsBean() {
+    // given
+    var variables = new RenamedBean("value", null);
+
+    // when
+    Map<String, Object> result =
+        objectUnderTest.evaluate(
+            "= {renamed: renamed_value, entryCount: count(get entries(bean))}",
+            Map.of("bean", variables),
+            variables);
+
+    // then
+    assertThat(result).containsEntry("renamed", "value").containsEntry("entryCount", 1L);
+  }
+
+  @Test
+  void evaluate_ShouldResolvePaths_WhenInputIsJsonNode() {
+    // given
+    var body = JsonNodeFactory.instance.objectNode();
+    body.put("id", 5).putArray("items").addObject().put("name", "a");
+
+    // when
+    Object result =
+        objectUnderTest.evaluate(
+            "= {id: response.id + 1, names: response.items.name}", wrapResponse(body));
+
+    // then
+    assertThat(result).isEqualTo(Map.of("id", 6L, "names", List.of("a")));
+  }
+
+  @Test
+  void evaluate_ShouldReturnPlainMaps_WhenResultContainsInputContext() {
+    // given
+    var body = Map.of("inner", Map.of("date", LocalDate.of(2024, 1, 1), "value", 1));
+
+    // when
+    Map<String, Object> result =
+        objectUnderTest.evaluate("= {copy: response.inner}", wrapResponse(body));
+
+    // then
+    assertThat(result).isEqualTo(Map.of("copy", Map.of("date", "2024-01-01", "value", 1L)));
+  }
+
+  @Test
+  void evaluate_ShouldConvertPropertyWithFormat_AsJacksonWould() {
+    // given
+    var variables = new FormattedBean(LocalDate.of(2024, 1, 1));
+
+    // when
+    String result = objectUnderTest.evaluate("= date", variables);
+
+    // then
+    assertThat(result).isEqualTo("01.01.2024");
+  }
+
+  @Test
+  void evaluate_ShouldPreferLaterVariables_WhenNamesClash() {
+    // when
+    Object result =
+        objectUnderTest.evaluate(
+            "= [a, b]", Map.of("a", 1, "b", 1), new RenamedBean(null, null), Map.of("a", 2));
+
+    // then
+    assertThat(result).isEqualTo(List.of(2L, 1L));
+  }
+
+  @Test
+  void evaluate_ShouldConvertMapResultDirectly_AsViaJsonNode() {
+    // given
+    var expression =
+        "= {decimal: 1.5, number: 2, text: \"x\", list: [1, {a: null}], nested: {b: true}}";
+
+    // when
+    Map<String, Object> result = objectUnderTest.evaluate(expression, Map.class, Map.of());
+    String json = objectUnderTest.evaluate(expression, String.class, Map.of());
+    boolean bool = objectUnderTest.evaluate("= 1 < 2", boolean.class, Map.of());
+
+    // then
+    assertThat(result)
+        .containsEntry("decimal", 1.5)
+        .containsEntry("number", 2L)
+        .containsEntry("text", "x")
+        .containsKeys("list", "nested");
+    assertThat(json).isEqualTo(objectUnderTest.evaluateToJson(expression, Map.of()));
+    assertThat(bool).isTrue();
+  }
+
+  public static class CountingBody {
+    private final String id;
+    private final String payload;
+    final AtomicInteger payloadReads = new AtomicInteger();
+
+    CountingBody(String id, String payload) {
+      this.id = id;
+      this.payload = payload;
+    }
+
+    public String getId() {
+      return id;
+    }
+
+    public String getPayload() {
+      payloadReads.incrementAndGet();
+      return payload;
+    }
+  }
+
+  public record RenamedBean(
+      @JsonProperty("renamed_value") String value,
+      @JsonInclude(JsonInclude.Include.NON_NULL) String optional) {}
+
+  public record FormattedBean(@JsonFormat(pattern = "dd.MM.yyyy") LocalDate date) {}
+}
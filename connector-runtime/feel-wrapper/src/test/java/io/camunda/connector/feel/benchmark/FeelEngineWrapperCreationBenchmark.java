@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel.benchmark;
+
+import io.camunda.connector.feel.FeelEngineWrapper;
+import io.camunda.connector.feel.FeelEngineWrapperUtil;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures what each additional {@link FeelEngineWrapper} costs: creating it and evaluating a first
+ * expression, i.e. the work a connector handler with its own engine does on startup. Compare with
+ * {@code sharedWrapper}, which only evaluates the expression with an already warm instance.
+ *
+ * <p>Run from the module directory after {@code mvn test-compile}, the GC profiler is enabled by
+ * default:
+ *
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=io.camunda.connector.feel.benchmark.FeelEngineWrapperCreationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeelEngineWrapperCreationBenchmark {
+
+  private static final String RESULT_EXPRESSION = "= {\"status\": response.status}";
+
+  private static final Map<String, Object> RESPONSE =
+      FeelEngineWrapperUtil.wrapResponse(Map.of("status", 200));
+
+  private final FeelEngineWrapper sharedWrapper = new FeelEngineWrapper();
+
+  @Benchmark
+  public Object wrapperPerHandler() {
+    return new FeelEngineWrapper().evaluate(RESULT_EXPRESSION, RESPONSE);
+  }
+
+  @Benchmark
+  public Object sharedWrapper() {
+    return sharedWrapper.evaluate(RESULT_EXPRESSION, RESPONSE);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(FeelEngineWrapperCreationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel.benchmark;
+
+import io.camunda.connector.feel.FeelEngineWrapper;
+import io.camunda.connector.feel.FeelEngineWrapperUtil;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of evaluating typical connector result expressions with and without the parsed
+ * expression cache ({@code cacheSize=0} disables caching, i.e. every evaluation parses again).
+ *
+ * <p>Run from the module directory after {@code mvn test-compile}:
+ *
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=io.camunda.connector.feel.benchmark.FeelExpressionCacheBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeelExpressionCacheBenchmark {
+
+  private static final String RESULT_EXPRESSION =
+      "= {\"status\": response.status, \"id\": response.body.id, "
+          + "\"names\": for item in response.body.items return upper case(item.name)}";
+
+  private static final String ERROR_EXPRESSION =
+      "= if response.status >= 400 then bpmnError(string(response.status), \"Request failed\") "
+          + "else null";
+
+  @Param({"0", "1000"})
+  public long cacheSize;
+
+  private FeelEngineWrapper feelEngineWrapper;
+  private Map<String, Object> response;
+
+  @Setup
+  public void setUp() {
+    feelEngineWrapper = new FeelEngineWrapper(cacheSize, Duration.ofHours(1));
+    response =
+        FeelEngineWrapperUtil.wrapResponse(
+            Map.of(
+                "status",
+                200,
+                "body",
+                Map.of(
+                    "id",
+                    "4711",
+                    "items",
+                    List.of(Map.of("name", "first"), Map.of("name", "second")))));
+  }
+
+  @Benchmark
+  public Object resultExpression() {
+    return feelEngineWrapper.evaluate(RESULT_EXPRESSION, response);
+  }
+
+  @Benchmark
+  public Object errorExpression() {
+    return feelEngineWrapper.evaluate(ERROR_EXPRESSION, response);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(FeelExpressionCacheBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.feel.FeelEngineWrapper;
+import io.camunda.connector.feel.FeelEngineWrapperUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures time and allocations of evaluating result expressions that read a few fields of a large
+ * response body. As variables are resolved lazily, the allocation rate per operation ({@code
+ * gc.alloc.rate.norm}) should not grow with the number of items in the body.
+ *
+ * <p>Run from the module directory after {@code mvn test-compile}, the GC profiler is enabled by
+ * default:
+ *
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=io.camunda.connector.feel.benchmark.FeelVariableContextBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeelVariableContextBenchmark {
+
+  private static final String RESULT_EXPRESSION =
+      "= {\"status\": response.status, \"id\": response.body.id, "
+          + "\"firstItem\": response.body.items[1].name}";
+
+  @Param({"10", "1000"})
+  public int items;
+
+  @Param({"map", "json"})
+  public String bodyType;
+
+  private FeelEngineWrapper feelEngineWrapper;
+  private Map<String, Object> response;
+
+  @Setup
+  public void setUp() {
+    feelEngineWrapper = new FeelEngineWrapper();
+    List<Map<String, Object>> itemList = new ArrayList<>(items);
+    for (int i = 0; i < items; i++) {
+      itemList.add(Map.of("name", "item-" + i, "price", i * 1.5, "tags", List.of("a", "b")));
+    }
+    Map<String, Object> body = Map.of("id", "4711", "items", itemList);
+    response =
+        FeelEngineWrapperUtil.wrapResponse(
+            Map.of(
+                "status",
+                200,
+                "body",
+                "json".equals(bodyType) ? new ObjectMapper().valueToTree(body) : body));
+  }
+
+  @Benchmark
+  public Object resultExpression() {
+    return feelEngineWrapper.evaluate(RESULT_EXPRESSION, response);
+  }
+
+  @Benchmark
+  public Object resultExpressionToMap() {
+    return feelEngineWrapper.evaluate(RESULT_EXPRESSION, Map.class, response);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(FeelVariableContextBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
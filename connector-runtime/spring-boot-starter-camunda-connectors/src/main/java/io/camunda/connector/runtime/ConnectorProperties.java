@@ -25,7 +25,8 @@ public record ConnectorProperties(
     Webhook webhook,
     SecretProvider secretProvider,
     VirtualThreads virtualThreads,
-    Inbound inbound) {
+    Inbound inbound,
+    Outbound outbound) {
   // NOTE: this class is not used in directly in the code, but is used by Spring Boot
   // configuration annotation processor to generate the configuration properties metadata
 
@@ -51,6 +52,23 @@ public record ConnectorProperties(
 
   public record ConsoleSecretProvider(boolean enabled, String endpoint, String audience) {}
 
+  /** Configuration for outbound connector processing. */
+  public record Outbound(Async async) {}
+
+  /**
+   * Configuration for executing outbound connectors off the job worker threads.
+   *
+   * @param enabled Whether connector functions are executed asynchronously. Default is false.
+   * @param virtualThreads Whether connector functions run on virtual threads. Default is true.
+   * @param threads Thread pool size if virtual threads are disabled. Default is 32.
+   * @param maxInFlight Maximum number of jobs executed at the same time per job type. Default is
+   *     32.
+   * @param maxQueued Number of jobs per job type waiting for a slot before job activation is
+   *     paused. Default is 0.
+   */
+  public record Async(
+      boolean enabled, boolean virtualThreads, int threads, int maxInFlight, int maxQueued) {}
+
   /** Configuration for inbound connector processing. */
   public record Inbound(ProcessDefinitionCache processDefinitionCache) {}
 
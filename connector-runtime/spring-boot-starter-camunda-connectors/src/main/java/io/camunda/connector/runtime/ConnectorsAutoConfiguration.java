@@ -36,6 +36,7 @@ import io.camunda.connector.runtime.secret.ConsoleSecretProvider;
 import io.camunda.connector.runtime.secret.EnvironmentSecretProvider;
 import io.camunda.connector.runtime.secret.console.ConsoleSecretApiClient;
 import io.camunda.connector.runtime.secret.console.JwtCredential;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.net.URL;
 import java.time.Duration;
 import java.util.LinkedList;
@@ -43,6 +44,7 @@ import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
@@ -82,7 +84,10 @@ public class ConnectorsAutoConfiguration {
   @Value("${camunda.connector.secretprovider.console.audience:secrets.camunda.io}")
   String consoleSecretsApiAudience;
 
-  /** Provides a {@link FeelEngineWrapper} unless already present in the Spring Context */
+  /**
+   * Provides a {@link FeelEngineWrapper} unless already present in the Spring Context. The instance
+   * is shared by all inbound and outbound connector handlers.
+   */
   @Bean
   @ConditionalOnMissingBean(FeelEngineWrapper.class)
   public FeelEngineWrapper feelEngine() {
@@ -121,8 +126,9 @@ public class ConnectorsAutoConfiguration {
       name = "camunda.connector.secretprovider.console.enabled",
       havingValue = "true")
   public ConsoleSecretProvider consoleSecretProvider(
-      ConsoleSecretApiClient consoleSecretApiClient) {
-    return new ConsoleSecretProvider(consoleSecretApiClient, Duration.ofSeconds(20));
+      ConsoleSecretApiClient consoleSecretApiClient,
+      @Autowired(required = false) MeterRegistry meterRegistry) {
+    return new ConsoleSecretProvider(consoleSecretApiClient, Duration.ofSeconds(20), meterRegistry);
   }
 
   @Bean
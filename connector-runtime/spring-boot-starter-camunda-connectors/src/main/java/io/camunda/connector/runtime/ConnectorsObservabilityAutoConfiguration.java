@@ -17,6 +17,8 @@
 package io.camunda.connector.runtime;
 
 import io.camunda.client.CamundaClient;
+import io.camunda.connector.feel.FeelEngineWrapper;
+import io.camunda.connector.feel.FeelEngineWrapperMetrics;
 import io.camunda.connector.runtime.inbound.importer.ImportSchedulers;
 import io.camunda.connector.runtime.metrics.ContextAwareLogbackMetrics;
 import io.micrometer.core.instrument.binder.logging.LogbackMetrics;
@@ -37,6 +39,12 @@ public class ConnectorsObservabilityAutoConfiguration {
     return new ContextAwareLogbackMetrics();
   }
 
+  /** Publishes the expression cache statistics of the shared {@link FeelEngineWrapper}. */
+  @Bean
+  public FeelEngineWrapperMetrics feelEngineWrapperMetrics(FeelEngineWrapper feelEngineWrapper) {
+    return new FeelEngineWrapperMetrics(feelEngineWrapper);
+  }
+
   @Bean(name = "zeebeClientHealthIndicator") // overrides the health indicator from Spring Zeebe
   public ZeebeHealthIndicator zeebeClientHealthIndicator(CamundaClient camundaClient) {
     return new ZeebeHealthIndicator(camundaClient);
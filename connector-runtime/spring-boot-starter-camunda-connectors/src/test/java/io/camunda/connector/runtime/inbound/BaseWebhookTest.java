@@ -22,27 +22,44 @@ import io.camunda.connector.runtime.core.inbound.InboundConnectorElement;
 import io.camunda.connector.runtime.core.inbound.ProcessElementWithRuntimeData;
 import io.camunda.connector.runtime.core.inbound.correlation.StartEventCorrelationPoint;
 import io.camunda.connector.runtime.core.inbound.details.InboundConnectorDetails;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class BaseWebhookTest {
   public static InboundConnectorDetails.ValidInboundConnectorDetails webhookDefinition(
       String bpmnProcessId, int version, String path) {
+    return webhookDefinition(bpmnProcessId, version, path, Map.of());
+  }
+
+  public static InboundConnectorDetails.ValidInboundConnectorDetails webhookDefinition(
+      String bpmnProcessId, int version, String path, Map<String, String> properties) {
     var details =
         InboundConnectorDetails.of(
             bpmnProcessId + version + path,
             List.of(
                 webhookElement(
-                    (bpmnProcessId + version).hashCode(), bpmnProcessId, version, path)));
+                    (bpmnProcessId + version).hashCode(),
+                    bpmnProcessId,
+                    version,
+                    path,
+                    properties)));
     assertThat(details).isInstanceOf(InboundConnectorDetails.ValidInboundConnectorDetails.class);
     return (InboundConnectorDetails.ValidInboundConnectorDetails) details;
   }
 
   private static InboundConnectorElement webhookElement(
-      long processDefinitionKey, String bpmnProcessId, int version, String path) {
+      long processDefinitionKey,
+      String bpmnProcessId,
+      int version,
+      String path,
+      Map<String, String> properties) {
+    var elementProperties = new HashMap<>(properties);
+    elementProperties.put("inbound.type", "io.camunda:webhook:1");
+    elementProperties.put("inbound.context", path);
 
     return new InboundConnectorElement(
-        Map.of("inbound.type", "io.camunda:webhook:1", "inbound.context", path),
+        elementProperties,
         new StartEventCorrelationPoint(bpmnProcessId, version, processDefinitionKey),
         new ProcessElementWithRuntimeData(
             bpmnProcessId, version, processDefinitionKey, "testElement", "<default>"));
@@ -0,0 +1,238 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound;
+
+import static io.camunda.connector.runtime.inbound.BaseWebhookTest.webhookDefinition;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.api.inbound.CorrelationRequest;
+import io.camunda.connector.api.inbound.CorrelationResult;
+import io.camunda.connector.api.inbound.ProcessElement;
+import io.camunda.connector.api.inbound.webhook.MappedHttpRequest;
+import io.camunda.connector.api.inbound.webhook.WebhookConnectorException.WebhookSecurityException;
+import io.camunda.connector.api.inbound.webhook.WebhookConnectorException.WebhookSecurityException.Reason;
+import io.camunda.connector.api.inbound.webhook.WebhookConnectorExecutable;
+import io.camunda.connector.api.inbound.webhook.WebhookHttpResponse;
+import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
+import io.camunda.connector.api.inbound.webhook.WebhookResult;
+import io.camunda.connector.api.secret.SecretProvider;
+import io.camunda.connector.jackson.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.runtime.core.inbound.ExecutableId;
+import io.camunda.connector.runtime.core.inbound.InboundConnectorContextImpl;
+import io.camunda.connector.runtime.core.inbound.activitylog.ActivityLogRegistry;
+import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationHandler;
+import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable;
+import io.camunda.connector.runtime.inbound.webhook.AsyncWebhookCorrelator;
+import io.camunda.connector.runtime.inbound.webhook.AsyncWebhookCorrelator.CorrelationStatus.State;
+import io.camunda.connector.runtime.inbound.webhook.CorrelationStatusResponse;
+import io.camunda.connector.runtime.inbound.webhook.InboundWebhookRestController;
+import io.camunda.connector.runtime.inbound.webhook.WebhookConnectorRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Webhooks with {@code inbound.asyncCorrelation} are verified and triggered on the request thread
+ * and only correlated in the background.
+ */
+class WebhookControllerAsyncCorrelationTest {
+
+  private static final String CONTEXT = "myPath";
+
+  private final WebhookConnectorRegistry webhookConnectorRegistry = new WebhookConnectorRegistry();
+  private final InboundCorrelationHandler correlationHandler =
+      mock(InboundCorrelationHandler.class);
+  private final WebhookConnectorExecutable webhookConnectorExecutable =
+      mock(WebhookConnectorExecutable.class);
+
+  private AsyncWebhookCorrelator correlator;
+  private InboundWebhookRestController controller;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    WebhookResult webhookResult = mock(WebhookResult.class);
+    when(webhookResult.request()).thenReturn(new MappedHttpRequest(Map.of(), Map.of(), Map.of()));
+    when(webhookConnectorExecutable.triggerWebhook(any(WebhookProcessingPayload.class)))
+        .thenReturn(webhookResult);
+    when(correlationHandler.correlate(any(), any(CorrelationRequest.class)))
+        .thenReturn(
+            new CorrelationResult.Success.ProcessInstanceCreated(
+                mock(ProcessElement.class), 1L, "test"));
+
+    var webhookDef =
+        webhookDefinition("processA", 1, CONTEXT, Map.of("inbound.asyncCorrelation", "true"));
+    var webhookContext =
+        new InboundConnectorContextImpl(
+            mock(SecretProvider.class),
+            v -> {},
+            webhookDef,
+            correlationHandler,
+            (e) -> {},
+            ConnectorsObjectMapperSupplier.getCopy(),
+            new ActivityLogRegistry());
+    webhookConnectorRegistry.register(
+        new RegisteredExecutable.Activated(
+            webhookConnectorExecutable,
+            webhookContext,
+            ExecutableId.fromDeduplicationId("random")));
+  }
+
+  @AfterEach
+  void close() {
+    correlator.close();
+  }
+
+  @Test
+  void shouldAcceptRequest_WithLocationOfCorrelationStatus() throws Exception {
+    // given
+    useCorrelator(1, 10);
+
+    // when
+    ResponseEntity<?> responseEntity = inbound();
+
+    // then
+    assertThat(responseEntity.getStatusCode().value()).isEqualTo(202);
+    var correlationId = correlationId(responseEntity);
+    assertThat(responseEntity.getHeaders().getFirst(HttpHeaders.LOCATION))
+        .isEqualTo("/inbound/" + CONTEXT + "/correlations/" + correlationId);
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              var status = controller.correlationStatus(CONTEXT, correlationId);
+              assertThat(status.getStatusCode().value()).isEqualTo(200);
+              assertThat(status.getBody())
+                  .isInstanceOfSatisfying(
+                      CorrelationStatusResponse.class,
+                      body -> {
+                        assertThat(body.correlationId()).isEqualTo(correlationId);
+                        assertThat(body.state()).isEqualTo(State.CORRELATED);
+                      });
+            });
+  }
+
+  @Test
+  void shouldRejectRequest_WhenQueueIsFull() throws Exception {
+    // given one correlation running and one waiting
+    useCorrelator(1, 1);
+    var running = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    when(correlationHandler.correlate(any(), any(CorrelationRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              running.countDown();
+              release.await(5, TimeUnit.SECONDS);
+              return new CorrelationResult.Success.ProcessInstanceCreated(
+                  mock(ProcessElement.class), 1L, "test");
+            });
+    try {
+      assertThat(inbound().getStatusCode().value()).isEqualTo(202);
+      assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(inbound().getStatusCode().value()).isEqualTo(202);
+
+      // when
+      ResponseEntity<?> responseEntity = inbound();
+
+      // then
+      assertThat(responseEntity.getStatusCode().value()).isEqualTo(429);
+      assertThat(responseEntity.getHeaders().getFirst(HttpHeaders.LOCATION)).isNull();
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void shouldRejectRequest_BeforeQueuing_WhenSignatureIsInvalid() throws Exception {
+    // given
+    useCorrelator(1, 10);
+    when(webhookConnectorExecutable.triggerWebhook(any(WebhookProcessingPayload.class)))
+        .thenThrow(new WebhookSecurityException(401, Reason.INVALID_SIGNATURE));
+
+    // when
+    ResponseEntity<?> responseEntity = inbound();
+
+    // then
+    assertThat(responseEntity.getStatusCode().value()).isEqualTo(401);
+    verify(correlator, never()).submit(any(), any());
+    verify(correlationHandler, never()).correlate(any(), any(CorrelationRequest.class));
+  }
+
+  @Test
+  void shouldAnswerVerification_WithoutQueuing() throws Exception {
+    // given
+    useCorrelator(1, 10);
+    when(webhookConnectorExecutable.verify(any(WebhookProcessingPayload.class)))
+        .thenReturn(new WebhookHttpResponse(Map.of("challenge", "abc"), Map.of(), 200));
+
+    // when
+    ResponseEntity<?> responseEntity = inbound();
+
+    // then
+    assertThat(responseEntity.getStatusCode().value()).isEqualTo(200);
+    assertThat(responseEntity.getBody()).isEqualTo(Map.of("challenge", "abc"));
+    verify(correlator, never()).submit(any(), any());
+    verify(webhookConnectorExecutable, never()).triggerWebhook(any());
+  }
+
+  @Test
+  void shouldNotFindCorrelation_OfAnotherContext() throws Exception {
+    // given
+    useCorrelator(1, 10);
+    var correlationId = correlationId(inbound());
+
+    // when
+    ResponseEntity<?> otherContext = controller.correlationStatus("otherPath", correlationId);
+    ResponseEntity<?> unknownId = controller.correlationStatus(CONTEXT, "unknown");
+
+    // then
+    assertThat(otherContext.getStatusCode().value()).isEqualTo(404);
+    assertThat(unknownId.getStatusCode().value()).isEqualTo(404);
+    assertThat(controller.correlationStatus(CONTEXT, correlationId).getStatusCode().value())
+        .isEqualTo(200);
+  }
+
+  private void useCorrelator(int workers, int maxQueued) {
+    correlator = spy(new AsyncWebhookCorrelator(workers, maxQueued, Duration.ofMinutes(1), null));
+    controller = new InboundWebhookRestController(webhookConnectorRegistry, correlator);
+  }
+
+  private ResponseEntity<?> inbound() throws Exception {
+    return controller.inbound(
+        CONTEXT, new HashMap<>(), new HashMap<>(), new MockHttpServletRequest());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static String correlationId(ResponseEntity<?> responseEntity) {
+    assertThat(responseEntity.getStatusCode().value()).isEqualTo(202);
+    return ((Map<String, String>) responseEntity.getBody()).get("correlationId");
+  }
+}
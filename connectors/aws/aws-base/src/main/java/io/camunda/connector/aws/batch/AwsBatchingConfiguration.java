@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.aws.batch;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Whether an outbound connector coalesces the messages of concurrent executions into batch
+ * requests, see {@link AwsRequestBatcher}.
+ *
+ * <p>Batching is disabled unless a linger time is configured for the connector, e.g. with {@code
+ * CAMUNDA_CONNECTOR_SQS_OUTBOUND_BATCH_LINGER_MS=5}.
+ *
+ * @param linger the time a message waits for further messages to be sent with, {@link
+ *     Duration#ZERO} to send every message with its own request
+ */
+public record AwsBatchingConfiguration(Duration linger) {
+
+  public static final AwsBatchingConfiguration DISABLED =
+      new AwsBatchingConfiguration(Duration.ZERO);
+
+  public AwsBatchingConfiguration {
+    if (linger.isNegative()) {
+      throw new IllegalArgumentException("linger must not be negative, got " + linger);
+    }
+  }
+
+  public boolean isEnabled() {
+    return linger.isPositive();
+  }
+
+  /**
+   * @param lingerEnvName the environment variable holding the linger time in milliseconds
+   */
+  public static AwsBatchingConfiguration fromEnvironment(String lingerEnvName) {
+    return from(lingerEnvName, System::getenv);
+  }
+
+  static AwsBatchingConfiguration from(String lingerEnvName, Function<String, String> environment) {
+    return Optional.ofNullable(environment.apply(lingerEnvName))
+        .map(value -> Duration.ofMillis(Long.parseLong(value.trim())))
+        .map(AwsBatchingConfiguration::new)
+        .orElse(DISABLED);
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.aws.batch;
+
+import io.camunda.connector.util.metrics.MicrometerHelper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the entries submitted by concurrent connector executions for the same destination, e.g.
+ * an SQS queue or an SNS topic, into batch requests.
+ *
+ * <p>The first entry of a batch waits up to the linger time for further entries. The batch is sent
+ * as soon as it holds the maximum number of entries, the next entry would exceed the maximum
+ * payload size, or the linger time has elapsed. The batch is sent on the thread of the execution
+ * that completed it, no additional threads are involved. Every execution then receives the result
+ * of its own entry, which may fail while other entries of the batch succeed.
+ *
+ * @param <T> the entry of a batch request
+ * @param <R> the result of an entry, e.g. the message ID
+ */
+public final class AwsRequestBatcher<T, R> {
+
+  /** The maximum number of entries of SQS and SNS batch requests. */
+  public static final int MAX_ENTRIES = 10;
+
+  /** The maximum combined payload of SQS and SNS batch requests. */
+  public static final int MAX_PAYLOAD_BYTES = 256 * 1024;
+
+  private final Duration linger;
+  private final int maxEntries;
+  private final int maxPayloadBytes;
+  private final Object metrics;
+  private Batch<T, R> current; // guarded by this
+
+  public AwsRequestBatcher(String service, Duration linger) {
+    this(service, linger, MAX_ENTRIES, MAX_PAYLOAD_BYTES);
+  }
+
+  public AwsRequestBatcher(String service, Duration linger, int maxEntries, int maxPayloadBytes) {
+    this.linger = linger;
+    this.maxEntries = maxEntries;
+    this.maxPayloadBytes = maxPayloadBytes;
+    this.metrics =
+        MicrometerHelper.isMicrometerAvailable()
+            ? AwsRequestBatcherMetrics.bindToGlobalRegistry(service)
+            : null;
+  }
+
+  /**
+   * Sends the entry with the next batch request and waits for its result.
+   *
+   * @param payloadBytes the size of the entry counting towards the maximum payload of a request
+   * @param sender sends the batch if the calling execution is the one to send it
+   * @throws RuntimeException the failure of the entry, or of the whole request
+   */
+  public R submit(T entry, int payloadBytes, Sender<T, R> sender) {
+    var pending = new Pending<T, R>(entry, System.nanoTime());
+    List<Batch<T, R>> toSend = new ArrayList<>(2);
+    Batch<T, R> led = null;
+    synchronized (this) {
+      if (current != null && current.payloadBytes + payloadBytes > maxPayloadBytes) {
+        toSend.add(takeCurrent());
+      }
+      if (current == null) {
+        current = new Batch<>();
+        led = current;
+      }
+      current.add(pending, payloadBytes);
+      if (current.entries.size() >= maxEntries) {
+        if (led == current) {
+          led = null;
+        }
+        toSend.add(takeCurrent());
+      }
+    }
+    toSend.forEach(batch -> send(batch, sender));
+    if (led != null) {
+      awaitLinger(led, sender);
+    }
+    return await(pending.result);
+  }
+
+  private void awaitLinger(Batch<T, R> batch, Sender<T, R> sender) {
+    long deadline = System.nanoTime() + linger.toNanos();
+    synchronized (this) {
+      try {
+        long remaining;
+        while (current == batch && (remaining = deadline - System.nanoTime()) > 0) {
+          TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (current != batch) {
+        // completed by another execution, which sends it
+        return;
+      }
+      takeCurrent();
+    }
+    send(batch, sender);
+  }
+
+  private Batch<T, R> takeCurrent() {
+    Batch<T, R> batch = current;
+    current = null;
+    notifyAll();
+    return batch;
+  }
+
+  private void send(Batch<T, R> batch, Sender<T, R> sender) {
+    List<T> entries = new ArrayList<>(batch.entries.size());
+    List<CompletableFuture<R>> results = new ArrayList<>(batch.entries.size());
+    long now = System.nanoTime();
+    for (Pending<T, R> pending : batch.entries) {
+      entries.add(pending.entry);
+      results.add(pending.result);
+      if (metrics != null) {
+        ((AwsRequestBatcherMetrics) metrics).recordWait(now - pending.submittedAt);
+      }
+    }
+    if (metrics != null) {
+      ((AwsRequestBatcherMetrics) metrics).recordBatch(entries.size(), maxEntries);
+    }
+    try {
+      sender.send(entries, results);
+    } catch (RuntimeException e) {
+      results.forEach(result -> result.completeExceptionally(e));
+    }
+    results.forEach(
+        result ->
+            result.completeExceptionally(
+                new IllegalStateException("The batch response did not contain the entry")));
+  }
+
+  private static <R> R await(CompletableFuture<R> result) {
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /** Sends a batch request. */
+  @FunctionalInterface
+  public interface Sender<T, R> {
+
+    /**
+     * Sends the entries with one request and completes the result of each entry, found at the same
+     * index. Results that are not completed fail, a thrown exception fails all entries.
+     */
+    void send(List<T> entries, List<CompletableFuture<R>> results);
+  }
+
+  private record Pending<T, R>(T entry, long submittedAt, CompletableFuture<R> result) {
+    private Pending(T entry, long submittedAt) {
+      this(entry, submittedAt, new CompletableFuture<>());
+    }
+  }
+
+  private static final class Batch<T, R> {
+    private final List<Pending<T, R>> entries = new ArrayList<>(MAX_ENTRIES);
+    private int payloadBytes;
+
+    private void add(Pending<T, R> pending, int bytes) {
+      entries.add(pending);
+      payloadBytes += bytes;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.aws.batch;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+
+/**
+ * Publishes how full the batches sent by an {@link AwsRequestBatcher} are and how long messages
+ * waited for their batch to be sent.
+ *
+ * <p>Micrometer is an optional dependency, this class must only be loaded after checking that it is
+ * on the classpath.
+ */
+public class AwsRequestBatcherMetrics {
+
+  public static final String METRIC_NAME_FILL_RATIO = "camunda.connector.aws.batch.fill.ratio";
+  public static final String METRIC_NAME_WAIT = "camunda.connector.aws.batch.wait";
+  public static final String TAG_SERVICE = "service";
+
+  private final DistributionSummary fillRatio;
+  private final Timer wait;
+
+  public AwsRequestBatcherMetrics(String service, MeterRegistry meterRegistry) {
+    this.fillRatio =
+        DistributionSummary.builder(METRIC_NAME_FILL_RATIO)
+            .description("Entries of a batch request relative to the maximum number of entries")
+            .tag(TAG_SERVICE, service)
+            .register(meterRegistry);
+    this.wait =
+        Timer.builder(METRIC_NAME_WAIT)
+            .description("Time a message waited for its batch request to be sent")
+            .tag(TAG_SERVICE, service)
+            .register(meterRegistry);
+  }
+
+  static AwsRequestBatcherMetrics bindToGlobalRegistry(String service) {
+    return new AwsRequestBatcherMetrics(service, Metrics.globalRegistry);
+  }
+
+  void recordBatch(int entries, int maxEntries) {
+    fillRatio.record((double) entries / maxEntries);
+  }
+
+  void recordWait(long nanos) {
+    wait.record(Duration.ofNanos(nanos));
+  }
+}
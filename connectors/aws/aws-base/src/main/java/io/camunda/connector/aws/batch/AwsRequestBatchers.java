@@ -0,0 +1,181 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.aws.batch;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.aws.client.AwsClientKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@link AwsRequestBatcher batchers} of a connector, one per destination, e.g. an SQS queue or
+ * an SNS topic, and the client accessing it.
+ *
+ * <p>The batcher of a destination that was not used for the idle timeout is dropped, e.g. after the
+ * credentials of its client were rotated. Idle batchers are looked for while submitting entries, no
+ * additional threads are involved.
+ *
+ * @param <T> the entry of a batch request
+ * @param <R> the result of an entry, e.g. the message ID
+ */
+public final class AwsRequestBatchers<T, R> {
+
+  public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+  private final String service;
+  private final Duration linger;
+  private final long idleTimeoutNanos;
+  private final LongSupplier nanoTime;
+  private final Map<Destination, Entry<T, R>> batchers = new ConcurrentHashMap<>();
+  private final AtomicLong lastEviction;
+
+  /**
+   * @param service the name of the service, e.g. {@code sqs}, tagging the metrics of the batchers
+   * @param linger the time the first entry of a batch waits for further entries
+   */
+  public AwsRequestBatchers(String service, Duration linger) {
+    this(service, linger, DEFAULT_IDLE_TIMEOUT, System::nanoTime);
+  }
+
+  AwsRequestBatchers(String service, Duration linger, Duration idleTimeout, LongSupplier nanoTime) {
+    this.service = service;
+    this.linger = linger;
+    this.idleTimeoutNanos = idleTimeout.toNanos();
+    this.nanoTime = nanoTime;
+    this.lastEviction = new AtomicLong(nanoTime.getAsLong());
+  }
+
+  /**
+   * Sends the entry with the next batch request to the destination and waits for its result, see
+   * {@link AwsRequestBatcher#submit(Object, int, AwsRequestBatcher.Sender)}.
+   *
+   * @param clientKey the key of the client sending the batch requests
+   * @param destination the queue URL or topic ARN
+   */
+  public R submit(
+      AwsClientKey clientKey,
+      String destination,
+      T entry,
+      int payloadBytes,
+      AwsRequestBatcher.Sender<T, R> sender) {
+    evictIdle();
+    var key = new Destination(clientKey, destination);
+    // counted as active within the computation, the batcher is not dropped while it is used
+    Entry<T, R> batcher =
+        batchers.compute(
+            key,
+            (k, existing) -> {
+              Entry<T, R> used =
+                  existing != null
+                      ? existing
+                      : new Entry<>(new AwsRequestBatcher<>(service, linger));
+              used.active++;
+              return used;
+            });
+    try {
+      return batcher.batcher.submit(entry, payloadBytes, sender);
+    } finally {
+      batchers.computeIfPresent(
+          key,
+          (k, used) -> {
+            used.active--;
+            used.lastUsed = nanoTime.getAsLong();
+            return used;
+          });
+    }
+  }
+
+  int size() {
+    return batchers.size();
+  }
+
+  private void evictIdle() {
+    long now = nanoTime.getAsLong();
+    long last = lastEviction.get();
+    if (now - last < idleTimeoutNanos || !lastEviction.compareAndSet(last, now)) {
+      return;
+    }
+    batchers
+        .keySet()
+        .forEach(
+            key ->
+                batchers.computeIfPresent(
+                    key,
+                    (k, entry) ->
+                        entry.active == 0 && now - entry.lastUsed >= idleTimeoutNanos
+                            ? null
+                            : entry));
+  }
+
+  /**
+   * Sets the ID of each entry to its index, which the results of the batch response refer to, see
+   * {@link #complete(List, String, Object)}.
+   */
+  public static <T> void assignIds(List<T> entries, BiConsumer<T, String> setId) {
+    for (int i = 0; i < entries.size(); i++) {
+      setId.accept(entries.get(i), String.valueOf(i));
+    }
+  }
+
+  /** Completes the result of the entry with the ID assigned by {@link #assignIds}. */
+  public static <R> void complete(List<CompletableFuture<R>> results, String id, R result) {
+    results.get(Integer.parseInt(id)).complete(result);
+  }
+
+  /** Fails the result of the entry with the ID assigned by {@link #assignIds}. */
+  public static void fail(
+      List<? extends CompletableFuture<?>> results, String id, String code, String message) {
+    results.get(Integer.parseInt(id)).completeExceptionally(new ConnectorException(code, message));
+  }
+
+  /**
+   * The size of a message counting towards the maximum payload of a batch request: the message and
+   * the names, types, and values of its attributes.
+   */
+  public static <A> int payloadBytes(
+      String message,
+      Map<String, A> attributes,
+      Function<A, String> dataType,
+      Function<A, String> stringValue,
+      Function<A, ByteBuffer> binaryValue) {
+    int bytes = message.getBytes(StandardCharsets.UTF_8).length;
+    for (var attribute : attributes.entrySet()) {
+      bytes += attribute.getKey().length() + dataType.apply(attribute.getValue()).length();
+      String string = stringValue.apply(attribute.getValue());
+      if (string != null) {
+        bytes += string.getBytes(StandardCharsets.UTF_8).length;
+      }
+      ByteBuffer binary = binaryValue.apply(attribute.getValue());
+      if (binary != null) {
+        bytes += binary.remaining();
+      }
+    }
+    return bytes;
+  }
+
+  private record Destination(AwsClientKey clientKey, String destination) {}
+
+  /** Only accessed within computations of the map. */
+  private static final class Entry<T, R> {
+    private final AwsRequestBatcher<T, R> batcher;
+    private int active;
+    private long lastUsed;
+
+    private Entry(AwsRequestBatcher<T, R> batcher) {
+      this.batcher = batcher;
+    }
+  }
+}
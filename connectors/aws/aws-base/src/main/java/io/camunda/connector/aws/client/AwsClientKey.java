@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.aws.client;
+
+import io.camunda.connector.aws.model.impl.AwsAuthentication;
+import io.camunda.connector.aws.model.impl.AwsAuthentication.AwsStaticCredentialsAuthentication;
+import io.camunda.connector.aws.model.impl.AwsBaseConfiguration;
+import io.camunda.connector.aws.model.impl.AwsBaseRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Identifies the clients that can be shared between connector executions: the same AWS service,
+ * region and endpoint, accessed with the same credentials, created by the same client supplier.
+ *
+ * @param service the name of the client kind, e.g. {@code sqs}, distinguishing sync and async
+ *     clients of the same service
+ * @param region the AWS region
+ * @param endpoint the endpoint override, {@code null} for the default endpoint of the region
+ * @param credentialsIdentity identifies the credentials without containing the secret key
+ * @param clientSupplier the supplier creating the client, {@code null} if the client is not created
+ *     by a replaceable supplier. Connectors created with their own supplier, e.g. a mock in a test,
+ *     must not be handed the clients created by another supplier
+ */
+public record AwsClientKey(
+    String service,
+    String region,
+    String endpoint,
+    String credentialsIdentity,
+    Object clientSupplier) {
+
+  static final String DEFAULT_CREDENTIALS_CHAIN_IDENTITY = "default-credentials-chain";
+
+  public AwsClientKey(String service, String region, String endpoint, String credentialsIdentity) {
+    this(service, region, endpoint, credentialsIdentity, null);
+  }
+
+  /** The key for the region and the authentication and endpoint configured in the request. */
+  public static AwsClientKey of(String service, AwsBaseRequest request, String region) {
+    String endpoint =
+        Optional.ofNullable(request.getConfiguration())
+            .map(AwsBaseConfiguration::endpoint)
+            .filter(value -> !value.isBlank())
+            .orElse(null);
+    return new AwsClientKey(
+        service, region, endpoint, credentialsIdentity(request.getAuthentication()));
+  }
+
+  /** The key for the region and the authentication and endpoint configured in the request. */
+  public static AwsClientKey of(String service, AwsBaseRequest request) {
+    return of(
+        service,
+        request,
+        Optional.ofNullable(request.getConfiguration())
+            .map(AwsBaseConfiguration::region)
+            .orElse(null));
+  }
+
+  /** The same key for clients created by the given supplier. */
+  public AwsClientKey withClientSupplier(Object clientSupplier) {
+    return new AwsClientKey(service, region, endpoint, credentialsIdentity, clientSupplier);
+  }
+
+  /**
+   * Whether the client resolves its credentials from the default credentials chain. These may be
+   * temporary credentials, e.g. of a web identity or an instance profile.
+   */
+  public boolean usesDefaultCredentialsChain() {
+    return DEFAULT_CREDENTIALS_CHAIN_IDENTITY.equals(credentialsIdentity);
+  }
+
+  @Override
+  public String toString() {
+    return "AwsClientKey{"
+        + "service="
+        + service
+        + ", region="
+        + region
+        + ", endpoint="
+        + endpoint
+        + ", credentials="
+        + (usesDefaultCredentialsChain() ? credentialsIdentity : "[REDACTED]")
+        + "}";
+  }
+
+  static String credentialsIdentity(AwsAuthentication authentication) {
+    // mirrors CredentialsProviderSupport, which falls back to the default chain
+    if (authentication instanceof AwsStaticCredentialsAuthentication sca) {
+      return "static:" + sca.accessKey() + ":" + sha256(sca.secretKey());
+    }
+    return DEFAULT_CREDENTIALS_CHAIN_IDENTITY;
+  }
+
+  private static String sha256(String value) {
+    try {
+      byte[] hash =
+          MessageDigest.getInstance("SHA-256")
+              .digest(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
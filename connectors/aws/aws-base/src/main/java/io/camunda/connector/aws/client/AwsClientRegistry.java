@@ -0,0 +1,331 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.aws.client;
+
+import com.amazonaws.ClientConfiguration;
+import io.camunda.connector.util.concurrent.DaemonThreads;
+import io.camunda.connector.util.metrics.MicrometerHelper;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+
+/**
+ * AWS SDK clients shared by all executions of the AWS connectors.
+ *
+ * <p>Building a client resolves the credentials, creates its HTTP connection pool and, on first
+ * use, performs the TLS handshake with the service. Clients are therefore kept per {@link
+ * AwsClientKey} and handed out as {@link Lease}s. Clients of the AWS SDK v2 additionally share one
+ * {@link #httpClient() HTTP client}. Both the shared HTTP client and the connection pool of every
+ * client of the AWS SDK v1 built with the {@link #clientConfiguration() client configuration} of
+ * the registry hold up to {@code maxConnections} connections, instead of the 50 of the SDKs.
+ *
+ * <p>A client that has not been leased for the idle timeout is closed. Clients resolving their
+ * credentials from the default credentials chain are rebuilt after the maximum lifetime, so that
+ * the chain is evaluated again, e.g. after temporary credentials of a web identity have been
+ * replaced. A client is only closed once all of its leases have been released.
+ */
+public final class AwsClientRegistry implements AutoCloseable {
+
+  public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+  public static final Duration DEFAULT_MAX_LIFETIME = Duration.ofHours(1);
+  public static final int DEFAULT_MAX_CONNECTIONS = 200;
+  public static final String MAX_CONNECTIONS_ENV_VARIABLE = "CAMUNDA_CONNECTOR_AWS_MAX_CONNECTIONS";
+
+  private static final Logger LOG = LoggerFactory.getLogger(AwsClientRegistry.class);
+  private static final Duration MIN_EVICTION_INTERVAL = Duration.ofSeconds(1);
+
+  private final Duration idleTimeout;
+  private final Duration maxLifetime;
+  private final int maxConnections;
+  private final Map<AwsClientKey, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicInteger leased = new AtomicInteger();
+  private final ScheduledExecutorService evictor;
+  private final AutoCloseable metrics;
+  private volatile SdkHttpClient httpClient;
+
+  /**
+   * @param idleTimeout the time after which a client that is not leased is closed
+   * @param maxLifetime the time after which a client using the default credentials chain is rebuilt
+   */
+  public AwsClientRegistry(Duration idleTimeout, Duration maxLifetime) {
+    this(idleTimeout, maxLifetime, DEFAULT_MAX_CONNECTIONS);
+  }
+
+  /**
+   * @param idleTimeout the time after which a client that is not leased is closed
+   * @param maxLifetime the time after which a client using the default credentials chain is rebuilt
+   * @param maxConnections the size of the connection pool of the shared HTTP client and of every
+   *     client of the AWS SDK v1
+   */
+  public AwsClientRegistry(Duration idleTimeout, Duration maxLifetime, int maxConnections) {
+    if (maxConnections <= 0) {
+      throw new IllegalArgumentException("maxConnections must be positive, got " + maxConnections);
+    }
+    this.idleTimeout = idleTimeout;
+    this.maxLifetime = maxLifetime;
+    this.maxConnections = maxConnections;
+    this.metrics =
+        MicrometerHelper.isMicrometerAvailable()
+            ? AwsClientRegistryMetrics.bindToGlobalRegistry(entries::size, leased::get)
+            : null;
+    long interval = Math.max(idleTimeout.toMillis() / 2, MIN_EVICTION_INTERVAL.toMillis());
+    this.evictor =
+        DaemonThreads.scheduleWithFixedDelay(
+            "connectors-aws-client-eviction", this::evictIdle, Duration.ofMillis(interval));
+  }
+
+  /**
+   * The registry shared by all AWS connectors of the runtime. The size of the connection pools is
+   * set with the {@value #MAX_CONNECTIONS_ENV_VARIABLE} environment variable.
+   */
+  public static AwsClientRegistry getDefault() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Leases the client for the key, building it with the factory if there is none yet. The lease
+   * must be closed after use, the client itself must not be closed by the caller.
+   *
+   * @param factory builds a new client for the key
+   * @param closer closes a client that is no longer used, e.g. {@code AmazonSQS::shutdown} for SDK
+   *     v1 or {@code SdkClient::close} for SDK v2 clients
+   */
+  public <T> Lease<T> acquire(
+      AwsClientKey key, Supplier<? extends T> factory, Consumer<? super T> closer) {
+    long now = System.nanoTime();
+    boolean[] created = {false};
+    Entry entry =
+        entries.compute(
+            key,
+            (k, existing) -> {
+              if (existing != null && existing.tryLease(now)) {
+                return existing;
+              }
+              if (existing != null) {
+                existing.retire();
+                recordEviction(k, AwsClientRegistryMetrics.CAUSE_EXPIRED);
+              }
+              created[0] = true;
+              Entry fresh = new Entry(k, factory.get(), closer, now);
+              fresh.tryLease(now);
+              return fresh;
+            });
+    leased.incrementAndGet();
+    if (metrics != null) {
+      ((AwsClientRegistryMetrics) metrics).recordRequest(key.service(), !created[0]);
+    }
+    return new Lease<>(entry);
+  }
+
+  /**
+   * The HTTP client shared by the SDK v2 clients of the registry. It is not closed when a client
+   * using it is closed.
+   */
+  public SdkHttpClient httpClient() {
+    SdkHttpClient client = httpClient;
+    if (client == null) {
+      synchronized (this) {
+        client = httpClient;
+        if (client == null) {
+          client =
+              ApacheHttpClient.builder()
+                  .maxConnections(maxConnections)
+                  .connectionMaxIdleTime(idleTimeout)
+                  .build();
+          httpClient = client;
+        }
+      }
+    }
+    return client;
+  }
+
+  /**
+   * The HTTP configuration for clients of the AWS SDK v1, with a connection pool of the same size
+   * as the shared HTTP client of the SDK v2 clients.
+   */
+  public ClientConfiguration clientConfiguration() {
+    return new ClientConfiguration()
+        .withMaxConnections(maxConnections)
+        .withConnectionMaxIdleMillis(idleTimeout.toMillis());
+  }
+
+  /** Closes all clients once their leases are released. */
+  @Override
+  public void close() {
+    evictor.shutdownNow();
+    entries.keySet().forEach(key -> entries.computeIfPresent(key, (k, entry) -> entry.retire()));
+    synchronized (this) {
+      if (httpClient != null) {
+        httpClient.close();
+        httpClient = null;
+      }
+    }
+    if (metrics != null) {
+      try {
+        metrics.close();
+      } catch (Exception e) {
+        LOG.debug("Failed to remove AWS client metrics", e);
+      }
+    }
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  void evictIdle() {
+    long now = System.nanoTime();
+    entries
+        .keySet()
+        .forEach(
+            key ->
+                entries.computeIfPresent(
+                    key,
+                    (k, entry) -> {
+                      String cause = entry.evictionCause(now);
+                      if (cause == null) {
+                        return entry;
+                      }
+                      LOG.debug("Closing {} AWS client {}", cause, k);
+                      recordEviction(k, cause);
+                      return entry.retire();
+                    }));
+  }
+
+  private void recordEviction(AwsClientKey key, String cause) {
+    if (metrics != null) {
+      ((AwsClientRegistryMetrics) metrics).recordEviction(key.service(), cause);
+    }
+  }
+
+  /** A client leased from the registry, released by closing the lease. */
+  public final class Lease<T> implements AutoCloseable {
+
+    private final Entry entry;
+    private boolean released;
+
+    private Lease(Entry entry) {
+      this.entry = entry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T client() {
+      return (T) entry.client;
+    }
+
+    /**
+     * Closes the client once all leases are released and builds a new one for the next lease, e.g.
+     * after the service rejected the credentials of the client.
+     */
+    public void invalidate() {
+      entries.remove(entry.key, entry);
+      entry.retire();
+    }
+
+    @Override
+    public void close() {
+      if (released) {
+        return;
+      }
+      released = true;
+      leased.decrementAndGet();
+      entry.release(System.nanoTime());
+    }
+  }
+
+  private final class Entry {
+
+    private final AwsClientKey key;
+    private final Object client;
+    private final Consumer<Object> closer;
+    private final long createdAt;
+    private long lastUsed;
+    private int leases;
+    private boolean retired;
+    private boolean closed;
+
+    @SuppressWarnings("unchecked")
+    private <T> Entry(AwsClientKey key, T client, Consumer<? super T> closer, long now) {
+      this.key = key;
+      this.client = client;
+      this.closer = (Consumer<Object>) closer;
+      this.createdAt = now;
+      this.lastUsed = now;
+    }
+
+    private synchronized boolean tryLease(long now) {
+      if (retired || isExpired(now)) {
+        return false;
+      }
+      leases++;
+      lastUsed = now;
+      return true;
+    }
+
+    private synchronized void release(long now) {
+      leases--;
+      lastUsed = now;
+      if (retired && leases == 0) {
+        closeClient();
+      }
+    }
+
+    /** Returns {@code null} to be usable as the result of a map computation. */
+    private synchronized Entry retire() {
+      retired = true;
+      if (leases == 0) {
+        closeClient();
+      }
+      return null;
+    }
+
+    private synchronized String evictionCause(long now) {
+      if (isExpired(now)) {
+        return AwsClientRegistryMetrics.CAUSE_EXPIRED;
+      }
+      if (leases == 0 && now - lastUsed >= idleTimeout.toNanos()) {
+        return AwsClientRegistryMetrics.CAUSE_IDLE;
+      }
+      return null;
+    }
+
+    private boolean isExpired(long now) {
+      return key.usesDefaultCredentialsChain() && now - createdAt >= maxLifetime.toNanos();
+    }
+
+    private void closeClient() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        closer.accept(client);
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to close AWS client {}", key, e);
+      }
+    }
+  }
+
+  private static final class Holder {
+    private static final AwsClientRegistry INSTANCE =
+        new AwsClientRegistry(
+            DEFAULT_IDLE_TIMEOUT,
+            DEFAULT_MAX_LIFETIME,
+            Optional.ofNullable(System.getenv(MAX_CONNECTIONS_ENV_VARIABLE))
+                .map(value -> Integer.parseInt(value.trim()))
+                .orElse(DEFAULT_MAX_CONNECTIONS));
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.aws.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+/**
+ * Publishes the number of cached and leased AWS clients, the cache hits and misses per service and
+ * the clients closed because they were idle or expired.
+ *
+ * <p>Micrometer is an optional dependency, this class must only be loaded after checking that it is
+ * on the classpath.
+ */
+public class AwsClientRegistryMetrics implements AutoCloseable {
+
+  public static final String METRIC_NAME_CLIENTS = "camunda.connector.aws.clients";
+  public static final String METRIC_NAME_LEASED = "camunda.connector.aws.clients.leased";
+  public static final String METRIC_NAME_REQUESTS = "camunda.connector.aws.client.requests";
+  public static final String METRIC_NAME_EVICTIONS = "camunda.connector.aws.client.evictions";
+  public static final String TAG_SERVICE = "service";
+  public static final String TAG_RESULT = "result";
+  public static final String TAG_CAUSE = "cause";
+
+  static final String CAUSE_IDLE = "idle";
+  static final String CAUSE_EXPIRED = "expired";
+
+  private final MeterRegistry meterRegistry;
+  private final Set<Meter> meters = ConcurrentHashMap.newKeySet();
+
+  public AwsClientRegistryMetrics(
+      IntSupplier clients, IntSupplier leased, MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    meters.add(
+        Gauge.builder(METRIC_NAME_CLIENTS, clients, IntSupplier::getAsInt)
+            .description("AWS clients kept for reuse")
+            .register(meterRegistry));
+    meters.add(
+        Gauge.builder(METRIC_NAME_LEASED, leased, IntSupplier::getAsInt)
+            .description("AWS clients currently used by connector executions")
+            .register(meterRegistry));
+  }
+
+  static AwsClientRegistryMetrics bindToGlobalRegistry(IntSupplier clients, IntSupplier leased) {
+    return new AwsClientRegistryMetrics(clients, leased, Metrics.globalRegistry);
+  }
+
+  void recordRequest(String service, boolean hit) {
+    Counter counter =
+        Counter.builder(METRIC_NAME_REQUESTS)
+            .description("Requests for a client, by whether a cached client was reused")
+            .tag(TAG_SERVICE, service)
+            .tag(TAG_RESULT, hit ? "hit" : "miss")
+            .register(meterRegistry);
+    meters.add(counter);
+    counter.increment();
+  }
+
+  void recordEviction(String service, String cause) {
+    Counter counter =
+        Counter.builder(METRIC_NAME_EVICTIONS)
+            .description("Clients closed because they were idle or their lifetime expired")
+            .tag(TAG_SERVICE, service)
+            .tag(TAG_CAUSE, cause)
+            .register(meterRegistry);
+    meters.add(counter);
+    counter.increment();
+  }
+
+  /** Removes the meters of the registry. */
+  @Override
+  public void close() {
+    meters.forEach(meterRegistry::remove);
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.aws.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class AwsRequestBatcherTest {
+
+  private final List<List<String>> sentBatches = new CopyOnWriteArrayList<>();
+
+  @Test
+  void shouldSendConcurrentEntries_WithOneRequest() throws Exception {
+    // given
+    var batcher = new AwsRequestBatcher<String, String>("sqs", Duration.ofSeconds(10));
+
+    // when
+    List<String> results;
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var futures =
+          IntStream.range(0, AwsRequestBatcher.MAX_ENTRIES)
+              .mapToObj(i -> executor.submit(() -> batcher.submit("m" + i, 1, this::echo)))
+              .toList();
+      results = futures.stream().map(AwsRequestBatcherTest::get).toList();
+    }
+
+    // then the full batch is sent without waiting for the linger time
+    assertThat(sentBatches).hasSize(1);
+    assertThat(sentBatches.getFirst()).hasSize(AwsRequestBatcher.MAX_ENTRIES);
+    assertThat(results)
+        .containsExactlyElementsOf(
+            IntStream.range(0, AwsRequestBatcher.MAX_ENTRIES).mapToObj(i -> "id-m" + i).toList());
+  }
+
+  @Test
+  void shouldSendIncompleteBatch_AfterLinger() {
+    // given
+    var batcher = new AwsRequestBatcher<String, String>("sqs", Duration.ofMillis(5));
+
+    // when
+    var result = batcher.submit("m", 1, this::echo);
+
+    // then
+    assertThat(result).isEqualTo("id-m");
+    assertThat(sentBatches).containsExactly(List.of("m"));
+  }
+
+  @Test
+  void shouldSendBatch_BeforePayloadExceedsMaximum() {
+    // given
+    var batcher = new AwsRequestBatcher<String, String>("sqs", Duration.ofMillis(5), 10, 10);
+
+    // when
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var first = executor.submit(() -> batcher.submit("first", 6, this::echo));
+      var second = executor.submit(() -> batcher.submit("second", 6, this::echo));
+      get(first);
+      get(second);
+    }
+
+    // then
+    assertThat(sentBatches).containsExactlyInAnyOrder(List.of("first"), List.of("second"));
+  }
+
+  @Test
+  void shouldFailEntry_WhenBatchResponseReportsItsFailure() {
+    // given
+    var batcher = new AwsRequestBatcher<String, String>("sqs", Duration.ofMillis(1));
+    AwsRequestBatcher.Sender<String, String> failing =
+        (entries, results) ->
+            results.forEach(result -> result.completeExceptionally(new RuntimeException("denied")));
+    AwsRequestBatcher.Sender<String, String> incomplete = (entries, results) -> {};
+
+    // when & then
+    assertThatThrownBy(() -> batcher.submit("m", 1, failing))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("denied");
+    assertThatThrownBy(() -> batcher.submit("m", 1, incomplete))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldFailAllEntries_WhenRequestFails() {
+    // given
+    var batcher = new AwsRequestBatcher<String, String>("sqs", Duration.ofMillis(1));
+
+    // when & then
+    assertThatThrownBy(
+            () ->
+                batcher.submit(
+                    "m",
+                    1,
+                    (entries, results) -> {
+                      throw new IllegalArgumentException("throttled");
+                    }))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("throttled");
+  }
+
+  private void echo(List<String> entries, List<CompletableFuture<String>> results) {
+    sentBatches.add(List.copyOf(entries));
+    for (int i = 0; i < entries.size(); i++) {
+      results.get(i).complete("id-" + entries.get(i));
+    }
+  }
+
+  private static <V> V get(Future<V> future) {
+    try {
+      return future.get();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.aws.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.aws.client.AwsClientKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AwsRequestBatchersTest {
+
+  private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(5);
+  private static final AwsClientKey CLIENT_KEY =
+      new AwsClientKey("sqs", "eu-central-1", null, "access-key");
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final AwsRequestBatchers<String, String> batchers =
+      new AwsRequestBatchers<>("sqs", Duration.ofMillis(1), IDLE_TIMEOUT, nanoTime::get);
+
+  @Test
+  void shouldKeepOneBatcherPerDestination() {
+    // when
+    batchers.submit(CLIENT_KEY, "queue-a", "m", 1, AwsRequestBatchersTest::echo);
+    batchers.submit(CLIENT_KEY, "queue-a", "m", 1, AwsRequestBatchersTest::echo);
+    batchers.submit(CLIENT_KEY, "queue-b", "m", 1, AwsRequestBatchersTest::echo);
+
+    // then
+    assertThat(batchers.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEvictBatcher_WhenIdle() {
+    // given
+    batchers.submit(CLIENT_KEY, "queue-a", "m", 1, AwsRequestBatchersTest::echo);
+    nanoTime.addAndGet(IDLE_TIMEOUT.toNanos() / 2);
+    batchers.submit(CLIENT_KEY, "queue-b", "m", 1, AwsRequestBatchersTest::echo);
+
+    // when
+    nanoTime.addAndGet(IDLE_TIMEOUT.toNanos() / 2);
+    var result = batchers.submit(CLIENT_KEY, "queue-c", "m", 1, AwsRequestBatchersTest::echo);
+
+    // then only the batcher idle for the timeout is dropped
+    assertThat(result).isEqualTo("id-m");
+    assertThat(batchers.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotEvictBatcher_WhileItSendsABatch() {
+    // given
+    batchers.submit(CLIENT_KEY, "queue-a", "m", 1, AwsRequestBatchersTest::echo);
+
+    // when the timeout elapses while queue-a sends a batch, the batcher is looked for idle ones
+    var result =
+        batchers.submit(
+            CLIENT_KEY,
+            "queue-a",
+            "m",
+            1,
+            (entries, results) -> {
+              nanoTime.addAndGet(IDLE_TIMEOUT.toNanos());
+              batchers.submit(CLIENT_KEY, "queue-b", "n", 1, AwsRequestBatchersTest::echo);
+              echo(entries, results);
+            });
+
+    // then
+    assertThat(result).isEqualTo("id-m");
+    assertThat(batchers.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldResolveResults_ByAssignedIds() {
+    // given
+    var entries = List.of(new StringBuilder(), new StringBuilder());
+    List<CompletableFuture<String>> results =
+        List.of(new CompletableFuture<>(), new CompletableFuture<>());
+
+    // when
+    AwsRequestBatchers.assignIds(entries, StringBuilder::append);
+    AwsRequestBatchers.complete(results, entries.get(1).toString(), "message-id");
+    AwsRequestBatchers.fail(results, entries.get(0).toString(), "Throttled", "slow down");
+
+    // then
+    assertThat(entries).map(StringBuilder::toString).containsExactly("0", "1");
+    assertThat(results.get(1)).isCompletedWithValue("message-id");
+    assertThatThrownBy(results.get(0)::join)
+        .hasCauseInstanceOf(ConnectorException.class)
+        .cause()
+        .hasMessage("slow down");
+  }
+
+  @Test
+  void shouldCountMessageAndAttributes_AsPayload() {
+    // given
+    Map<String, String[]> attributes = Map.of("key", new String[] {"String", "välue"});
+
+    // when
+    int bytes =
+        AwsRequestBatchers.payloadBytes(
+            "mässage",
+            attributes,
+            attribute -> attribute[0],
+            attribute -> attribute[1],
+            attribute -> ByteBuffer.wrap(new byte[2]));
+
+    // then
+    assertThat(bytes)
+        .isEqualTo(
+            "mässage".getBytes(StandardCharsets.UTF_8).length
+                + "key".length()
+                + "String".length()
+                + "välue".getBytes(StandardCharsets.UTF_8).length
+                + 2);
+  }
+
+  private static void echo(List<String> entries, List<CompletableFuture<String>> results) {
+    for (int i = 0; i < entries.size(); i++) {
+      results.get(i).complete("id-" + entries.get(i));
+    }
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.aws.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.aws.model.impl.AwsAuthentication.AwsDefaultCredentialsChainAuthentication;
+import io.camunda.connector.aws.model.impl.AwsAuthentication.AwsStaticCredentialsAuthentication;
+import io.camunda.connector.aws.model.impl.AwsBaseConfiguration;
+import io.camunda.connector.aws.model.impl.AwsBaseRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AwsClientRegistryTest {
+
+  private final List<TestClient> created = new ArrayList<>();
+  private AwsClientRegistry registry;
+
+  @AfterEach
+  void close() {
+    if (registry != null) {
+      registry.close();
+    }
+  }
+
+  @Test
+  void shouldReuseClient_WhenKeysAreEqual() {
+    // given
+    registry = new AwsClientRegistry(AwsClientRegistry.DEFAULT_IDLE_TIMEOUT, Duration.ofHours(1));
+    var key = AwsClientKey.of("sqs", request("access", "secret"), "eu-central-1");
+
+    // when
+    try (var first = acquire(key);
+        var second = acquire(AwsClientKey.of("sqs", request("access", "secret"), "eu-central-1"))) {
+
+      // then
+      assertThat(second.client()).isSameAs(first.client());
+    }
+    assertThat(created).hasSize(1);
+    assertThat(created.getFirst().closed).isFalse();
+  }
+
+  @Test
+  void shouldCreateClient_WhenSecretKeyOrRegionDiffer() {
+    // given
+    registry = new AwsClientRegistry(AwsClientRegistry.DEFAULT_IDLE_TIMEOUT, Duration.ofHours(1));
+
+    // when
+    acquire(AwsClientKey.of("sqs", request("access", "secret"), "eu-central-1")).close();
+    acquire(AwsClientKey.of("sqs", request("access", "rotated"), "eu-central-1")).close();
+    acquire(AwsClientKey.of("sqs", request("access", "secret"), "us-east-1")).close();
+    acquire(AwsClientKey.of("sns", request("access", "secret"), "eu-central-1")).close();
+
+    // then
+    assertThat(created).hasSize(4);
+    assertThat(registry.size()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldCreateClient_WhenClientSuppliersDiffer() {
+    // given
+    registry = new AwsClientRegistry(AwsClientRegistry.DEFAULT_IDLE_TIMEOUT, Duration.ofHours(1));
+    var key = AwsClientKey.of("sqs", request("access", "secret"), "eu-central-1");
+    var supplier = new Object();
+
+    // when
+    try (var first = acquire(key.withClientSupplier(supplier));
+        var second = acquire(key.withClientSupplier(new Object()));
+        var third = acquire(key.withClientSupplier(supplier))) {
+
+      // then
+      assertThat(second.client()).isNotSameAs(first.client());
+      assertThat(third.client()).isSameAs(first.client());
+    }
+    assertThat(created).hasSize(2);
+  }
+
+  @Test
+  void shouldSizeConnectionPools_WhenMaxConnectionsConfigured() {
+    // given
+    registry =
+        new AwsClientRegistry(
+            AwsClientRegistry.DEFAULT_IDLE_TIMEOUT, AwsClientRegistry.DEFAULT_MAX_LIFETIME, 500);
+
+    // when
+    var configuration = registry.clientConfiguration();
+
+    // then
+    assertThat(configuration.getMaxConnections()).isEqualTo(500);
+    assertThat(configuration.getConnectionMaxIdleMillis())
+        .isEqualTo(AwsClientRegistry.DEFAULT_IDLE_TIMEOUT.toMillis());
+  }
+
+  @Test
+  void shouldNotExposeSecretKey() {
+    // when
+    var key = AwsClientKey.of("sqs", request("access", "secret"), "eu-central-1");
+
+    // then
+    assertThat(key.credentialsIdentity()).doesNotContain("secret");
+    assertThat(key.toString()).doesNotContain("access").doesNotContain("secret");
+  }
+
+  @Test
+  void shouldCloseIdleClient_OnlyAfterLeaseReleased() throws InterruptedException {
+    // given
+    registry = new AwsClientRegistry(Duration.ZERO, Duration.ofHours(1));
+    var key = AwsClientKey.of("sqs", request("access", "secret"), "eu-central-1");
+    var lease = acquire(key);
+    Thread.sleep(5);
+
+    // when
+    registry.evictIdle();
+
+    // then
+    assertThat(registry.size()).isEqualTo(1);
+    lease.close();
+    Thread.sleep(5);
+    registry.evictIdle();
+    assertThat(registry.size()).isZero();
+    assertThat(created.getFirst().closed).isTrue();
+  }
+
+  @Test
+  void shouldRebuildDefaultChainClient_AfterMaxLifetime() throws InterruptedException {
+    // given
+    registry = new AwsClientRegistry(AwsClientRegistry.DEFAULT_IDLE_TIMEOUT, Duration.ofMillis(1));
+    var defaultChainRequest = new AwsBaseRequest();
+    defaultChainRequest.setAuthentication(new AwsDefaultCredentialsChainAuthentication());
+    var defaultChainKey = AwsClientKey.of("sqs", defaultChainRequest, "eu-central-1");
+    var staticKey = AwsClientKey.of("sqs", request("access", "secret"), "eu-central-1");
+    var lease = acquire(defaultChainKey);
+    acquire(staticKey).close();
+    Thread.sleep(5);
+
+    // when
+    try (var renewed = acquire(defaultChainKey);
+        var staticLease = acquire(staticKey)) {
+
+      // then the expired client stays open until its lease is released
+      assertThat(renewed.client()).isNotSameAs(lease.client());
+      assertThat(staticLease.client()).isSameAs(created.get(1));
+      assertThat(lease.client().closed).isFalse();
+      lease.close();
+      assertThat(lease.client().closed).isTrue();
+    }
+    assertThat(created).hasSize(3);
+  }
+
+  @Test
+  void shouldRebuildClient_WhenLeaseInvalidated() {
+    // given
+    registry = new AwsClientRegistry(AwsClientRegistry.DEFAULT_IDLE_TIMEOUT, Duration.ofHours(1));
+    var key = AwsClientKey.of("sqs", request("access", "secret"), "eu-central-1");
+
+    // when
+    try (var lease = acquire(key)) {
+      lease.invalidate();
+    }
+    try (var lease = acquire(key)) {
+
+      // then
+      assertThat(lease.client()).isNotSameAs(created.getFirst());
+    }
+    assertThat(created.getFirst().closed).isTrue();
+  }
+
+  @Test
+  void shouldUseEndpointFromConfiguration() {
+    // given
+    var request = request("access", "secret");
+    request.setConfiguration(new AwsBaseConfiguration("eu-central-1", "http://localhost:4566"));
+
+    // when
+    var key = AwsClientKey.of("sqs", request);
+
+    // then
+    assertThat(key.region()).isEqualTo("eu-central-1");
+    assertThat(key.endpoint()).isEqualTo("http://localhost:4566");
+  }
+
+  private AwsClientRegistry.Lease<TestClient> acquire(AwsClientKey key) {
+    return registry.acquire(
+        key,
+        () -> {
+          var client = new TestClient();
+          created.add(client);
+          return client;
+        },
+        TestClient::shutdown);
+  }
+
+  private static AwsBaseRequest request(String accessKey, String secretKey) {
+    var request = new AwsBaseRequest();
+    request.setAuthentication(new AwsStaticCredentialsAuthentication(accessKey, secretKey));
+    return request;
+  }
+
+  private static final class TestClient {
+    private boolean closed;
+
+    void shutdown() {
+      closed = true;
+    }
+  }
+}
@@ -10,29 +10,58 @@ import io.camunda.connector.aws.CredentialsProviderSupportV2;
 import io.camunda.connector.aws.ObjectMapperSupplier;
 import io.camunda.connector.aws.bedrock.model.BedrockRequest;
 import io.camunda.connector.aws.bedrock.model.RequestData;
+import io.camunda.connector.aws.client.AwsClientKey;
+import io.camunda.connector.aws.client.AwsClientRegistry;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeClient;
 
 public class BedrockExecutor {
 
+  /** The name of the Bedrock runtime clients in the {@code AwsClientRegistry}. */
+  public static final String CLIENT_NAME = "bedrock-runtime";
+
   private final BedrockRuntimeClient bedrockRuntimeClient;
   private final RequestData requestData;
+  private final AwsClientRegistry.Lease<BedrockRuntimeClient> clientLease;
 
   public BedrockExecutor(BedrockRuntimeClient bedrockRuntimeClient, RequestData requestData) {
+    this(bedrockRuntimeClient, requestData, null);
+  }
+
+  private BedrockExecutor(
+      BedrockRuntimeClient bedrockRuntimeClient,
+      RequestData requestData,
+      AwsClientRegistry.Lease<BedrockRuntimeClient> clientLease) {
     this.bedrockRuntimeClient = bedrockRuntimeClient;
     this.requestData = requestData;
+    this.clientLease = clientLease;
   }
 
+  /** Creates an executor for a single request, using a client shared through the registry. */
   public static BedrockExecutor create(BedrockRequest bedrockRequest) {
-    return new BedrockExecutor(
-        BedrockRuntimeClient.builder()
-            .credentialsProvider(CredentialsProviderSupportV2.credentialsProvider(bedrockRequest))
-            .region(Region.of(bedrockRequest.getConfiguration().region()))
-            .build(),
-        bedrockRequest.getData());
+    AwsClientRegistry registry = AwsClientRegistry.getDefault();
+    AwsClientRegistry.Lease<BedrockRuntimeClient> lease =
+        registry.acquire(
+            AwsClientKey.of(CLIENT_NAME, bedrockRequest),
+            () ->
+                BedrockRuntimeClient.builder()
+                    .credentialsProvider(
+                        CredentialsProviderSupportV2.credentialsProvider(bedrockRequest))
+                    .region(Region.of(bedrockRequest.getConfiguration().region()))
+                    .httpClient(registry.httpClient())
+                    .build(),
+            BedrockRuntimeClient::close);
+    return new BedrockExecutor(lease.client(), bedrockRequest.getData(), lease);
   }
 
   public Object execute() {
-    return this.requestData.execute(bedrockRuntimeClient, ObjectMapperSupplier.getMapperInstance());
+    try {
+      return this.requestData.execute(
+          bedrockRuntimeClient, ObjectMapperSupplier.getMapperInstance());
+    } finally {
+      if (clientLease != null) {
+        clientLease.close();
+      }
+    }
   }
 }
@@ -6,9 +6,13 @@
  */
 package io.camunda.connector.comprehend;
 
+import com.amazonaws.services.comprehend.AmazonComprehendAsyncClient;
+import com.amazonaws.services.comprehend.AmazonComprehendClient;
 import io.camunda.connector.api.annotation.OutboundConnector;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
+import io.camunda.connector.aws.client.AwsClientKey;
+import io.camunda.connector.aws.client.AwsClientRegistry;
 import io.camunda.connector.comprehend.caller.AsyncComprehendCaller;
 import io.camunda.connector.comprehend.caller.SyncComprehendCaller;
 import io.camunda.connector.comprehend.model.ComprehendAsyncRequestData;
@@ -39,25 +43,44 @@ import io.camunda.connector.generator.java.annotation.ElementTemplate;
     icon = "icon.svg")
 public class ComprehendConnectorFunction implements OutboundConnectorFunction {
 
+  private static final ComprehendClientSupplier DEFAULT_CLIENT_SUPPLIER =
+      new ComprehendClientSupplier();
+
   private final ComprehendClientSupplier clientSupplier;
 
   private final SyncComprehendCaller syncComprehendCaller;
 
   private final AsyncComprehendCaller asyncComprehendCaller;
 
+  private final AwsClientRegistry clientRegistry;
+
   public ComprehendConnectorFunction(
       ComprehendClientSupplier clientSupplier,
       SyncComprehendCaller syncComprehendCaller,
       AsyncComprehendCaller asyncComprehendCaller) {
+    this(
+        clientSupplier,
+        syncComprehendCaller,
+        asyncComprehendCaller,
+        AwsClientRegistry.getDefault());
+  }
+
+  public ComprehendConnectorFunction(
+      ComprehendClientSupplier clientSupplier,
+      SyncComprehendCaller syncComprehendCaller,
+      AsyncComprehendCaller asyncComprehendCaller,
+      AwsClientRegistry clientRegistry) {
     this.clientSupplier = clientSupplier;
     this.syncComprehendCaller = syncComprehendCaller;
     this.asyncComprehendCaller = asyncComprehendCaller;
+    this.clientRegistry = clientRegistry;
   }
 
   public ComprehendConnectorFunction() {
-    this.clientSupplier = new ComprehendClientSupplier();
+    this.clientSupplier = DEFAULT_CLIENT_SUPPLIER;
     this.syncComprehendCaller = new SyncComprehendCaller();
     this.asyncComprehendCaller = new AsyncComprehendCaller();
+    this.clientRegistry = AwsClientRegistry.getDefault();
   }
 
   @Override
@@ -65,9 +88,22 @@ public class ComprehendConnectorFunction implements OutboundConnectorFunction {
     var request = context.bindVariables(ComprehendRequest.class);
     ComprehendRequestData requestData = request.getInput();
     if (requestData instanceof ComprehendSyncRequestData syncRequestData) {
-      return syncComprehendCaller.call(clientSupplier.getSyncClient(request), syncRequestData);
+      try (var client =
+          clientRegistry.acquire(
+              AwsClientKey.of(ComprehendClientSupplier.SYNC_CLIENT_NAME, request)
+                  .withClientSupplier(clientSupplier),
+              () -> clientSupplier.getSyncClient(request),
+              AmazonComprehendClient::shutdown)) {
+        return syncComprehendCaller.call(client.client(), syncRequestData);
+      }
+    }
+    try (var client =
+        clientRegistry.acquire(
+            AwsClientKey.of(ComprehendClientSupplier.ASYNC_CLIENT_NAME, request)
+                .withClientSupplier(clientSupplier),
+            () -> clientSupplier.getAsyncClient(request),
+            AmazonComprehendAsyncClient::shutdown)) {
+      return asyncComprehendCaller.call(client.client(), (ComprehendAsyncRequestData) requestData);
     }
-    return asyncComprehendCaller.call(
-        clientSupplier.getAsyncClient(request), (ComprehendAsyncRequestData) requestData);
   }
 }
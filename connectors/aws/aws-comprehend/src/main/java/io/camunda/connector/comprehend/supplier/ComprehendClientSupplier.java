@@ -13,6 +13,11 @@ import io.camunda.connector.comprehend.model.ComprehendRequest;
 
 public class ComprehendClientSupplier {
 
+  /** The names of the Comprehend clients in the {@code AwsClientRegistry}. */
+  public static final String SYNC_CLIENT_NAME = "comprehend";
+
+  public static final String ASYNC_CLIENT_NAME = "comprehend-async";
+
   public AmazonComprehendClient getSyncClient(ComprehendRequest comprehendRequest) {
     return (AmazonComprehendClient)
         AmazonComprehendClient.builder()
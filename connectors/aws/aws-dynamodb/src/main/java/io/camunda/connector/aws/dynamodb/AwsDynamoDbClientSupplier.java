@@ -13,6 +13,9 @@ import com.amazonaws.services.dynamodbv2.document.DynamoDB;
 
 public final class AwsDynamoDbClientSupplier {
 
+  /** The name of the DynamoDB clients in the {@code AwsClientRegistry}. */
+  public static final String CLIENT_NAME = "dynamodb";
+
   private AwsDynamoDbClientSupplier() {}
 
   public static DynamoDB getDynamoDdClient(
@@ -6,10 +6,13 @@
  */
 package io.camunda.connector.aws.dynamodb;
 
+import com.amazonaws.services.dynamodbv2.document.DynamoDB;
 import io.camunda.connector.api.annotation.OutboundConnector;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.aws.CredentialsProviderSupport;
+import io.camunda.connector.aws.client.AwsClientKey;
+import io.camunda.connector.aws.client.AwsClientRegistry;
 import io.camunda.connector.generator.java.annotation.ElementTemplate;
 
 @OutboundConnector(
@@ -47,15 +50,29 @@ import io.camunda.connector.generator.java.annotation.ElementTemplate;
     icon = "icon.svg")
 public class AwsDynamoDbServiceConnectorFunction implements OutboundConnectorFunction {
 
+  private final AwsClientRegistry clientRegistry;
+
+  public AwsDynamoDbServiceConnectorFunction() {
+    this(AwsClientRegistry.getDefault());
+  }
+
+  public AwsDynamoDbServiceConnectorFunction(final AwsClientRegistry clientRegistry) {
+    this.clientRegistry = clientRegistry;
+  }
+
   @Override
   public Object execute(OutboundConnectorContext context) throws Exception {
     final AwsDynamoDbOperationFactory operationFactory = AwsDynamoDbOperationFactory.getInstance();
     final AwsDynamoDbRequest dynamoDbRequest = context.bindVariables(AwsDynamoDbRequest.class);
-    return operationFactory
-        .createOperation(dynamoDbRequest.getInput())
-        .invoke(
-            AwsDynamoDbClientSupplier.getDynamoDdClient(
-                CredentialsProviderSupport.credentialsProvider(dynamoDbRequest),
-                dynamoDbRequest.getConfiguration().region()));
+    final String region = dynamoDbRequest.getConfiguration().region();
+    try (var dynamoDb =
+        clientRegistry.acquire(
+            AwsClientKey.of(AwsDynamoDbClientSupplier.CLIENT_NAME, dynamoDbRequest, region),
+            () ->
+                AwsDynamoDbClientSupplier.getDynamoDdClient(
+                    CredentialsProviderSupport.credentialsProvider(dynamoDbRequest), region),
+            DynamoDB::shutdown)) {
+      return operationFactory.createOperation(dynamoDbRequest.getInput()).invoke(dynamoDb.client());
+    }
   }
 }
@@ -13,6 +13,9 @@ import com.amazonaws.services.eventbridge.AmazonEventBridgeClient;
 
 public class AwsEventBridgeClientSupplier {
 
+  /** The name of the EventBridge clients in the {@code AwsClientRegistry}. */
+  public static final String CLIENT_NAME = "eventbridge";
+
   public AmazonEventBridge getAmazonEventBridgeClient(
       final AWSCredentialsProvider credentialsProvider, final String region) {
     return AmazonEventBridgeClient.builder()
@@ -19,6 +19,8 @@ import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.aws.CredentialsProviderSupport;
 import io.camunda.connector.aws.ObjectMapperSupplier;
+import io.camunda.connector.aws.client.AwsClientKey;
+import io.camunda.connector.aws.client.AwsClientRegistry;
 import io.camunda.connector.aws.model.impl.AwsBaseConfiguration;
 import io.camunda.connector.generator.java.annotation.ElementTemplate;
 import java.util.Optional;
@@ -48,34 +50,56 @@ import java.util.Optional;
     icon = "icon.svg")
 public class EventBridgeFunction implements OutboundConnectorFunction {
 
+  private static final AwsEventBridgeClientSupplier DEFAULT_CLIENT_SUPPLIER =
+      new AwsEventBridgeClientSupplier();
+
   private final AwsEventBridgeClientSupplier awsEventBridgeClientSupplier;
   private final ObjectMapper objectMapper;
+  private final AwsClientRegistry clientRegistry;
 
   public EventBridgeFunction() {
-    this.awsEventBridgeClientSupplier = new AwsEventBridgeClientSupplier();
-    this.objectMapper = ObjectMapperSupplier.getMapperInstance();
+    this(
+        DEFAULT_CLIENT_SUPPLIER,
+        ObjectMapperSupplier.getMapperInstance(),
+        AwsClientRegistry.getDefault());
   }
 
   public EventBridgeFunction(
       final AwsEventBridgeClientSupplier clientSupplier, final ObjectMapper objectMapper) {
+    this(clientSupplier, objectMapper, AwsClientRegistry.getDefault());
+  }
+
+  public EventBridgeFunction(
+      final AwsEventBridgeClientSupplier clientSupplier,
+      final ObjectMapper objectMapper,
+      final AwsClientRegistry clientRegistry) {
     this.awsEventBridgeClientSupplier = clientSupplier;
     this.objectMapper = objectMapper;
+    this.clientRegistry = clientRegistry;
   }
 
   @Override
   public Object execute(OutboundConnectorContext context) throws JsonProcessingException {
     var eventBridgeRequest = context.bindVariables(AwsEventBridgeRequest.class);
-    AmazonEventBridge amazonEventBridgeClient = createEventBridgeClient(eventBridgeRequest);
-    return objectMapper.convertValue(
-        putEvents(amazonEventBridgeClient, eventBridgeRequest.getInput()), Object.class);
+    var region =
+        extractRegionOrDefault(
+            eventBridgeRequest.getConfiguration(), eventBridgeRequest.getConfiguration().region());
+    try (var amazonEventBridgeClient =
+        clientRegistry.acquire(
+            AwsClientKey.of(AwsEventBridgeClientSupplier.CLIENT_NAME, eventBridgeRequest, region)
+                .withClientSupplier(awsEventBridgeClientSupplier),
+            () -> createEventBridgeClient(eventBridgeRequest, region),
+            AmazonEventBridge::shutdown)) {
+      return objectMapper.convertValue(
+          putEvents(amazonEventBridgeClient.client(), eventBridgeRequest.getInput()), Object.class);
+    }
   }
 
-  private AmazonEventBridge createEventBridgeClient(final AwsEventBridgeRequest request) {
+  private AmazonEventBridge createEventBridgeClient(
+      final AwsEventBridgeRequest request, final String region) {
     Optional<String> endpoint =
         Optional.ofNullable(request.getConfiguration()).map(AwsBaseConfiguration::endpoint);
     var credentialsProvider = CredentialsProviderSupport.credentialsProvider(request);
-    var region =
-        extractRegionOrDefault(request.getConfiguration(), request.getConfiguration().region());
     return endpoint
         .map(
             ep ->
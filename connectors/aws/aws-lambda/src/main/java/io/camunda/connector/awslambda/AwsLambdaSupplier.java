@@ -13,6 +13,9 @@ import com.amazonaws.services.lambda.AWSLambdaClientBuilder;
 
 public class AwsLambdaSupplier {
 
+  /** The name of the Lambda clients in the {@code AwsClientRegistry}. */
+  public static final String CLIENT_NAME = "lambda";
+
   public AWSLambda awsLambdaService(
       final AWSCredentialsProvider credentialsProvider, final String region) {
     return AWSLambdaClientBuilder.standard()
@@ -17,6 +17,8 @@ import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.aws.AwsUtils;
 import io.camunda.connector.aws.CredentialsProviderSupport;
 import io.camunda.connector.aws.ObjectMapperSupplier;
+import io.camunda.connector.aws.client.AwsClientKey;
+import io.camunda.connector.aws.client.AwsClientRegistry;
 import io.camunda.connector.aws.model.impl.AwsBaseConfiguration;
 import io.camunda.connector.awslambda.model.AwsLambdaRequest;
 import io.camunda.connector.awslambda.model.AwsLambdaResult;
@@ -46,17 +48,31 @@ import java.util.Optional;
     icon = "icon.svg")
 public class LambdaConnectorFunction implements OutboundConnectorFunction {
 
+  private static final AwsLambdaSupplier DEFAULT_CLIENT_SUPPLIER = new AwsLambdaSupplier();
+
   private final AwsLambdaSupplier awsLambdaSupplier;
   private final ObjectMapper objectMapper;
+  private final AwsClientRegistry clientRegistry;
 
   public LambdaConnectorFunction() {
-    this(new AwsLambdaSupplier(), ObjectMapperSupplier.getMapperInstance());
+    this(
+        DEFAULT_CLIENT_SUPPLIER,
+        ObjectMapperSupplier.getMapperInstance(),
+        AwsClientRegistry.getDefault());
   }
 
   public LambdaConnectorFunction(
       final AwsLambdaSupplier awsLambdaSupplier, final ObjectMapper objectMapper) {
+    this(awsLambdaSupplier, objectMapper, AwsClientRegistry.getDefault());
+  }
+
+  public LambdaConnectorFunction(
+      final AwsLambdaSupplier awsLambdaSupplier,
+      final ObjectMapper objectMapper,
+      final AwsClientRegistry clientRegistry) {
     this.awsLambdaSupplier = awsLambdaSupplier;
     this.objectMapper = objectMapper;
+    this.clientRegistry = clientRegistry;
   }
 
   @Override
@@ -69,20 +85,20 @@ public class LambdaConnectorFunction implements OutboundConnectorFunction {
     var region =
         AwsUtils.extractRegionOrDefault(
             request.getConfiguration(), request.getAwsFunction().getRegion());
-    AWSLambda awsLambda = createAwsLambdaClient(request, region);
-    try {
+    try (var awsLambda =
+        clientRegistry.acquire(
+            AwsClientKey.of(AwsLambdaSupplier.CLIENT_NAME, request, region)
+                .withClientSupplier(awsLambdaSupplier),
+            () -> createAwsLambdaClient(request, region),
+            AWSLambda::shutdown)) {
 
       final InvokeRequest invokeRequest =
           new InvokeRequest()
               .withFunctionName(request.getAwsFunction().getFunctionName())
               .withPayload(objectMapper.writeValueAsString(request.getAwsFunction().getPayload()));
-      return awsLambda.invoke(invokeRequest);
+      return awsLambda.client().invoke(invokeRequest);
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Error mapping payload to json.");
-    } finally {
-      if (awsLambda != null) {
-        awsLambda.shutdown();
-      }
     }
   }
 
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.api.document.Document;
 import io.camunda.connector.api.document.DocumentCreationRequest;
 import io.camunda.connector.aws.CredentialsProviderSupportV2;
+import io.camunda.connector.aws.client.AwsClientKey;
+import io.camunda.connector.aws.client.AwsClientRegistry;
 import io.camunda.connector.aws.s3.model.request.*;
 import io.camunda.connector.aws.s3.model.response.DeleteResponse;
 import io.camunda.connector.aws.s3.model.response.DownloadResponse;
@@ -33,31 +35,57 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 public class S3Executor {
 
+  /** The name of the S3 clients in the {@code AwsClientRegistry}. */
+  public static final String CLIENT_NAME = "s3";
+
   private static final Logger log = LoggerFactory.getLogger(S3Executor.class);
   private final S3Client s3Client;
   private final Function<DocumentCreationRequest, Document> createDocument;
+  private final AwsClientRegistry.Lease<S3Client> clientLease;
 
   public S3Executor(S3Client s3Client, Function<DocumentCreationRequest, Document> createDocument) {
+    this(s3Client, createDocument, null);
+  }
+
+  private S3Executor(
+      S3Client s3Client,
+      Function<DocumentCreationRequest, Document> createDocument,
+      AwsClientRegistry.Lease<S3Client> clientLease) {
     this.s3Client = s3Client;
     this.createDocument = createDocument;
+    this.clientLease = clientLease;
   }
 
+  /** Creates an executor for a single action, using a client shared through the registry. */
   public static S3Executor create(
       S3Request s3Request, Function<DocumentCreationRequest, Document> createDocument) {
-    return new S3Executor(
-        S3Client.builder()
-            .credentialsProvider(CredentialsProviderSupportV2.credentialsProvider(s3Request))
-            .region(Region.of(s3Request.getConfiguration().region()))
-            .build(),
-        createDocument);
+    AwsClientRegistry registry = AwsClientRegistry.getDefault();
+    AwsClientRegistry.Lease<S3Client> lease =
+        registry.acquire(
+            AwsClientKey.of(CLIENT_NAME, s3Request),
+            () ->
+                S3Client.builder()
+                    .credentialsProvider(
+                        CredentialsProviderSupportV2.credentialsProvider(s3Request))
+                    .region(Region.of(s3Request.getConfiguration().region()))
+                    .httpClient(registry.httpClient())
+                    .build(),
+            S3Client::close);
+    return new S3Executor(lease.client(), createDocument, lease);
   }
 
   public Object execute(S3Action s3Action) {
-    return switch (s3Action) {
-      case DeleteObject deleteObject -> delete(deleteObject);
-      case DownloadObject downloadObject -> download(downloadObject);
-      case UploadObject uploadObject -> upload(uploadObject);
-    };
+    try {
+      return switch (s3Action) {
+        case DeleteObject deleteObject -> delete(deleteObject);
+        case DownloadObject downloadObject -> download(downloadObject);
+        case UploadObject uploadObject -> upload(uploadObject);
+      };
+    } finally {
+      if (clientLease != null) {
+        clientLease.close();
+      }
+    }
   }
 
   private Object upload(UploadObject uploadObject) {
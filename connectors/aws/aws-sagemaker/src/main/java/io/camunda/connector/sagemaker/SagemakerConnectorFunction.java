@@ -12,6 +12,8 @@ import io.camunda.connector.api.annotation.OutboundConnector;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.aws.CredentialsProviderSupport;
+import io.camunda.connector.aws.client.AwsClientKey;
+import io.camunda.connector.aws.client.AwsClientRegistry;
 import io.camunda.connector.generator.java.annotation.ElementTemplate;
 import io.camunda.connector.sagemaker.caller.SageMakerAsyncCaller;
 import io.camunda.connector.sagemaker.caller.SageMakerSyncCaller;
@@ -50,17 +52,22 @@ import java.util.function.BiFunction;
     icon = "icon.svg")
 public class SagemakerConnectorFunction implements OutboundConnectorFunction {
 
+  private static final SageMakeClientSupplier DEFAULT_CLIENT_SUPPLIER =
+      new SageMakeClientSupplier();
+
   private final SageMakeClientSupplier sageMakeClientSupplier;
   private final BiFunction<AmazonSageMakerRuntime, SageMakerRequest, SageMakerSyncResponse>
       syncCallerFunction;
   private final BiFunction<AmazonSageMakerRuntimeAsync, SageMakerRequest, SageMakerAsyncResponse>
       asyncCallerFunction;
+  private final AwsClientRegistry clientRegistry;
 
   public SagemakerConnectorFunction() {
     this(
-        new SageMakeClientSupplier(),
+        DEFAULT_CLIENT_SUPPLIER,
         SageMakerSyncCaller.SYNC_REQUEST,
-        SageMakerAsyncCaller.ASYNC_CALLER);
+        SageMakerAsyncCaller.ASYNC_CALLER,
+        AwsClientRegistry.getDefault());
   }
 
   public SagemakerConnectorFunction(
@@ -69,26 +76,52 @@ public class SagemakerConnectorFunction implements OutboundConnectorFunction {
           syncCallerFunction,
       final BiFunction<AmazonSageMakerRuntimeAsync, SageMakerRequest, SageMakerAsyncResponse>
           asyncCallerFunction) {
+    this(
+        sageMakeClientSupplier,
+        syncCallerFunction,
+        asyncCallerFunction,
+        AwsClientRegistry.getDefault());
+  }
+
+  public SagemakerConnectorFunction(
+      final SageMakeClientSupplier sageMakeClientSupplier,
+      final BiFunction<AmazonSageMakerRuntime, SageMakerRequest, SageMakerSyncResponse>
+          syncCallerFunction,
+      final BiFunction<AmazonSageMakerRuntimeAsync, SageMakerRequest, SageMakerAsyncResponse>
+          asyncCallerFunction,
+      final AwsClientRegistry clientRegistry) {
     this.sageMakeClientSupplier = sageMakeClientSupplier;
     this.syncCallerFunction = syncCallerFunction;
     this.asyncCallerFunction = asyncCallerFunction;
+    this.clientRegistry = clientRegistry;
   }
 
   @Override
   public Object execute(OutboundConnectorContext context) {
     final var request = context.bindVariables(SageMakerRequest.class);
+    final var region = request.getConfiguration().region();
     if (request.getInput().invocationType() == SageMakerInvocationType.ASYNC) {
-      return asyncCallerFunction.apply(
-          sageMakeClientSupplier.getAsyncClient(
-              CredentialsProviderSupport.credentialsProvider(request),
-              request.getConfiguration().region()),
-          request);
+      try (var client =
+          clientRegistry.acquire(
+              AwsClientKey.of(SageMakeClientSupplier.ASYNC_CLIENT_NAME, request, region)
+                  .withClientSupplier(sageMakeClientSupplier),
+              () ->
+                  sageMakeClientSupplier.getAsyncClient(
+                      CredentialsProviderSupport.credentialsProvider(request), region),
+              AmazonSageMakerRuntimeAsync::shutdown)) {
+        return asyncCallerFunction.apply(client.client(), request);
+      }
     } else {
-      return syncCallerFunction.apply(
-          sageMakeClientSupplier.getSyncClient(
-              CredentialsProviderSupport.credentialsProvider(request),
-              request.getConfiguration().region()),
-          request);
+      try (var client =
+          clientRegistry.acquire(
+              AwsClientKey.of(SageMakeClientSupplier.SYNC_CLIENT_NAME, request, region)
+                  .withClientSupplier(sageMakeClientSupplier),
+              () ->
+                  sageMakeClientSupplier.getSyncClient(
+                      CredentialsProviderSupport.credentialsProvider(request), region),
+              AmazonSageMakerRuntime::shutdown)) {
+        return syncCallerFunction.apply(client.client(), request);
+      }
     }
   }
 }
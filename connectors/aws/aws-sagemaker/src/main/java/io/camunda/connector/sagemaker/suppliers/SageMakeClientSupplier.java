@@ -14,6 +14,11 @@ import com.amazonaws.services.sagemakerruntime.AmazonSageMakerRuntimeClientBuild
 
 public class SageMakeClientSupplier {
 
+  /** The names of the SageMaker runtime clients in the {@code AwsClientRegistry}. */
+  public static final String SYNC_CLIENT_NAME = "sagemaker-runtime";
+
+  public static final String ASYNC_CLIENT_NAME = "sagemaker-runtime-async";
+
   public AmazonSageMakerRuntime getSyncClient(
       final AWSCredentialsProvider credentialsProvider, final String region) {
     return AmazonSageMakerRuntimeClientBuilder.standard()
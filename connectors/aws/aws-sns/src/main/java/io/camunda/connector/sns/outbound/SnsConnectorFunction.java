@@ -9,6 +9,9 @@ package io.camunda.connector.sns.outbound;
 import static io.camunda.connector.aws.AwsUtils.extractRegionOrDefault;
 
 import com.amazonaws.services.sns.AmazonSNS;
+import com.amazonaws.services.sns.model.MessageAttributeValue;
+import com.amazonaws.services.sns.model.PublishBatchRequest;
+import com.amazonaws.services.sns.model.PublishBatchRequestEntry;
 import com.amazonaws.services.sns.model.PublishRequest;
 import com.amazonaws.services.sns.model.PublishResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -18,12 +21,19 @@ import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.aws.CredentialsProviderSupport;
 import io.camunda.connector.aws.ObjectMapperSupplier;
+import io.camunda.connector.aws.batch.AwsBatchingConfiguration;
+import io.camunda.connector.aws.batch.AwsRequestBatchers;
+import io.camunda.connector.aws.client.AwsClientKey;
+import io.camunda.connector.aws.client.AwsClientRegistry;
 import io.camunda.connector.aws.model.impl.AwsBaseConfiguration;
 import io.camunda.connector.generator.java.annotation.ElementTemplate;
 import io.camunda.connector.sns.outbound.model.SnsConnectorRequest;
 import io.camunda.connector.sns.outbound.model.SnsConnectorResult;
+import io.camunda.connector.sns.outbound.model.TopicRequestData;
 import io.camunda.connector.sns.suppliers.SnsClientSupplier;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @OutboundConnector(
     name = "AWS SNS Outbound",
@@ -47,31 +57,75 @@ import java.util.Optional;
     icon = "icon.svg")
 public class SnsConnectorFunction implements OutboundConnectorFunction {
 
+  public static final String BATCH_LINGER_ENV_NAME =
+      "CAMUNDA_CONNECTOR_SNS_OUTBOUND_BATCH_LINGER_MS";
+
+  private static final SnsClientSupplier DEFAULT_CLIENT_SUPPLIER = new SnsClientSupplier();
+
   private final SnsClientSupplier snsClientSupplier;
   private final ObjectMapper objectMapper;
+  private final AwsClientRegistry clientRegistry;
+  private final AwsBatchingConfiguration batching;
+  private final AwsRequestBatchers<PublishBatchRequestEntry, String> batchers;
 
   public SnsConnectorFunction() {
-    this(new SnsClientSupplier(), ObjectMapperSupplier.getMapperInstance());
+    this(
+        DEFAULT_CLIENT_SUPPLIER,
+        ObjectMapperSupplier.getMapperInstance(),
+        AwsClientRegistry.getDefault(),
+        AwsBatchingConfiguration.fromEnvironment(BATCH_LINGER_ENV_NAME));
   }
 
   public SnsConnectorFunction(
       final SnsClientSupplier snsClientSupplier, final ObjectMapper objectMapper) {
+    this(snsClientSupplier, objectMapper, AwsClientRegistry.getDefault());
+  }
+
+  public SnsConnectorFunction(
+      final SnsClientSupplier snsClientSupplier,
+      final ObjectMapper objectMapper,
+      final AwsClientRegistry clientRegistry) {
+    this(snsClientSupplier, objectMapper, clientRegistry, AwsBatchingConfiguration.DISABLED);
+  }
+
+  /**
+   * @param batching whether messages published to the same topic by concurrent executions are
+   *     published with one {@code PublishBatch} request
+   */
+  public SnsConnectorFunction(
+      final SnsClientSupplier snsClientSupplier,
+      final ObjectMapper objectMapper,
+      final AwsClientRegistry clientRegistry,
+      final AwsBatchingConfiguration batching) {
     this.snsClientSupplier = snsClientSupplier;
     this.objectMapper = objectMapper;
+    this.clientRegistry = clientRegistry;
+    this.batching = batching;
+    this.batchers = new AwsRequestBatchers<>(SnsClientSupplier.CLIENT_NAME, batching.linger());
   }
 
   @Override
   public Object execute(final OutboundConnectorContext context) {
     final var request = context.bindVariables(SnsConnectorRequest.class);
-    AmazonSNS snsClient = createSnsClient(request);
-    return new SnsConnectorResult(sendMsgToSns(snsClient, request).getMessageId());
+    var region = extractRegionOrDefault(request.getConfiguration(), request.getTopic().getRegion());
+    var clientKey =
+        AwsClientKey.of(SnsClientSupplier.CLIENT_NAME, request, region)
+            .withClientSupplier(snsClientSupplier);
+    try (var snsClient =
+        clientRegistry.acquire(
+            clientKey, () -> createSnsClient(request, region), AmazonSNS::shutdown)) {
+      if (batching.isEnabled()) {
+        return new SnsConnectorResult(
+            sendBatchedMsgToSns(snsClient.client(), clientKey, request.getTopic()));
+      }
+      return new SnsConnectorResult(sendMsgToSns(snsClient.client(), request).getMessageId());
+    }
   }
 
-  private AmazonSNS createSnsClient(final SnsConnectorRequest request) {
+  private AmazonSNS createSnsClient(final SnsConnectorRequest request, final String region) {
     Optional<String> endpoint =
         Optional.ofNullable(request.getConfiguration()).map(AwsBaseConfiguration::endpoint);
     var credentialsProvider = CredentialsProviderSupport.credentialsProvider(request);
-    var region = extractRegionOrDefault(request.getConfiguration(), request.getTopic().getRegion());
 
     return endpoint
         .map(ep -> snsClientSupplier.getSnsClient(credentialsProvider, region, ep))
@@ -79,26 +133,75 @@ public class SnsConnectorFunction implements OutboundConnectorFunction {
   }
 
   private PublishResult sendMsgToSns(final AmazonSNS snsClient, SnsConnectorRequest request) {
+    PublishRequest message =
+        new PublishRequest()
+            .withTopicArn(request.getTopic().getTopicArn())
+            .withMessage(topicMessage(request.getTopic()))
+            .withMessageGroupId(request.getTopic().getMessageGroupId())
+            .withMessageDeduplicationId(request.getTopic().getMessageDeduplicationId())
+            .withMessageAttributes(request.getTopic().getAwsSnsNativeMessageAttributes())
+            .withSubject(request.getTopic().getSubject());
+    return snsClient.publish(message);
+  }
+
+  private String sendBatchedMsgToSns(
+      final AmazonSNS snsClient, final AwsClientKey clientKey, final TopicRequestData topic) {
+    var entry =
+        new PublishBatchRequestEntry()
+            .withMessage(topicMessage(topic))
+            .withMessageGroupId(topic.getMessageGroupId())
+            .withMessageDeduplicationId(topic.getMessageDeduplicationId())
+            .withMessageAttributes(topic.getAwsSnsNativeMessageAttributes())
+            .withSubject(topic.getSubject());
+    int payloadBytes =
+        AwsRequestBatchers.payloadBytes(
+            entry.getMessage(),
+            entry.getMessageAttributes(),
+            MessageAttributeValue::getDataType,
+            MessageAttributeValue::getStringValue,
+            MessageAttributeValue::getBinaryValue);
+    return batchers.submit(
+        clientKey,
+        topic.getTopicArn(),
+        entry,
+        payloadBytes,
+        (entries, results) -> publishBatch(snsClient, topic.getTopicArn(), entries, results));
+  }
+
+  private static void publishBatch(
+      final AmazonSNS snsClient,
+      final String topicArn,
+      final List<PublishBatchRequestEntry> entries,
+      final List<CompletableFuture<String>> results) {
+    AwsRequestBatchers.assignIds(entries, PublishBatchRequestEntry::setId);
+    var result =
+        snsClient.publishBatch(
+            new PublishBatchRequest()
+                .withTopicArn(topicArn)
+                .withPublishBatchRequestEntries(entries));
+    result
+        .getSuccessful()
+        .forEach(
+            success ->
+                AwsRequestBatchers.complete(results, success.getId(), success.getMessageId()));
+    result
+        .getFailed()
+        .forEach(
+            failure ->
+                AwsRequestBatchers.fail(
+                    results,
+                    failure.getId(),
+                    failure.getCode(),
+                    "Failed to publish message to SNS topic: " + failure.getMessage()));
+  }
+
+  private String topicMessage(final TopicRequestData topic) {
     try {
-      String topicMessage =
-          request.getTopic().getMessage() instanceof String
-              ? request.getTopic().getMessage().toString()
-              : objectMapper.writeValueAsString(request.getTopic().getMessage());
-      PublishRequest message =
-          new PublishRequest()
-              .withTopicArn(request.getTopic().getTopicArn())
-              .withMessage(topicMessage)
-              .withMessageGroupId(request.getTopic().getMessageGroupId())
-              .withMessageDeduplicationId(request.getTopic().getMessageDeduplicationId())
-              .withMessageAttributes(request.getTopic().getAwsSnsNativeMessageAttributes())
-              .withSubject(request.getTopic().getSubject());
-      return snsClient.publish(message);
+      return topic.getMessage() instanceof String
+          ? topic.getMessage().toString()
+          : objectMapper.writeValueAsString(topic.getMessage());
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Error mapping message to json.");
-    } finally {
-      if (snsClient != null) {
-        snsClient.shutdown();
-      }
     }
   }
 }
@@ -6,18 +6,34 @@
  */
 package io.camunda.connector.sns.suppliers;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.sns.AmazonSNS;
 import com.amazonaws.services.sns.AmazonSNSClientBuilder;
 import com.amazonaws.services.sns.message.SnsMessageManager;
+import io.camunda.connector.aws.client.AwsClientRegistry;
 
 public class SnsClientSupplier {
 
+  /** The name of the SNS clients in the {@code AwsClientRegistry}. */
+  public static final String CLIENT_NAME = "sns";
+
+  private final ClientConfiguration clientConfiguration;
+
+  public SnsClientSupplier() {
+    this(AwsClientRegistry.getDefault().clientConfiguration());
+  }
+
+  public SnsClientSupplier(final ClientConfiguration clientConfiguration) {
+    this.clientConfiguration = clientConfiguration;
+  }
+
   public AmazonSNS getSnsClient(
       final AWSCredentialsProvider credentialsProvider, final String region) {
     return AmazonSNSClientBuilder.standard()
         .withCredentials(credentialsProvider)
+        .withClientConfiguration(clientConfiguration)
         .withRegion(region)
         .build();
   }
@@ -28,6 +44,7 @@ public class SnsClientSupplier {
       final String endpoint) {
     return AmazonSNSClientBuilder.standard()
         .withCredentials(credentialsProvider)
+        .withClientConfiguration(clientConfiguration)
         .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
         .build();
   }
@@ -80,7 +80,7 @@ public class SnsConnectorFunctionTest extends BaseTest {
     Object execute = connector.execute(context);
 
     // Then
-    Mockito.verify(snsClient, Mockito.times(1)).shutdown();
+    Mockito.verify(snsClient, Mockito.never()).shutdown();
 
     Assertions.assertThat(execute).isInstanceOf(SnsConnectorResult.class);
     var result = (SnsConnectorResult) execute;
@@ -108,7 +108,7 @@ public class SnsConnectorFunctionTest extends BaseTest {
     connector.execute(context);
 
     // Then
-    Mockito.verify(snsClient, Mockito.times(1)).shutdown();
+    Mockito.verify(snsClient, Mockito.never()).shutdown();
     String message = requestArgumentCaptor.getValue().getMessage();
     Assertions.assertThat(message).isEqualTo("{\"key\":\"value\"}");
   }
@@ -134,7 +134,7 @@ public class SnsConnectorFunctionTest extends BaseTest {
     connector.execute(context);
 
     // Then
-    Mockito.verify(snsClient, Mockito.times(1)).shutdown();
+    Mockito.verify(snsClient, Mockito.never()).shutdown();
     String message = requestArgumentCaptor.getValue().getMessage();
     Assertions.assertThat(message).isEqualTo("{\"key\":\"\\\"normal\\\" value\"}");
   }
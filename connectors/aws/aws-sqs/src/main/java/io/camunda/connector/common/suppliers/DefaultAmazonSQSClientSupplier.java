@@ -6,17 +6,40 @@
  */
 package io.camunda.connector.common.suppliers;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.sqs.AmazonSQS;
 import com.amazonaws.services.sqs.AmazonSQSClientBuilder;
+import io.camunda.connector.aws.client.AwsClientRegistry;
 
 public class DefaultAmazonSQSClientSupplier implements AmazonSQSClientSupplier {
 
+  /** The name of the SQS clients in the {@code AwsClientRegistry}. */
+  public static final String CLIENT_NAME = "sqs";
+
+  /**
+   * The name of the SQS clients of the inbound connector in the {@code AwsClientRegistry}. A long
+   * poll holds its connection for up to 20 seconds, these clients are therefore not shared with the
+   * outbound connector.
+   */
+  public static final String LONG_POLL_CLIENT_NAME = "sqs-long-poll";
+
+  private final ClientConfiguration clientConfiguration;
+
+  public DefaultAmazonSQSClientSupplier() {
+    this(AwsClientRegistry.getDefault().clientConfiguration());
+  }
+
+  public DefaultAmazonSQSClientSupplier(final ClientConfiguration clientConfiguration) {
+    this.clientConfiguration = clientConfiguration;
+  }
+
   public AmazonSQS sqsClient(
       final AWSCredentialsProvider credentialsProvider, final String region) {
     return AmazonSQSClientBuilder.standard()
         .withCredentials(credentialsProvider)
+        .withClientConfiguration(clientConfiguration)
         .withRegion(region)
         .build();
   }
@@ -27,6 +50,7 @@ public class DefaultAmazonSQSClientSupplier implements AmazonSQSClientSupplier {
       final String endpoint) {
     return AmazonSQSClientBuilder.standard()
         .withCredentials(credentialsProvider)
+        .withClientConfiguration(clientConfiguration)
         .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
         .build();
   }
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.inbound;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * How the inbound SQS connector receives and correlates the messages of a queue.
+ *
+ * <p>The mode is configured for the whole runtime with the {@value #POLLERS_ENV_NAME} and {@value
+ * #WORKERS_ENV_NAME} environment variables.
+ *
+ * @param pollers the number of long polls that are open against the queue at the same time, each
+ *     receiving up to {@value SqsQueueConsumer#MAX_NUMBER_OF_MESSAGES} messages
+ * @param workers the number of messages of a received batch that are correlated at the same time,
+ *     with a single worker messages are correlated one by one in the order they were received.
+ *     Messages of the same message group of a FIFO queue are always correlated one by one.
+ */
+public record SqsConsumptionMode(int pollers, int workers) {
+
+  public static final String POLLERS_ENV_NAME = "CAMUNDA_CONNECTOR_SQS_INBOUND_POLLERS";
+  public static final String WORKERS_ENV_NAME = "CAMUNDA_CONNECTOR_SQS_INBOUND_WORKERS";
+
+  public static final SqsConsumptionMode SEQUENTIAL = new SqsConsumptionMode(1, 1);
+
+  public SqsConsumptionMode {
+    if (pollers <= 0) {
+      throw new IllegalArgumentException("pollers must be positive, got " + pollers);
+    }
+    if (workers <= 0) {
+      throw new IllegalArgumentException("workers must be positive, got " + workers);
+    }
+  }
+
+  public static SqsConsumptionMode fromEnvironment() {
+    return from(System::getenv);
+  }
+
+  static SqsConsumptionMode from(Function<String, String> environment) {
+    return new SqsConsumptionMode(
+        intValue(environment, POLLERS_ENV_NAME), intValue(environment, WORKERS_ENV_NAME));
+  }
+
+  private static int intValue(Function<String, String> environment, String name) {
+    return Optional.ofNullable(environment.apply(name))
+        .map(value -> Integer.parseInt(value.trim()))
+        .orElse(1);
+  }
+}
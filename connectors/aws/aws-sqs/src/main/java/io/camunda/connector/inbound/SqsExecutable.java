@@ -7,6 +7,7 @@
 package io.camunda.connector.inbound;
 
 import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.GetQueueAttributesResult;
 import com.amazonaws.services.sqs.model.QueueAttributeName;
 import com.amazonaws.services.sqs.model.QueueDoesNotExistException;
 import io.camunda.connector.api.annotation.InboundConnector;
@@ -16,6 +17,9 @@ import io.camunda.connector.api.inbound.InboundConnectorExecutable;
 import io.camunda.connector.api.inbound.Severity;
 import io.camunda.connector.aws.AwsUtils;
 import io.camunda.connector.aws.CredentialsProviderSupport;
+import io.camunda.connector.aws.client.AwsClientKey;
+import io.camunda.connector.aws.client.AwsClientRegistry;
+import io.camunda.connector.aws.model.impl.AwsBaseConfiguration;
 import io.camunda.connector.common.suppliers.AmazonSQSClientSupplier;
 import io.camunda.connector.common.suppliers.DefaultAmazonSQSClientSupplier;
 import io.camunda.connector.generator.java.annotation.BpmnType;
@@ -24,6 +28,7 @@ import io.camunda.connector.generator.java.annotation.ElementTemplate.ConnectorE
 import io.camunda.connector.generator.java.annotation.ElementTemplate.PropertyGroup;
 import io.camunda.connector.inbound.model.SqsInboundProperties;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -81,15 +86,22 @@ import org.slf4j.LoggerFactory;
 public class SqsExecutable implements InboundConnectorExecutable<InboundConnectorContext> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SqsExecutable.class);
+  private static final AmazonSQSClientSupplier DEFAULT_CLIENT_SUPPLIER =
+      new DefaultAmazonSQSClientSupplier();
   private final AmazonSQSClientSupplier sqsClientSupplier;
   private final ExecutorService executorService;
+  private final AwsClientRegistry clientRegistry;
+  private final SqsConsumptionMode consumptionMode;
+  private AwsClientRegistry.Lease<AmazonSQS> sqsClientLease;
   private AmazonSQS amazonSQS;
   private SqsQueueConsumer sqsQueueConsumer;
   private InboundConnectorContext context;
 
   public SqsExecutable() {
-    this.sqsClientSupplier = new DefaultAmazonSQSClientSupplier();
+    this.sqsClientSupplier = DEFAULT_CLIENT_SUPPLIER;
     this.executorService = Executors.newSingleThreadExecutor();
+    this.clientRegistry = AwsClientRegistry.getDefault();
+    this.consumptionMode = SqsConsumptionMode.fromEnvironment();
   }
 
   public SqsExecutable(
@@ -99,6 +111,8 @@ public class SqsExecutable implements InboundConnectorExecutable<InboundConnecto
     this.sqsClientSupplier = sqsClientSupplier;
     this.executorService = executorService;
     this.sqsQueueConsumer = sqsQueueConsumer;
+    this.clientRegistry = AwsClientRegistry.getDefault();
+    this.consumptionMode = SqsConsumptionMode.SEQUENTIAL;
   }
 
   @Override
@@ -116,22 +130,43 @@ public class SqsExecutable implements InboundConnectorExecutable<InboundConnecto
     var region =
         AwsUtils.extractRegionOrDefault(
             properties.getConfiguration(), properties.getQueue().region());
-    amazonSQS =
-        sqsClientSupplier.sqsClient(
-            CredentialsProviderSupport.credentialsProvider(properties), region);
+    var credentialsProvider = CredentialsProviderSupport.credentialsProvider(properties);
+    Optional<String> endpoint =
+        Optional.ofNullable(properties.getConfiguration()).map(AwsBaseConfiguration::endpoint);
+    // shared with other subscriptions, but not with the outbound connector, released on
+    // deactivation
+    sqsClientLease =
+        clientRegistry.acquire(
+            AwsClientKey.of(
+                    DefaultAmazonSQSClientSupplier.LONG_POLL_CLIENT_NAME, properties, region)
+                .withClientSupplier(sqsClientSupplier),
+            () ->
+                endpoint
+                    .map(ep -> sqsClientSupplier.sqsClient(credentialsProvider, region, ep))
+                    .orElseGet(() -> sqsClientSupplier.sqsClient(credentialsProvider, region)),
+            AmazonSQS::shutdown);
+    amazonSQS = sqsClientLease.client();
 
+    Integer visibilityTimeoutSeconds;
     try {
-      amazonSQS.getQueueAttributes(
-          properties.getQueue().url(),
-          List.of(QueueAttributeName.ApproximateNumberOfMessages.toString()));
+      var queueAttributes =
+          amazonSQS.getQueueAttributes(
+              properties.getQueue().url(),
+              List.of(
+                  QueueAttributeName.ApproximateNumberOfMessages.toString(),
+                  QueueAttributeName.VisibilityTimeout.toString()));
+      visibilityTimeoutSeconds = visibilityTimeout(queueAttributes);
     } catch (QueueDoesNotExistException e) {
       LOGGER.error("Queue does not exist, failing subscription activation");
+      sqsClientLease.close();
       throw new RuntimeException("Queue does not exist: " + properties.getQueue().url());
     }
 
     LOGGER.debug("SQS client created successfully");
     if (sqsQueueConsumer == null) {
-      sqsQueueConsumer = new SqsQueueConsumer(amazonSQS, properties, context);
+      sqsQueueConsumer =
+          new SqsQueueConsumer(
+              amazonSQS, properties, context, consumptionMode, visibilityTimeoutSeconds);
     }
     executorService.execute(sqsQueueConsumer);
     LOGGER.debug("SQS queue consumer started successfully");
@@ -162,10 +197,17 @@ public class SqsExecutable implements InboundConnectorExecutable<InboundConnecto
         executorService.shutdownNow();
       }
     }
-    if (amazonSQS != null) {
-      LOGGER.debug("Shutting down SQS client");
-      amazonSQS.shutdown();
-      LOGGER.debug("SQS client shut down successfully");
+    if (sqsClientLease != null) {
+      LOGGER.debug("Releasing SQS client");
+      sqsClientLease.close();
     }
   }
+
+  private static Integer visibilityTimeout(GetQueueAttributesResult queueAttributes) {
+    return Optional.ofNullable(queueAttributes)
+        .map(GetQueueAttributesResult::getAttributes)
+        .map(attributes -> attributes.get(QueueAttributeName.VisibilityTimeout.toString()))
+        .map(Integer::valueOf)
+        .orElse(null);
+  }
 }
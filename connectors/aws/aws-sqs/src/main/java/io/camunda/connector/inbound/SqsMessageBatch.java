@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.inbound;
+
+import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.Message;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The messages of one receive call, settled together once all of them have been correlated.
+ *
+ * <p>Acknowledged messages are deleted and rejected messages are made visible again with one
+ * request each, instead of one request per message. Messages that are still being correlated can be
+ * kept invisible with {@link #extendVisibility(int)}.
+ */
+class SqsMessageBatch {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SqsMessageBatch.class);
+
+  private final AmazonSQS sqsClient;
+  private final String queueUrl;
+  private final List<Message> inFlight = new ArrayList<>();
+  private final List<Message> acknowledged = new ArrayList<>();
+  private final List<Message> rejected = new ArrayList<>();
+
+  SqsMessageBatch(AmazonSQS sqsClient, String queueUrl) {
+    this.sqsClient = sqsClient;
+    this.queueUrl = queueUrl;
+  }
+
+  synchronized void add(Message message) {
+    inFlight.add(message);
+  }
+
+  /** The message was processed and is deleted from the queue. */
+  synchronized void ack(Message message) {
+    inFlight.remove(message);
+    acknowledged.add(message);
+  }
+
+  /** The message was not processed and is received again by the next poll. */
+  synchronized void nack(Message message) {
+    inFlight.remove(message);
+    rejected.add(message);
+  }
+
+  /** Keeps the messages that are still being correlated invisible for the given time. */
+  void extendVisibility(int visibilityTimeoutSeconds) {
+    List<Message> messages;
+    synchronized (this) {
+      messages = List.copyOf(inFlight);
+    }
+    if (messages.isEmpty()) {
+      return;
+    }
+    LOGGER.debug(
+        "Extending visibility of {} SQS messages by {} seconds",
+        messages.size(),
+        visibilityTimeoutSeconds);
+    changeVisibility(messages, visibilityTimeoutSeconds);
+  }
+
+  /** Deletes the acknowledged and releases the rejected messages. */
+  void settle() {
+    List<Message> toDelete;
+    List<Message> toRelease;
+    synchronized (this) {
+      toDelete = List.copyOf(acknowledged);
+      // messages still in flight were not correlated, e.g. because the consumer was interrupted
+      toRelease = new ArrayList<>(rejected);
+      toRelease.addAll(inFlight);
+      acknowledged.clear();
+      rejected.clear();
+      inFlight.clear();
+    }
+    delete(toDelete);
+    changeVisibility(toRelease, 0);
+  }
+
+  private void delete(List<Message> messages) {
+    if (messages.isEmpty()) {
+      return;
+    }
+    try {
+      if (messages.size() == 1) {
+        sqsClient.deleteMessage(queueUrl, messages.getFirst().getReceiptHandle());
+        return;
+      }
+      List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(messages.size());
+      for (int i = 0; i < messages.size(); i++) {
+        entries.add(
+            new DeleteMessageBatchRequestEntry(
+                String.valueOf(i), messages.get(i).getReceiptHandle()));
+      }
+      logFailures(
+          "delete",
+          sqsClient
+              .deleteMessageBatch(new DeleteMessageBatchRequest(queueUrl, entries))
+              .getFailed());
+    } catch (Exception e) {
+      LOGGER.warn("Failed to delete {} SQS messages from queue {}", messages.size(), queueUrl, e);
+    }
+  }
+
+  private void changeVisibility(List<Message> messages, int visibilityTimeoutSeconds) {
+    if (messages.isEmpty()) {
+      return;
+    }
+    try {
+      if (messages.size() == 1) {
+        sqsClient.changeMessageVisibility(
+            queueUrl, messages.getFirst().getReceiptHandle(), visibilityTimeoutSeconds);
+        return;
+      }
+      List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>(messages.size());
+      for (int i = 0; i < messages.size(); i++) {
+        entries.add(
+            new ChangeMessageVisibilityBatchRequestEntry(
+                    String.valueOf(i), messages.get(i).getReceiptHandle())
+                .withVisibilityTimeout(visibilityTimeoutSeconds));
+      }
+      logFailures(
+          "change visibility of",
+          sqsClient
+              .changeMessageVisibilityBatch(
+                  new ChangeMessageVisibilityBatchRequest(queueUrl, entries))
+              .getFailed());
+    } catch (Exception e) {
+      LOGGER.warn(
+          "Failed to change visibility of {} SQS messages of queue {}",
+          messages.size(),
+          queueUrl,
+          e);
+    }
+  }
+
+  private void logFailures(String action, List<BatchResultErrorEntry> failures) {
+    for (BatchResultErrorEntry failure : failures) {
+      LOGGER.warn(
+          "Failed to {} SQS message of queue {}: {} {}",
+          action,
+          queueUrl,
+          failure.getCode(),
+          failure.getMessage());
+    }
+  }
+}
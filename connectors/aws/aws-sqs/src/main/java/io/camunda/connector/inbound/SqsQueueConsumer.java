@@ -16,29 +16,86 @@ import io.camunda.connector.api.inbound.CorrelationFailureHandlingStrategy.Ignor
 import io.camunda.connector.api.inbound.CorrelationResult.Failure;
 import io.camunda.connector.api.inbound.CorrelationResult.Success;
 import io.camunda.connector.inbound.model.SqsInboundProperties;
+import io.camunda.connector.util.concurrent.DaemonThreads;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Long-polls an SQS queue and correlates the received messages.
+ *
+ * <p>Messages are received in batches of up to {@value #MAX_NUMBER_OF_MESSAGES}. Depending on the
+ * {@link SqsConsumptionMode}, several polls are open at the same time and the messages of a batch
+ * are correlated concurrently. Once all messages of a batch are correlated, the batch is settled
+ * with one delete and one visibility change request, see {@link SqsMessageBatch}. If the visibility
+ * timeout of the queue is known, messages are kept invisible while they are being correlated.
+ *
+ * <p>Messages of a FIFO queue with the same message group are correlated one after the other. Once
+ * a message of a group could not be correlated, the remaining messages of the group in the batch
+ * are released without being correlated, so the group is received again in order.
+ */
 public class SqsQueueConsumer implements Runnable {
 
+  static final int MAX_NUMBER_OF_MESSAGES = 10;
+
   private static final Logger LOGGER = LoggerFactory.getLogger(SqsQueueConsumer.class);
 
   private static final List<String> ALL_ATTRIBUTES_KEY = List.of("All");
+  private static final String MESSAGE_GROUP_ID = "MessageGroupId";
+  private static final String FIFO_QUEUE_SUFFIX = ".fifo";
 
   private final AmazonSQS sqsClient;
   private final SqsInboundProperties properties;
   private final InboundConnectorContext context;
   private final AtomicBoolean queueConsumerActive;
+  private final SqsConsumptionMode consumptionMode;
+  private final Integer visibilityTimeoutSeconds; // null if unknown
+  private final ExecutorService workers; // null if messages are correlated on the polling thread
+  private final ScheduledExecutorService visibilityExtender; // null if the timeout is unknown
 
   public SqsQueueConsumer(
       AmazonSQS sqsClient, SqsInboundProperties properties, InboundConnectorContext context) {
+    this(sqsClient, properties, context, SqsConsumptionMode.SEQUENTIAL, null);
+  }
+
+  /**
+   * @param visibilityTimeoutSeconds the visibility timeout of the queue, {@code null} if unknown.
+   *     Messages are then not kept invisible beyond it while they are being correlated.
+   */
+  public SqsQueueConsumer(
+      AmazonSQS sqsClient,
+      SqsInboundProperties properties,
+      InboundConnectorContext context,
+      SqsConsumptionMode consumptionMode,
+      Integer visibilityTimeoutSeconds) {
     this.sqsClient = sqsClient;
     this.properties = properties;
     this.context = context;
     this.queueConsumerActive = new AtomicBoolean(true);
+    this.consumptionMode = consumptionMode;
+    this.visibilityTimeoutSeconds = visibilityTimeoutSeconds;
+    this.workers =
+        consumptionMode.workers() > 1
+            ? Executors.newFixedThreadPool(
+                consumptionMode.workers(),
+                Thread.ofVirtual().name("connectors-sqs-consumer-", 0).factory())
+            : null;
+    this.visibilityExtender =
+        visibilityTimeoutSeconds != null && visibilityTimeoutSeconds > 0
+            ? Executors.newSingleThreadScheduledExecutor(
+                DaemonThreads.factory("connectors-sqs-visibility"))
+            : null;
   }
 
   @Override
@@ -46,6 +103,34 @@ public class SqsQueueConsumer implements Runnable {
     LOGGER.info("Started SQS consumer for queue {}", properties.getQueue().url());
 
     final ReceiveMessageRequest receiveMessageRequest = createReceiveMessageRequest();
+    List<Thread> pollers = new ArrayList<>();
+    for (int i = 1; i < consumptionMode.pollers(); i++) {
+      pollers.add(
+          Thread.ofVirtual()
+              .name("connectors-sqs-poller-" + i)
+              .start(() -> poll(receiveMessageRequest)));
+    }
+    try {
+      poll(receiveMessageRequest);
+      for (Thread poller : pollers) {
+        poller.join();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      pollers.forEach(Thread::interrupt);
+      if (workers != null) {
+        workers.shutdownNow();
+      }
+      if (visibilityExtender != null) {
+        visibilityExtender.shutdownNow();
+      }
+    }
+    LOGGER.info("Stopping SQS consumer for queue {}", properties.getQueue().url());
+    context.reportHealth(Health.down());
+  }
+
+  private void poll(ReceiveMessageRequest receiveMessageRequest) {
     ReceiveMessageResult receiveMessageResult;
     do {
       try {
@@ -54,42 +139,112 @@ public class SqsQueueConsumer implements Runnable {
         LOGGER.error("Failed to receive messages from SQS queue", e);
         continue;
       }
-      try {
-        List<Message> messages = receiveMessageResult.getMessages();
-        for (Message message : messages) {
-          context.log(
-              activity ->
-                  activity
-                      .withSeverity(Severity.INFO)
-                      .withTag(ActivityLogTag.MESSAGE)
-                      .withMessage("Received SQS Message with ID " + message.getMessageId()));
-          var result =
-              context.correlate(
-                  CorrelationRequest.builder()
-                      .variables(MessageMapper.toSqsInboundMessage(message))
-                      .messageId(message.getMessageId())
-                      .build());
-          handleCorrelationResult(message, result);
+      process(receiveMessageResult.getMessages());
+    } while (queueConsumerActive.get() && !Thread.currentThread().isInterrupted());
+  }
+
+  private void process(List<Message> messages) {
+    var batch = new SqsMessageBatch(sqsClient, properties.getQueue().url());
+    // messages that have to be correlated one after the other
+    Map<String, List<Message>> sequences = new LinkedHashMap<>();
+    boolean fifo = properties.getQueue().url().endsWith(FIFO_QUEUE_SUFFIX);
+    int index = 0;
+    for (Message message : messages) {
+      batch.add(message);
+      String sequence =
+          fifo
+              ? message.getAttributes().getOrDefault(MESSAGE_GROUP_ID, "")
+              : String.valueOf(index++);
+      sequences.computeIfAbsent(sequence, k -> new ArrayList<>()).add(message);
+    }
+    if (sequences.isEmpty()) {
+      return;
+    }
+
+    ScheduledFuture<?> extension = null;
+    if (visibilityExtender != null) {
+      long period = Math.max(visibilityTimeoutSeconds / 2, 1);
+      extension =
+          visibilityExtender.scheduleAtFixedRate(
+              () -> batch.extendVisibility(visibilityTimeoutSeconds),
+              period,
+              period,
+              TimeUnit.SECONDS);
+    }
+    try {
+      if (workers == null) {
+        sequences.values().forEach(sequence -> correlateInOrder(sequence, batch));
+      } else {
+        CompletableFuture.allOf(
+                sequences.values().stream()
+                    .map(
+                        sequence ->
+                            CompletableFuture.runAsync(
+                                () -> correlateInOrder(sequence, batch), workers))
+                    .toArray(CompletableFuture[]::new))
+            .join();
+      }
+    } catch (Exception e) {
+      LOGGER.debug("Correlation of SQS messages interrupted", e);
+    } finally {
+      if (extension != null) {
+        extension.cancel(false);
+      }
+      batch.settle();
+    }
+  }
+
+  private void correlateInOrder(List<Message> sequence, SqsMessageBatch batch) {
+    for (int i = 0; i < sequence.size(); i++) {
+      if (!correlate(sequence.get(i), batch)) {
+        List<Message> remaining = sequence.subList(i + 1, sequence.size());
+        if (!remaining.isEmpty()) {
+          LOGGER.debug(
+              "NACK - releasing {} SQS messages queued behind a failed message of their group",
+              remaining.size());
+          remaining.forEach(batch::nack);
         }
-      } catch (Exception e) {
-        LOGGER.debug("NACK - unhandled exception", e);
-        context.log(
-            activity ->
-                activity
-                    .withSeverity(Severity.WARNING)
-                    .withTag(ActivityLogTag.MESSAGE)
-                    .withMessage("NACK - failed to correlate event : " + e.getMessage()));
+        return;
       }
-    } while (queueConsumerActive.get());
-    LOGGER.info("Stopping SQS consumer for queue {}", properties.getQueue().url());
-    context.reportHealth(Health.down());
+    }
+  }
+
+  /** Returns whether the message was acknowledged. */
+  private boolean correlate(Message message, SqsMessageBatch batch) {
+    try {
+      context.log(
+          activity ->
+              activity
+                  .withSeverity(Severity.INFO)
+                  .withTag(ActivityLogTag.MESSAGE)
+                  .withMessage("Received SQS Message with ID " + message.getMessageId()));
+      var result =
+          context.correlate(
+              CorrelationRequest.builder()
+                  .variables(MessageMapper.toSqsInboundMessage(message))
+                  .messageId(message.getMessageId())
+                  .build());
+      return handleCorrelationResult(message, result, batch);
+    } catch (Exception e) {
+      LOGGER.debug("NACK - unhandled exception", e);
+      context.log(
+          activity ->
+              activity
+                  .withSeverity(Severity.WARNING)
+                  .withTag(ActivityLogTag.MESSAGE)
+                  .withMessage("NACK - failed to correlate event : " + e.getMessage()));
+      batch.nack(message);
+      return false;
+    }
   }
 
-  private void handleCorrelationResult(Message message, CorrelationResult result) {
+  private boolean handleCorrelationResult(
+      Message message, CorrelationResult result, SqsMessageBatch batch) {
     switch (result) {
       case Success ignored -> {
         LOGGER.debug("ACK - message correlated successfully");
-        sqsClient.deleteMessage(properties.getQueue().url(), message.getReceiptHandle());
+        batch.ack(message);
+        return true;
       }
 
       case Failure failure -> {
@@ -102,10 +257,13 @@ public class SqsQueueConsumer implements Runnable {
         switch (failure.handlingStrategy()) {
           case ForwardErrorToUpstream ignored1 -> {
             LOGGER.debug("NACK (requeue) - message not correlated");
+            batch.nack(message);
+            return false;
           }
           case Ignore ignored -> {
             LOGGER.debug("ACK - message ignored");
-            sqsClient.deleteMessage(properties.getQueue().url(), message.getReceiptHandle());
+            batch.ack(message);
+            return true;
           }
         }
       }
@@ -114,6 +272,7 @@ public class SqsQueueConsumer implements Runnable {
 
   private ReceiveMessageRequest createReceiveMessageRequest() {
     return new ReceiveMessageRequest()
+        .withMaxNumberOfMessages(MAX_NUMBER_OF_MESSAGES)
         .withWaitTimeSeconds(Math.max(Integer.parseInt(properties.getQueue().pollingWaitTime()), 1))
         .withQueueUrl(properties.getQueue().url())
         .withMessageAttributeNames(
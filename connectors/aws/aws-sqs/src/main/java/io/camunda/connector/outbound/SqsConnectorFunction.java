@@ -7,6 +7,9 @@
 package io.camunda.connector.outbound;
 
 import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.MessageAttributeValue;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
 import com.amazonaws.services.sqs.model.SendMessageRequest;
 import com.amazonaws.services.sqs.model.SendMessageResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -17,6 +20,10 @@ import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.aws.AwsUtils;
 import io.camunda.connector.aws.CredentialsProviderSupport;
 import io.camunda.connector.aws.ObjectMapperSupplier;
+import io.camunda.connector.aws.batch.AwsBatchingConfiguration;
+import io.camunda.connector.aws.batch.AwsRequestBatchers;
+import io.camunda.connector.aws.client.AwsClientKey;
+import io.camunda.connector.aws.client.AwsClientRegistry;
 import io.camunda.connector.aws.model.impl.AwsBaseConfiguration;
 import io.camunda.connector.common.suppliers.AmazonSQSClientSupplier;
 import io.camunda.connector.common.suppliers.DefaultAmazonSQSClientSupplier;
@@ -24,7 +31,9 @@ import io.camunda.connector.generator.java.annotation.ElementTemplate;
 import io.camunda.connector.outbound.model.QueueRequestData;
 import io.camunda.connector.outbound.model.SqsConnectorRequest;
 import io.camunda.connector.outbound.model.SqsConnectorResult;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @OutboundConnector(
     name = "AWS SQS Outbound",
@@ -55,29 +64,76 @@ import java.util.Optional;
     icon = "icon.svg")
 public class SqsConnectorFunction implements OutboundConnectorFunction {
 
+  public static final String BATCH_LINGER_ENV_NAME =
+      "CAMUNDA_CONNECTOR_SQS_OUTBOUND_BATCH_LINGER_MS";
+
+  private static final AmazonSQSClientSupplier DEFAULT_CLIENT_SUPPLIER =
+      new DefaultAmazonSQSClientSupplier();
+
   private final AmazonSQSClientSupplier sqsClientSupplier;
   private final ObjectMapper objectMapper;
+  private final AwsClientRegistry clientRegistry;
+  private final AwsBatchingConfiguration batching;
+  private final AwsRequestBatchers<SendMessageBatchRequestEntry, String> batchers;
 
   public SqsConnectorFunction() {
-    this(new DefaultAmazonSQSClientSupplier(), ObjectMapperSupplier.getMapperInstance());
+    this(
+        DEFAULT_CLIENT_SUPPLIER,
+        ObjectMapperSupplier.getMapperInstance(),
+        AwsClientRegistry.getDefault(),
+        AwsBatchingConfiguration.fromEnvironment(BATCH_LINGER_ENV_NAME));
   }
 
   public SqsConnectorFunction(
       final AmazonSQSClientSupplier sqsClientSupplier, final ObjectMapper objectMapper) {
+    this(sqsClientSupplier, objectMapper, AwsClientRegistry.getDefault());
+  }
+
+  public SqsConnectorFunction(
+      final AmazonSQSClientSupplier sqsClientSupplier,
+      final ObjectMapper objectMapper,
+      final AwsClientRegistry clientRegistry) {
+    this(sqsClientSupplier, objectMapper, clientRegistry, AwsBatchingConfiguration.DISABLED);
+  }
+
+  /**
+   * @param batching whether messages sent to the same queue by concurrent executions are sent with
+   *     one {@code SendMessageBatch} request
+   */
+  public SqsConnectorFunction(
+      final AmazonSQSClientSupplier sqsClientSupplier,
+      final ObjectMapper objectMapper,
+      final AwsClientRegistry clientRegistry,
+      final AwsBatchingConfiguration batching) {
     this.sqsClientSupplier = sqsClientSupplier;
     this.objectMapper = objectMapper;
+    this.clientRegistry = clientRegistry;
+    this.batching = batching;
+    this.batchers =
+        new AwsRequestBatchers<>(DefaultAmazonSQSClientSupplier.CLIENT_NAME, batching.linger());
   }
 
   @Override
   public Object execute(final OutboundConnectorContext context) {
     var request = context.bindVariables(SqsConnectorRequest.class);
-    AmazonSQS sqsClient = createAwsSqsClient(request);
-    return new SqsConnectorResult(sendMsgToSqs(sqsClient, request.getQueue()).getMessageId());
-  }
-
-  private AmazonSQS createAwsSqsClient(SqsConnectorRequest request) {
     var region =
         AwsUtils.extractRegionOrDefault(request.getConfiguration(), request.getQueue().getRegion());
+    var clientKey =
+        AwsClientKey.of(DefaultAmazonSQSClientSupplier.CLIENT_NAME, request, region)
+            .withClientSupplier(sqsClientSupplier);
+    try (var sqsClient =
+        clientRegistry.acquire(
+            clientKey, () -> createAwsSqsClient(request, region), AmazonSQS::shutdown)) {
+      if (batching.isEnabled()) {
+        return new SqsConnectorResult(
+            sendBatchedMsgToSqs(sqsClient.client(), clientKey, request.getQueue()));
+      }
+      return new SqsConnectorResult(
+          sendMsgToSqs(sqsClient.client(), request.getQueue()).getMessageId());
+    }
+  }
+
+  private AmazonSQS createAwsSqsClient(SqsConnectorRequest request, String region) {
     Optional<String> endpoint =
         Optional.ofNullable(request.getConfiguration()).map(AwsBaseConfiguration::endpoint);
     var credentialsProvider = CredentialsProviderSupport.credentialsProvider(request);
@@ -87,25 +143,69 @@ public class SqsConnectorFunction implements OutboundConnectorFunction {
   }
 
   private SendMessageResult sendMsgToSqs(final AmazonSQS sqsClient, final QueueRequestData queue) {
+    SendMessageRequest message =
+        new SendMessageRequest()
+            .withQueueUrl(queue.getUrl())
+            .withMessageBody(payload(queue))
+            .withMessageAttributes(queue.getAwsSqsNativeMessageAttributes())
+            .withMessageGroupId(queue.getMessageGroupId())
+            .withMessageDeduplicationId(queue.getMessageDeduplicationId());
+    return sqsClient.sendMessage(message);
+  }
+
+  private String sendBatchedMsgToSqs(
+      final AmazonSQS sqsClient, final AwsClientKey clientKey, final QueueRequestData queue) {
+    var entry =
+        new SendMessageBatchRequestEntry()
+            .withMessageBody(payload(queue))
+            .withMessageAttributes(queue.getAwsSqsNativeMessageAttributes())
+            .withMessageGroupId(queue.getMessageGroupId())
+            .withMessageDeduplicationId(queue.getMessageDeduplicationId());
+    int payloadBytes =
+        AwsRequestBatchers.payloadBytes(
+            entry.getMessageBody(),
+            entry.getMessageAttributes(),
+            MessageAttributeValue::getDataType,
+            MessageAttributeValue::getStringValue,
+            MessageAttributeValue::getBinaryValue);
+    return batchers.submit(
+        clientKey,
+        queue.getUrl(),
+        entry,
+        payloadBytes,
+        (entries, results) -> sendBatch(sqsClient, queue.getUrl(), entries, results));
+  }
+
+  private static void sendBatch(
+      final AmazonSQS sqsClient,
+      final String queueUrl,
+      final List<SendMessageBatchRequestEntry> entries,
+      final List<CompletableFuture<String>> results) {
+    AwsRequestBatchers.assignIds(entries, SendMessageBatchRequestEntry::setId);
+    var result = sqsClient.sendMessageBatch(new SendMessageBatchRequest(queueUrl, entries));
+    result
+        .getSuccessful()
+        .forEach(
+            success ->
+                AwsRequestBatchers.complete(results, success.getId(), success.getMessageId()));
+    result
+        .getFailed()
+        .forEach(
+            failure ->
+                AwsRequestBatchers.fail(
+                    results,
+                    failure.getId(),
+                    failure.getCode(),
+                    "Failed to send message to SQS queue: " + failure.getMessage()));
+  }
+
+  private String payload(final QueueRequestData queue) {
     try {
-      String payload =
-          queue.getMessageBody() instanceof String
-              ? queue.getMessageBody().toString()
-              : objectMapper.writeValueAsString(queue.getMessageBody());
-      SendMessageRequest message =
-          new SendMessageRequest()
-              .withQueueUrl(queue.getUrl())
-              .withMessageBody(payload)
-              .withMessageAttributes(queue.getAwsSqsNativeMessageAttributes())
-              .withMessageGroupId(queue.getMessageGroupId())
-              .withMessageDeduplicationId(queue.getMessageDeduplicationId());
-      return sqsClient.sendMessage(message);
+      return queue.getMessageBody() instanceof String
+          ? queue.getMessageBody().toString()
+          : objectMapper.writeValueAsString(queue.getMessageBody());
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Error mapping payload to json.");
-    } finally {
-      if (sqsClient != null) {
-        sqsClient.shutdown();
-      }
     }
   }
 }
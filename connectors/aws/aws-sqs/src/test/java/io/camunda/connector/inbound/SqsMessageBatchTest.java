@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.inbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResult;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
+import com.amazonaws.services.sqs.model.Message;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class SqsMessageBatchTest {
+
+  private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/1/queue";
+
+  private final AmazonSQS sqsClient = mock(AmazonSQS.class);
+  private final SqsMessageBatch batch = new SqsMessageBatch(sqsClient, QUEUE_URL);
+
+  @Test
+  void shouldDeleteAcknowledgedMessages_WithOneBatchRequest() {
+    // given
+    when(sqsClient.deleteMessageBatch(any(DeleteMessageBatchRequest.class)))
+        .thenReturn(
+            new DeleteMessageBatchResult()
+                .withFailed(
+                    new BatchResultErrorEntry().withId("1").withCode("ReceiptHandleIsInvalid")));
+    var first = add("1");
+    var second = add("2");
+    batch.ack(first);
+    batch.ack(second);
+
+    // when
+    batch.settle();
+
+    // then
+    var request = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+    verify(sqsClient).deleteMessageBatch(request.capture());
+    assertThat(request.getValue().getQueueUrl()).isEqualTo(QUEUE_URL);
+    assertThat(request.getValue().getEntries())
+        .extracting(DeleteMessageBatchRequestEntry::getReceiptHandle)
+        .containsExactly("handle-1", "handle-2");
+    verifyNoMoreInteractions(sqsClient);
+  }
+
+  @Test
+  void shouldReleaseRejectedAndUncorrelatedMessages_Immediately() {
+    // given
+    when(sqsClient.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class)))
+        .thenReturn(new ChangeMessageVisibilityBatchResult());
+    var acknowledged = add("1");
+    var rejected = add("2");
+    add("3");
+    batch.ack(acknowledged);
+    batch.nack(rejected);
+
+    // when
+    batch.settle();
+
+    // then
+    verify(sqsClient).deleteMessage(QUEUE_URL, "handle-1");
+    var request = ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+    verify(sqsClient).changeMessageVisibilityBatch(request.capture());
+    assertThat(request.getValue().getEntries())
+        .extracting(
+            ChangeMessageVisibilityBatchRequestEntry::getReceiptHandle,
+            ChangeMessageVisibilityBatchRequestEntry::getVisibilityTimeout)
+        .containsExactly(tuple("handle-2", 0), tuple("handle-3", 0));
+  }
+
+  @Test
+  void shouldExtendVisibility_OfMessagesInFlightOnly() {
+    // given
+    var acknowledged = add("1");
+    add("2");
+    batch.ack(acknowledged);
+
+    // when
+    batch.extendVisibility(30);
+
+    // then
+    verify(sqsClient).changeMessageVisibility(QUEUE_URL, "handle-2", 30);
+    verifyNoMoreInteractions(sqsClient);
+  }
+
+  @Test
+  void shouldNotCallSqs_WhenNothingIsInFlight() {
+    // when
+    batch.extendVisibility(30);
+    batch.settle();
+
+    // then
+    verifyNoInteractions(sqsClient);
+  }
+
+  private Message add(String id) {
+    var message = new Message().withMessageId(id).withReceiptHandle("handle-" + id);
+    batch.add(message);
+    return message;
+  }
+}
@@ -7,13 +7,21 @@
 package io.camunda.connector.inbound;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResult;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
 import com.amazonaws.services.sqs.model.Message;
 import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
 import com.amazonaws.services.sqs.model.ReceiveMessageResult;
@@ -27,6 +35,10 @@ import io.camunda.connector.inbound.model.SqsInboundProperties;
 import io.camunda.connector.inbound.model.SqsInboundQueueProperties;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -88,6 +100,7 @@ public class SqsQueueConsumerTest {
     ReceiveMessageRequest receiveMessageRequest = requestArgumentCaptor.getValue();
     assertThat(receiveMessageRequest.getAttributeNames()).isEqualTo(List.of("All"));
     assertThat(receiveMessageRequest.getMessageAttributeNames()).isEqualTo(List.of("All"));
+    assertThat(receiveMessageRequest.getMaxNumberOfMessages()).isEqualTo(10);
   }
 
   @Test
@@ -154,6 +167,7 @@ public class SqsQueueConsumerTest {
     // then
     verify(sqsClient).receiveMessage(any(ReceiveMessageRequest.class));
     verify(context).correlate(any(CorrelationRequest.class));
+    verify(sqsClient).changeMessageVisibility(queue.url(), message.getReceiptHandle(), 0);
     verifyNoMoreInteractions(sqsClient);
   }
 
@@ -203,4 +217,106 @@ public class SqsQueueConsumerTest {
     verify(context).reportHealth(Health.down());
     verifyNoMoreInteractions(context);
   }
+
+  @Test
+  void run_shouldCorrelateBatchConcurrently_AndSettleWithBatchRequests()
+      throws InterruptedException {
+    // given
+    var messages =
+        IntStream.range(0, 4)
+            .mapToObj(
+                i ->
+                    new Message()
+                        .withMessageId("id-" + i)
+                        .withReceiptHandle("handle-" + i)
+                        .withBody("body " + i))
+            .toList();
+    when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class)))
+        .thenReturn(new ReceiveMessageResult().withMessages(messages));
+    when(sqsClient.deleteMessageBatch(any(DeleteMessageBatchRequest.class)))
+        .thenReturn(new DeleteMessageBatchResult());
+    var inFlight = new CountDownLatch(messages.size());
+    when(context.correlate(any(CorrelationRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              // every correlation waits until all of them have started
+              inFlight.countDown();
+              assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+              return new MessagePublished(null, 1L, null);
+            });
+    consumer =
+        new SqsQueueConsumer(sqsClient, properties, context, new SqsConsumptionMode(1, 4), null);
+
+    // when
+    consumer.setQueueConsumerActive(false);
+    Thread thread = new Thread(consumer);
+    thread.start();
+    thread.join();
+
+    // then
+    ArgumentCaptor<DeleteMessageBatchRequest> deleteRequest =
+        ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+    verify(sqsClient).deleteMessageBatch(deleteRequest.capture());
+    assertThat(deleteRequest.getValue().getEntries())
+        .extracting(DeleteMessageBatchRequestEntry::getReceiptHandle)
+        .containsExactlyInAnyOrder("handle-0", "handle-1", "handle-2", "handle-3");
+    verify(sqsClient, never()).deleteMessage(any(), any());
+  }
+
+  @Test
+  void run_shouldReleaseRemainingMessagesOfGroup_WhenFifoMessageFails()
+      throws InterruptedException {
+    // given
+    properties.setQueue(
+        new SqsInboundQueueProperties("us-east-1", "my-queue.fifo", null, null, "1"));
+    var failing = fifoMessage("group-1", 0);
+    var queuedBehindFailure = fifoMessage("group-1", 1);
+    var otherGroup = fifoMessage("group-2", 2);
+    when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class)))
+        .thenReturn(
+            new ReceiveMessageResult().withMessages(failing, queuedBehindFailure, otherGroup));
+    when(sqsClient.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class)))
+        .thenReturn(new ChangeMessageVisibilityBatchResult());
+    when(context.correlate(any(CorrelationRequest.class)))
+        .thenAnswer(
+            invocation ->
+                failing
+                        .getMessageId()
+                        .equals(invocation.<CorrelationRequest>getArgument(0).getMessageId())
+                    ? new Other(new RuntimeException())
+                    : new MessagePublished(null, 1L, null));
+    consumer = new SqsQueueConsumer(sqsClient, properties, context);
+
+    // when
+    consumer.setQueueConsumerActive(false);
+    Thread thread = new Thread(consumer);
+    thread.start();
+    thread.join();
+
+    // then
+    ArgumentCaptor<CorrelationRequest> correlated =
+        ArgumentCaptor.forClass(CorrelationRequest.class);
+    verify(context, atLeast(1)).correlate(correlated.capture());
+    assertThat(correlated.getAllValues())
+        .extracting(CorrelationRequest::getMessageId)
+        .containsExactly(failing.getMessageId(), otherGroup.getMessageId());
+    ArgumentCaptor<ChangeMessageVisibilityBatchRequest> released =
+        ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+    verify(sqsClient).changeMessageVisibilityBatch(released.capture());
+    assertThat(released.getValue().getEntries())
+        .extracting(
+            ChangeMessageVisibilityBatchRequestEntry::getReceiptHandle,
+            ChangeMessageVisibilityBatchRequestEntry::getVisibilityTimeout)
+        .containsExactlyInAnyOrder(
+            tuple(failing.getReceiptHandle(), 0), tuple(queuedBehindFailure.getReceiptHandle(), 0));
+    verify(sqsClient).deleteMessage(properties.getQueue().url(), otherGroup.getReceiptHandle());
+  }
+
+  private static Message fifoMessage(String group, int index) {
+    return new Message()
+        .withMessageId("id-" + index)
+        .withReceiptHandle("handle-" + index)
+        .withBody("body " + index)
+        .withAttributes(Map.of("MessageGroupId", group));
+  }
 }
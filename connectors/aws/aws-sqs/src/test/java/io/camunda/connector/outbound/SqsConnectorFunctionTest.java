@@ -12,13 +12,19 @@ import static org.mockito.ArgumentMatchers.any;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import com.amazonaws.services.sqs.model.SendMessageBatchResultEntry;
 import com.amazonaws.services.sqs.model.SendMessageRequest;
 import com.amazonaws.services.sqs.model.SendMessageResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
+import io.camunda.connector.aws.batch.AwsBatchingConfiguration;
+import io.camunda.connector.aws.client.AwsClientRegistry;
 import io.camunda.connector.common.suppliers.AmazonSQSClientSupplier;
 import io.camunda.connector.outbound.model.SqsConnectorResult;
 import io.camunda.connector.runtime.test.outbound.OutboundConnectorContextBuilder;
+import java.time.Duration;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -73,14 +79,74 @@ public class SqsConnectorFunctionTest extends BaseTest {
     // When
     Object execute = connector.execute(context);
 
-    // Then
-    Mockito.verify(sqsClient, Mockito.times(1)).shutdown();
+    // Then the client is kept for the next execution
+    Mockito.verify(sqsClient, Mockito.never()).shutdown();
 
     Assertions.assertThat(execute).isInstanceOf(SqsConnectorResult.class);
     var result = (SqsConnectorResult) execute;
     Assertions.assertThat(result.getMessageId()).isEqualTo(MSG_ID);
   }
 
+  @Test
+  public void execute_shouldReuseClientForSameQueueAndCredentials() {
+    // Given
+    AmazonSQS sqsClient = Mockito.mock(AmazonSQS.class);
+    Mockito.when(sqsClient.sendMessage(ArgumentMatchers.any(SendMessageRequest.class)))
+        .thenReturn(sendMessageResult);
+    AmazonSQSClientSupplier sqsClientSupplier = Mockito.mock(AmazonSQSClientSupplier.class);
+    Mockito.when(
+            sqsClientSupplier.sqsClient(
+                any(AWSCredentialsProvider.class), ArgumentMatchers.anyString()))
+        .thenReturn(sqsClient);
+    connector = new SqsConnectorFunction(sqsClientSupplier, objectMapper);
+
+    // When
+    connector.execute(context);
+    connector.execute(context);
+
+    // Then
+    Mockito.verify(sqsClientSupplier, Mockito.times(1))
+        .sqsClient(any(AWSCredentialsProvider.class), ArgumentMatchers.anyString());
+    Mockito.verify(sqsClient, Mockito.times(2)).sendMessage(any(SendMessageRequest.class));
+  }
+
+  @Test
+  public void execute_shouldSendWithBatchRequest_WhenBatchingEnabled() {
+    // Given
+    AmazonSQS sqsClient = Mockito.mock(AmazonSQS.class);
+    Mockito.when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+        .thenReturn(
+            new SendMessageBatchResult()
+                .withSuccessful(
+                    new SendMessageBatchResultEntry().withId("0").withMessageId(MSG_ID)));
+    AmazonSQSClientSupplier sqsClientSupplier = Mockito.mock(AmazonSQSClientSupplier.class);
+    Mockito.when(
+            sqsClientSupplier.sqsClient(
+                any(AWSCredentialsProvider.class), ArgumentMatchers.anyString()))
+        .thenReturn(sqsClient);
+    connector =
+        new SqsConnectorFunction(
+            sqsClientSupplier,
+            objectMapper,
+            new AwsClientRegistry(
+                AwsClientRegistry.DEFAULT_IDLE_TIMEOUT, AwsClientRegistry.DEFAULT_MAX_LIFETIME),
+            new AwsBatchingConfiguration(Duration.ofMillis(1)));
+
+    // When
+    var result = (SqsConnectorResult) connector.execute(context);
+
+    // Then
+    Assertions.assertThat(result.getMessageId()).isEqualTo(MSG_ID);
+    ArgumentCaptor<SendMessageBatchRequest> captor =
+        ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+    Mockito.verify(sqsClient).sendMessageBatch(captor.capture());
+    Assertions.assertThat(captor.getValue().getEntries())
+        .singleElement()
+        .satisfies(
+            entry -> Assertions.assertThat(entry.getMessageBody()).isEqualTo("{\"data\":\"ok\"}"));
+    Mockito.verify(sqsClient, Mockito.never()).sendMessage(any(SendMessageRequest.class));
+  }
+
   @Test
   public void execute_shouldPassPayloadAsJsonWhenJsonArrivesFromForm()
       throws JsonProcessingException {
@@ -6,9 +6,13 @@
  */
 package io.camunda.connector.textract;
 
+import com.amazonaws.services.textract.AmazonTextract;
+import com.amazonaws.services.textract.AmazonTextractAsync;
 import io.camunda.connector.api.annotation.OutboundConnector;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
+import io.camunda.connector.aws.client.AwsClientKey;
+import io.camunda.connector.aws.client.AwsClientRegistry;
 import io.camunda.connector.generator.java.annotation.ElementTemplate;
 import io.camunda.connector.textract.caller.AsyncTextractCaller;
 import io.camunda.connector.textract.caller.PollingTextractCaller;
@@ -48,6 +52,9 @@ import io.camunda.connector.textract.suppliers.AmazonTextractClientSupplier;
     icon = "icon.svg")
 public class TextractConnectorFunction implements OutboundConnectorFunction {
 
+  private static final AmazonTextractClientSupplier DEFAULT_CLIENT_SUPPLIER =
+      new AmazonTextractClientSupplier();
+
   private final AmazonTextractClientSupplier clientSupplier;
 
   private final SyncTextractCaller syncTextractCaller;
@@ -56,11 +63,14 @@ public class TextractConnectorFunction implements OutboundConnectorFunction {
 
   private final AsyncTextractCaller asyncTextractCaller;
 
+  private final AwsClientRegistry clientRegistry;
+
   public TextractConnectorFunction() {
-    this.clientSupplier = new AmazonTextractClientSupplier();
+    this.clientSupplier = DEFAULT_CLIENT_SUPPLIER;
     this.syncTextractCaller = new SyncTextractCaller();
     this.pollingTextractCaller = new PollingTextractCaller();
     this.asyncTextractCaller = new AsyncTextractCaller();
+    this.clientRegistry = AwsClientRegistry.getDefault();
   }
 
   public TextractConnectorFunction(
@@ -68,25 +78,59 @@ public class TextractConnectorFunction implements OutboundConnectorFunction {
       SyncTextractCaller syncTextractCaller,
       PollingTextractCaller pollingTextractCaller,
       AsyncTextractCaller asyncTextractCaller) {
+    this(
+        clientSupplier,
+        syncTextractCaller,
+        pollingTextractCaller,
+        asyncTextractCaller,
+        AwsClientRegistry.getDefault());
+  }
+
+  public TextractConnectorFunction(
+      AmazonTextractClientSupplier clientSupplier,
+      SyncTextractCaller syncTextractCaller,
+      PollingTextractCaller pollingTextractCaller,
+      AsyncTextractCaller asyncTextractCaller,
+      AwsClientRegistry clientRegistry) {
     this.clientSupplier = clientSupplier;
     this.syncTextractCaller = syncTextractCaller;
     this.pollingTextractCaller = pollingTextractCaller;
     this.asyncTextractCaller = asyncTextractCaller;
+    this.clientRegistry = clientRegistry;
   }
 
   @Override
   public Object execute(OutboundConnectorContext context) throws Exception {
     TextractRequest request = context.bindVariables(TextractRequest.class);
     return switch (request.getInput().executionType()) {
-      case SYNC ->
-          syncTextractCaller.call(
-              request.getInput(), clientSupplier.getSyncTextractClient(request));
-      case POLLING ->
-          pollingTextractCaller.call(
-              request.getInput(), clientSupplier.getAsyncTextractClient(request));
-      case ASYNC ->
-          asyncTextractCaller.call(
-              request.getInput(), clientSupplier.getAsyncTextractClient(request));
+      case SYNC -> {
+        try (var client =
+            clientRegistry.acquire(
+                AwsClientKey.of(AmazonTextractClientSupplier.SYNC_CLIENT_NAME, request)
+                    .withClientSupplier(clientSupplier),
+                () -> clientSupplier.getSyncTextractClient(request),
+                AmazonTextract::shutdown)) {
+          yield syncTextractCaller.call(request.getInput(), client.client());
+        }
+      }
+      case POLLING -> {
+        try (var client = acquireAsyncClient(request)) {
+          yield pollingTextractCaller.call(request.getInput(), client.client());
+        }
+      }
+      case ASYNC -> {
+        try (var client = acquireAsyncClient(request)) {
+          yield asyncTextractCaller.call(request.getInput(), client.client());
+        }
+      }
     };
   }
+
+  private AwsClientRegistry.Lease<AmazonTextractAsync> acquireAsyncClient(TextractRequest request) {
+    return clientRegistry.acquire(
+        AwsClientKey.of(AmazonTextractClientSupplier.ASYNC_CLIENT_NAME, request)
+            .withClientSupplier(clientSupplier),
+        () -> clientSupplier.getAsyncTextractClient(request),
+        AmazonTextractAsync::shutdown);
+  }
 }
@@ -15,6 +15,11 @@ import io.camunda.connector.textract.model.TextractRequest;
 
 public class AmazonTextractClientSupplier {
 
+  /** The names of the Textract clients in the {@code AwsClientRegistry}. */
+  public static final String SYNC_CLIENT_NAME = "textract";
+
+  public static final String ASYNC_CLIENT_NAME = "textract-async";
+
   public AmazonTextract getSyncTextractClient(final TextractRequest request) {
     return AmazonTextractClientBuilder.standard()
         .withCredentials(CredentialsProviderSupport.credentialsProvider(request))
@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.email.client.jakarta.inbound;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes how long the email listener spends fetching messages, and how many attachment bytes it
+ * did not download because the message did not match any activation condition.
+ *
+ * <p>Micrometer is an optional dependency, this class must only be loaded after checking that it is
+ * on the classpath.
+ */
+public class EmailListenerMetrics {
+
+  public static final String METRIC_NAME_FETCH_TIME = "camunda.connector.email.inbound.fetch";
+  public static final String METRIC_NAME_SKIPPED_BYTES =
+      "camunda.connector.email.inbound.skipped.bytes";
+  public static final String TAG_PHASE = "phase";
+  public static final String PHASE_ACTIVATION = "activation";
+  public static final String PHASE_ATTACHMENTS = "attachments";
+
+  private final Timer activationFetchTime;
+  private final Timer attachmentsFetchTime;
+  private final Counter skippedBytes;
+
+  public EmailListenerMetrics(MeterRegistry meterRegistry) {
+    this.activationFetchTime = fetchTimer(PHASE_ACTIVATION, meterRegistry);
+    this.attachmentsFetchTime = fetchTimer(PHASE_ATTACHMENTS, meterRegistry);
+    this.skippedBytes =
+        Counter.builder(METRIC_NAME_SKIPPED_BYTES)
+            .description("Attachment bytes not downloaded because the email was not correlated")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+  }
+
+  static EmailListenerMetrics bindToGlobalRegistry() {
+    return new EmailListenerMetrics(Metrics.globalRegistry);
+  }
+
+  private static Timer fetchTimer(String phase, MeterRegistry meterRegistry) {
+    return Timer.builder(METRIC_NAME_FETCH_TIME)
+        .description("Time spent fetching the parts of an email needed by a processing phase")
+        .tag(TAG_PHASE, phase)
+        .register(meterRegistry);
+  }
+
+  void recordActivationFetch(long nanos) {
+    activationFetchTime.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  void recordAttachmentsFetch(long nanos) {
+    attachmentsFetchTime.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  void recordSkippedBytes(long bytes) {
+    skippedBytes.increment(bytes);
+  }
+}
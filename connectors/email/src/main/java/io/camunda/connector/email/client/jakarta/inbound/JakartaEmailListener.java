@@ -21,10 +21,15 @@ import java.util.concurrent.*;
 public class JakartaEmailListener implements EmailListener {
 
   private static final int INFINITE_RETRIES = -1;
+  // RFC 2177 asks clients to renew IDLE at least every 29 minutes
+  private static final Duration IDLE_RENEWAL = Duration.ofMinutes(9);
   private final ScheduledExecutorService scheduledExecutorService =
       Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "Jakarta Email Listener"));
+  private final ExecutorService idleExecutorService =
+      Executors.newSingleThreadExecutor(r -> new Thread(r, "Jakarta Email IDLE Listener"));
   private CompletableFuture<PollingManager> pollingManagerFuture;
-  private CompletableFuture<ScheduledFuture<?>> scheduledPollingManagerFuture;
+  private CompletableFuture<Future<?>> scheduledPollingManagerFuture;
+  private volatile ScheduledFuture<?> idleRenewalFuture;
 
   public JakartaEmailListener() {}
 
@@ -57,8 +62,10 @@ public class JakartaEmailListener implements EmailListener {
     this.scheduledPollingManagerFuture =
         this.pollingManagerFuture.thenApply(
             pollingManager ->
-                scheduledExecutorService.scheduleWithFixedDelay(
-                    pollingManager::poll, 0, pollingManager.delay(), TimeUnit.SECONDS));
+                pollingManager.supportsIdle()
+                    ? startIdling(context, pollingManager)
+                    : scheduledExecutorService.scheduleWithFixedDelay(
+                        pollingManager::poll, 0, pollingManager.delay(), TimeUnit.SECONDS));
     this.scheduledPollingManagerFuture.whenComplete(
         (pollingManager, throwable) -> {
           if (throwable != null) {
@@ -73,10 +80,55 @@ public class JakartaEmailListener implements EmailListener {
         });
   }
 
+  /**
+   * Lets the server push new messages with IMAP IDLE. Every notification triggers a polling cycle,
+   * which only fetches the messages that arrived since the previous one. While IDLE fails, e.g.
+   * because the connection was lost, the listener falls back to polling with the configured wait
+   * time and retries IDLE after every cycle.
+   */
+  private Future<?> startIdling(InboundConnectorContext context, PollingManager pollingManager) {
+    this.idleRenewalFuture =
+        scheduledExecutorService.scheduleWithFixedDelay(
+            pollingManager::interruptIdle,
+            IDLE_RENEWAL.toSeconds(),
+            IDLE_RENEWAL.toSeconds(),
+            TimeUnit.SECONDS);
+    return idleExecutorService.submit(
+        () -> {
+          boolean idling = true;
+          while (!Thread.currentThread().isInterrupted()) {
+            pollingManager.poll();
+            try {
+              pollingManager.idle();
+              idling = true;
+            } catch (Exception e) {
+              if (Thread.currentThread().isInterrupted()) {
+                return;
+              }
+              if (idling) {
+                context.log(
+                    activity ->
+                        activity
+                            .withSeverity(Severity.WARNING)
+                            .withTag("mail-idle")
+                            .withMessage(
+                                "IDLE failed, falling back to polling: " + e.getMessage()));
+                idling = false;
+              }
+              try {
+                TimeUnit.SECONDS.sleep(pollingManager.delay());
+              } catch (InterruptedException ex) {
+                return;
+              }
+            }
+          }
+        });
+  }
+
   @Override
   public void stopListener() {
-    if (this.scheduledPollingManagerFuture.isDone()) {
-      this.scheduledPollingManagerFuture.join().cancel(true);
+    if (this.idleRenewalFuture != null) {
+      this.idleRenewalFuture.cancel(true);
     }
     this.scheduledPollingManagerFuture.join().cancel(true);
     if (this.pollingManagerFuture.isDone() && !pollingManagerFuture.isCompletedExceptionally()) {
@@ -84,5 +136,6 @@ public class JakartaEmailListener implements EmailListener {
     } else {
       this.pollingManagerFuture.cancel(true);
     }
+    this.idleExecutorService.shutdownNow();
   }
 }
@@ -15,12 +15,16 @@ import io.camunda.connector.email.client.jakarta.utils.JakartaUtils;
 import io.camunda.connector.email.exception.EmailConnectorException;
 import io.camunda.connector.email.inbound.model.*;
 import io.camunda.connector.email.response.ReadEmailResponse;
+import io.camunda.connector.util.metrics.MicrometerHelper;
 import jakarta.mail.*;
 import jakarta.mail.search.FlagTerm;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import org.eclipse.angus.mail.imap.IMAPFolder;
 import org.eclipse.angus.mail.imap.IMAPMessage;
+import org.eclipse.angus.mail.imap.IMAPStore;
 import org.eclipse.angus.mail.util.MailConnectException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,12 +32,24 @@ import org.slf4j.LoggerFactory;
 public class PollingManager {
 
   private static final Logger log = LoggerFactory.getLogger(PollingManager.class);
+  private static final FetchProfile FETCH_PROFILE = new FetchProfile();
+
+  static {
+    FETCH_PROFILE.add(FetchProfile.Item.ENVELOPE);
+    FETCH_PROFILE.add(FetchProfile.Item.FLAGS);
+    FETCH_PROFILE.add(UIDFolder.FetchProfileItem.UID);
+    FETCH_PROFILE.add(IMAPFolder.FetchProfileItem.HEADERS);
+  }
+
   private final InboundConnectorContext connectorContext;
   private final EmailListenerConfig emailListenerConfig;
   private final JakartaUtils jakartaUtils;
   private final Folder folder;
   private final Store store;
   private final Authentication authentication;
+  private final UidCheckpoint checkpoint = new UidCheckpoint();
+  private final Object metrics =
+      MicrometerHelper.isMicrometerAvailable() ? EmailListenerMetrics.bindToGlobalRegistry() : null;
 
   public PollingManager(
       InboundConnectorContext connectorContext,
@@ -117,20 +133,26 @@ public class PollingManager {
     }
   }
 
-  private List<Document> createDocumentList(Email email) {
-    return email.body().attachments().stream()
-        .map(
-            document ->
-                this.connectorContext.create(
-                    DocumentCreationRequest.from(document.inputStream())
-                        .contentType(document.contentType())
-                        .fileName(document.name())
-                        .build()))
-        .toList();
+  private List<Document> createDocumentList(Message message) {
+    long start = System.nanoTime();
+    List<Document> documents =
+        this.jakartaUtils.streamAttachments(message).stream()
+            .map(
+                document ->
+                    this.connectorContext.create(
+                        DocumentCreationRequest.from(document.inputStream())
+                            .contentType(document.contentType())
+                            .fileName(document.name())
+                            .build()))
+            .toList();
+    if (this.metrics != null) {
+      ((EmailListenerMetrics) this.metrics).recordAttachmentsFetch(System.nanoTime() - start);
+    }
+    return documents;
   }
 
-  private boolean correlate(Email email) {
-    List<Document> documents = createDocumentList(email);
+  private boolean correlate(Message message, Email email) {
+    List<Document> documents = createDocumentList(message);
     CorrelationRequest correlationRequest =
         CorrelationRequest.builder()
             .variables(createResponse(email, documents))
@@ -207,23 +229,90 @@ public class PollingManager {
   }
 
   private void pollAllAndProcess(PollAll pollAll) throws MessagingException {
+    if (this.folder instanceof UIDFolder uidFolder) {
+      for (Message message : fetchNewMessages(uidFolder)) {
+        recordOutcome(uidFolder, message, this.processMail((IMAPMessage) message, pollAll));
+      }
+      return;
+    }
     Message[] messages = this.folder.getMessages();
+    this.folder.fetch(messages, FETCH_PROFILE);
     Arrays.stream(messages).forEach(message -> this.processMail((IMAPMessage) message, pollAll));
   }
 
   private void pollUnseenAndProcess(PollUnseen pollUnseen) throws MessagingException {
+    if (this.folder instanceof UIDFolder uidFolder) {
+      for (Message message : fetchNewMessages(uidFolder)) {
+        // the flags were prefetched, messages that were read in the meantime need no processing
+        boolean handled =
+            message.isSet(Flags.Flag.SEEN) || this.processMail((IMAPMessage) message, pollUnseen);
+        recordOutcome(uidFolder, message, handled);
+      }
+      return;
+    }
     FlagTerm unseenFlagTerm = new FlagTerm(new Flags(Flags.Flag.SEEN), false);
     Message[] unseenMessages = this.folder.search(unseenFlagTerm, this.folder.getMessages());
+    this.folder.fetch(unseenMessages, FETCH_PROFILE);
     Arrays.stream(unseenMessages)
         .forEach(message -> this.processMail((IMAPMessage) message, pollUnseen));
   }
 
-  private void processMail(IMAPMessage message, PollingConfig pollingConfig) {
+  /**
+   * Fetches the messages that arrived since the last cycle, together with the pending messages that
+   * were not handled yet, in ascending UID order. Envelope, flags and headers of all messages are
+   * prefetched with a single request instead of one request per message.
+   */
+  private List<Message> fetchNewMessages(UIDFolder uidFolder) throws MessagingException {
+    long uidValidity = uidFolder.getUIDValidity();
+    if (!this.checkpoint.isValidFor(uidValidity)) {
+      // first cycle, or the folder was recreated: its UIDs can't be compared to the checkpoint
+      this.checkpoint.reset(uidValidity);
+    }
+    List<Message> messages = new ArrayList<>();
+    long[] pendingUids = this.checkpoint.pendingUids();
+    if (pendingUids.length > 0) {
+      Message[] pending = uidFolder.getMessagesByUID(pendingUids);
+      for (int i = 0; i < pending.length; i++) {
+        if (pending[i] == null || pending[i].isExpunged()) {
+          this.checkpoint.forget(pendingUids[i]);
+        } else {
+          messages.add(pending[i]);
+        }
+      }
+    }
+    long lastUid = this.checkpoint.lastUid();
+    for (Message message : uidFolder.getMessagesByUID(lastUid + 1, UIDFolder.LASTUID)) {
+      // `n:*` always matches the newest message, even if its UID is below n
+      if (message != null && !message.isExpunged() && uidFolder.getUID(message) > lastUid) {
+        messages.add(message);
+      }
+    }
+    Message[] toFetch = messages.toArray(Message[]::new);
+    this.folder.fetch(toFetch, FETCH_PROFILE);
+    return messages;
+  }
+
+  private void recordOutcome(UIDFolder uidFolder, Message message, boolean handled)
+      throws MessagingException {
+    long uid = uidFolder.getUID(message);
+    if (handled) {
+      this.checkpoint.handled(uid);
+    } else {
+      this.checkpoint.unhandled(uid);
+    }
+  }
+
+  private boolean processMail(IMAPMessage message, PollingConfig pollingConfig) {
     // Setting `peek` to true prevents the library to trigger any side effects when reading the
     // message, such as marking it as read
     message.setPeek(true);
-    Email email = this.jakartaUtils.createEmail(message);
-    boolean markAsProcessed = process(email);
+    // Attachments are only downloaded once the email is known to match an activation condition
+    long start = System.nanoTime();
+    Email email = this.jakartaUtils.createEmailWithoutAttachments(message);
+    if (this.metrics != null) {
+      ((EmailListenerMetrics) this.metrics).recordActivationFetch(System.nanoTime() - start);
+    }
+    boolean markAsProcessed = process(message, email);
     message.setPeek(false);
     if (markAsProcessed) {
       switch (pollingConfig.handlingStrategy()) {
@@ -235,9 +324,10 @@ public class PollingManager {
         }
       }
     }
+    return markAsProcessed;
   }
 
-  private boolean process(Email email) {
+  private boolean process(Message message, Email email) {
     this.connectorContext.log(
         activity ->
             activity
@@ -246,6 +336,10 @@ public class PollingManager {
                 .withMessage("Processing email: %s".formatted(email.messageId())));
     ActivationCheckResult activationCheckResult =
         this.connectorContext.canActivate(createResponse(email, List.of()));
+    if (activationCheckResult instanceof ActivationCheckResult.Failure && this.metrics != null) {
+      ((EmailListenerMetrics) this.metrics)
+          .recordSkippedBytes(this.jakartaUtils.attachmentsSize(message));
+    }
     return switch (activationCheckResult) {
       case ActivationCheckResult.Failure failure ->
           switch (failure) {
@@ -284,7 +378,7 @@ public class PollingManager {
               yield false;
             }
           };
-      case ActivationCheckResult.Success ignored -> correlate(email);
+      case ActivationCheckResult.Success ignored -> correlate(message, email);
     };
   }
 
@@ -292,6 +386,44 @@ public class PollingManager {
     return this.emailListenerConfig.pollingWaitTime().getSeconds();
   }
 
+  /** Whether the server can push new messages with IMAP IDLE instead of being polled. */
+  public boolean supportsIdle() {
+    try {
+      return this.folder instanceof IMAPFolder
+          && this.store instanceof IMAPStore imapStore
+          && imapStore.hasCapability("IDLE");
+    } catch (MessagingException e) {
+      log.debug("Could not determine whether the server supports IDLE", e);
+      return false;
+    }
+  }
+
+  /**
+   * Blocks until the server reports a change of the folder, e.g. a new message, or until the IDLE
+   * command is interrupted with {@link #interruptIdle()}.
+   */
+  public void idle() throws MessagingException {
+    this.prepareForPolling();
+    ((IMAPFolder) this.folder).idle(true);
+  }
+
+  /**
+   * Ends a running IDLE command. Servers may drop connections that have been idle for longer than
+   * 30 minutes, so the command has to be renewed regularly.
+   */
+  public void interruptIdle() {
+    try {
+      ((IMAPFolder) this.folder)
+          .doCommand(
+              protocol -> {
+                protocol.noop();
+                return null;
+              });
+    } catch (MessagingException e) {
+      log.debug("Could not interrupt IDLE", e);
+    }
+  }
+
   public void stop() {
     try {
       if (this.folder.isOpen()) this.folder.close();
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.email.client.jakarta.inbound;
+
+import java.util.TreeSet;
+
+/**
+ * Remembers which messages of an IMAP folder have already been looked at, so that a polling cycle
+ * only fetches the messages that arrived since the previous one.
+ *
+ * <p>UIDs are only meaningful together with the UIDVALIDITY of the folder. When it changes, e.g.
+ * because the mailbox was recreated, the checkpoint starts over and the next cycle scans the whole
+ * folder. Messages that were looked at but not handled, e.g. because no activation condition
+ * matched and unmatched events are not discarded, are kept as pending and fetched again in every
+ * cycle until they are handled or disappear from the folder.
+ */
+public class UidCheckpoint {
+
+  private long uidValidity = -1;
+  private long lastUid;
+  private final TreeSet<Long> pendingUids = new TreeSet<>();
+
+  /** Whether the checkpoint belongs to the folder with the given UIDVALIDITY. */
+  public boolean isValidFor(long uidValidity) {
+    return this.uidValidity == uidValidity;
+  }
+
+  /** Starts over for the folder with the given UIDVALIDITY. */
+  public void reset(long uidValidity) {
+    this.uidValidity = uidValidity;
+    this.lastUid = 0;
+    this.pendingUids.clear();
+  }
+
+  /** The highest UID looked at, messages above it have not been fetched yet. */
+  public long lastUid() {
+    return lastUid;
+  }
+
+  public long[] pendingUids() {
+    return pendingUids.stream().mapToLong(Long::longValue).toArray();
+  }
+
+  public void handled(long uid) {
+    lastUid = Math.max(lastUid, uid);
+    pendingUids.remove(uid);
+  }
+
+  public void unhandled(long uid) {
+    lastUid = Math.max(lastUid, uid);
+    pendingUids.add(uid);
+  }
+
+  /** Stops fetching a pending message that no longer exists in the folder. */
+  public void forget(long uid) {
+    pendingUids.remove(uid);
+  }
+}
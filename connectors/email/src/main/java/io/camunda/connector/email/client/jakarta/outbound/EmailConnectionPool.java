@@ -0,0 +1,462 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.email.client.jakarta.outbound;
+
+import io.camunda.connector.email.authentication.Authentication;
+import io.camunda.connector.email.authentication.NoAuthentication;
+import io.camunda.connector.email.authentication.SimpleAuthentication;
+import io.camunda.connector.util.concurrent.DaemonThreads;
+import jakarta.mail.Folder;
+import jakarta.mail.FolderClosedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Service;
+import jakarta.mail.Session;
+import jakarta.mail.Store;
+import jakarta.mail.StoreClosedException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.angus.mail.iap.ProtocolException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shares authenticated IMAP stores and SMTP transports between email jobs with the same server and
+ * credentials.
+ *
+ * <p>Connecting costs a TLS handshake and a login, which dominates short jobs like sending a single
+ * notification. The pool keys connections by a hash of the session properties, i.e. protocol, host,
+ * port and encryption, and of the credentials. A connection is used by one job at a time and handed
+ * out as a {@link Lease}. At most {@code maxConnectionsPerKey} connections are open per key,
+ * further jobs wait for a connection of the same key to be released, jobs of other keys are not
+ * affected. Before a connection is reused, it is checked with a NOOP, which is what {@link
+ * Service#isConnected()} sends to IMAP and SMTP servers, and replaced by a new connection if the
+ * server dropped it. Connections are closed once they were not leased for the idle timeout.
+ *
+ * <p>Folders opened read-only through {@link Lease#readOnlyFolder(String, FolderFinder)} stay open
+ * with the store, so that subsequent jobs reading the same folder skip selecting it again. An open
+ * IMAP folder holds a server connection of its own, so only the most recently used folders are kept
+ * open, and the connections to a server stay well below the limits of common providers, e.g. 15 for
+ * Gmail.
+ */
+public class EmailConnectionPool implements AutoCloseable {
+
+  public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+  public static final int DEFAULT_MAX_CONNECTIONS_PER_KEY = 4;
+  public static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+  public static final String MAX_CONNECTIONS_PER_KEY_ENV_VARIABLE =
+      "CAMUNDA_CONNECTOR_EMAIL_POOL_MAX_CONNECTIONS";
+
+  private static final Logger LOG = LoggerFactory.getLogger(EmailConnectionPool.class);
+  private static final Duration MIN_EVICTION_INTERVAL = Duration.ofSeconds(1);
+  private static final int MAX_OPEN_FOLDERS_PER_STORE = 2;
+
+  private final int maxConnectionsPerKey;
+  private final Duration idleTimeout;
+  private final Duration acquireTimeout;
+  private final Map<String, KeyPool> pools = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService evictor;
+  private volatile boolean closed;
+
+  /**
+   * @param maxConnectionsPerKey the number of connections open at the same time to a server with
+   *     the same credentials
+   * @param idleTimeout the time after which a connection that is not leased is closed
+   * @param acquireTimeout the time a job waits for a connection when all of them are leased
+   */
+  public EmailConnectionPool(
+      int maxConnectionsPerKey, Duration idleTimeout, Duration acquireTimeout) {
+    if (maxConnectionsPerKey <= 0) {
+      throw new IllegalArgumentException(
+          "maxConnectionsPerKey must be positive, got " + maxConnectionsPerKey);
+    }
+    this.maxConnectionsPerKey = maxConnectionsPerKey;
+    this.idleTimeout = idleTimeout;
+    this.acquireTimeout = acquireTimeout;
+    long interval = Math.max(idleTimeout.toMillis() / 2, MIN_EVICTION_INTERVAL.toMillis());
+    this.evictor =
+        DaemonThreads.scheduleWithFixedDelay(
+            "connectors-email-connection-eviction", this::evictIdle, Duration.ofMillis(interval));
+  }
+
+  /**
+   * The pool shared by all email connectors of the runtime. The number of connections per server
+   * and credentials is set with the {@value #MAX_CONNECTIONS_PER_KEY_ENV_VARIABLE} environment
+   * variable.
+   */
+  public static EmailConnectionPool getDefault() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Leases a connected service, e.g. a store or a transport, for the server and credentials of the
+   * session. The lease must be closed once the service is no longer used.
+   *
+   * @param kind distinguishes services of the same session, e.g. {@code store} and {@code
+   *     transport}
+   * @param connector creates and connects a new service if no pooled one is available
+   */
+  public <T extends Service> Lease<T> acquire(
+      String kind, Session session, Authentication authentication, ServiceConnector<T> connector)
+      throws MessagingException {
+    String key = key(kind, session.getProperties(), authentication);
+    KeyPool pool = checkOut(key);
+    PooledConnection pooled = pool.takeIdle();
+    if (pooled != null) {
+      if (pooled.service.isConnected()) {
+        return new Lease<>(pooled);
+      }
+      LOG.debug("Pooled email connection was dropped by the server, reconnecting");
+      closeQuietly(pooled);
+    } else {
+      pool.opened();
+    }
+    try {
+      return new Lease<>(new PooledConnection(pool, connector.connect(session)));
+    } catch (MessagingException | RuntimeException e) {
+      pool.discard();
+      throw e;
+    }
+  }
+
+  /**
+   * Whether the failure indicates that the connection is broken, e.g. it was closed by the server
+   * or a command failed on the protocol level, and must not be returned to the pool.
+   */
+  public static boolean isConnectionFailure(Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof StoreClosedException
+          || cause instanceof FolderClosedException
+          || cause instanceof ProtocolException
+          || cause instanceof IOException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    evictor.shutdownNow();
+    // leased connections are closed when they are released
+    pools.values().forEach(pool -> pool.retire().forEach(EmailConnectionPool::closeQuietly));
+    pools.clear();
+  }
+
+  int openConnections() {
+    return pools.values().stream().mapToInt(KeyPool::open).sum();
+  }
+
+  /**
+   * Takes a permit of the key, waiting while all connections of the key are leased. The permit is
+   * returned with the lease, or when creating a connection fails.
+   */
+  private KeyPool checkOut(String key) throws MessagingException {
+    long deadline = System.nanoTime() + acquireTimeout.toNanos();
+    while (true) {
+      if (closed) {
+        throw new IllegalStateException("Email connection pool is closed");
+      }
+      KeyPool pool = pools.computeIfAbsent(key, k -> new KeyPool(maxConnectionsPerKey));
+      try {
+        if (!pool.permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+          throw new MessagingException(
+              "Timed out after %s waiting for one of %d pooled email connections"
+                  .formatted(acquireTimeout, maxConnectionsPerKey));
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new MessagingException("Interrupted while waiting for an email connection", e);
+      }
+      if (!closed && !pool.isRetired()) {
+        return pool;
+      }
+      // removed by the eviction or by closing the pool while waiting, retry with the current one
+      pool.permits.release();
+    }
+  }
+
+  private void release(PooledConnection pooled) {
+    if (closed || !pooled.pool.giveBack(pooled)) {
+      closeQuietly(pooled);
+      pooled.pool.discard();
+    }
+  }
+
+  private void invalidate(PooledConnection pooled) {
+    closeQuietly(pooled);
+    pooled.pool.discard();
+  }
+
+  void evictIdle() {
+    List<PooledConnection> toClose = new ArrayList<>();
+    long now = System.nanoTime();
+    pools.forEach(
+        (key, pool) -> {
+          toClose.addAll(pool.takeIdleSince(now - idleTimeout.toNanos()));
+          if (pool.open() == 0) {
+            toClose.addAll(retire(key, pool));
+          }
+        });
+    if (!toClose.isEmpty()) {
+      LOG.debug("Closing {} idle email connections", toClose.size());
+    }
+    toClose.forEach(EmailConnectionPool::closeQuietly);
+  }
+
+  /**
+   * Removes the pool of a key unless one of its connections is leased, and wakes up the jobs
+   * waiting for it, which continue with the current pool of the key.
+   *
+   * @return the idle connections of the removed pool
+   */
+  private List<PooledConnection> retire(String key, KeyPool pool) {
+    if (!pool.permits.tryAcquire(maxConnectionsPerKey)) {
+      return List.of();
+    }
+    List<PooledConnection> idle = pool.retire();
+    pools.remove(key, pool);
+    pool.permits.release(maxConnectionsPerKey);
+    return idle;
+  }
+
+  private static void closeQuietly(PooledConnection pooled) {
+    pooled.closeFolders();
+    try {
+      pooled.service.close();
+    } catch (Exception e) {
+      LOG.debug("Failed to close email connection", e);
+    }
+  }
+
+  /**
+   * Hashes the session properties in a stable order together with the credentials, so equal
+   * configurations map to the same connections without keeping credentials in the keys of the pool.
+   */
+  private static String key(String kind, Properties properties, Authentication authentication) {
+    Map<String, String> normalized = new TreeMap<>();
+    if (properties != null) {
+      properties.forEach((name, value) -> normalized.put(name.toString(), String.valueOf(value)));
+    }
+    normalized.put("kind", kind);
+    switch (authentication) {
+      case SimpleAuthentication simple -> {
+        normalized.put("username", Objects.toString(simple.username()));
+        normalized.put("password", Objects.toString(simple.password()));
+      }
+      case NoAuthentication ignored -> {}
+      case null -> {}
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      normalized.forEach(
+          (name, value) -> {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+          });
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  /** Creates and connects a new service. */
+  @FunctionalInterface
+  public interface ServiceConnector<T extends Service> {
+    T connect(Session session) throws MessagingException;
+  }
+
+  /** Finds a folder of a store, without opening it. */
+  @FunctionalInterface
+  public interface FolderFinder {
+    Folder find(Store store, String path) throws MessagingException;
+  }
+
+  /** A leased connection, to be closed once the job no longer uses it. */
+  public final class Lease<T extends Service> implements AutoCloseable {
+
+    private final PooledConnection pooled;
+    private boolean released;
+
+    private Lease(PooledConnection pooled) {
+      this.pooled = pooled;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T service() {
+      return (T) pooled.service;
+    }
+
+    /**
+     * Returns the folder of the leased store opened read-only, reusing the folder opened by a
+     * previous lease of the same connection. The folder must not be closed by the caller.
+     */
+    public Folder readOnlyFolder(String path, FolderFinder finder) throws MessagingException {
+      Folder folder = pooled.openFolders.get(path);
+      if (folder == null || !folder.isOpen()) {
+        folder = finder.find((Store) pooled.service, path);
+        folder.open(Folder.READ_ONLY);
+        pooled.openFolders.put(path, folder);
+      }
+      return folder;
+    }
+
+    /** Closes the connection instead of returning it to the pool, e.g. after a protocol error. */
+    public void invalidate() {
+      if (!released) {
+        released = true;
+        EmailConnectionPool.this.invalidate(pooled);
+      }
+    }
+
+    @Override
+    public void close() {
+      if (!released) {
+        released = true;
+        release(pooled);
+      }
+    }
+  }
+
+  /** The connections of one key, leased with a permit each. */
+  private static final class KeyPool {
+
+    private final Semaphore permits;
+    // most recently used first, so rarely used connections become idle and are evicted
+    private final Deque<PooledConnection> idle = new ArrayDeque<>(); // guarded by this
+    private int open; // guarded by this
+    private boolean retired; // guarded by this
+
+    private KeyPool(int maxConnections) {
+      this.permits = new Semaphore(maxConnections, true);
+    }
+
+    private synchronized PooledConnection takeIdle() {
+      return idle.pollFirst();
+    }
+
+    private synchronized void opened() {
+      open++;
+    }
+
+    private synchronized void discard() {
+      open--;
+      permits.release();
+    }
+
+    /** Returns the connection and its permit, unless the pool was retired. */
+    private synchronized boolean giveBack(PooledConnection pooled) {
+      if (retired) {
+        return false;
+      }
+      pooled.lastReleasedNanos = System.nanoTime();
+      idle.addFirst(pooled);
+      permits.release();
+      return true;
+    }
+
+    private synchronized List<PooledConnection> takeIdleSince(long releasedBefore) {
+      List<PooledConnection> expired = new ArrayList<>();
+      for (Iterator<PooledConnection> it = idle.iterator(); it.hasNext(); ) {
+        PooledConnection pooled = it.next();
+        if (pooled.lastReleasedNanos - releasedBefore <= 0) {
+          it.remove();
+          expired.add(pooled);
+        }
+      }
+      open -= expired.size();
+      return expired;
+    }
+
+    private synchronized List<PooledConnection> retire() {
+      retired = true;
+      List<PooledConnection> remaining = new ArrayList<>(idle);
+      open -= remaining.size();
+      idle.clear();
+      return remaining;
+    }
+
+    private synchronized boolean isRetired() {
+      return retired;
+    }
+
+    private synchronized int open() {
+      return open;
+    }
+  }
+
+  private static final class PooledConnection {
+
+    private final KeyPool pool;
+    private final Service service;
+    // only accessed by the job holding the lease, or after the connection left the pool
+    private final Map<String, Folder> openFolders =
+        new LinkedHashMap<>(4, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Folder> eldest) {
+            if (size() > MAX_OPEN_FOLDERS_PER_STORE) {
+              closeQuietly(eldest.getValue());
+              return true;
+            }
+            return false;
+          }
+        };
+    // guarded by the lock of the key pool
+    private long lastReleasedNanos = System.nanoTime();
+
+    private PooledConnection(KeyPool pool, Service service) {
+      this.pool = pool;
+      this.service = service;
+    }
+
+    private void closeFolders() {
+      openFolders.values().forEach(PooledConnection::closeQuietly);
+      openFolders.clear();
+    }
+
+    private static void closeQuietly(Folder folder) {
+      try {
+        if (folder.isOpen()) {
+          folder.close(false);
+        }
+      } catch (Exception e) {
+        LOG.debug("Failed to close pooled folder {}", folder.getFullName(), e);
+      }
+    }
+  }
+
+  private static final class Holder {
+    private static final EmailConnectionPool INSTANCE =
+        new EmailConnectionPool(
+            Optional.ofNullable(System.getenv(MAX_CONNECTIONS_PER_KEY_ENV_VARIABLE))
+                .map(value -> Integer.parseInt(value.trim()))
+                .orElse(DEFAULT_MAX_CONNECTIONS_PER_KEY),
+            DEFAULT_IDLE_TIMEOUT,
+            DEFAULT_ACQUIRE_TIMEOUT);
+  }
+}
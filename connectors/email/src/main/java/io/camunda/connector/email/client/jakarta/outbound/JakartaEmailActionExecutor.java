@@ -38,18 +38,26 @@ public class JakartaEmailActionExecutor implements EmailActionExecutor {
 
   private final JakartaUtils jakartaUtils;
   private final ObjectMapper objectMapper;
+  private final EmailConnectionPool connectionPool;
   private OutboundConnectorContext connectorContext;
 
-  private JakartaEmailActionExecutor(JakartaUtils jakartaUtils, ObjectMapper objectMapper) {
+  private JakartaEmailActionExecutor(
+      JakartaUtils jakartaUtils, ObjectMapper objectMapper, EmailConnectionPool connectionPool) {
     this.jakartaUtils = jakartaUtils;
     this.objectMapper = objectMapper;
+    this.connectionPool = connectionPool;
     LOG.debug("JakartaEmailActionExecutor instance created");
   }
 
   public static JakartaEmailActionExecutor create(
       JakartaUtils sessionFactory, ObjectMapper objectMapper) {
+    return create(sessionFactory, objectMapper, EmailConnectionPool.getDefault());
+  }
+
+  public static JakartaEmailActionExecutor create(
+      JakartaUtils sessionFactory, ObjectMapper objectMapper, EmailConnectionPool connectionPool) {
     LOG.debug("Creating JakartaEmailActionExecutor with JakartaUtils and ObjectMapper");
-    return new JakartaEmailActionExecutor(sessionFactory, objectMapper);
+    return new JakartaEmailActionExecutor(sessionFactory, objectMapper, connectionPool);
   }
 
   public Object execute(OutboundConnectorContext context) {
@@ -84,17 +92,21 @@ public class JakartaEmailActionExecutor implements EmailActionExecutor {
   private List<SearchEmailsResponse> imapSearchEmails(
       ImapSearchEmails imapSearchEmails, Authentication authentication, Session session) {
     LOG.debug("Starting IMAP search emails operation");
-    try (Store store = session.getStore()) {
-      LOG.debug("Connecting to IMAP store");
-      this.jakartaUtils.connectStore(store, authentication);
-      String targetFolder = imapSearchEmails.searchEmailFolder();
-      LOG.debug("Searching in folder: {}", targetFolder);
-      try (Folder imapFolder = this.jakartaUtils.findImapFolder(store, targetFolder)) {
-        LOG.debug("IMAP folder found, executing search");
-        List<SearchEmailsResponse> results = searchEmails(imapFolder, imapSearchEmails.criteria());
-        LOG.debug("IMAP search completed, found {} emails", results.size());
-        return results;
-      }
+    try {
+      return withStore(
+          session,
+          authentication,
+          lease -> {
+            String targetFolder = imapSearchEmails.searchEmailFolder();
+            LOG.debug("Searching in folder: {}", targetFolder);
+            Folder imapFolder =
+                lease.readOnlyFolder(targetFolder, this.jakartaUtils::findImapFolder);
+            LOG.debug("IMAP folder found, executing search");
+            List<SearchEmailsResponse> results =
+                searchEmails(imapFolder, imapSearchEmails.criteria());
+            LOG.debug("IMAP search completed, found {} emails", results.size());
+            return results;
+          });
     } catch (MessagingException e) {
       LOG.error("IMAP search emails failed", e);
       throw new RuntimeException(e);
@@ -104,39 +116,41 @@ public class JakartaEmailActionExecutor implements EmailActionExecutor {
   private ReadEmailResponse imapReadEmail(
       ImapReadEmail imapReadEmail, Authentication authentication, Session session) {
     LOG.debug("Starting IMAP read email operation");
-    try (Store store = session.getStore()) {
-      LOG.debug("Connecting to IMAP store");
-      this.jakartaUtils.connectStore(store, authentication);
-      String targetFolder = imapReadEmail.readEmailFolder();
-      LOG.debug("Reading from folder: {}", targetFolder);
-      try (Folder imapFolder = this.jakartaUtils.findImapFolder(store, targetFolder)) {
-        imapFolder.open(Folder.READ_ONLY);
-        LOG.debug("Folder opened in READ_ONLY mode, searching for message");
-        Message[] messages = imapFolder.search(new MessageIDTerm(imapReadEmail.messageId()));
-        LOG.debug("Search returned {} message(s)", messages.length);
-        return Arrays.stream(messages)
-            .findFirst()
-            .map(this.jakartaUtils::createEmail)
-            .map(
-                email -> {
-                  LOG.debug("Email found - size: {}", email.size());
-                  return new ReadEmailResponse(
-                      email.messageId(),
-                      email.from(),
-                      email.headers(),
-                      email.subject(),
-                      email.size(),
-                      email.body().bodyAsPlainText(),
-                      email.body().bodyAsHtml(),
-                      this.createDocumentList(email.body().attachments(), connectorContext),
-                      email.receivedAt());
-                })
-            .orElseThrow(
-                () -> {
-                  LOG.warn("Email not found for IMAP read operation");
-                  return new MessagingException("Could not find an email ID");
-                });
-      }
+    try {
+      return withStore(
+          session,
+          authentication,
+          lease -> {
+            String targetFolder = imapReadEmail.readEmailFolder();
+            LOG.debug("Reading from folder: {}", targetFolder);
+            Folder imapFolder =
+                lease.readOnlyFolder(targetFolder, this.jakartaUtils::findImapFolder);
+            LOG.debug("Folder opened in READ_ONLY mode, searching for message");
+            Message[] messages = imapFolder.search(new MessageIDTerm(imapReadEmail.messageId()));
+            LOG.debug("Search returned {} message(s)", messages.length);
+            return Arrays.stream(messages)
+                .findFirst()
+                .map(this.jakartaUtils::createEmail)
+                .map(
+                    email -> {
+                      LOG.debug("Email found - size: {}", email.size());
+                      return new ReadEmailResponse(
+                          email.messageId(),
+                          email.from(),
+                          email.headers(),
+                          email.subject(),
+                          email.size(),
+                          email.body().bodyAsPlainText(),
+                          email.body().bodyAsHtml(),
+                          this.createDocumentList(email.body().attachments(), connectorContext),
+                          email.receivedAt());
+                    })
+                .orElseThrow(
+                    () -> {
+                      LOG.warn("Email not found for IMAP read operation");
+                      return new MessagingException("Could not find an email ID");
+                    });
+          });
     } catch (MessagingException e) {
       LOG.error("IMAP read email failed", e);
       throw new RuntimeException(e);
@@ -146,16 +160,20 @@ public class JakartaEmailActionExecutor implements EmailActionExecutor {
   private DeleteEmailResponse imapDeleteEmail(
       ImapDeleteEmail imapDeleteEmail, Authentication authentication, Session session) {
     LOG.debug("Starting IMAP delete email operation");
-    try (Store store = session.getStore()) {
-      LOG.debug("Connecting to IMAP store");
-      this.jakartaUtils.connectStore(store, authentication);
-      String targetFolder = imapDeleteEmail.deleteEmailFolder();
-      LOG.debug("Deleting from folder: {}", targetFolder);
-      try (Folder folder = this.jakartaUtils.findImapFolder(store, targetFolder)) {
-        DeleteEmailResponse response = deleteEmail(folder, imapDeleteEmail.messageId());
-        LOG.debug("IMAP delete email completed successfully");
-        return response;
-      }
+    try {
+      return withStore(
+          session,
+          authentication,
+          lease -> {
+            String targetFolder = imapDeleteEmail.deleteEmailFolder();
+            LOG.debug("Deleting from folder: {}", targetFolder);
+            // opened read-write and closed with expunge, so it is not shared with other jobs
+            try (Folder folder = this.jakartaUtils.findImapFolder(lease.service(), targetFolder)) {
+              DeleteEmailResponse response = deleteEmail(folder, imapDeleteEmail.messageId());
+              LOG.debug("IMAP delete email completed successfully");
+              return response;
+            }
+          });
     } catch (MessagingException e) {
       LOG.error("IMAP delete email failed", e);
       throw new RuntimeException(e);
@@ -165,31 +183,37 @@ public class JakartaEmailActionExecutor implements EmailActionExecutor {
   private MoveEmailResponse imapMoveEmails(
       ImapMoveEmail imapMoveEmail, Authentication authentication, Session session) {
     LOG.debug("Starting IMAP move email operation");
-    try (Store store = session.getStore()) {
-      LOG.debug("Connecting to IMAP store");
-      this.jakartaUtils.connectStore(store, authentication);
-      String fromFolder = imapMoveEmail.fromFolder();
-      Folder sourceImapFolder = this.jakartaUtils.findImapFolder(store, fromFolder);
-      sourceImapFolder.open(Folder.READ_WRITE);
-      LOG.debug("Source folder opened in READ_WRITE mode");
-      Message[] messages = sourceImapFolder.search(new MessageIDTerm(imapMoveEmail.messageId()));
-      LOG.debug("Search returned {} message(s)", messages.length);
-      Message message =
-          Arrays.stream(messages)
-              .findFirst()
-              .orElseThrow(
-                  () -> {
-                    LOG.warn("Email not found in folder for IMAP move operation");
-                    return new MessagingException(
-                        "Email with messageId %s does not exist"
-                            .formatted(imapMoveEmail.messageId()));
-                  });
-      LOG.debug("Moving message to target folder");
-      this.jakartaUtils.moveMessage(store, message, imapMoveEmail.toFolder());
-      sourceImapFolder.close();
-      LOG.debug("IMAP move email completed successfully");
-      return new MoveEmailResponse(
-          imapMoveEmail.messageId(), imapMoveEmail.fromFolder(), imapMoveEmail.toFolder());
+    try {
+      return withStore(
+          session,
+          authentication,
+          lease -> {
+            Store store = lease.service();
+            String fromFolder = imapMoveEmail.fromFolder();
+            // opened read-write and closed with expunge, so it is not shared with other jobs
+            try (Folder sourceImapFolder = this.jakartaUtils.findImapFolder(store, fromFolder)) {
+              sourceImapFolder.open(Folder.READ_WRITE);
+              LOG.debug("Source folder opened in READ_WRITE mode");
+              Message[] messages =
+                  sourceImapFolder.search(new MessageIDTerm(imapMoveEmail.messageId()));
+              LOG.debug("Search returned {} message(s)", messages.length);
+              Message message =
+                  Arrays.stream(messages)
+                      .findFirst()
+                      .orElseThrow(
+                          () -> {
+                            LOG.warn("Email not found in folder for IMAP move operation");
+                            return new MessagingException(
+                                "Email with messageId %s does not exist"
+                                    .formatted(imapMoveEmail.messageId()));
+                          });
+              LOG.debug("Moving message to target folder");
+              this.jakartaUtils.moveMessage(store, message, imapMoveEmail.toFolder());
+            }
+            LOG.debug("IMAP move email completed successfully");
+            return new MoveEmailResponse(
+                imapMoveEmail.messageId(), imapMoveEmail.fromFolder(), imapMoveEmail.toFolder());
+          });
     } catch (MessagingException e) {
       LOG.error("IMAP move email failed", e);
       throw new RuntimeException(e);
@@ -203,30 +227,32 @@ public class JakartaEmailActionExecutor implements EmailActionExecutor {
         imapListEmails.maxToBeRead(),
         imapListEmails.sortField(),
         imapListEmails.sortOrder());
-    try (Store store = session.getStore()) {
-      LOG.debug("Connecting to IMAP store");
-      this.jakartaUtils.connectStore(store, authentication);
-      String targetFolder = imapListEmails.listEmailsFolder();
-      LOG.debug("Listing emails from folder: {}", targetFolder);
-      try (Folder imapFolder = this.jakartaUtils.findImapFolder(store, targetFolder)) {
-        imapFolder.open(Folder.READ_ONLY);
-        int totalMessages = imapFolder.getMessageCount();
-        LOG.debug("Folder opened, total messages in folder: {}", totalMessages);
-        List<ListEmailsResponse> results =
-            Arrays.stream(imapFolder.getMessages())
-                .map(this.jakartaUtils::createBodylessEmail)
-                .sorted(
-                    this.jakartaUtils.retrieveEmailComparator(
-                        imapListEmails.sortField(), imapListEmails.sortOrder()))
-                .map(
-                    email ->
-                        new ListEmailsResponse(
-                            email.messageId(), email.from(), email.subject(), email.size()))
-                .limit(imapListEmails.maxToBeRead())
-                .toList();
-        LOG.debug("IMAP list emails completed, returning {} emails", results.size());
-        return results;
-      }
+    try {
+      return withStore(
+          session,
+          authentication,
+          lease -> {
+            String targetFolder = imapListEmails.listEmailsFolder();
+            LOG.debug("Listing emails from folder: {}", targetFolder);
+            Folder imapFolder =
+                lease.readOnlyFolder(targetFolder, this.jakartaUtils::findImapFolder);
+            int totalMessages = imapFolder.getMessageCount();
+            LOG.debug("Folder opened, total messages in folder: {}", totalMessages);
+            List<ListEmailsResponse> results =
+                Arrays.stream(imapFolder.getMessages())
+                    .map(this.jakartaUtils::createBodylessEmail)
+                    .sorted(
+                        this.jakartaUtils.retrieveEmailComparator(
+                            imapListEmails.sortField(), imapListEmails.sortOrder()))
+                    .map(
+                        email ->
+                            new ListEmailsResponse(
+                                email.messageId(), email.from(), email.subject(), email.size()))
+                    .limit(imapListEmails.maxToBeRead())
+                    .toList();
+            LOG.debug("IMAP list emails completed, returning {} emails", results.size());
+            return results;
+          });
     } catch (MessagingException e) {
       LOG.error("IMAP list emails failed", e);
       throw new RuntimeException(e);
@@ -374,13 +400,28 @@ public class JakartaEmailActionExecutor implements EmailActionExecutor {
         smtpSendEmail.attachments().forEach(getDocumentConsumer(multipart));
       }
       message.setContent(multipart);
-      LOG.debug("Message prepared, connecting to SMTP transport");
-      try (Transport transport = session.getTransport()) {
-        this.jakartaUtils.connectTransport(transport, authentication);
+      LOG.debug("Message prepared, acquiring SMTP transport");
+      try (var lease =
+          connectionPool.<Transport>acquire(
+              "transport",
+              session,
+              authentication,
+              s -> {
+                Transport transport = s.getTransport();
+                this.jakartaUtils.connectTransport(transport, authentication);
+                return transport;
+              })) {
         LOG.debug(
             "SMTP transport connected, sending message to {} recipient(s)",
             message.getAllRecipients().length);
-        transport.sendMessage(message, message.getAllRecipients());
+        try {
+          lease.service().sendMessage(message, message.getAllRecipients());
+        } catch (MessagingException | RuntimeException e) {
+          if (EmailConnectionPool.isConnectionFailure(e)) {
+            lease.invalidate();
+          }
+          throw e;
+        }
       }
       LOG.debug("SMTP send email completed successfully");
       return new SendEmailResponse(smtpSendEmail.subject(), true, message.getMessageID());
@@ -460,10 +501,44 @@ public class JakartaEmailActionExecutor implements EmailActionExecutor {
     };
   }
 
+  /**
+   * Runs the operation with a pooled store. The store is closed instead of being returned to the
+   * pool if the operation failed because of a broken connection.
+   */
+  private <R> R withStore(
+      Session session, Authentication authentication, StoreOperation<R> operation)
+      throws MessagingException {
+    try (var lease = acquireStore(session, authentication)) {
+      try {
+        return operation.apply(lease);
+      } catch (MessagingException | RuntimeException e) {
+        if (EmailConnectionPool.isConnectionFailure(e)) {
+          lease.invalidate();
+        }
+        throw e;
+      }
+    }
+  }
+
+  private EmailConnectionPool.Lease<Store> acquireStore(
+      Session session, Authentication authentication) throws MessagingException {
+    return connectionPool.acquire(
+        "store",
+        session,
+        authentication,
+        s -> {
+          Store store = s.getStore();
+          this.jakartaUtils.connectStore(store, authentication);
+          return store;
+        });
+  }
+
   private List<SearchEmailsResponse> searchEmails(Folder folder, Object criteria)
       throws MessagingException {
     LOG.debug("Executing email search on folder");
-    folder.open(Folder.READ_ONLY);
+    if (!folder.isOpen()) {
+      folder.open(Folder.READ_ONLY);
+    }
     LOG.debug("Folder opened in READ_ONLY mode, converting criteria to search terms");
     JsonNode jsonNode = this.objectMapper.convertValue(criteria, JsonNode.class);
     SearchTerm searchTerm = createSearchTerms(jsonNode);
@@ -557,4 +632,9 @@ public class JakartaEmailActionExecutor implements EmailActionExecutor {
     LOG.debug("Created {} document(s) from attachments", documents.size());
     return documents;
   }
+
+  @FunctionalInterface
+  private interface StoreOperation<R> {
+    R apply(EmailConnectionPool.Lease<Store> lease) throws MessagingException;
+  }
 }
@@ -277,6 +277,102 @@ public class JakartaUtils {
     }
   }
 
+  /**
+   * Reads the headers and the plain text and HTML bodies of the message, but none of its
+   * attachments. With IMAP, the attachments are not downloaded from the server until they are
+   * requested with {@link #streamAttachments(Message)}.
+   */
+  public Email createEmailWithoutAttachments(Message message) {
+    try {
+      Email email = this.createBodylessEmail(message);
+      EmailBody.EmailBodyBuilder emailBodyBuilder = EmailBody.createBuilder();
+      visitParts(message, emailBodyBuilder, attachment -> {});
+      return new Email(
+          emailBodyBuilder.build(),
+          email.messageId(),
+          email.subject(),
+          email.headers(),
+          email.from(),
+          email.to(),
+          email.cc(),
+          email.sentAt(),
+          email.receivedAt(),
+          email.size());
+    } catch (IOException | MessagingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Returns the attachments of the message as streams of their decoded content. Nothing is
+   * buffered, the content is read from the server while the streams are consumed.
+   */
+  public List<EmailAttachment> streamAttachments(Message message) {
+    try {
+      List<EmailAttachment> attachments = new ArrayList<>();
+      visitParts(
+          message,
+          null,
+          attachment ->
+              attachments.add(
+                  new EmailAttachment(
+                      attachment.getInputStream(),
+                      attachment.getFileName(),
+                      new ContentType(attachment.getContentType()).getBaseType())));
+      return attachments;
+    } catch (IOException | MessagingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /** The combined size of the attachments of the message, as reported by the server. */
+  public long attachmentsSize(Message message) {
+    try {
+      long[] size = {0};
+      visitParts(message, null, attachment -> size[0] += Math.max(attachment.getSize(), 0));
+      return size[0];
+    } catch (IOException | MessagingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Walks the MIME structure of the part. Attachments are passed to the visitor without reading
+   * their content, text bodies are only read if a body builder is given.
+   */
+  private void visitParts(
+      Part part, EmailBody.EmailBodyBuilder emailBodyBuilder, AttachmentVisitor visitor)
+      throws MessagingException, IOException {
+    if (Part.ATTACHMENT.equalsIgnoreCase(part.getDisposition())) {
+      visitor.visit(part);
+      return;
+    }
+    if (part.isMimeType("multipart/*") && part.getContent() instanceof Multipart multipart) {
+      for (int i = 0; i < multipart.getCount(); i++) {
+        visitParts(multipart.getBodyPart(i), emailBodyBuilder, visitor);
+      }
+      return;
+    }
+    if (emailBodyBuilder == null) {
+      return;
+    }
+    switch (part.getContent()) {
+      case String plainText when part.isMimeType("text/plain") ->
+          emailBodyBuilder.withBodyAsPlainText(plainText);
+      case String html when part.isMimeType("text/html") -> emailBodyBuilder.withBodyAsHtml(html);
+      default ->
+          LOGGER.warn(
+              "This part is not yet managed. Mime : {}, disposition: {}",
+              part.getContentType(),
+              part.getDisposition());
+    }
+  }
+
+  @FunctionalInterface
+  private interface AttachmentVisitor {
+    void visit(Part attachment) throws MessagingException, IOException;
+  }
+
   private EmailBody processMultipart(
       MimeMultipart multipart, EmailBody.EmailBodyBuilder emailBodyBuilder) {
     try {
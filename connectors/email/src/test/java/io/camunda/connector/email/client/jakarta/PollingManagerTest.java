@@ -6,6 +6,7 @@
  */
 package io.camunda.connector.email.client.jakarta;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -15,11 +16,16 @@ import io.camunda.connector.api.inbound.InboundConnectorContext;
 import io.camunda.connector.email.authentication.InboundAuthentication;
 import io.camunda.connector.email.authentication.SimpleAuthentication;
 import io.camunda.connector.email.client.jakarta.inbound.PollingManager;
+import io.camunda.connector.email.client.jakarta.models.Email;
+import io.camunda.connector.email.client.jakarta.models.EmailBody;
 import io.camunda.connector.email.client.jakarta.utils.JakartaUtils;
 import io.camunda.connector.email.inbound.model.EmailInboundConnectorProperties;
 import io.camunda.connector.email.inbound.model.EmailListenerConfig;
 import io.camunda.connector.email.inbound.model.HandlingStrategy;
+import io.camunda.connector.email.inbound.model.PollAll;
 import io.camunda.connector.email.inbound.model.PollUnseen;
+import io.camunda.connector.email.inbound.model.PollingConfig;
+import io.camunda.connector.email.response.ReadEmailResponse;
 import jakarta.activation.DataHandler;
 import jakarta.activation.DataSource;
 import jakarta.mail.*;
@@ -28,25 +34,59 @@ import jakarta.mail.internet.MimeMultipart;
 import jakarta.mail.util.ByteArrayDataSource;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import org.apache.hc.core5.http.ContentType;
+import org.eclipse.angus.mail.imap.IMAPFolder;
+import org.eclipse.angus.mail.imap.IMAPMessage;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class PollingManagerTest {
 
-  @Test
-  void poll() throws MessagingException, IOException {
-    InboundConnectorContext connectorContext = mock(InboundConnectorContext.class);
+  private final InboundConnectorContext connectorContext = mock(InboundConnectorContext.class);
+  private final EmailListenerConfig emailListenerConfig = mock(EmailListenerConfig.class);
+  private final JakartaUtils jakartaUtils = mock(JakartaUtils.class);
+  private final IMAPFolder imapFolder = mock(IMAPFolder.class);
+
+  // message IDs passed to the activation check, in order
+  private final List<String> processed = new ArrayList<>();
+  // message IDs that match no activation condition and are not discarded
+  private final Set<String> unmatched = new HashSet<>();
+
+  @BeforeEach
+  void setUp() throws MessagingException {
     EmailInboundConnectorProperties emailInboundConnectorProperties =
         mock(EmailInboundConnectorProperties.class);
     InboundAuthentication authentication = mock(SimpleAuthentication.class);
-    Folder folder = mock(Folder.class);
     Session session = mock(Session.class);
     Store store = mock(Store.class);
-    EmailListenerConfig emailListenerConfig = mock(EmailListenerConfig.class);
-    PollUnseen pollUnseen = mock(PollUnseen.class);
-    JakartaUtils jakartaUtils = mock(JakartaUtils.class);
+
+    when(connectorContext.bindProperties(any())).thenReturn(emailInboundConnectorProperties);
+    when(connectorContext.canActivate(any()))
+        .thenAnswer(
+            invocation -> {
+              String messageId = invocation.getArgument(0, ReadEmailResponse.class).messageId();
+              processed.add(messageId);
+              return unmatched.contains(messageId)
+                  ? new ActivationCheckResult.Failure.NoMatchingElement(false)
+                  : new ActivationCheckResult.Success.CanActivate(null);
+            });
+    when(connectorContext.correlate(any()))
+        .thenReturn(new CorrelationResult.Success.ProcessInstanceCreated(null, null, null));
+    when(emailInboundConnectorProperties.authentication()).thenReturn(authentication);
+    when(emailInboundConnectorProperties.data()).thenReturn(emailListenerConfig);
+    when(jakartaUtils.createSession(any(), any())).thenReturn(session);
+    when(session.getStore()).thenReturn(store);
+    when(imapFolder.getUIDValidity()).thenReturn(1L);
+  }
+
+  @Test
+  void poll() throws MessagingException, IOException {
+    Folder folder = mock(Folder.class);
 
     Multipart multipart = new MimeMultipart();
     MimeBodyPart textContent = new MimeBodyPart();
@@ -70,26 +110,185 @@ class PollingManagerTest {
             .setBody(multipart)
             .createTestMessage();
 
-    when(connectorContext.bindProperties(any())).thenReturn(emailInboundConnectorProperties);
-    when(connectorContext.canActivate(any()))
-        .thenReturn(new ActivationCheckResult.Success.CanActivate(null));
-    when(connectorContext.correlate(any()))
-        .thenReturn(new CorrelationResult.Success.ProcessInstanceCreated(null, null, null));
-    when(emailInboundConnectorProperties.authentication()).thenReturn(authentication);
-    when(emailInboundConnectorProperties.data()).thenReturn(emailListenerConfig);
-    when(jakartaUtils.createSession(any(), any())).thenReturn(session);
-    when(jakartaUtils.findImapFolder(any(), any())).thenReturn(folder);
-    when(session.getStore()).thenReturn(store);
-    when(emailListenerConfig.pollingConfig()).thenReturn(pollUnseen);
-    when(pollUnseen.handlingStrategy()).thenReturn(HandlingStrategy.READ);
-    PollingManager pollingManager = PollingManager.create(connectorContext, jakartaUtils);
+    PollingManager pollingManager = createPollingManager(folder, pollUnseen());
 
     when(folder.getMessages()).thenReturn(new Message[] {message});
     when(folder.search(any(), any())).thenReturn(new Message[] {message});
-    when(jakartaUtils.createEmail(any())).thenCallRealMethod();
+    when(jakartaUtils.createEmailWithoutAttachments(any())).thenCallRealMethod();
     when(jakartaUtils.createBodylessEmail(any())).thenCallRealMethod();
+    when(jakartaUtils.streamAttachments(any())).thenCallRealMethod();
     pollingManager.poll();
 
     verify(connectorContext, times(1)).correlate(argThat(Objects::nonNull));
+    verify(connectorContext, times(1)).create(any());
+  }
+
+  @Test
+  void poll_shouldNotDownloadAttachments_WhenNoActivationConditionMatches()
+      throws MessagingException {
+    Folder folder = mock(Folder.class);
+
+    Multipart multipart = new MimeMultipart();
+    MimeBodyPart textContent = new MimeBodyPart();
+    textContent.setText("body");
+    multipart.addBodyPart(textContent);
+    TestImapMessage message =
+        TestImapMessage.builder()
+            .setTo(List.of("recipient@example.com"))
+            .setMessageId("messageId")
+            .setFrom("sender")
+            .setSubject("subject")
+            .setBody(multipart)
+            .createTestMessage();
+
+    when(connectorContext.canActivate(any()))
+        .thenReturn(new ActivationCheckResult.Failure.NoMatchingElement(true));
+    PollingManager pollingManager = createPollingManager(folder, pollUnseen());
+
+    when(folder.getMessages()).thenReturn(new Message[] {message});
+    when(folder.search(any(), any())).thenReturn(new Message[] {message});
+    when(jakartaUtils.createEmailWithoutAttachments(any())).thenCallRealMethod();
+    when(jakartaUtils.createBodylessEmail(any())).thenCallRealMethod();
+    pollingManager.poll();
+
+    verify(jakartaUtils, never()).streamAttachments(any());
+    verify(connectorContext, never()).correlate(any());
+    verify(jakartaUtils).markAsSeen(message);
+  }
+
+  @Test
+  void poll_shouldOnlyFetchNewMessages_WhenNewestMessageWasAlreadyProcessed()
+      throws MessagingException {
+    // given
+    PollingManager pollingManager = createPollingManager(imapFolder, pollAll());
+    IMAPMessage first = message(1);
+    IMAPMessage second = message(2);
+    newMessages(1, first, second);
+    pollingManager.poll();
+
+    // when `3:*` matches the newest message although its UID is below 3
+    newMessages(3, second);
+    pollingManager.poll();
+
+    // then
+    assertThat(processed).containsExactly("message-1", "message-2");
+    verify(imapFolder).getMessagesByUID(3, UIDFolder.LASTUID);
+    verify(imapFolder, never()).getMessagesByUID(any(long[].class));
+  }
+
+  @Test
+  void poll_shouldStartOver_WhenUidValidityChanges() throws MessagingException {
+    // given
+    PollingManager pollingManager = createPollingManager(imapFolder, pollAll());
+    newMessages(1, message(1), message(2));
+    pollingManager.poll();
+
+    // when the folder was recreated, its UIDs start over
+    when(imapFolder.getUIDValidity()).thenReturn(2L);
+    IMAPMessage recreated = message(1, "message-1-recreated");
+    newMessages(1, recreated);
+    pollingManager.poll();
+
+    // then
+    assertThat(processed).containsExactly("message-1", "message-2", "message-1-recreated");
+    verify(imapFolder, times(2)).getMessagesByUID(1, UIDFolder.LASTUID);
+  }
+
+  @Test
+  void poll_shouldFetchPendingMessagesAgain_AndForgetExpungedOnes() throws MessagingException {
+    // given two messages that match no activation condition
+    PollingManager pollingManager = createPollingManager(imapFolder, pollAll());
+    IMAPMessage pending = message(2);
+    IMAPMessage expunged = message(3);
+    unmatched.addAll(List.of("message-2", "message-3"));
+    newMessages(1, message(1), pending, expunged);
+    pollingManager.poll();
+
+    // when one of them is expunged before the next cycle
+    when(expunged.isExpunged()).thenReturn(true);
+    when(imapFolder.getMessagesByUID(new long[] {2, 3}))
+        .thenReturn(new Message[] {pending, expunged});
+    when(imapFolder.getMessagesByUID(new long[] {2})).thenReturn(new Message[] {pending});
+    newMessages(4, message(4));
+    pollingManager.poll();
+    newMessages(5, message(4));
+    pollingManager.poll();
+
+    // then the pending message is processed in every cycle, the expunged one is forgotten
+    assertThat(processed)
+        .containsExactly(
+            "message-1", "message-2", "message-3", "message-2", "message-4", "message-2");
+    verify(imapFolder).getMessagesByUID(new long[] {2, 3});
+    verify(imapFolder).getMessagesByUID(new long[] {2});
+    verify(jakartaUtils, never()).markAsSeen(pending);
+  }
+
+  @Test
+  void poll_shouldSkipSeenMessages_WhenPollingUnseen() throws MessagingException {
+    // given
+    PollingManager pollingManager = createPollingManager(imapFolder, pollUnseen());
+    IMAPMessage seen = message(1);
+    when(seen.isSet(Flags.Flag.SEEN)).thenReturn(true);
+    IMAPMessage unseen = message(2);
+    newMessages(1, seen, unseen);
+
+    // when
+    pollingManager.poll();
+    newMessages(3, unseen);
+    pollingManager.poll();
+
+    // then the seen message is handled without processing, it is not fetched again
+    assertThat(processed).containsExactly("message-2");
+    verify(jakartaUtils, never()).createEmailWithoutAttachments(seen);
+    verify(jakartaUtils).markAsSeen(unseen);
+    verify(imapFolder).getMessagesByUID(3, UIDFolder.LASTUID);
+    verify(imapFolder, never()).getMessagesByUID(any(long[].class));
+  }
+
+  private PollingManager createPollingManager(Folder folder, PollingConfig pollingConfig)
+      throws MessagingException {
+    when(jakartaUtils.findImapFolder(any(), any())).thenReturn(folder);
+    when(emailListenerConfig.pollingConfig()).thenReturn(pollingConfig);
+    return PollingManager.create(connectorContext, jakartaUtils);
+  }
+
+  private static PollUnseen pollUnseen() {
+    PollUnseen pollUnseen = mock(PollUnseen.class);
+    when(pollUnseen.handlingStrategy()).thenReturn(HandlingStrategy.READ);
+    return pollUnseen;
+  }
+
+  private static PollAll pollAll() {
+    PollAll pollAll = mock(PollAll.class);
+    when(pollAll.handlingStrategy()).thenReturn(HandlingStrategy.READ);
+    return pollAll;
+  }
+
+  private IMAPMessage message(long uid) throws MessagingException {
+    return message(uid, "message-" + uid);
+  }
+
+  private IMAPMessage message(long uid, String messageId) throws MessagingException {
+    IMAPMessage message = mock(IMAPMessage.class);
+    when(imapFolder.getUID(message)).thenReturn(uid);
+    when(jakartaUtils.createEmailWithoutAttachments(message))
+        .thenReturn(
+            new Email(
+                EmailBody.createBuilder().withBodyAsPlainText("body").build(),
+                messageId,
+                "subject",
+                List.of(),
+                "sender@example.com",
+                List.of("recipient@example.com"),
+                List.of(),
+                null,
+                null,
+                4));
+    return message;
+  }
+
+  /** The messages the folder returns for {@code fromUid:*}. */
+  private void newMessages(long fromUid, Message... messages) throws MessagingException {
+    when(imapFolder.getMessagesByUID(fromUid, UIDFolder.LASTUID)).thenReturn(messages);
   }
 }
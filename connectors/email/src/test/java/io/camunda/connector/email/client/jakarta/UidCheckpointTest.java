@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.email.client.jakarta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.email.client.jakarta.inbound.UidCheckpoint;
+import org.junit.jupiter.api.Test;
+
+class UidCheckpointTest {
+
+  @Test
+  void shouldAdvanceLastUid_AndKeepUnhandledMessagesPending() {
+    // given
+    UidCheckpoint checkpoint = new UidCheckpoint();
+    checkpoint.reset(42);
+
+    // when
+    checkpoint.handled(3);
+    checkpoint.unhandled(5);
+    checkpoint.handled(4);
+
+    // then
+    assertThat(checkpoint.isValidFor(42)).isTrue();
+    assertThat(checkpoint.lastUid()).isEqualTo(5);
+    assertThat(checkpoint.pendingUids()).containsExactly(5);
+  }
+
+  @Test
+  void shouldClearPendingMessage_WhenHandledOrForgotten() {
+    // given
+    UidCheckpoint checkpoint = new UidCheckpoint();
+    checkpoint.reset(42);
+    checkpoint.unhandled(1);
+    checkpoint.unhandled(2);
+
+    // when
+    checkpoint.handled(1);
+    checkpoint.forget(2);
+
+    // then
+    assertThat(checkpoint.pendingUids()).isEmpty();
+    assertThat(checkpoint.lastUid()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldStartOver_WhenUidValidityChanges() {
+    // given
+    UidCheckpoint checkpoint = new UidCheckpoint();
+    assertThat(checkpoint.isValidFor(42)).isFalse();
+    checkpoint.reset(42);
+    checkpoint.unhandled(7);
+
+    // when
+    checkpoint.reset(43);
+
+    // then
+    assertThat(checkpoint.isValidFor(42)).isFalse();
+    assertThat(checkpoint.lastUid()).isZero();
+    assertThat(checkpoint.pendingUids()).isEmpty();
+  }
+}
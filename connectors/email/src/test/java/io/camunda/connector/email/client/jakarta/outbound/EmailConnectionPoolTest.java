@@ -0,0 +1,231 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.email.client.jakarta.outbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.email.authentication.SimpleAuthentication;
+import jakarta.mail.Folder;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Store;
+import jakarta.mail.StoreClosedException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EmailConnectionPoolTest {
+
+  private static final SimpleAuthentication AUTHENTICATION =
+      new SimpleAuthentication("user", "secret");
+
+  private EmailConnectionPool pool;
+
+  @AfterEach
+  void closePool() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  @Test
+  void shouldReuseConnection_AfterLeaseIsClosed() throws MessagingException {
+    // given
+    pool = new EmailConnectionPool(4, Duration.ofMinutes(5), Duration.ofSeconds(1));
+    Store store = mock(Store.class);
+    when(store.isConnected()).thenReturn(true);
+    AtomicInteger connects = new AtomicInteger();
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      try (var lease =
+          pool.acquire(
+              "store",
+              session("imap.example.com"),
+              AUTHENTICATION,
+              s -> {
+                connects.incrementAndGet();
+                return store;
+              })) {
+        assertThat(lease.service()).isSameAs(store);
+      }
+    }
+
+    // then
+    assertThat(connects).hasValue(1);
+    assertThat(pool.openConnections()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotShareConnections_BetweenDifferentServers() throws MessagingException {
+    // given
+    pool = new EmailConnectionPool(4, Duration.ofMinutes(5), Duration.ofSeconds(1));
+    AtomicInteger connects = new AtomicInteger();
+    EmailConnectionPool.ServiceConnector<Store> connector =
+        s -> {
+          connects.incrementAndGet();
+          Store store = mock(Store.class);
+          when(store.isConnected()).thenReturn(true);
+          return store;
+        };
+
+    // when
+    pool.acquire("store", session("imap.example.com"), AUTHENTICATION, connector).close();
+    pool.acquire("store", session("imap.example.org"), AUTHENTICATION, connector).close();
+
+    // then
+    assertThat(connects).hasValue(2);
+    assertThat(pool.openConnections()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReconnect_WhenPooledConnectionWasDropped() throws MessagingException {
+    // given
+    pool = new EmailConnectionPool(4, Duration.ofMinutes(5), Duration.ofSeconds(1));
+    Store dropped = mock(Store.class);
+    when(dropped.isConnected()).thenReturn(false);
+    Store fresh = mock(Store.class);
+    pool.acquire("store", session("imap.example.com"), AUTHENTICATION, s -> dropped).close();
+
+    // when
+    try (var lease =
+        pool.acquire("store", session("imap.example.com"), AUTHENTICATION, s -> fresh)) {
+
+      // then
+      assertThat(lease.service()).isSameAs(fresh);
+    }
+    verify(dropped, times(1)).close();
+    assertThat(pool.openConnections()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCloseIdleConnections() throws MessagingException {
+    // given
+    pool = new EmailConnectionPool(4, Duration.ZERO, Duration.ofSeconds(1));
+    Store store = mock(Store.class);
+    pool.acquire("store", session("imap.example.com"), AUTHENTICATION, s -> store).close();
+
+    // when
+    pool.evictIdle();
+
+    // then
+    verify(store, times(1)).close();
+    assertThat(pool.openConnections()).isZero();
+  }
+
+  @Test
+  void shouldTimeOut_WhenAllConnectionsAreLeased() throws MessagingException {
+    // given
+    pool = new EmailConnectionPool(1, Duration.ofMinutes(5), Duration.ofMillis(10));
+    Store store = mock(Store.class);
+
+    try (var ignored =
+        pool.acquire("store", session("imap.example.com"), AUTHENTICATION, s -> store)) {
+
+      // when / then
+      assertThatThrownBy(
+              () -> pool.acquire("store", session("imap.example.com"), AUTHENTICATION, s -> store))
+          .isInstanceOf(MessagingException.class)
+          .hasMessageContaining("Timed out");
+    }
+  }
+
+  @Test
+  void shouldLeaseConnectionOfOtherKey_WhenAllConnectionsOfAKeyAreLeased()
+      throws MessagingException {
+    // given
+    pool = new EmailConnectionPool(1, Duration.ofMinutes(5), Duration.ofMillis(10));
+    Store store = mock(Store.class);
+
+    try (var ignored =
+        pool.acquire("store", session("imap.example.com"), AUTHENTICATION, s -> store)) {
+
+      // when
+      try (var lease =
+          pool.acquire("store", session("imap.example.org"), AUTHENTICATION, s -> store)) {
+
+        // then
+        assertThat(lease.service()).isSameAs(store);
+      }
+    }
+  }
+
+  @Test
+  void shouldCloseConnection_WhenLeaseIsInvalidated() throws MessagingException {
+    // given
+    pool = new EmailConnectionPool(1, Duration.ofMinutes(5), Duration.ofMillis(10));
+    Store broken = mock(Store.class);
+    Store fresh = mock(Store.class);
+    var lease = pool.acquire("store", session("imap.example.com"), AUTHENTICATION, s -> broken);
+
+    // when
+    lease.invalidate();
+    lease.close();
+
+    // then the connection is closed and its slot can be used by a new one
+    verify(broken, times(1)).close();
+    assertThat(pool.openConnections()).isZero();
+    try (var next =
+        pool.acquire("store", session("imap.example.com"), AUTHENTICATION, s -> fresh)) {
+      assertThat(next.service()).isSameAs(fresh);
+    }
+  }
+
+  @Test
+  void shouldDetectConnectionFailures() {
+    assertThat(EmailConnectionPool.isConnectionFailure(new StoreClosedException(null, "bye")))
+        .isTrue();
+    assertThat(
+            EmailConnectionPool.isConnectionFailure(
+                new MessagingException("failed", new IOException("reset"))))
+        .isTrue();
+    assertThat(EmailConnectionPool.isConnectionFailure(new MessagingException("not found")))
+        .isFalse();
+  }
+
+  @Test
+  void shouldReuseOpenReadOnlyFolder() throws MessagingException {
+    // given
+    pool = new EmailConnectionPool(4, Duration.ofMinutes(5), Duration.ofSeconds(1));
+    Store store = mock(Store.class);
+    when(store.isConnected()).thenReturn(true);
+    Folder folder = mock(Folder.class);
+    when(folder.isOpen()).thenReturn(true);
+    AtomicInteger finds = new AtomicInteger();
+    EmailConnectionPool.FolderFinder finder =
+        (s, path) -> {
+          finds.incrementAndGet();
+          return folder;
+        };
+
+    // when
+    for (int i = 0; i < 2; i++) {
+      try (var lease =
+          pool.acquire("store", session("imap.example.com"), AUTHENTICATION, s -> store)) {
+        assertThat(lease.readOnlyFolder("INBOX", finder)).isSameAs(folder);
+      }
+    }
+
+    // then
+    assertThat(finds).hasValue(1);
+    verify(folder, times(1)).open(Folder.READ_ONLY);
+  }
+
+  private static Session session(String host) {
+    Properties properties = new Properties();
+    properties.put("mail.imaps.host", host);
+    return Session.getInstance(properties);
+  }
+}
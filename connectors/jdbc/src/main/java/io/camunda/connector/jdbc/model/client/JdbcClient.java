@@ -6,10 +6,20 @@
  */
 package io.camunda.connector.jdbc.model.client;
 
+import io.camunda.connector.api.document.DocumentFactory;
 import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.jdbc.model.request.JdbcRequest;
 import io.camunda.connector.jdbc.model.response.JdbcResponse;
 
 public sealed interface JdbcClient permits JdbiJdbcClient {
-  JdbcResponse executeRequest(JdbcRequest request) throws ConnectorException;
+  default JdbcResponse executeRequest(JdbcRequest request) throws ConnectorException {
+    return executeRequest(request, null);
+  }
+
+  /**
+   * @param documentFactory creates the document for results written to a document, may be null if
+   *     the request returns its results as variables
+   */
+  JdbcResponse executeRequest(JdbcRequest request, DocumentFactory documentFactory)
+      throws ConnectorException;
 }
@@ -6,73 +6,123 @@
  */
 package io.camunda.connector.jdbc.model.client;
 
-import static io.camunda.connector.jdbc.utils.ConnectionHelper.openConnection;
-
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.document.Document;
+import io.camunda.connector.api.document.DocumentCreationRequest;
+import io.camunda.connector.api.document.DocumentFactory;
 import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.jackson.ConnectorsObjectMapperSupplier;
 import io.camunda.connector.jdbc.model.request.JdbcRequest;
 import io.camunda.connector.jdbc.model.request.JdbcRequestData;
 import io.camunda.connector.jdbc.model.response.JdbcResponse;
-import java.sql.Connection;
-import java.sql.SQLException;
+import io.camunda.connector.jdbc.pool.JdbcPoolRegistry;
+import io.camunda.connector.jdbc.pool.JdbcPoolRegistry.PooledDatabase;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import org.jdbi.v3.core.Jdbi;
+import java.util.Optional;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.statement.Query;
 import org.jdbi.v3.core.statement.SqlStatement;
-import org.jdbi.v3.jackson2.Jackson2Plugin;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public record JdbiJdbcClient() implements JdbcClient {
+public record JdbiJdbcClient(JdbcPoolRegistry pools) implements JdbcClient {
   private static final Logger LOG = LoggerFactory.getLogger(JdbiJdbcClient.class);
+  private static final ObjectMapper OBJECT_MAPPER = ConnectorsObjectMapperSupplier.getCopy();
+
+  public JdbiJdbcClient() {
+    this(JdbcPoolRegistry.getDefault());
+  }
 
   @Override
-  public JdbcResponse executeRequest(JdbcRequest request) throws ConnectorException {
+  public JdbcResponse executeRequest(JdbcRequest request, DocumentFactory documentFactory)
+      throws ConnectorException {
     JdbcRequestData data = request.data();
-    try (Connection connection = openConnection(request)) {
-      return internalExecuteRequest(data, connection);
-    } catch (SQLException | IllegalAccessException e) {
-      throw new ConnectorException(
-          "Error while executing the query [" + data.query() + "]: " + e.getMessage());
+    LOG.debug("Executing JDBC request: {}", request);
+    if (data.returnResults() && data.resultFormat().isDocument() && documentFactory == null) {
+      throw new ConnectorException("Writing the result to a document requires a document factory");
     }
+    PooledDatabase database = pools.poolFor(request.database(), request.connection());
+    // the handle returns its connection to the pool when closed
+    return database
+        .jdbi()
+        .withHandle(
+            handle ->
+                internalExecuteRequest(
+                    data,
+                    handle,
+                    database.databaseProductName(handle.getConnection()),
+                    documentFactory));
   }
 
-  JdbcResponse internalExecuteRequest(JdbcRequestData data, Connection connection)
-      throws SQLException, IllegalAccessException {
+  JdbcResponse internalExecuteRequest(
+      JdbcRequestData data,
+      Handle handle,
+      String databaseProductName,
+      DocumentFactory documentFactory) {
     JdbcResponse response;
-    Jdbi jdbi = Jdbi.create(connection);
-    jdbi.installPlugin(new Jackson2Plugin());
-    String databaseProductName =
-        jdbi.withHandle(
-            handle -> {
-              try {
-                return handle.getConnection().getMetaData().getDatabaseProductName();
-              } catch (SQLException e) {
-                LOG.error("Failed to retrieve database dialect", e);
-                return "Unknown";
-              }
-            });
-
-    if (data.returnResults()) {
+    if (data.returnResults() && data.resultFormat().isDocument()) {
+      LOG.debug("Executing query into a {} document: {}", data.resultFormat(), data.query());
+      response = writeDocument(data, handle, databaseProductName, documentFactory);
+      LOG.debug("Wrote {} rows to document", response.rowCount());
+    } else if (data.returnResults()) {
       // SELECT query, or RETURNING clause
       LOG.debug("Executing query: {}", data.query());
-      Query q = jdbi.withHandle(handle -> bindVariables(handle.createQuery(data.query()), data));
+      Query q = bindVariables(handle.createQuery(data.query()), data);
       List<Map<String, Object>> result =
           JdbiJsonHelper.mapToParsedMap(databaseProductName, q).list();
       response = JdbcResponse.of(result);
       LOG.debug("JdbcResponse: {}", response);
     } else {
       LOG.debug("Executing modifying query: {}", data.query());
-      Integer result =
-          jdbi.withHandle(
-              // Note that we might use executeAndReturnGeneratedKeys in the future
-              handle -> bindVariables(handle.createUpdate(data.query()), data).execute());
+      // Note that we might use executeAndReturnGeneratedKeys in the future
+      Integer result = bindVariables(handle.createUpdate(data.query()), data).execute();
       response = JdbcResponse.of(result);
     }
     return response;
   }
 
+  /**
+   * Streams the rows into a document while they are fetched, instead of collecting them in memory.
+   * The query runs in a transaction, since PostgreSQL only honors the fetch size with auto commit
+   * disabled.
+   */
+  private JdbcResponse writeDocument(
+      JdbcRequestData data,
+      Handle handle,
+      String databaseProductName,
+      DocumentFactory documentFactory) {
+    return handle.inTransaction(
+        transaction -> {
+          Query q =
+              bindVariables(transaction.createQuery(data.query()), data)
+                  .setFetchSize(
+                      Optional.ofNullable(data.fetchSize())
+                          .orElse(JdbcRequestData.DEFAULT_FETCH_SIZE));
+          if (data.maxRows() != null) {
+            q.setMaxRows(data.maxRows());
+          }
+          return q.scanResultSet(
+              (resultSetSupplier, ctx) -> {
+                var stream =
+                    new ResultSetDocumentStream(
+                        resultSetSupplier.get(),
+                        data.resultFormat(),
+                        data.maxRows(),
+                        rs -> JdbiJsonHelper.parseRow(databaseProductName, rs, ctx),
+                        OBJECT_MAPPER);
+                Document document =
+                    documentFactory.create(
+                        DocumentCreationRequest.from(stream)
+                            .contentType(stream.contentType())
+                            .fileName(stream.fileName())
+                            .build());
+                return JdbcResponse.of(document, stream.rowCount(), stream.columns());
+              });
+        });
+  }
+
   /**
    * Bind the variables to the statement. The variables can be a {@link Map} or a {@link List}. If
    * the query contains a binding variable, the value will be bound to it.
@@ -7,7 +7,9 @@
 package io.camunda.connector.jdbc.model.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import java.util.HashMap;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import org.jdbi.v3.core.mapper.ColumnMapper;
@@ -15,6 +17,7 @@ import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.result.ResultIterable;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.json.Json;
 
 public class JdbiJsonHelper {
@@ -33,28 +36,34 @@ public class JdbiJsonHelper {
 
   public static ResultIterable<Map<String, Object>> mapToParsedMap(
       String databaseProductName, Query query) {
-    return query.map(
-        (rs, ctx) -> {
-          Map<String, Object> row = new HashMap<>();
-          ColumnMapper<JsonNode> jsonMapper =
-              ctx.findColumnMapperFor(QualifiedType.of(JsonNode.class).with(Json.class))
-                  .orElseThrow();
-          // Java SQL ResultSet and ResultSetMetadata columns start with index 1:
-          // https://docs.oracle.com/en/java/javase/17/docs/api/java.sql/java/sql/ResultSetMetaData.html#getColumnTypeName(int)
-          for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
-            String columnName = rs.getMetaData().getColumnLabel(i);
-            Object value = rs.getObject(i);
-            if (isJsonColumn(databaseProductName, rs.getMetaData().getColumnTypeName(i))) {
-              try {
-                value = jsonMapper.map(rs, i, ctx);
-              } catch (UnableToProduceResultException ignored) {
-                row.put(columnName, value);
-              }
-            }
-            row.put(columnName, value);
-          }
-          return row;
-        });
+    return query.map((rs, ctx) -> parseRow(databaseProductName, rs, ctx));
+  }
+
+  /**
+   * Reads the current row of the result set, parsing the values of JSON columns.
+   *
+   * @return the values of the row by column label, in the order of the columns
+   */
+  public static Map<String, Object> parseRow(
+      String databaseProductName, ResultSet rs, StatementContext ctx) throws SQLException {
+    Map<String, Object> row = new LinkedHashMap<>();
+    ColumnMapper<JsonNode> jsonMapper =
+        ctx.findColumnMapperFor(QualifiedType.of(JsonNode.class).with(Json.class)).orElseThrow();
+    // Java SQL ResultSet and ResultSetMetadata columns start with index 1:
+    // https://docs.oracle.com/en/java/javase/17/docs/api/java.sql/java/sql/ResultSetMetaData.html#getColumnTypeName(int)
+    for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+      String columnName = rs.getMetaData().getColumnLabel(i);
+      Object value = rs.getObject(i);
+      if (isJsonColumn(databaseProductName, rs.getMetaData().getColumnTypeName(i))) {
+        try {
+          value = jsonMapper.map(rs, i, ctx);
+        } catch (UnableToProduceResultException ignored) {
+          row.put(columnName, value);
+        }
+      }
+      row.put(columnName, value);
+    }
+    return row;
   }
 
   private static boolean isJsonColumn(String databaseProductName, String columnTypeName) {
@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.jdbc.model.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.jdbc.model.request.ResultFormat;
+import io.camunda.connector.jdbc.model.response.JdbcColumn;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Encodes the rows of a result set as NDJSON or CSV while the stream is read, e.g. by the document
+ * store, so that only the current row is held in memory regardless of the size of the result.
+ *
+ * <p>NDJSON writes every row as a JSON object on its own line. CSV writes a header with the column
+ * labels followed by one line per row, quoted as described in RFC 4180. The stream neither closes
+ * nor scrolls the result set beyond the maximum number of rows.
+ *
+ * <p>Rows are read by column label, so the labels must be unique, e.g. {@code SELECT a.id, b.id}
+ * requires an alias for one of the columns.
+ */
+public class ResultSetDocumentStream extends InputStream {
+
+  private static final byte[] NEWLINE = {'\n'};
+  private static final byte[] CSV_NEWLINE = {'\r', '\n'};
+
+  private final ResultSet resultSet;
+  private final ResultFormat format;
+  private final Integer maxRows;
+  private final RowReader rowReader;
+  private final ObjectMapper objectMapper;
+  private final List<JdbcColumn> columns;
+  private final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+  private byte[] chunk = new byte[0];
+  private int position;
+  private boolean headerWritten;
+  private boolean exhausted;
+  private long rowCount;
+
+  /**
+   * @param format the format of the document, either {@link ResultFormat#NDJSON} or {@link
+   *     ResultFormat#CSV}
+   * @param maxRows the number of rows after which the document ends, {@code null} for all rows
+   * @param rowReader reads the values of the current row by column label
+   * @throws ConnectorException if the result contains a column label more than once
+   */
+  public ResultSetDocumentStream(
+      ResultSet resultSet,
+      ResultFormat format,
+      Integer maxRows,
+      RowReader rowReader,
+      ObjectMapper objectMapper)
+      throws SQLException {
+    if (!format.isDocument()) {
+      throw new IllegalArgumentException("Not a document format: " + format);
+    }
+    this.resultSet = resultSet;
+    this.format = format;
+    this.maxRows = maxRows;
+    this.rowReader = rowReader;
+    this.objectMapper = objectMapper;
+    this.columns = columns(resultSet.getMetaData());
+  }
+
+  public List<JdbcColumn> columns() {
+    return columns;
+  }
+
+  /** The number of rows written so far, all of them once the stream was read to the end. */
+  public long rowCount() {
+    return rowCount;
+  }
+
+  public String contentType() {
+    return format == ResultFormat.CSV ? "text/csv" : "application/x-ndjson";
+  }
+
+  public String fileName() {
+    return format == ResultFormat.CSV ? "result.csv" : "result.ndjson";
+  }
+
+  @Override
+  public int read() throws IOException {
+    byte[] single = new byte[1];
+    return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    while (position >= chunk.length) {
+      if (!nextChunk()) {
+        return -1;
+      }
+    }
+    int count = Math.min(len, chunk.length - position);
+    System.arraycopy(chunk, position, b, off, count);
+    position += count;
+    return count;
+  }
+
+  /** Encodes the header or the next row, false once all rows were written. */
+  private boolean nextChunk() throws IOException {
+    encoded.reset();
+    if (!headerWritten) {
+      headerWritten = true;
+      if (format == ResultFormat.CSV) {
+        writeCsvLine(columns.stream().map(JdbcColumn::name).toList());
+        return takeEncoded();
+      }
+    }
+    if (exhausted || (maxRows != null && rowCount >= maxRows)) {
+      exhausted = true;
+      return false;
+    }
+    try {
+      if (!resultSet.next()) {
+        exhausted = true;
+        return false;
+      }
+      Map<String, Object> row = rowReader.read(resultSet);
+      if (format == ResultFormat.CSV) {
+        List<Object> values = new ArrayList<>(columns.size());
+        columns.forEach(column -> values.add(row.get(column.name())));
+        writeCsvLine(values);
+      } else {
+        objectMapper.writeValue(encoded, row);
+        encoded.write(NEWLINE);
+      }
+    } catch (SQLException e) {
+      throw new IOException("Failed to read the result set: " + e.getMessage(), e);
+    }
+    rowCount++;
+    return takeEncoded();
+  }
+
+  private boolean takeEncoded() {
+    chunk = encoded.toByteArray();
+    position = 0;
+    return true;
+  }
+
+  private void writeCsvLine(List<?> values) throws IOException {
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) {
+        encoded.write(',');
+      }
+      encoded.write(csvValue(values.get(i)).getBytes(StandardCharsets.UTF_8));
+    }
+    encoded.write(CSV_NEWLINE);
+  }
+
+  private static String csvValue(Object value) {
+    String text =
+        switch (value) {
+          case null -> "";
+          case byte[] bytes -> Base64.getEncoder().encodeToString(bytes);
+          case JsonNode json -> json.toString();
+          default -> String.valueOf(value);
+        };
+    if (text.indexOf(',') >= 0
+        || text.indexOf('"') >= 0
+        || text.indexOf('\n') >= 0
+        || text.indexOf('\r') >= 0) {
+      return '"' + text.replace("\"", "\"\"") + '"';
+    }
+    return text;
+  }
+
+  private static List<JdbcColumn> columns(ResultSetMetaData metaData) throws SQLException {
+    List<JdbcColumn> columns = new ArrayList<>(metaData.getColumnCount());
+    Set<String> labels = new HashSet<>();
+    // Java SQL ResultSetMetadata columns start with index 1
+    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+      String label = metaData.getColumnLabel(i);
+      if (!labels.add(label)) {
+        throw new ConnectorException(
+            ("The result contains the column '%s' more than once, "
+                    + "give these columns unique aliases to write the result to a document")
+                .formatted(label));
+      }
+      columns.add(new JdbcColumn(label, metaData.getColumnTypeName(i)));
+    }
+    return List.copyOf(columns);
+  }
+
+  /** Reads the values of the current row of a result set by column label. */
+  @FunctionalInterface
+  public interface RowReader {
+    Map<String, Object> read(ResultSet resultSet) throws SQLException;
+  }
+}
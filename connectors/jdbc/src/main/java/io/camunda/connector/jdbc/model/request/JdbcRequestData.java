@@ -10,6 +10,7 @@ import io.camunda.connector.api.annotation.FEEL;
 import io.camunda.connector.generator.java.annotation.FeelMode;
 import io.camunda.connector.generator.java.annotation.TemplateProperty;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 
 public record JdbcRequestData(
     @TemplateProperty(
@@ -40,8 +41,64 @@ public record JdbcRequestData(
             description =
                 "The <a href=\"https://docs.camunda.io/docs/8.6/components/connectors/out-of-the-box-connectors/sql/#variables\" target=\"_blank\">variables</a> to use in the SQL query.")
         @FEEL
-        Object variables) {
+        Object variables,
+    @TemplateProperty(
+            id = "resultFormat",
+            label = "Result format",
+            group = "query",
+            type = TemplateProperty.PropertyType.Dropdown,
+            defaultValue = "VARIABLES",
+            optional = true,
+            condition =
+                @TemplateProperty.PropertyCondition(
+                    property = "data.returnResults",
+                    equalsBoolean = TemplateProperty.EqualsBoolean.TRUE),
+            description =
+                "Return the rows as process variables, or stream them into a document for large results. A document result only contains the document, the row count and the columns")
+        ResultFormat resultFormat,
+    @TemplateProperty(
+            id = "fetchSize",
+            label = "Fetch size",
+            group = "query",
+            type = TemplateProperty.PropertyType.Number,
+            feel = FeelMode.required,
+            optional = true,
+            condition =
+                @TemplateProperty.PropertyCondition(
+                    property = "data.resultFormat",
+                    oneOf = {"NDJSON", "CSV"}),
+            description =
+                "The number of rows fetched from the database at once while writing the document. Defaults to 1000")
+        @Positive
+        Integer fetchSize,
+    @TemplateProperty(
+            id = "maxRows",
+            label = "Maximum rows",
+            group = "query",
+            type = TemplateProperty.PropertyType.Number,
+            feel = FeelMode.required,
+            optional = true,
+            condition =
+                @TemplateProperty.PropertyCondition(
+                    property = "data.resultFormat",
+                    oneOf = {"NDJSON", "CSV"}),
+            description =
+                "The maximum number of rows written to the document. Leave empty to write all rows")
+        @Positive
+        Integer maxRows) {
+  public static final int DEFAULT_FETCH_SIZE = 1000;
+
+  public JdbcRequestData {
+    if (resultFormat == null) {
+      resultFormat = ResultFormat.VARIABLES;
+    }
+  }
+
   public JdbcRequestData(boolean returnResults, String query) {
     this(returnResults, query, null);
   }
+
+  public JdbcRequestData(boolean returnResults, String query, Object variables) {
+    this(returnResults, query, variables, null, null, null);
+  }
 }
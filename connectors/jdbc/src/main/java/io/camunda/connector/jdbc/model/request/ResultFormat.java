@@ -0,0 +1,23 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.jdbc.model.request;
+
+import io.camunda.connector.generator.java.annotation.DropdownItem;
+
+/** How the rows returned by a query are handed to the process. */
+public enum ResultFormat {
+  @DropdownItem(label = "Process variables")
+  VARIABLES,
+  @DropdownItem(label = "Document (NDJSON)")
+  NDJSON,
+  @DropdownItem(label = "Document (CSV)")
+  CSV;
+
+  public boolean isDocument() {
+    return this != VARIABLES;
+  }
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.jdbc.model.response;
+
+/**
+ * A column of a result set written to a document.
+ *
+ * @param name the label of the column, as used for the keys of NDJSON rows and the CSV header
+ * @param type the database specific type name, e.g. {@code VARCHAR}
+ */
+public record JdbcColumn(String name, String type) {}
@@ -7,19 +7,31 @@
 package io.camunda.connector.jdbc.model.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import io.camunda.connector.api.document.Document;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public record JdbcResponse(Integer modifiedRows, List<Map<String, Object>> resultSet) {
+public record JdbcResponse(
+    Integer modifiedRows,
+    List<Map<String, Object>> resultSet,
+    Document document,
+    Long rowCount,
+    List<JdbcColumn> columns) {
   public static JdbcResponse of(Integer modifiedRows) {
     Objects.requireNonNull(modifiedRows, "modifiedRows must not be null");
-    return new JdbcResponse(modifiedRows, null);
+    return new JdbcResponse(modifiedRows, null, null, null, null);
   }
 
   public static JdbcResponse of(List<Map<String, Object>> resultSet) {
     Objects.requireNonNull(resultSet, "resultSet must not be null");
-    return new JdbcResponse(null, resultSet);
+    return new JdbcResponse(null, resultSet, null, null, null);
+  }
+
+  /** The rows of a query written to a document instead of being returned as variables. */
+  public static JdbcResponse of(Document document, long rowCount, List<JdbcColumn> columns) {
+    Objects.requireNonNull(document, "document must not be null");
+    return new JdbcResponse(null, null, document, rowCount, columns);
   }
 }
@@ -0,0 +1,380 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.jdbc.pool;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.util.metrics.MicrometerHelper;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps open JDBC connections to one database, as described by the database type, connection string
+ * and connection properties of a request, for reuse by subsequent jobs.
+ *
+ * <p>At most {@code maxSize} connections are open at the same time, further jobs wait up to the
+ * acquire timeout for a connection to be released. A connection that was not used for a short while
+ * is validated with {@link Connection#isValid(int)} before it is handed out again, and replaced if
+ * the database dropped it. On release, an open transaction is rolled back and auto commit is
+ * restored. Other session state changed by statements, e.g. with {@code USE}, carries over to the
+ * next job using the connection.
+ *
+ * <p>Connections that were not used for the idle timeout are closed by {@link #evictIdle()}. If
+ * leak detection is enabled, connections that were not released within the leak detection threshold
+ * are reported once by {@link #detectLeaks()}, together with the stack trace of the code that
+ * acquired them. Capturing the stack trace costs every acquire, so it is skipped while leak
+ * detection is disabled.
+ */
+public class JdbcConnectionPool implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JdbcConnectionPool.class);
+  // connections released more recently are not validated again, same as HikariCP
+  private static final Duration VALIDATION_BYPASS = Duration.ofMillis(500);
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+  private final String name;
+  private final ConnectionOpener opener;
+  private final int maxSize;
+  private final Duration idleTimeout;
+  private final Duration acquireTimeout;
+  private final Duration leakDetectionThreshold;
+  private final LongSupplier nanoTime;
+  private final Deque<IdleConnection> idleConnections = new ArrayDeque<>();
+  private final Map<Connection, LeasedConnection> leasedConnections = new IdentityHashMap<>();
+  private final AutoCloseable metrics;
+  // guarded by this, counts idle and leased connections and those being opened
+  private int openConnections;
+  private long lastReleasedNanos;
+  private boolean retired;
+  private boolean closed;
+
+  /**
+   * @param name identifies the pool in logs and metrics, must not contain credentials
+   * @param database the type of the database, e.g. {@code POSTGRESQL}
+   * @param opener opens a new connection to the database
+   * @param maxSize the number of connections open at the same time
+   * @param idleTimeout the time after which a connection that is not used is closed
+   * @param acquireTimeout the time a job waits for a connection when all of them are used
+   * @param leakDetectionThreshold the time after which a connection that was not released is
+   *     reported as leaked, zero to disable leak detection
+   */
+  public JdbcConnectionPool(
+      String name,
+      String database,
+      ConnectionOpener opener,
+      int maxSize,
+      Duration idleTimeout,
+      Duration acquireTimeout,
+      Duration leakDetectionThreshold) {
+    this(
+        name,
+        database,
+        opener,
+        maxSize,
+        idleTimeout,
+        acquireTimeout,
+        leakDetectionThreshold,
+        System::nanoTime);
+  }
+
+  /**
+   * @param nanoTime the clock measuring how long connections were idle or leased
+   */
+  JdbcConnectionPool(
+      String name,
+      String database,
+      ConnectionOpener opener,
+      int maxSize,
+      Duration idleTimeout,
+      Duration acquireTimeout,
+      Duration leakDetectionThreshold,
+      LongSupplier nanoTime) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive, got " + maxSize);
+    }
+    this.name = name;
+    this.opener = opener;
+    this.maxSize = maxSize;
+    this.idleTimeout = idleTimeout;
+    this.acquireTimeout = acquireTimeout;
+    this.leakDetectionThreshold = leakDetectionThreshold;
+    this.nanoTime = nanoTime;
+    this.lastReleasedNanos = nanoTime.getAsLong();
+    this.metrics =
+        MicrometerHelper.isMicrometerAvailable()
+            ? JdbcPoolMetrics.bindToGlobalRegistry(name, database, this)
+            : null;
+  }
+
+  /**
+   * Hands out an open connection, which must be returned with {@link #release(Connection)} instead
+   * of being closed.
+   *
+   * @throws ConnectorException if no connection could be opened, or all connections stayed in use
+   *     for the acquire timeout
+   */
+  public Connection acquire() throws SQLException {
+    long startNanos = System.nanoTime();
+    IdleConnection idle = checkOut(startNanos + acquireTimeout.toNanos());
+    Connection connection = idle == null ? null : idle.connection();
+    if (connection != null && !isUsable(idle, nanoTime.getAsLong())) {
+      LOG.debug("Pooled connection of {} was dropped by the database, reconnecting", name);
+      closeQuietly(connection);
+      connection = null;
+    }
+    if (connection == null) {
+      try {
+        connection = opener.open();
+      } catch (SQLException | RuntimeException e) {
+        discard();
+        throw e;
+      }
+    }
+    LeaseOrigin origin = isLeakDetectionEnabled() ? new LeaseOrigin() : null;
+    synchronized (this) {
+      leasedConnections.put(connection, new LeasedConnection(nanoTime.getAsLong(), origin));
+    }
+    if (metrics != null) {
+      ((JdbcPoolMetrics) metrics).recordWait(System.nanoTime() - startNanos);
+    }
+    return connection;
+  }
+
+  /** Returns a connection handed out by {@link #acquire()} to the pool. */
+  public void release(Connection connection) {
+    LeasedConnection leased;
+    synchronized (this) {
+      leased = leasedConnections.remove(connection);
+    }
+    if (leased == null) {
+      LOG.warn("Closing a connection that is not leased from pool {}", name);
+      closeQuietly(connection);
+      return;
+    }
+    boolean reusable = reset(connection);
+    synchronized (this) {
+      long now = nanoTime.getAsLong();
+      lastReleasedNanos = now;
+      if (reusable && !retired) {
+        // most recently used first, so rarely used connections become idle and are evicted
+        idleConnections.addFirst(new IdleConnection(connection, now));
+        notifyAll();
+        return;
+      }
+      openConnections--;
+      notifyAll();
+    }
+    closeQuietly(connection);
+  }
+
+  public synchronized int activeConnections() {
+    return leasedConnections.size();
+  }
+
+  public synchronized int idleConnections() {
+    return idleConnections.size();
+  }
+
+  /** Whether the pool has no open connections and was not used for the idle timeout. */
+  synchronized boolean isUnused() {
+    return openConnections == 0
+        && nanoTime.getAsLong() - lastReleasedNanos >= idleTimeout.toNanos();
+  }
+
+  /** Closes the connections that were not used for the idle timeout. */
+  void evictIdle() {
+    evictIdle(idleTimeout.toNanos());
+  }
+
+  private void evictIdle(long idleNanos) {
+    List<Connection> toClose = new ArrayList<>();
+    synchronized (this) {
+      long now = nanoTime.getAsLong();
+      for (Iterator<IdleConnection> it = idleConnections.iterator(); it.hasNext(); ) {
+        IdleConnection idle = it.next();
+        if (now - idle.releasedNanos() >= idleNanos) {
+          it.remove();
+          toClose.add(idle.connection());
+          openConnections--;
+        }
+      }
+    }
+    if (!toClose.isEmpty()) {
+      LOG.debug("Closing {} idle connections of pool {}", toClose.size(), name);
+    }
+    toClose.forEach(JdbcConnectionPool::closeQuietly);
+  }
+
+  /** Reports connections that were not released within the leak detection threshold, once each. */
+  synchronized void detectLeaks() {
+    if (!isLeakDetectionEnabled()) {
+      return;
+    }
+    long now = nanoTime.getAsLong();
+    for (LeasedConnection leased : leasedConnections.values()) {
+      long leasedNanos = now - leased.acquiredNanos;
+      if (!leased.reported && leasedNanos >= leakDetectionThreshold.toNanos()) {
+        leased.reported = true;
+        LOG.warn(
+            "Connection of pool {} was not released for {}, it may have leaked",
+            name,
+            Duration.ofNanos(leasedNanos),
+            leased.origin);
+      }
+    }
+  }
+
+  /**
+   * Stops pooling, connections are closed once they are released. Unlike {@link #close()}, jobs
+   * that already hold a reference to the pool can still acquire connections.
+   */
+  void retire() {
+    synchronized (this) {
+      retired = true;
+    }
+    evictIdle(0);
+    closeMetrics();
+  }
+
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+      retired = true;
+      notifyAll();
+    }
+    evictIdle(0);
+    closeMetrics();
+  }
+
+  /**
+   * Takes an idle connection, or reserves a slot for a new one, in which case {@code null} is
+   * returned. Waits while all connections are leased.
+   */
+  private synchronized IdleConnection checkOut(long deadlineNanos) {
+    while (true) {
+      if (closed) {
+        throw new IllegalStateException("Connection pool " + name + " is closed");
+      }
+      if (!idleConnections.isEmpty()) {
+        return idleConnections.pollFirst();
+      }
+      if (openConnections < maxSize) {
+        openConnections++;
+        return null;
+      }
+      long remaining = deadlineNanos - System.nanoTime();
+      if (remaining <= 0) {
+        throw new ConnectorException(
+            "Timed out after %s waiting for one of %d pooled database connections"
+                .formatted(acquireTimeout, maxSize));
+      }
+      try {
+        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ConnectorException("Interrupted while waiting for a database connection", e);
+      }
+    }
+  }
+
+  private void closeMetrics() {
+    if (metrics != null) {
+      try {
+        metrics.close();
+      } catch (Exception e) {
+        LOG.debug("Failed to remove metrics of pool {}", name, e);
+      }
+    }
+  }
+
+  private synchronized void discard() {
+    openConnections--;
+    notifyAll();
+  }
+
+  private boolean isLeakDetectionEnabled() {
+    return leakDetectionThreshold.isPositive();
+  }
+
+  private static boolean isUsable(IdleConnection idle, long nowNanos) {
+    if (nowNanos - idle.releasedNanos() < VALIDATION_BYPASS.toNanos()) {
+      return true;
+    }
+    try {
+      return idle.connection().isValid(VALIDATION_TIMEOUT_SECONDS);
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  /** Rolls back what the job left uncommitted, false if the connection cannot be reused. */
+  private boolean reset(Connection connection) {
+    try {
+      if (connection.isClosed()) {
+        return false;
+      }
+      if (!connection.getAutoCommit()) {
+        connection.rollback();
+        connection.setAutoCommit(true);
+      }
+      connection.clearWarnings();
+      return true;
+    } catch (SQLException e) {
+      LOG.debug("Failed to reset connection of pool {}, closing it", name, e);
+      return false;
+    }
+  }
+
+  private static void closeQuietly(Connection connection) {
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      LOG.debug("Failed to close database connection", e);
+    }
+  }
+
+  /** Opens a new connection to the database of the pool. */
+  @FunctionalInterface
+  public interface ConnectionOpener {
+    Connection open() throws SQLException;
+  }
+
+  private record IdleConnection(Connection connection, long releasedNanos) {}
+
+  private static final class LeasedConnection {
+
+    private final long acquiredNanos;
+    // null unless leak detection is enabled
+    private final LeaseOrigin origin;
+    // guarded by the lock of the pool
+    private boolean reported;
+
+    private LeasedConnection(long acquiredNanos, LeaseOrigin origin) {
+      this.acquiredNanos = acquiredNanos;
+      this.origin = origin;
+    }
+  }
+
+  /** Captures the stack trace of the code that acquired a connection, for leak reports. */
+  private static final class LeaseOrigin extends Exception {
+    private LeaseOrigin() {
+      super("Connection acquired here");
+    }
+  }
+}
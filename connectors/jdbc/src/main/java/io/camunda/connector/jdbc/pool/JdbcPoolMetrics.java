@@ -0,0 +1,73 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.jdbc.pool;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the active and idle connections of a {@link JdbcConnectionPool}, and the time jobs
+ * waited for a connection, tagged with the database type and the name of the pool.
+ *
+ * <p>Micrometer is an optional dependency, this class must only be loaded after checking that it is
+ * on the classpath.
+ */
+public class JdbcPoolMetrics implements AutoCloseable {
+
+  public static final String METRIC_NAME_ACTIVE = "camunda.connector.jdbc.pool.active";
+  public static final String METRIC_NAME_IDLE = "camunda.connector.jdbc.pool.idle";
+  public static final String METRIC_NAME_WAIT = "camunda.connector.jdbc.pool.wait";
+  public static final String TAG_DATABASE = "database";
+  public static final String TAG_POOL = "pool";
+
+  private final MeterRegistry meterRegistry;
+  private final Timer wait;
+  private final List<Meter> meters;
+
+  public JdbcPoolMetrics(
+      String pool, String database, JdbcConnectionPool connectionPool, MeterRegistry registry) {
+    this.meterRegistry = registry;
+    var tags = Tags.of(TAG_DATABASE, database, TAG_POOL, pool);
+    this.wait =
+        Timer.builder(METRIC_NAME_WAIT)
+            .description("Time a job waited for a pooled database connection")
+            .tags(tags)
+            .register(registry);
+    this.meters =
+        List.of(
+            Gauge.builder(METRIC_NAME_ACTIVE, connectionPool, JdbcConnectionPool::activeConnections)
+                .description("Pooled database connections used by a job")
+                .tags(tags)
+                .register(registry),
+            Gauge.builder(METRIC_NAME_IDLE, connectionPool, JdbcConnectionPool::idleConnections)
+                .description("Open pooled database connections waiting for a job")
+                .tags(tags)
+                .register(registry),
+            wait);
+  }
+
+  static JdbcPoolMetrics bindToGlobalRegistry(
+      String pool, String database, JdbcConnectionPool connectionPool) {
+    return new JdbcPoolMetrics(pool, database, connectionPool, Metrics.globalRegistry);
+  }
+
+  void recordWait(long nanos) {
+    wait.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  /** Removes the meters of the pool from the registry. */
+  @Override
+  public void close() {
+    meters.forEach(meterRegistry::remove);
+  }
+}
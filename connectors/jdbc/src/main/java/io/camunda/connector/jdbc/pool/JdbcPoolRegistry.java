@@ -0,0 +1,272 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.jdbc.pool;
+
+import io.camunda.connector.jdbc.model.request.SupportedDatabase;
+import io.camunda.connector.jdbc.model.request.connection.JdbcConnection;
+import io.camunda.connector.jdbc.utils.ConnectionHelper;
+import io.camunda.connector.util.concurrent.DaemonThreads;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiFunction;
+import org.jdbi.v3.core.ConnectionFactory;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.jackson2.Jackson2Plugin;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shares pooled JDBC connections between jobs querying the same database with the same credentials.
+ *
+ * <p>Opening a connection for every job costs the TCP and TLS handshake and the authentication,
+ * plus looking up the database product to pick the JSON column mapping. The registry keys a {@link
+ * PooledDatabase} by a hash of the database type, the connection string and the connection
+ * properties, including credentials. Each one holds a {@link JdbcConnectionPool}, a {@link Jdbi}
+ * instance drawing its connections from the pool, and the cached database product name.
+ *
+ * <p>A daemon thread closes idle connections and, if leak detection is enabled, reports leaked
+ * ones. Pools without open connections are removed once they were not used for the idle timeout,
+ * e.g. after the password of a database was rotated.
+ */
+public class JdbcPoolRegistry implements AutoCloseable {
+
+  public static final int DEFAULT_MAX_POOL_SIZE = 10;
+  public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+  public static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+  public static final Duration DEFAULT_LEAK_DETECTION_THRESHOLD = Duration.ZERO;
+  public static final String MAX_POOL_SIZE_ENV_VARIABLE = "CAMUNDA_CONNECTOR_JDBC_POOL_MAX_SIZE";
+  public static final String LEAK_DETECTION_THRESHOLD_ENV_VARIABLE =
+      "CAMUNDA_CONNECTOR_JDBC_POOL_LEAK_DETECTION_THRESHOLD_MS";
+
+  private static final Logger LOG = LoggerFactory.getLogger(JdbcPoolRegistry.class);
+  private static final Duration MIN_MAINTENANCE_INTERVAL = Duration.ofSeconds(1);
+  private static final int POOL_NAME_HASH_LENGTH = 12;
+
+  private final BiFunction<SupportedDatabase, JdbcConnection, Connection> connectionOpener;
+  private final int maxPoolSize;
+  private final Duration idleTimeout;
+  private final Duration acquireTimeout;
+  private final Duration leakDetectionThreshold;
+  private final Map<String, PooledDatabase> databases = new HashMap<>();
+  private final ScheduledExecutorService maintenance;
+  private boolean closed;
+
+  /**
+   * @param connectionOpener opens a new connection to a database
+   * @param maxPoolSize the number of connections open at the same time per database and credentials
+   * @param idleTimeout the time after which a connection that is not used is closed
+   * @param acquireTimeout the time a job waits for a connection when all of them are used
+   * @param leakDetectionThreshold the time after which a connection that was not released is
+   *     reported as leaked, zero to disable leak detection
+   */
+  public JdbcPoolRegistry(
+      BiFunction<SupportedDatabase, JdbcConnection, Connection> connectionOpener,
+      int maxPoolSize,
+      Duration idleTimeout,
+      Duration acquireTimeout,
+      Duration leakDetectionThreshold) {
+    this.connectionOpener = connectionOpener;
+    this.maxPoolSize = maxPoolSize;
+    this.idleTimeout = idleTimeout;
+    this.acquireTimeout = acquireTimeout;
+    this.leakDetectionThreshold = leakDetectionThreshold;
+    Duration checked =
+        leakDetectionThreshold.isPositive() && leakDetectionThreshold.compareTo(idleTimeout) < 0
+            ? leakDetectionThreshold
+            : idleTimeout;
+    long interval = Math.max(checked.toMillis() / 2, MIN_MAINTENANCE_INTERVAL.toMillis());
+    this.maintenance =
+        DaemonThreads.scheduleWithFixedDelay(
+            "connectors-jdbc-pool-maintenance", this::maintain, Duration.ofMillis(interval));
+  }
+
+  /**
+   * The registry shared by all SQL connectors of the runtime. The pool size is set with the {@value
+   * #MAX_POOL_SIZE_ENV_VARIABLE} environment variable. Leak detection is enabled by setting a
+   * threshold in milliseconds with the {@value #LEAK_DETECTION_THRESHOLD_ENV_VARIABLE} environment
+   * variable.
+   */
+  public static JdbcPoolRegistry getDefault() {
+    return Holder.INSTANCE;
+  }
+
+  /** The pooled database for the connection, created on first use. */
+  public synchronized PooledDatabase poolFor(
+      SupportedDatabase database, JdbcConnection connection) {
+    if (closed) {
+      throw new IllegalStateException("JDBC pool registry is closed");
+    }
+    String connectionString = connection.getConnectionString(database);
+    String key = key(database, connectionString, connection);
+    return databases.computeIfAbsent(
+        key,
+        k -> {
+          String name =
+              database.name().toLowerCase(Locale.ROOT)
+                  + "-"
+                  + k.substring(0, POOL_NAME_HASH_LENGTH);
+          LOG.debug("Creating connection pool {}", name);
+          return new PooledDatabase(
+              new JdbcConnectionPool(
+                  name,
+                  database.name(),
+                  () -> connectionOpener.apply(database, connection),
+                  maxPoolSize,
+                  idleTimeout,
+                  acquireTimeout,
+                  leakDetectionThreshold));
+        });
+  }
+
+  void maintain() {
+    List<PooledDatabase> pooled;
+    synchronized (this) {
+      pooled = new ArrayList<>(databases.values());
+    }
+    for (PooledDatabase database : pooled) {
+      database.connections.evictIdle();
+      database.connections.detectLeaks();
+    }
+    List<PooledDatabase> unused = new ArrayList<>();
+    synchronized (this) {
+      databases
+          .values()
+          .removeIf(
+              database -> {
+                boolean isUnused = database.connections.isUnused();
+                if (isUnused) {
+                  unused.add(database);
+                }
+                return isUnused;
+              });
+    }
+    unused.forEach(database -> database.connections.retire());
+  }
+
+  @Override
+  public void close() {
+    List<PooledDatabase> toClose;
+    synchronized (this) {
+      closed = true;
+      toClose = new ArrayList<>(databases.values());
+      databases.clear();
+    }
+    maintenance.shutdownNow();
+    toClose.forEach(database -> database.connections.close());
+  }
+
+  /**
+   * Hashes the database, connection string and properties in a stable order, so equal connections
+   * map to the same pool without keeping credentials in the keys of the registry.
+   */
+  private static String key(
+      SupportedDatabase database, String connectionString, JdbcConnection connection) {
+    Map<String, String> normalized = new TreeMap<>();
+    Optional.ofNullable(connection.getProperties())
+        .ifPresent(
+            properties ->
+                properties.forEach(
+                    (name, value) -> normalized.put(name.toString(), String.valueOf(value))));
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(database.name().getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(String.valueOf(connectionString).getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      normalized.forEach(
+          (name, value) -> {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+          });
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  /** The connection pool of a database, with the {@link Jdbi} instance using it. */
+  public static final class PooledDatabase {
+
+    private final JdbcConnectionPool connections;
+    private final Jdbi jdbi;
+    private volatile String databaseProductName;
+
+    private PooledDatabase(JdbcConnectionPool connections) {
+      this.connections = connections;
+      this.jdbi =
+          Jdbi.create(
+              new ConnectionFactory() {
+                @Override
+                public Connection openConnection() throws SQLException {
+                  return connections.acquire();
+                }
+
+                @Override
+                public void closeConnection(Connection toClose) {
+                  connections.release(toClose);
+                }
+              });
+      jdbi.installPlugin(new Jackson2Plugin());
+    }
+
+    /** Handles opened by the returned instance use and release pooled connections. */
+    public Jdbi jdbi() {
+      return jdbi;
+    }
+
+    JdbcConnectionPool connections() {
+      return connections;
+    }
+
+    /**
+     * The product name of the database, e.g. {@code PostgreSQL}, looked up with the first
+     * connection and cached afterwards.
+     */
+    public String databaseProductName(Connection connection) {
+      String name = databaseProductName;
+      if (name == null) {
+        try {
+          name = connection.getMetaData().getDatabaseProductName();
+          databaseProductName = name;
+        } catch (SQLException e) {
+          LOG.error("Failed to retrieve database dialect", e);
+          return "Unknown";
+        }
+      }
+      return name;
+    }
+  }
+
+  private static final class Holder {
+    private static final JdbcPoolRegistry INSTANCE =
+        new JdbcPoolRegistry(
+            ConnectionHelper::openConnection,
+            Optional.ofNullable(System.getenv(MAX_POOL_SIZE_ENV_VARIABLE))
+                .map(value -> Integer.parseInt(value.trim()))
+                .orElse(DEFAULT_MAX_POOL_SIZE),
+            DEFAULT_IDLE_TIMEOUT,
+            DEFAULT_ACQUIRE_TIMEOUT,
+            Optional.ofNullable(System.getenv(LEAK_DETECTION_THRESHOLD_ENV_VARIABLE))
+                .map(value -> Duration.ofMillis(Long.parseLong(value.trim())))
+                .orElse(DEFAULT_LEAK_DETECTION_THRESHOLD));
+  }
+}
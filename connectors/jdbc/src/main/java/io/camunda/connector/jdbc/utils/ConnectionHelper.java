@@ -21,13 +21,15 @@ public class ConnectionHelper {
   private static final Logger LOG = LoggerFactory.getLogger(ConnectionHelper.class);
 
   public static Connection openConnection(JdbcRequest request) {
-    SupportedDatabase database = request.database();
+    LOG.debug("Executing JDBC request: {}", request);
+    return openConnection(request.database(), request.connection());
+  }
+
+  public static Connection openConnection(SupportedDatabase database, JdbcConnection connection) {
     String driverClassName = database.getDriverClassName();
     try {
-      LOG.debug("Executing JDBC request: {}", request);
       LOG.debug("Loading JDBC driver: {}", driverClassName);
       Class.forName(driverClassName);
-      JdbcConnection connection = request.connection();
       Connection conn =
           DriverManager.getConnection(
               ensureMySQLCompatibleUrl(connection.getConnectionString(database), database),
@@ -13,18 +13,29 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.camunda.connector.api.document.Document;
+import io.camunda.connector.api.document.DocumentCreationRequest;
+import io.camunda.connector.api.document.DocumentFactory;
+import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.jdbc.model.client.JdbcClient;
 import io.camunda.connector.jdbc.model.client.JdbiJdbcClient;
 import io.camunda.connector.jdbc.model.client.JdbiJsonHelper;
 import io.camunda.connector.jdbc.model.request.JdbcRequest;
 import io.camunda.connector.jdbc.model.request.JdbcRequestData;
+import io.camunda.connector.jdbc.model.request.ResultFormat;
 import io.camunda.connector.jdbc.model.request.SupportedDatabase;
 import io.camunda.connector.jdbc.model.request.connection.DetailedConnection;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -33,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.result.NoResultsException;
@@ -216,6 +228,72 @@ public abstract class IntegrationBaseTest {
     assertNull(response.resultSet());
   }
 
+  void selectDataIntoDocumentAndAssertSuccess(IntegrationTestConfig config, ResultFormat format)
+      throws JsonProcessingException {
+    JdbcRequest request =
+        new JdbcRequest(
+            config.database(),
+            new DetailedConnection(
+                config.host(),
+                config.port(),
+                config.username(),
+                config.password(),
+                config.databaseName(),
+                config.properties()),
+            new JdbcRequestData(
+                true, "SELECT * FROM Employee ORDER BY Id ASC", null, format, 2, 4));
+    AtomicReference<String> content = new AtomicReference<>();
+    var response = jdbiJdbcClient.executeRequest(request, documentFactory(content));
+    assertNull(response.modifiedRows());
+    assertNull(response.resultSet());
+    assertNotNull(response.document());
+    // maxRows limits the document, the fetch size only the rows fetched per round trip
+    assertEquals(4, response.rowCount());
+    assertThat(response.columns())
+        .extracting(column -> column.name().toLowerCase())
+        .containsExactlyInAnyOrder("id", "name", "age", "department");
+    List<String> lines = content.get().lines().toList();
+    if (format == ResultFormat.CSV) {
+      assertThat(lines).hasSize(5);
+      assertThat(lines.get(0).toLowerCase().split(","))
+          .containsExactlyInAnyOrder("id", "name", "age", "department");
+      lines = lines.subList(1, lines.size());
+    } else {
+      assertThat(lines).hasSize(4);
+    }
+    for (int i = 0; i < lines.size(); i++) {
+      String line = lines.get(i);
+      if (format == ResultFormat.CSV) {
+        assertThat(line).contains(DEFAULT_EMPLOYEES.get(i).name());
+      } else {
+        Map<String, Object> row =
+            normalizeKeysAndValues(new ObjectMapper().readValue(line, Map.class));
+        assertEquals(normalizeKeysAndValues(DEFAULT_EMPLOYEES.get(i).toMap()), row);
+      }
+    }
+  }
+
+  void selectDuplicateColumnsIntoDocumentAndAssertThrows(
+      IntegrationTestConfig config, ResultFormat format) {
+    JdbcRequest request =
+        new JdbcRequest(
+            config.database(),
+            new DetailedConnection(
+                config.host(),
+                config.port(),
+                config.username(),
+                config.password(),
+                config.databaseName(),
+                config.properties()),
+            new JdbcRequestData(
+                true, "SELECT e.id, e.id FROM Employee e", null, format, null, null));
+    var exception =
+        assertThrows(
+            ConnectorException.class,
+            () -> jdbiJdbcClient.executeRequest(request, documentFactory(new AtomicReference<>())));
+    assertThat(exception.getMessage()).containsIgnoringCase("'id'");
+  }
+
   void selectDataWithNamedParametersAndAssertSuccess(IntegrationTestConfig config) {
     JdbcRequest request =
         new JdbcRequest(
@@ -843,6 +921,24 @@ public abstract class IntegrationBaseTest {
     }
   }
 
+  /** Reads the content of the created document, as a document store would. */
+  private static DocumentFactory documentFactory(AtomicReference<String> content) {
+    DocumentFactory documentFactory = mock(DocumentFactory.class);
+    when(documentFactory.create(any(DocumentCreationRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              DocumentCreationRequest creationRequest = invocation.getArgument(0);
+              try {
+                content.set(
+                    new String(creationRequest.content().readAllBytes(), StandardCharsets.UTF_8));
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+              return mock(Document.class);
+            });
+    return documentFactory;
+  }
+
   private static Map<String, Object> normalizeKeysAndValues(Map<String, Object> map) {
     return map.entrySet().stream()
         .collect(
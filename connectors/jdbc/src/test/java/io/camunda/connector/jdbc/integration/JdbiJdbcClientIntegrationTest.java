@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.jdbc.model.request.ResultFormat;
 import io.camunda.connector.jdbc.model.request.SupportedDatabase;
 import io.camunda.connector.test.utils.DockerImages;
 import io.camunda.connector.test.utils.annotation.SlowTest;
@@ -443,4 +444,30 @@ public class JdbiJdbcClientIntegrationTest extends IntegrationBaseTest {
               });
     }
   }
+
+  @Nested
+  class DocumentTests {
+
+    @ParameterizedTest
+    @MethodSource(PROVIDE_SQL_SERVERS_CONFIG)
+    public void shouldWriteNdjsonDocument_whenResultFormatIsNdjson(IntegrationTestConfig config)
+        throws JsonProcessingException {
+      selectDataIntoDocumentAndAssertSuccess(config, ResultFormat.NDJSON);
+    }
+
+    @ParameterizedTest
+    @MethodSource(PROVIDE_SQL_SERVERS_CONFIG)
+    public void shouldWriteCsvDocument_whenResultFormatIsCsv(IntegrationTestConfig config)
+        throws JsonProcessingException {
+      selectDataIntoDocumentAndAssertSuccess(config, ResultFormat.CSV);
+    }
+
+    @ParameterizedTest
+    @MethodSource(PROVIDE_SQL_SERVERS_CONFIG)
+    public void shouldThrowConnectorException_whenColumnLabelsAreDuplicated(
+        IntegrationTestConfig config) {
+      selectDuplicateColumnsIntoDocumentAndAssertThrows(config, ResultFormat.NDJSON);
+      selectDuplicateColumnsIntoDocumentAndAssertThrows(config, ResultFormat.CSV);
+    }
+  }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.jdbc.model.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.jdbc.model.request.ResultFormat;
+import io.camunda.connector.jdbc.model.response.JdbcColumn;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ResultSetDocumentStreamTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Test
+  void shouldWriteRowsAsNdjson() throws Exception {
+    // given
+    ResultSet resultSet = resultSet(List.of(row(1, "John Doe"), row(2, "Jane Doe")));
+
+    // when
+    var stream =
+        new ResultSetDocumentStream(
+            resultSet, ResultFormat.NDJSON, null, this::read, OBJECT_MAPPER);
+    String document = readAll(stream);
+
+    // then
+    assertThat(document)
+        .isEqualTo("{\"id\":1,\"name\":\"John Doe\"}\n{\"id\":2,\"name\":\"Jane Doe\"}\n");
+    assertThat(stream.rowCount()).isEqualTo(2);
+    assertThat(stream.columns())
+        .containsExactly(new JdbcColumn("id", "INTEGER"), new JdbcColumn("name", "VARCHAR"));
+    assertThat(stream.contentType()).isEqualTo("application/x-ndjson");
+  }
+
+  @Test
+  void shouldWriteRowsAsCsv_WithHeaderAndQuotedValues() throws Exception {
+    // given
+    ResultSet resultSet =
+        resultSet(List.of(row(1, "Doe, John"), row(2, "Jane \"JD\" Doe"), row(3, null)));
+
+    // when
+    var stream =
+        new ResultSetDocumentStream(resultSet, ResultFormat.CSV, null, this::read, OBJECT_MAPPER);
+    String document = readAll(stream);
+
+    // then
+    assertThat(document)
+        .isEqualTo("id,name\r\n1,\"Doe, John\"\r\n2,\"Jane \"\"JD\"\" Doe\"\r\n3,\r\n");
+    assertThat(stream.rowCount()).isEqualTo(3);
+    assertThat(stream.contentType()).isEqualTo("text/csv");
+  }
+
+  @Test
+  void shouldStopAtMaxRows_WithoutReadingFurtherRows() throws Exception {
+    // given
+    ResultSet resultSet = resultSet(List.of(row(1, "a"), row(2, "b"), row(3, "c")));
+
+    // when
+    var stream =
+        new ResultSetDocumentStream(resultSet, ResultFormat.NDJSON, 2, this::read, OBJECT_MAPPER);
+    String document = readAll(stream);
+
+    // then
+    assertThat(document.lines()).hasSize(2);
+    assertThat(stream.rowCount()).isEqualTo(2);
+    verify(resultSet, times(2)).next();
+  }
+
+  @Test
+  void shouldWriteOnlyHeader_WhenResultIsEmpty() throws Exception {
+    // given
+    ResultSet resultSet = resultSet(List.of());
+
+    // when
+    var stream =
+        new ResultSetDocumentStream(resultSet, ResultFormat.CSV, null, this::read, OBJECT_MAPPER);
+    String document = readAll(stream);
+
+    // then
+    assertThat(document).isEqualTo("id,name\r\n");
+    assertThat(stream.rowCount()).isZero();
+  }
+
+  @Test
+  void shouldRejectDuplicateColumnLabels() throws Exception {
+    // given SELECT a.id, b.id
+    ResultSet resultSet = resultSet(List.of(row(1, "a"), row(2, "b")));
+    when(resultSet.getMetaData().getColumnLabel(2)).thenReturn("id");
+
+    // when
+    assertThatThrownBy(
+            () ->
+                new ResultSetDocumentStream(
+                    resultSet, ResultFormat.CSV, null, this::read, OBJECT_MAPPER))
+        // then
+        .isInstanceOf(ConnectorException.class)
+        .hasMessageContaining("'id'");
+    verify(resultSet, times(0)).next();
+  }
+
+  private Map<String, Object> read(ResultSet resultSet) throws SQLException {
+    Map<String, Object> row = new LinkedHashMap<>();
+    row.put("id", resultSet.getObject(1));
+    row.put("name", resultSet.getObject(2));
+    return row;
+  }
+
+  private static Object[] row(int id, String name) {
+    return new Object[] {id, name};
+  }
+
+  private static ResultSet resultSet(List<Object[]> rows) throws SQLException {
+    ResultSet resultSet = mock(ResultSet.class);
+    ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(resultSet.getMetaData()).thenReturn(metaData);
+    when(metaData.getColumnCount()).thenReturn(2);
+    when(metaData.getColumnLabel(1)).thenReturn("id");
+    when(metaData.getColumnLabel(2)).thenReturn("name");
+    when(metaData.getColumnTypeName(1)).thenReturn("INTEGER");
+    when(metaData.getColumnTypeName(2)).thenReturn("VARCHAR");
+    Iterator<Object[]> iterator = rows.iterator();
+    Object[][] current = new Object[1][];
+    when(resultSet.next())
+        .thenAnswer(
+            invocation -> {
+              if (!iterator.hasNext()) {
+                return false;
+              }
+              current[0] = iterator.next();
+              return true;
+            });
+    when(resultSet.getObject(1)).thenAnswer(invocation -> current[0][0]);
+    when(resultSet.getObject(2)).thenAnswer(invocation -> current[0][1]);
+    return resultSet;
+  }
+
+  private static String readAll(ResultSetDocumentStream stream) throws IOException {
+    // small reads, so that rows are split across reads
+    byte[] buffer = new byte[7];
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    int read;
+    while ((read = stream.read(buffer)) != -1) {
+      bytes.write(buffer, 0, read);
+    }
+    return bytes.toString(StandardCharsets.UTF_8);
+  }
+}
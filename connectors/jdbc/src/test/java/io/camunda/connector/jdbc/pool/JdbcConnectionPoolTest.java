@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.jdbc.pool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.api.error.ConnectorException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class JdbcConnectionPoolTest {
+
+  private final List<Connection> opened = new ArrayList<>();
+  private final AtomicLong nanoTime = new AtomicLong();
+  private JdbcConnectionPool pool;
+
+  @AfterEach
+  void closePool() {
+    pool.close();
+  }
+
+  @Test
+  void shouldReuseConnection_AfterRelease() throws SQLException {
+    // given
+    pool = pool(2, Duration.ofMinutes(5), Duration.ofSeconds(1));
+
+    // when
+    Connection first = pool.acquire();
+    pool.release(first);
+    Connection second = pool.acquire();
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(opened).hasSize(1);
+    assertThat(pool.activeConnections()).isEqualTo(1);
+    assertThat(pool.idleConnections()).isZero();
+  }
+
+  @Test
+  void shouldTimeOut_WhenAllConnectionsAreUsed() throws SQLException {
+    // given
+    pool = pool(1, Duration.ofMinutes(5), Duration.ofMillis(10));
+    pool.acquire();
+
+    // when / then
+    assertThatThrownBy(pool::acquire)
+        .isInstanceOf(ConnectorException.class)
+        .hasMessageContaining("Timed out");
+    assertThat(opened).hasSize(1);
+  }
+
+  @Test
+  void shouldRollBackUncommittedWork_OnRelease() throws SQLException {
+    // given
+    pool = pool(1, Duration.ofMinutes(5), Duration.ofSeconds(1));
+    Connection connection = pool.acquire();
+    when(connection.getAutoCommit()).thenReturn(false);
+
+    // when
+    pool.release(connection);
+
+    // then
+    verify(connection).rollback();
+    verify(connection).setAutoCommit(true);
+    verify(connection, never()).close();
+    assertThat(pool.idleConnections()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCloseConnection_WhenItWasClosedByTheJob() throws SQLException {
+    // given
+    pool = pool(1, Duration.ofMinutes(5), Duration.ofSeconds(1));
+    Connection connection = pool.acquire();
+    when(connection.isClosed()).thenReturn(true);
+
+    // when
+    pool.release(connection);
+    Connection next = pool.acquire();
+
+    // then
+    assertThat(next).isNotSameAs(connection);
+    assertThat(opened).hasSize(2);
+  }
+
+  @Test
+  void shouldCloseIdleConnections() throws SQLException {
+    // given
+    pool = pool(1, Duration.ZERO, Duration.ofSeconds(1));
+    Connection connection = pool.acquire();
+    pool.release(connection);
+
+    // when
+    pool.evictIdle();
+
+    // then
+    verify(connection, times(1)).close();
+    assertThat(pool.idleConnections()).isZero();
+    assertThat(pool.isUnused()).isTrue();
+  }
+
+  @Test
+  void shouldReplaceConnection_WhenValidationFails() throws SQLException {
+    // given
+    pool = pool(1, Duration.ofMinutes(5), Duration.ofSeconds(1));
+    Connection dropped = pool.acquire();
+    when(dropped.isValid(anyInt())).thenReturn(false);
+    pool.release(dropped);
+    // connections released within the last 500 ms are not validated
+    nanoTime.addAndGet(Duration.ofMillis(600).toNanos());
+
+    // when
+    Connection next = pool.acquire();
+
+    // then
+    assertThat(next).isNotSameAs(dropped);
+    verify(dropped).close();
+    assertThat(opened).hasSize(2);
+  }
+
+  @Test
+  void shouldCloseReleasedConnections_WhenRetired() throws SQLException {
+    // given
+    pool = pool(1, Duration.ofMinutes(5), Duration.ofSeconds(1));
+    Connection connection = pool.acquire();
+
+    // when
+    pool.retire();
+    pool.release(connection);
+
+    // then
+    verify(connection).close();
+    assertThat(pool.idleConnections()).isZero();
+  }
+
+  private JdbcConnectionPool pool(int maxSize, Duration idleTimeout, Duration acquireTimeout) {
+    return new JdbcConnectionPool(
+        "test",
+        "POSTGRESQL",
+        () -> {
+          Connection connection = mock(Connection.class);
+          when(connection.getAutoCommit()).thenReturn(true);
+          opened.add(connection);
+          return connection;
+        },
+        maxSize,
+        idleTimeout,
+        acquireTimeout,
+        Duration.ofMinutes(10),
+        nanoTime::get);
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.jdbc.pool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.jdbc.model.request.SupportedDatabase;
+import io.camunda.connector.jdbc.model.request.connection.UriConnection;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class JdbcPoolRegistryTest {
+
+  private static final String URI = "jdbc:postgresql://localhost:5432/test";
+
+  private JdbcPoolRegistry registry;
+
+  @AfterEach
+  void closeRegistry() {
+    registry.close();
+  }
+
+  @Test
+  void shouldSharePool_WhenConnectionsAreEqual() {
+    // given
+    registry = registry(Duration.ofMinutes(5));
+    Map<String, String> properties = new LinkedHashMap<>();
+    properties.put("user", "camunda");
+    properties.put("password", "secret");
+    Map<String, String> reordered = new LinkedHashMap<>();
+    reordered.put("password", "secret");
+    reordered.put("user", "camunda");
+
+    // when
+    var first = registry.poolFor(SupportedDatabase.POSTGRESQL, new UriConnection(URI, properties));
+    var second = registry.poolFor(SupportedDatabase.POSTGRESQL, new UriConnection(URI, reordered));
+
+    // then
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void shouldSeparatePools_WhenCredentialsOrDatabasesDiffer() {
+    // given
+    registry = registry(Duration.ofMinutes(5));
+    var connection = new UriConnection(URI, Map.of("user", "camunda", "password", "secret"));
+
+    // when
+    var pooled = registry.poolFor(SupportedDatabase.POSTGRESQL, connection);
+    var otherPassword =
+        registry.poolFor(
+            SupportedDatabase.POSTGRESQL,
+            new UriConnection(URI, Map.of("user", "camunda", "password", "rotated")));
+    var otherUser =
+        registry.poolFor(
+            SupportedDatabase.POSTGRESQL,
+            new UriConnection(URI, Map.of("user", "other", "password", "secret")));
+    var otherDatabase = registry.poolFor(SupportedDatabase.MYSQL, connection);
+
+    // then
+    assertThat(otherPassword).isNotSameAs(pooled);
+    assertThat(otherUser).isNotSameAs(pooled).isNotSameAs(otherPassword);
+    assertThat(otherDatabase).isNotSameAs(pooled);
+  }
+
+  @Test
+  void shouldRetirePool_WhenUnused() {
+    // given
+    registry = registry(Duration.ZERO);
+    var connection = new UriConnection(URI, Map.of());
+    var pooled = registry.poolFor(SupportedDatabase.POSTGRESQL, connection);
+
+    // when
+    registry.maintain();
+
+    // then
+    assertThat(registry.poolFor(SupportedDatabase.POSTGRESQL, connection)).isNotSameAs(pooled);
+  }
+
+  @Test
+  void shouldKeepPool_WhileAConnectionIsLeased() throws SQLException {
+    // given
+    registry = registry(Duration.ZERO);
+    var connection = new UriConnection(URI, Map.of());
+    var pooled = registry.poolFor(SupportedDatabase.POSTGRESQL, connection);
+    Connection leased = pooled.connections().acquire();
+
+    // when
+    registry.maintain();
+
+    // then
+    assertThat(registry.poolFor(SupportedDatabase.POSTGRESQL, connection)).isSameAs(pooled);
+    pooled.connections().release(leased);
+  }
+
+  @Test
+  void shouldCloseConnection_WhenJobUsesRetiredPool() throws SQLException {
+    // given a job that looked up the pool right before it was retired
+    registry = registry(Duration.ZERO);
+    var pooled = registry.poolFor(SupportedDatabase.POSTGRESQL, new UriConnection(URI, Map.of()));
+    registry.maintain();
+
+    // when
+    Connection connection = pooled.connections().acquire();
+    pooled.connections().release(connection);
+
+    // then the job is served, but the connection is not kept by the retired pool
+    verify(connection).close();
+    assertThat(pooled.connections().idleConnections()).isZero();
+  }
+
+  private static JdbcPoolRegistry registry(Duration idleTimeout) {
+    return new JdbcPoolRegistry(
+        (database, connection) -> {
+          Connection opened = mock(Connection.class);
+          try {
+            when(opened.getAutoCommit()).thenReturn(true);
+          } catch (SQLException e) {
+            throw new IllegalStateException(e);
+          }
+          return opened;
+        },
+        2,
+        idleTimeout,
+        Duration.ofSeconds(1),
+        Duration.ZERO);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.converter;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+
+/**
+ * Parsed Avro schemas together with the readers and writers built for them.
+ *
+ * <p>Parsing a schema and resolving the Jackson serializers for it costs far more than encoding a
+ * small message, so both are done once per schema. Inline schemas are looked up by their text,
+ * schemas of records received from a schema registry by the {@link Schema} itself. All entries
+ * share one {@link AvroMapper}, the readers and writers are immutable and can be used concurrently.
+ */
+public final class AvroSchemaCache {
+
+  public static final long DEFAULT_MAXIMUM_SIZE = 256;
+  private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+  private final AvroMapper avroMapper = new AvroMapper();
+  private final Cache<String, CachedSchema> bySchemaText;
+  private final Cache<Schema, CachedSchema> bySchema;
+
+  /**
+   * @param maximumSize the maximum number of schemas to keep per lookup kind
+   */
+  public AvroSchemaCache(long maximumSize) {
+    this.bySchemaText =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+    this.bySchema =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+  }
+
+  /** The cache shared by the producers and consumers of the Kafka connectors. */
+  public static AvroSchemaCache getDefault() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * @throws org.apache.avro.SchemaParseException if the schema is invalid, invalid schemas are not
+   *     cached
+   */
+  public CachedSchema get(String schemaText) {
+    return bySchemaText.get(schemaText, text -> create(new Schema.Parser().parse(text)));
+  }
+
+  public CachedSchema get(Schema schema) {
+    return bySchema.get(schema, this::create);
+  }
+
+  long size() {
+    return bySchemaText.estimatedSize() + bySchema.estimatedSize();
+  }
+
+  private CachedSchema create(Schema schema) {
+    AvroSchema avroSchema = new AvroSchema(schema);
+    return new CachedSchema(
+        schema,
+        avroSchema,
+        avroMapper.reader(avroSchema),
+        avroMapper.readerFor(ObjectNode.class).with(avroSchema),
+        avroMapper.writer(avroSchema),
+        new GenericDatumWriter<>(schema));
+  }
+
+  /**
+   * @param reader reads Avro binary data of the schema into Jackson trees
+   * @param objectNodeReader reads Avro binary data of the schema into an {@link ObjectNode}
+   * @param writer writes Java objects and Jackson trees as Avro binary data of the schema
+   * @param datumWriter writes {@link GenericRecord}s of the schema
+   */
+  public record CachedSchema(
+      Schema schema,
+      AvroSchema avroSchema,
+      ObjectReader reader,
+      ObjectReader objectNodeReader,
+      ObjectWriter writer,
+      GenericDatumWriter<GenericRecord> datumWriter) {}
+
+  private static final class Holder {
+    private static final AvroSchemaCache INSTANCE = new AvroSchemaCache(DEFAULT_MAXIMUM_SIZE);
+  }
+}
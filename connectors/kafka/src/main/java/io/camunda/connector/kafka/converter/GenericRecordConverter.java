@@ -6,26 +6,39 @@
  */
 package io.camunda.connector.kafka.converter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.dataformat.avro.AvroFactory;
-import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+import io.camunda.connector.kafka.converter.AvroSchemaCache.CachedSchema;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
-import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryEncoder;
-import org.apache.avro.io.DatumWriter;
 import org.apache.avro.io.EncoderFactory;
 
 public class GenericRecordConverter {
 
-  private static final ObjectMapper JACKSON_AVRO_MAPPER = new ObjectMapper(new AvroFactory());
+  // encoding buffers are shared by the consumer threads instead of being bound to a thread, as
+  // records may be converted on short-lived virtual threads
+  private static final int MAX_POOLED_BUFFERS = 64;
+  private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+  private static final BlockingQueue<EncodingBuffer> BUFFERS =
+      new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
+  private final AvroSchemaCache schemaCache;
+
+  public GenericRecordConverter() {
+    this(AvroSchemaCache.getDefault());
+  }
+
+  public GenericRecordConverter(AvroSchemaCache schemaCache) {
+    this.schemaCache = schemaCache;
+  }
 
   public GenericRecord toGenericRecord(Schema schema, Map<String, Object> data) {
     GenericRecord record = new GenericData.Record(schema);
@@ -59,17 +72,23 @@ public class GenericRecordConverter {
   }
 
   public ObjectNode toObjectNode(GenericRecord record) {
-    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream(); ) {
-      BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
-      DatumWriter<GenericRecord> writer = new GenericDatumWriter<>(record.getSchema());
-      writer.write(record, encoder);
-      encoder.flush();
-      return JACKSON_AVRO_MAPPER
-          .readerFor(ObjectNode.class)
-          .with(new AvroSchema(record.getSchema()))
-          .readValue(outputStream.toByteArray());
+    CachedSchema schema = schemaCache.get(record.getSchema());
+    EncodingBuffer buffer = BUFFERS.poll();
+    if (buffer == null) {
+      buffer = new EncodingBuffer();
+    }
+    try {
+      buffer.reset();
+      buffer.encoder = EncoderFactory.get().binaryEncoder(buffer, buffer.encoder);
+      schema.datumWriter().write(record, buffer.encoder);
+      buffer.encoder.flush();
+      return schema.objectNodeReader().readValue(buffer.bytes(), 0, buffer.size());
     } catch (IOException e) {
       throw new RuntimeException(e);
+    } finally {
+      if (buffer.bytes().length <= MAX_POOLED_BUFFER_SIZE) {
+        BUFFERS.offer(buffer);
+      }
     }
   }
 
@@ -97,4 +116,18 @@ public class GenericRecordConverter {
     }
     return list;
   }
+
+  /** An output buffer that exposes its array, together with the encoder writing to it. */
+  private static final class EncodingBuffer extends ByteArrayOutputStream {
+
+    private BinaryEncoder encoder;
+
+    private EncodingBuffer() {
+      super(512);
+    }
+
+    private byte[] bytes() {
+      return buf;
+    }
+  }
 }
@@ -15,8 +15,6 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.dataformat.avro.AvroMapper;
-import com.fasterxml.jackson.dataformat.avro.AvroSchema;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.scala.DefaultScalaModule;
@@ -28,15 +26,17 @@ import io.camunda.connector.api.inbound.CorrelationFailureHandlingStrategy.Forwa
 import io.camunda.connector.api.inbound.CorrelationFailureHandlingStrategy.Ignore;
 import io.camunda.connector.api.inbound.CorrelationResult.Failure;
 import io.camunda.connector.api.inbound.CorrelationResult.Success;
+import io.camunda.connector.kafka.converter.AvroSchemaCache;
 import io.camunda.connector.kafka.model.schema.AvroInlineSchemaStrategy;
+import io.camunda.connector.util.metrics.MicrometerHelper;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.*;
 import java.util.function.Function;
-import org.apache.avro.Schema;
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.slf4j.Logger;
@@ -59,30 +59,46 @@ public class KafkaConnectorConsumer {
   private final ExecutorService executorService;
   private final RetryPolicy<Object> retryPolicy;
   private final Function<Properties, Consumer<Object, Object>> consumerCreatorFunction;
+  private final KafkaConsumptionMode consumptionMode;
   public CompletableFuture<?> future;
   KafkaConnectorProperties elementProps;
   boolean shouldLoop = true;
   private Health consumerStatus = Health.unknown();
   private ObjectReader avroObjectReader;
+  // the dispatcher and metrics of the current consumer, unless consuming sequentially
+  private PartitionedRecordDispatcher dispatcher;
+  private AutoCloseable dispatcherMetrics;
 
   public KafkaConnectorConsumer(
       final Function<Properties, Consumer<Object, Object>> consumerCreatorFunction,
       final InboundConnectorContext connectorContext,
       final KafkaConnectorProperties elementProps,
       final RetryPolicy<Object> retryPolicy) {
+    this(
+        consumerCreatorFunction,
+        connectorContext,
+        elementProps,
+        retryPolicy,
+        KafkaConsumptionMode.SEQUENTIAL);
+  }
+
+  public KafkaConnectorConsumer(
+      final Function<Properties, Consumer<Object, Object>> consumerCreatorFunction,
+      final InboundConnectorContext connectorContext,
+      final KafkaConnectorProperties elementProps,
+      final RetryPolicy<Object> retryPolicy,
+      final KafkaConsumptionMode consumptionMode) {
     this.consumerCreatorFunction = consumerCreatorFunction;
     this.context = connectorContext;
     this.elementProps = elementProps;
     this.executorService = Executors.newSingleThreadExecutor();
     this.retryPolicy = retryPolicy;
+    this.consumptionMode = consumptionMode;
   }
 
   public void startConsumer() {
     if (elementProps.schemaStrategy() instanceof AvroInlineSchemaStrategy strategy) {
-      Schema schema = new Schema.Parser().parse(strategy.schema());
-      AvroSchema avroSchema = new AvroSchema(schema);
-      AvroMapper avroMapper = new AvroMapper();
-      avroObjectReader = avroMapper.reader(avroSchema);
+      avroObjectReader = AvroSchemaCache.getDefault().get(strategy.schema()).reader();
     }
 
     CheckedSupplier<Void> retryableFutureSupplier =
@@ -112,9 +128,20 @@ public class KafkaConnectorConsumer {
     try {
       var consumer = consumerCreatorFunction.apply(getKafkaProperties(elementProps, context));
       String topicName = elementProps.topic().topicName();
-      consumer.subscribe(
-          List.of(topicName),
-          new OffsetUpdateRequiredListener(topicName, consumer, elementProps.offsets()));
+      ConsumerRebalanceListener listener =
+          new OffsetUpdateRequiredListener(topicName, consumer, elementProps.offsets());
+      if (consumptionMode.ordering() != KafkaConsumptionMode.Ordering.SEQUENTIAL) {
+        dispatcher =
+            new PartitionedRecordDispatcher(
+                consumer, listener, consumptionMode, this::handleMessage);
+        listener = dispatcher;
+        if (MicrometerHelper.isMicrometerAvailable()) {
+          dispatcherMetrics =
+              KafkaConsumerMetrics.bindToGlobalRegistry(
+                  dispatcher, topicName, context.getDefinition().deduplicationId());
+        }
+      }
+      consumer.subscribe(List.of(topicName), listener);
       reportUp(consumer);
 
       return consumer;
@@ -131,21 +158,46 @@ public class KafkaConnectorConsumer {
   }
 
   public void consume(Consumer<Object, Object> consumer) {
-    while (shouldLoop) {
-      try {
-        pollAndPublish(consumer);
-        reportUp(consumer);
-      } catch (Exception ex) {
-        reportDown(ex);
-        throw ex;
+    try {
+      while (shouldLoop) {
+        try {
+          pollAndPublish(consumer);
+          reportUp(consumer);
+        } catch (Exception ex) {
+          reportDown(ex);
+          throw ex;
+        }
       }
+    } finally {
+      closeDispatcher();
     }
     LOG.debug("Kafka inbound loop finished");
   }
 
+  private void closeDispatcher() {
+    if (dispatcher == null) {
+      return;
+    }
+    dispatcher.close();
+    dispatcher = null;
+    if (dispatcherMetrics != null) {
+      try {
+        dispatcherMetrics.close();
+      } catch (Exception e) {
+        LOG.debug("Failed to remove Kafka consumer metrics", e);
+      }
+      dispatcherMetrics = null;
+    }
+  }
+
   private void pollAndPublish(Consumer<Object, Object> consumer) {
     LOG.trace("Polling the topics: {}", consumer.assignment());
     ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofMillis(500));
+    if (dispatcher != null) {
+      dispatcher.dispatch(records);
+      dispatcher.maintain();
+      return;
+    }
     for (ConsumerRecord<Object, Object> record : records) {
       handleMessage(record);
     }
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.inbound;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import java.util.List;
+
+/**
+ * Publishes the records in flight and the lag of a partition-parallel Kafka consumer as Micrometer
+ * gauges.
+ *
+ * <p>Micrometer is an optional dependency, this class must only be loaded after checking that it is
+ * on the classpath.
+ */
+public class KafkaConsumerMetrics implements AutoCloseable {
+
+  public static final String METRIC_NAME_IN_FLIGHT = "camunda.connector.kafka.consumer.in-flight";
+  public static final String METRIC_NAME_LAG = "camunda.connector.kafka.consumer.lag";
+  public static final String TAG_TOPIC = "topic";
+  public static final String TAG_CONNECTOR = "deduplicationId";
+
+  private final MeterRegistry meterRegistry;
+  private final List<Meter> meters;
+
+  KafkaConsumerMetrics(
+      PartitionedRecordDispatcher dispatcher,
+      String topic,
+      String deduplicationId,
+      MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    Tags tags = Tags.of(TAG_TOPIC, topic, TAG_CONNECTOR, String.valueOf(deduplicationId));
+    this.meters =
+        List.of(
+            Gauge.builder(METRIC_NAME_IN_FLIGHT, dispatcher, PartitionedRecordDispatcher::inFlight)
+                .description("Kafka records being correlated")
+                .tags(tags)
+                .register(meterRegistry),
+            Gauge.builder(METRIC_NAME_LAG, dispatcher, PartitionedRecordDispatcher::lag)
+                .description("Kafka records not correlated yet")
+                .tags(tags)
+                .register(meterRegistry));
+  }
+
+  static KafkaConsumerMetrics bindToGlobalRegistry(
+      PartitionedRecordDispatcher dispatcher, String topic, String deduplicationId) {
+    return new KafkaConsumerMetrics(dispatcher, topic, deduplicationId, Metrics.globalRegistry);
+  }
+
+  /** Removes the gauges of the consumer from the registry. */
+  @Override
+  public void close() {
+    meters.forEach(meterRegistry::remove);
+  }
+}
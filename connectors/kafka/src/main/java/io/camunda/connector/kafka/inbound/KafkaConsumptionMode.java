@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.inbound;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * How the inbound Kafka connector correlates the records it consumes.
+ *
+ * <p>The mode is configured for the whole runtime with the {@value #ORDERING_ENV_NAME} and {@value
+ * #MAX_IN_FLIGHT_ENV_NAME} environment variables.
+ *
+ * @param ordering the order in which records are correlated
+ * @param maxInFlightPerPartition the number of records per partition that are correlated at the
+ *     same time in {@link Ordering#KEY} mode
+ */
+public record KafkaConsumptionMode(Ordering ordering, int maxInFlightPerPartition) {
+
+  public static final String ORDERING_ENV_NAME = "CAMUNDA_CONNECTOR_KAFKA_INBOUND_ORDERING";
+  public static final String MAX_IN_FLIGHT_ENV_NAME =
+      "CAMUNDA_CONNECTOR_KAFKA_INBOUND_MAX_IN_FLIGHT_PER_PARTITION";
+
+  public static final KafkaConsumptionMode SEQUENTIAL =
+      new KafkaConsumptionMode(Ordering.SEQUENTIAL, 1);
+
+  private static final int DEFAULT_MAX_IN_FLIGHT_PER_PARTITION = 16;
+
+  public KafkaConsumptionMode {
+    if (maxInFlightPerPartition <= 0) {
+      throw new IllegalArgumentException(
+          "maxInFlightPerPartition must be positive, got " + maxInFlightPerPartition);
+    }
+    if (ordering != Ordering.KEY) {
+      maxInFlightPerPartition = 1;
+    }
+  }
+
+  public static KafkaConsumptionMode fromEnvironment() {
+    return from(System::getenv);
+  }
+
+  static KafkaConsumptionMode from(Function<String, String> environment) {
+    Ordering ordering =
+        Optional.ofNullable(environment.apply(ORDERING_ENV_NAME))
+            .map(value -> Ordering.valueOf(value.trim().toUpperCase(Locale.ROOT)))
+            .orElse(Ordering.SEQUENTIAL);
+    int maxInFlight =
+        Optional.ofNullable(environment.apply(MAX_IN_FLIGHT_ENV_NAME))
+            .map(value -> Integer.parseInt(value.trim()))
+            .orElse(DEFAULT_MAX_IN_FLIGHT_PER_PARTITION);
+    return new KafkaConsumptionMode(ordering, maxInFlight);
+  }
+
+  public enum Ordering {
+    /** Correlates one record at a time and commits synchronously after every poll. */
+    SEQUENTIAL,
+    /**
+     * Correlates the records of different partitions concurrently, one record per partition at a
+     * time.
+     */
+    PARTITION,
+    /**
+     * Correlates records of different partitions and of different keys within a partition
+     * concurrently, keeping the order of records with the same key.
+     */
+    KEY
+  }
+}
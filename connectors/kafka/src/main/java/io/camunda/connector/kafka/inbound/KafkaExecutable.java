@@ -67,13 +67,22 @@ public class KafkaExecutable implements InboundConnectorExecutable<InboundConnec
   private static final int INFINITE_RETRIES = -1;
   private final Function<Properties, Consumer<Object, Object>> consumerCreatorFunction;
   private final RetryPolicy<Object> retryPolicy;
+  private final KafkaConsumptionMode consumptionMode;
   public KafkaConnectorConsumer kafkaConnectorConsumer;
 
   public KafkaExecutable(
       final Function<Properties, Consumer<Object, Object>> consumerCreatorFunction,
       final RetryPolicy<Object> retryConfig) {
+    this(consumerCreatorFunction, retryConfig, KafkaConsumptionMode.fromEnvironment());
+  }
+
+  public KafkaExecutable(
+      final Function<Properties, Consumer<Object, Object>> consumerCreatorFunction,
+      final RetryPolicy<Object> retryConfig,
+      final KafkaConsumptionMode consumptionMode) {
     this.consumerCreatorFunction = consumerCreatorFunction;
     this.retryPolicy = retryConfig;
+    this.consumptionMode = consumptionMode;
   }
 
   public KafkaExecutable() {
@@ -103,7 +112,8 @@ public class KafkaExecutable implements InboundConnectorExecutable<InboundConnec
       KafkaConnectorProperties elementProps =
           context.bindProperties(KafkaConnectorProperties.class);
       this.kafkaConnectorConsumer =
-          new KafkaConnectorConsumer(consumerCreatorFunction, context, elementProps, retryPolicy);
+          new KafkaConnectorConsumer(
+              consumerCreatorFunction, context, elementProps, retryPolicy, consumptionMode);
       this.kafkaConnectorConsumer.startConsumer();
       context.log(
           activity ->
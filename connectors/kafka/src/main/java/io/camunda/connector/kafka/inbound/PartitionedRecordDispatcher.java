@@ -0,0 +1,375 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.inbound;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Correlates the records of a consumer concurrently while keeping their order per partition, or per
+ * key within a partition.
+ *
+ * <p>Records are handled on virtual threads. For every partition the dispatcher tracks the offsets
+ * that are not completed yet and only commits up to the first of them, so a commit never covers a
+ * record that is still being correlated. Commits are sent asynchronously after every poll. A
+ * partition is paused while its in-flight window is full and records are waiting for it, and
+ * resumed once they were dispatched.
+ *
+ * <p>If a record fails, no further records are dispatched. Once the records in flight completed,
+ * the contiguously completed offsets are committed and the failure is thrown from {@link
+ * #maintain()}, so the consumer is recreated and resumes from the failed record.
+ *
+ * <p>Except for the record handling, all methods are called on the polling thread that owns the
+ * consumer, including the rebalance callbacks.
+ */
+class PartitionedRecordDispatcher implements ConsumerRebalanceListener, AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PartitionedRecordDispatcher.class);
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+  private static final Object NULL_KEY = new Object();
+
+  private final Consumer<Object, Object> consumer;
+  private final ConsumerRebalanceListener delegate;
+  private final java.util.function.Consumer<ConsumerRecord<Object, Object>> handler;
+  private final int maxInFlightPerPartition;
+  private final boolean keyOrdered;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Map<TopicPartition, PartitionState> partitions = new ConcurrentHashMap<>();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile boolean stopped;
+  private volatile long lag;
+
+  /**
+   * @param consumer the consumer the records are polled from
+   * @param delegate the rebalance listener to notify after the dispatcher handled a rebalance
+   * @param mode the ordering and window of the records in flight
+   * @param handler correlates a record, throwing if its offset must not be committed
+   */
+  PartitionedRecordDispatcher(
+      Consumer<Object, Object> consumer,
+      ConsumerRebalanceListener delegate,
+      KafkaConsumptionMode mode,
+      java.util.function.Consumer<ConsumerRecord<Object, Object>> handler) {
+    this.consumer = consumer;
+    this.delegate = delegate;
+    this.handler = handler;
+    this.maxInFlightPerPartition = mode.maxInFlightPerPartition();
+    this.keyOrdered = mode.ordering() == KafkaConsumptionMode.Ordering.KEY;
+  }
+
+  /** Queues the polled records and dispatches those whose partition or key is not busy. */
+  void dispatch(ConsumerRecords<Object, Object> records) {
+    List<TopicPartition> backlogged = new ArrayList<>();
+    for (TopicPartition partition : records.partitions()) {
+      PartitionState state = partitions.computeIfAbsent(partition, PartitionState::new);
+      if (state.append(records.records(partition))) {
+        backlogged.add(partition);
+      }
+      state.dispatchReady();
+    }
+    if (!backlogged.isEmpty()) {
+      consumer.pause(backlogged);
+    }
+  }
+
+  /**
+   * Commits the completed offsets, resumes drained partitions and updates the lag.
+   *
+   * @throws RuntimeException the failure of a record, once no records are in flight any more
+   */
+  void maintain() {
+    Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+    List<TopicPartition> drained = new ArrayList<>();
+    RuntimeException failure = null;
+    long outstanding = 0;
+    Set<TopicPartition> paused = consumer.paused();
+    for (PartitionState state : partitions.values()) {
+      synchronized (state) {
+        state.collectCommit(offsets);
+        outstanding += state.outstanding.size();
+        if (failure == null) {
+          failure = state.failure;
+        }
+        if (paused.contains(state.partition) && state.pending.isEmpty()) {
+          drained.add(state.partition);
+        }
+      }
+    }
+    if (failure != null) {
+      stopped = true;
+      consumer.pause(consumer.assignment());
+      if (inFlight.get() == 0) {
+        commitSync(offsets);
+        throw failure;
+      }
+    } else if (!drained.isEmpty()) {
+      consumer.resume(drained);
+    }
+    if (!offsets.isEmpty()) {
+      consumer.commitAsync(
+          offsets,
+          (committed, e) -> {
+            if (e != null) {
+              LOG.warn("Failed to commit offsets {}, a later commit will cover them", committed, e);
+            }
+          });
+    }
+    updateLag(outstanding);
+  }
+
+  int inFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Records polled but not correlated yet, including those the consumer has not fetched from the
+   * assigned partitions.
+   */
+  long lag() {
+    return lag;
+  }
+
+  /** Waits for the records in flight and commits the completed offsets. */
+  @Override
+  public void close() {
+    stopped = true;
+    long deadline = System.nanoTime() + CLOSE_TIMEOUT.toNanos();
+    synchronized (inFlight) {
+      while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+        try {
+          inFlight.wait(Math.max(1, (deadline - System.nanoTime()) / 1_000_000));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+    if (inFlight.get() > 0) {
+      LOG.warn("{} Kafka records still in flight, their offsets are not committed", inFlight.get());
+    }
+    Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+    partitions
+        .values()
+        .forEach(
+            state -> {
+              synchronized (state) {
+                state.collectCommit(offsets);
+              }
+            });
+    commitSync(offsets);
+    executor.shutdownNow();
+  }
+
+  @Override
+  public void onPartitionsRevoked(Collection<TopicPartition> revoked) {
+    Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+    for (TopicPartition partition : revoked) {
+      PartitionState state = partitions.remove(partition);
+      if (state != null) {
+        synchronized (state) {
+          state.revoked = true;
+          state.pending.clear();
+          state.collectCommit(offsets);
+        }
+      }
+    }
+    commitSync(offsets);
+    delegate.onPartitionsRevoked(revoked);
+  }
+
+  @Override
+  public void onPartitionsLost(Collection<TopicPartition> lost) {
+    for (TopicPartition partition : lost) {
+      PartitionState state = partitions.remove(partition);
+      if (state != null) {
+        synchronized (state) {
+          state.revoked = true;
+          state.pending.clear();
+        }
+      }
+    }
+    delegate.onPartitionsLost(lost);
+  }
+
+  @Override
+  public void onPartitionsAssigned(Collection<TopicPartition> assigned) {
+    delegate.onPartitionsAssigned(assigned);
+  }
+
+  private void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+    if (offsets.isEmpty()) {
+      return;
+    }
+    try {
+      consumer.commitSync(offsets);
+    } catch (KafkaException e) {
+      LOG.warn("Failed to commit offsets {}, the records will be consumed again", offsets, e);
+    }
+  }
+
+  private void updateLag(long outstanding) {
+    long total = outstanding;
+    for (TopicPartition partition : consumer.assignment()) {
+      total += consumer.currentLag(partition).orElse(0);
+    }
+    lag = total;
+  }
+
+  private void submit(PartitionState state, ConsumerRecord<Object, Object> record) {
+    inFlight.incrementAndGet();
+    try {
+      executor.execute(() -> handle(state, record));
+    } catch (RejectedExecutionException e) {
+      complete(state, record, e);
+    }
+  }
+
+  private void handle(PartitionState state, ConsumerRecord<Object, Object> record) {
+    RuntimeException error = null;
+    boolean success = false;
+    try {
+      handler.accept(record);
+      success = true;
+    } catch (RuntimeException e) {
+      error = e;
+    } finally {
+      if (!success && error == null) {
+        error = new IllegalStateException("Failed to handle record " + offsetOf(record));
+      }
+      complete(state, record, error);
+    }
+  }
+
+  private void complete(
+      PartitionState state, ConsumerRecord<Object, Object> record, RuntimeException error) {
+    state.complete(record, error);
+    synchronized (inFlight) {
+      inFlight.decrementAndGet();
+      inFlight.notifyAll();
+    }
+    state.dispatchReady();
+  }
+
+  private Object keyOf(ConsumerRecord<Object, Object> record) {
+    return switch (record.key()) {
+      case null -> NULL_KEY;
+      case byte[] bytes -> ByteBuffer.wrap(bytes);
+      default -> record.key();
+    };
+  }
+
+  private static String offsetOf(ConsumerRecord<?, ?> record) {
+    return record.topic() + "-" + record.partition() + "@" + record.offset();
+  }
+
+  private final class PartitionState {
+
+    private final TopicPartition partition;
+    // guarded by this
+    private final Deque<ConsumerRecord<Object, Object>> pending = new ArrayDeque<>();
+    private final TreeSet<Long> outstanding = new TreeSet<>();
+    private final Set<Object> keysInFlight = new HashSet<>();
+    private int partitionInFlight;
+    private long nextOffset = -1;
+    private long committedOffset = -1;
+    private boolean revoked;
+    private RuntimeException failure;
+
+    private PartitionState(TopicPartition partition) {
+      this.partition = partition;
+    }
+
+    /**
+     * @return whether the in-flight window is full and records are waiting, so the partition should
+     *     be paused
+     */
+    private synchronized boolean append(List<ConsumerRecord<Object, Object>> records) {
+      for (ConsumerRecord<Object, Object> record : records) {
+        pending.add(record);
+        outstanding.add(record.offset());
+        nextOffset = record.offset() + 1;
+      }
+      return pending.size() >= maxInFlightPerPartition;
+    }
+
+    private void dispatchReady() {
+      List<ConsumerRecord<Object, Object>> ready = new ArrayList<>();
+      synchronized (this) {
+        if (revoked || failure != null || stopped) {
+          return;
+        }
+        Set<Object> seenKeys = keyOrdered ? new HashSet<>() : Set.of();
+        Iterator<ConsumerRecord<Object, Object>> iterator = pending.iterator();
+        while (iterator.hasNext() && partitionInFlight < maxInFlightPerPartition) {
+          ConsumerRecord<Object, Object> record = iterator.next();
+          if (keyOrdered) {
+            Object key = keyOf(record);
+            // an earlier record with the same key is waiting or in flight
+            if (!seenKeys.add(key) || !keysInFlight.add(key)) {
+              continue;
+            }
+          }
+          iterator.remove();
+          partitionInFlight++;
+          ready.add(record);
+        }
+      }
+      ready.forEach(record -> submit(this, record));
+    }
+
+    private synchronized void complete(
+        ConsumerRecord<Object, Object> record, RuntimeException error) {
+      partitionInFlight--;
+      if (keyOrdered) {
+        keysInFlight.remove(keyOf(record));
+      }
+      if (error == null) {
+        outstanding.remove(record.offset());
+      } else if (failure == null) {
+        LOG.debug("Failed to handle record {}", offsetOf(record), error);
+        failure = error;
+      }
+    }
+
+    /** Must be called while holding the lock of the state. */
+    private void collectCommit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+      if (nextOffset < 0) {
+        return;
+      }
+      long commitOffset = outstanding.isEmpty() ? nextOffset : outstanding.first();
+      if (commitOffset > committedOffset) {
+        offsets.put(partition, new OffsetAndMetadata(commitOffset));
+        committedOffset = commitOffset;
+      }
+    }
+  }
+}
@@ -16,13 +16,14 @@ import io.camunda.connector.kafka.outbound.model.KafkaConnectorRequest;
 import io.camunda.connector.kafka.outbound.model.KafkaConnectorResponse;
 import io.camunda.connector.kafka.outbound.model.ProducerRecordFactory;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
-import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.AuthenticationException;
 
 @OutboundConnector(
     name = "Kafka Producer",
@@ -53,16 +54,28 @@ import org.apache.kafka.clients.producer.RecordMetadata;
     icon = "icon.svg")
 public class KafkaConnectorFunction implements OutboundConnectorFunction {
 
+  private final KafkaProducerPool producerPool;
   private final Function<Properties, Producer<String, Object>> producerCreatorFunction;
 
   private final ProducerRecordFactory producerRecordFactory = new ProducerRecordFactory();
 
   public KafkaConnectorFunction() {
-    this(KafkaProducer::new);
+    this(KafkaProducerPool.getDefault());
   }
 
   public KafkaConnectorFunction(
       final Function<Properties, Producer<String, Object>> producerCreatorFunction) {
+    this(KafkaProducerPool.getDefault(), producerCreatorFunction);
+  }
+
+  public KafkaConnectorFunction(final KafkaProducerPool producerPool) {
+    this(producerPool, producerPool.producerFactory());
+  }
+
+  public KafkaConnectorFunction(
+      final KafkaProducerPool producerPool,
+      final Function<Properties, Producer<String, Object>> producerCreatorFunction) {
+    this.producerPool = producerPool;
     this.producerCreatorFunction = producerCreatorFunction;
   }
 
@@ -74,11 +87,10 @@ public class KafkaConnectorFunction implements OutboundConnectorFunction {
 
   private KafkaConnectorResponse executeConnector(final KafkaConnectorRequest request) {
     Properties props = KafkaPropertiesUtil.assembleKafkaClientProperties(request);
-    try (Producer<String, Object> producer = producerCreatorFunction.apply(props)) {
+    try (KafkaProducerPool.Lease lease = producerPool.acquire(producerCreatorFunction, props)) {
       ProducerRecord<String, Object> producerRecord =
           producerRecordFactory.createProducerRecord(request);
-      Future<RecordMetadata> kafkaResponse = producer.send(producerRecord);
-      return constructKafkaConnectorResponse(kafkaResponse.get(45, TimeUnit.SECONDS));
+      return constructKafkaConnectorResponse(send(lease, producerRecord));
     } catch (Exception e) {
       throw new ConnectorException(
           "FAIL",
@@ -87,6 +99,24 @@ public class KafkaConnectorFunction implements OutboundConnectorFunction {
     }
   }
 
+  private RecordMetadata send(
+      KafkaProducerPool.Lease lease, ProducerRecord<String, Object> producerRecord)
+      throws Exception {
+    try {
+      Future<RecordMetadata> kafkaResponse = lease.producer().send(producerRecord);
+      return kafkaResponse.get(45, TimeUnit.SECONDS);
+    } catch (AuthenticationException e) {
+      lease.invalidate();
+      throw e;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof AuthenticationException) {
+        // credentials were revoked or rotated, do not reuse the producer
+        lease.invalidate();
+      }
+      throw e;
+    }
+  }
+
   private KafkaConnectorResponse constructKafkaConnectorResponse(RecordMetadata recordMetadata) {
     return new KafkaConnectorResponse(
         recordMetadata.topic(),
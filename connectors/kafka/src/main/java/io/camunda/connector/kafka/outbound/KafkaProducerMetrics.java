@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.outbound;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+
+/**
+ * Publishes the record send rate and request latency of a pooled Kafka producer as Micrometer
+ * gauges, tagged with the client id of the producer.
+ *
+ * <p>Micrometer is an optional dependency, this class must only be loaded after checking that it is
+ * on the classpath.
+ */
+public class KafkaProducerMetrics implements AutoCloseable {
+
+  public static final String METRIC_NAME_RECORD_SEND_RATE =
+      "camunda.connector.kafka.producer.record-send-rate";
+  public static final String METRIC_NAME_REQUEST_LATENCY =
+      "camunda.connector.kafka.producer.request-latency";
+  public static final String TAG_CLIENT_ID = "clientId";
+
+  private static final String PRODUCER_METRICS_GROUP = "producer-metrics";
+
+  private final MeterRegistry meterRegistry;
+  private final List<Meter> meters = new ArrayList<>();
+
+  public KafkaProducerMetrics(Producer<?, ?> producer, MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    register(
+        producer,
+        "record-send-rate",
+        METRIC_NAME_RECORD_SEND_RATE,
+        "Average number of records sent per second");
+    register(
+        producer,
+        "request-latency-avg",
+        METRIC_NAME_REQUEST_LATENCY,
+        "Average request latency in milliseconds");
+  }
+
+  static KafkaProducerMetrics bindToGlobalRegistry(Producer<?, ?> producer) {
+    return new KafkaProducerMetrics(producer, Metrics.globalRegistry);
+  }
+
+  /** Removes the gauges of the producer from the registry. */
+  @Override
+  public void close() {
+    meters.forEach(meterRegistry::remove);
+  }
+
+  private void register(
+      Producer<?, ?> producer, String kafkaMetricName, String name, String description) {
+    producer.metrics().entrySet().stream()
+        .filter(entry -> isProducerMetric(entry.getKey(), kafkaMetricName))
+        .findFirst()
+        .ifPresent(
+            entry ->
+                meters.add(
+                    Gauge.builder(name, entry.getValue(), KafkaProducerMetrics::value)
+                        .description(description)
+                        .tag(TAG_CLIENT_ID, entry.getKey().tags().getOrDefault("client-id", ""))
+                        .register(meterRegistry)));
+  }
+
+  private static boolean isProducerMetric(MetricName metricName, String name) {
+    return PRODUCER_METRICS_GROUP.equals(metricName.group()) && name.equals(metricName.name());
+  }
+
+  private static double value(Metric metric) {
+    return metric.metricValue() instanceof Number number ? number.doubleValue() : Double.NaN;
+  }
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.outbound;
+
+import io.camunda.connector.util.concurrent.DaemonThreads;
+import io.camunda.connector.util.metrics.MicrometerHelper;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.config.SaslConfigs;
+import org.apache.kafka.common.config.SslConfigs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shares long-lived Kafka producers between jobs with the same client configuration.
+ *
+ * <p>Creating a producer for every message costs a metadata fetch, the SASL/TLS handshake and the
+ * idempotence initialization. The pool keys producers by a hash of their normalized client
+ * properties, including credentials, and hands them out as reference counted {@link Lease leases}.
+ * A producer is closed once it was not leased for the idle timeout, or as soon as its last lease is
+ * released after it was retired. Producers are retired when the secrets of an otherwise equal
+ * configuration change while the principal stays the same, or when a lease is {@link
+ * Lease#invalidate() invalidated} after an authentication failure.
+ *
+ * <p>Producers are also keyed by the factory that creates them, so functions with their own factory
+ * share the pool.
+ *
+ * <p>Producers are created outside the lock of the pool, so a slow handshake with one cluster does
+ * not block jobs that use other clusters. Concurrent jobs with the same configuration wait for the
+ * single producer that is being created.
+ */
+public class KafkaProducerPool implements AutoCloseable {
+
+  public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+  private static final Logger LOG = LoggerFactory.getLogger(KafkaProducerPool.class);
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+  private static final Duration MIN_EVICTION_INTERVAL = Duration.ofSeconds(1);
+  // properties that only hold secrets, excluded from the identity of a client
+  private static final Set<String> SECRET_PROPERTIES =
+      Set.of(
+          SslConfigs.SSL_KEY_PASSWORD_CONFIG,
+          SslConfigs.SSL_KEYSTORE_PASSWORD_CONFIG,
+          SslConfigs.SSL_TRUSTSTORE_PASSWORD_CONFIG);
+  private static final String BASIC_AUTH_USER_INFO = "basic.auth.user.info";
+  // secret options of a JAAS configuration, e.g. password='...' or clientSecret="..."
+  private static final Pattern JAAS_SECRET_OPTION =
+      Pattern.compile("(?i)(\\w*(?:password|secret)\\w*)\\s*=\\s*(?:\"[^\"]*\"|'[^']*'|[^\\s;]+)");
+
+  private final Function<Properties, Producer<String, Object>> producerFactory;
+  private final Duration idleTimeout;
+  private final Map<ProducerKey, PooledProducer> producers = new HashMap<>();
+  // producers that are being created, completed once they were added to the pool or failed
+  private final Map<ProducerKey, CompletableFuture<Void>> creating = new HashMap<>();
+  // key of the current producer per client identity, used to detect rotated credentials
+  private final Map<ProducerKey, ProducerKey> keysByIdentity = new HashMap<>();
+  private final ScheduledExecutorService evictor;
+  private boolean closed;
+
+  /**
+   * @param producerFactory creates a producer from the client properties
+   * @param idleTimeout the time after which a producer that is not leased is closed
+   */
+  public KafkaProducerPool(
+      Function<Properties, Producer<String, Object>> producerFactory, Duration idleTimeout) {
+    this.producerFactory = producerFactory;
+    this.idleTimeout = idleTimeout;
+    long interval = Math.max(idleTimeout.toMillis() / 2, MIN_EVICTION_INTERVAL.toMillis());
+    this.evictor =
+        DaemonThreads.scheduleWithFixedDelay(
+            "connectors-kafka-producer-eviction", this::evictIdle, Duration.ofMillis(interval));
+  }
+
+  /** The pool shared by all Kafka producer connectors of the runtime. */
+  public static KafkaProducerPool getDefault() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Leases a producer for the given client properties, creating it with the factory of the pool if
+   * there is none yet. The lease must be closed once the producer is no longer used.
+   */
+  public Lease acquire(Properties properties) {
+    return acquire(producerFactory, properties);
+  }
+
+  /**
+   * Leases a producer like {@link #acquire(Properties)}, creating producers with the given factory.
+   */
+  public Lease acquire(
+      Function<Properties, Producer<String, Object>> producerFactory, Properties properties) {
+    var key = new ProducerKey(producerFactory, hash(normalize(properties, false)));
+    var identity = new ProducerKey(producerFactory, hash(normalize(properties, true)));
+    while (true) {
+      List<PooledProducer> toClose = new ArrayList<>();
+      Lease lease = null;
+      CompletableFuture<Void> creation;
+      boolean create = false;
+      synchronized (this) {
+        ensureOpen();
+        PooledProducer pooled = producers.get(key);
+        if (pooled != null) {
+          lease = lease(pooled, identity, toClose);
+        }
+        creation = creating.get(key);
+        if (lease == null && creation == null) {
+          creation = new CompletableFuture<>();
+          creating.put(key, creation);
+          create = true;
+        }
+      }
+      toClose.forEach(KafkaProducerPool::closeQuietly);
+      if (lease != null) {
+        return lease;
+      }
+      if (create) {
+        return create(key, identity, properties, creation);
+      }
+      // another job creates the producer, lease it once it is pooled or create it if that failed
+      creation.handle((ignored, error) -> null).join();
+    }
+  }
+
+  @Override
+  public void close() {
+    List<PooledProducer> toClose;
+    synchronized (this) {
+      closed = true;
+      toClose = new ArrayList<>(producers.values());
+      producers.clear();
+      keysByIdentity.clear();
+      creating.clear();
+    }
+    evictor.shutdownNow();
+    toClose.forEach(KafkaProducerPool::closeQuietly);
+  }
+
+  Function<Properties, Producer<String, Object>> producerFactory() {
+    return producerFactory;
+  }
+
+  synchronized int size() {
+    return producers.size();
+  }
+
+  private Lease create(
+      ProducerKey key,
+      ProducerKey identity,
+      Properties properties,
+      CompletableFuture<Void> creation) {
+    try {
+      PooledProducer created = createProducer(key, identity, properties);
+      List<PooledProducer> toClose = new ArrayList<>();
+      Lease lease = null;
+      synchronized (this) {
+        if (closed) {
+          toClose.add(created);
+        } else {
+          producers.put(key, created);
+          lease = lease(created, identity, toClose);
+        }
+      }
+      toClose.forEach(KafkaProducerPool::closeQuietly);
+      if (lease == null) {
+        throw new IllegalStateException("Kafka producer pool is closed");
+      }
+      return lease;
+    } finally {
+      synchronized (this) {
+        creating.remove(key, creation);
+      }
+      creation.complete(null);
+    }
+  }
+
+  /** Must be called while holding the lock of the pool. */
+  private Lease lease(PooledProducer pooled, ProducerKey identity, List<PooledProducer> toClose) {
+    ProducerKey previousKey = keysByIdentity.put(identity, pooled.key);
+    if (previousKey != null && !previousKey.equals(pooled.key)) {
+      LOG.debug("Client credentials changed, retiring the producer of the previous credentials");
+      retire(producers.get(previousKey), toClose);
+    }
+    pooled.leases++;
+    return new Lease(pooled);
+  }
+
+  /** Must be called while holding the lock of the pool. */
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("Kafka producer pool is closed");
+    }
+  }
+
+  private PooledProducer createProducer(
+      ProducerKey key, ProducerKey identity, Properties properties) {
+    Producer<String, Object> producer = key.producerFactory().apply(properties);
+    AutoCloseable metrics =
+        MicrometerHelper.isMicrometerAvailable()
+            ? KafkaProducerMetrics.bindToGlobalRegistry(producer)
+            : null;
+    return new PooledProducer(key, identity, producer, metrics);
+  }
+
+  private void release(PooledProducer pooled) {
+    boolean close;
+    synchronized (this) {
+      pooled.leases--;
+      pooled.lastReleasedNanos = System.nanoTime();
+      close = pooled.retired && pooled.leases == 0;
+    }
+    if (close) {
+      closeQuietly(pooled);
+    }
+  }
+
+  private void invalidate(PooledProducer pooled) {
+    List<PooledProducer> toClose = new ArrayList<>();
+    synchronized (this) {
+      keysByIdentity.remove(pooled.identity, pooled.key);
+      retire(pooled, toClose);
+    }
+    toClose.forEach(KafkaProducerPool::closeQuietly);
+  }
+
+  /** Must be called while holding the lock of the pool. */
+  private void retire(PooledProducer pooled, List<PooledProducer> toClose) {
+    if (pooled == null || pooled.retired) {
+      return;
+    }
+    pooled.retired = true;
+    producers.remove(pooled.key, pooled);
+    if (pooled.leases == 0) {
+      toClose.add(pooled);
+    }
+  }
+
+  void evictIdle() {
+    List<PooledProducer> toClose = new ArrayList<>();
+    synchronized (this) {
+      long now = System.nanoTime();
+      for (PooledProducer pooled : List.copyOf(producers.values())) {
+        if (pooled.leases == 0 && now - pooled.lastReleasedNanos > idleTimeout.toNanos()) {
+          keysByIdentity.remove(pooled.identity, pooled.key);
+          retire(pooled, toClose);
+        }
+      }
+    }
+    if (!toClose.isEmpty()) {
+      LOG.debug("Closing {} idle Kafka producers", toClose.size());
+    }
+    toClose.forEach(KafkaProducerPool::closeQuietly);
+  }
+
+  private static void closeQuietly(PooledProducer pooled) {
+    try {
+      if (pooled.metrics != null) {
+        pooled.metrics.close();
+      }
+      pooled.producer.close(CLOSE_TIMEOUT);
+    } catch (Exception e) {
+      LOG.warn("Failed to close Kafka producer", e);
+    }
+  }
+
+  /**
+   * Normalizes the client properties into a stable order. For the identity of a client, secrets are
+   * left out while the principal is kept, so only a changed secret of the same principal counts as
+   * rotated credentials and clients of different principals never retire each other's producers.
+   */
+  private static Map<String, String> normalize(Properties properties, boolean identity) {
+    Map<String, String> normalized = new TreeMap<>();
+    properties.forEach(
+        (name, value) -> {
+          String property = name.toString();
+          String normalizedValue =
+              value instanceof Class<?> type ? type.getName() : value.toString();
+          if (identity) {
+            if (SECRET_PROPERTIES.contains(property)) {
+              return;
+            }
+            normalizedValue = principalOf(property, normalizedValue);
+          }
+          normalized.put(property, normalizedValue);
+        });
+    return normalized;
+  }
+
+  private static String principalOf(String property, String value) {
+    if (SaslConfigs.SASL_JAAS_CONFIG.equals(property)) {
+      return JAAS_SECRET_OPTION.matcher(value).replaceAll("$1=");
+    }
+    if (BASIC_AUTH_USER_INFO.equals(property)) {
+      int separator = value.indexOf(':');
+      return separator < 0 ? value : value.substring(0, separator);
+    }
+    return value;
+  }
+
+  /**
+   * Hashes the normalized client properties, so equal configurations map to the same producer
+   * without keeping credentials in the keys of the pool.
+   */
+  private static String hash(Map<String, String> normalized) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      normalized.forEach(
+          (name, value) -> {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+          });
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  /**
+   * @param hash the hash of the normalized client properties
+   */
+  private record ProducerKey(
+      Function<Properties, Producer<String, Object>> producerFactory, String hash) {}
+
+  /** A leased producer, to be closed once the producer is no longer used. */
+  public final class Lease implements AutoCloseable {
+
+    private final PooledProducer pooled;
+    private boolean released;
+
+    private Lease(PooledProducer pooled) {
+      this.pooled = pooled;
+    }
+
+    public Producer<String, Object> producer() {
+      return pooled.producer;
+    }
+
+    /**
+     * Retires the producer, e.g. after an authentication failure. It is closed once all its leases
+     * are released and the next lease creates a new producer.
+     */
+    public void invalidate() {
+      KafkaProducerPool.this.invalidate(pooled);
+    }
+
+    @Override
+    public void close() {
+      if (!released) {
+        released = true;
+        release(pooled);
+      }
+    }
+  }
+
+  private static final class PooledProducer {
+
+    private final ProducerKey key;
+    private final ProducerKey identity;
+    private final Producer<String, Object> producer;
+    private final AutoCloseable metrics;
+    // guarded by the lock of the pool
+    private int leases;
+    private long lastReleasedNanos = System.nanoTime();
+    private boolean retired;
+
+    private PooledProducer(
+        ProducerKey key,
+        ProducerKey identity,
+        Producer<String, Object> producer,
+        AutoCloseable metrics) {
+      this.key = key;
+      this.identity = identity;
+      this.producer = producer;
+      this.metrics = metrics;
+    }
+  }
+
+  private static final class Holder {
+    private static final KafkaProducerPool INSTANCE =
+        new KafkaProducerPool(KafkaProducer::new, DEFAULT_IDLE_TIMEOUT);
+  }
+}
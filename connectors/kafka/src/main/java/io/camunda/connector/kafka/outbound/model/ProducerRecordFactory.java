@@ -10,10 +10,9 @@ package io.camunda.connector.kafka.outbound.model;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.avro.AvroMapper;
-import com.fasterxml.jackson.dataformat.avro.AvroSchema;
 import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.jackson.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.kafka.converter.AvroSchemaCache;
 import io.camunda.connector.kafka.converter.GenericRecordConverter;
 import io.camunda.connector.kafka.converter.ObjectNodeConverter;
 import io.camunda.connector.kafka.model.schema.AvroInlineSchemaStrategy;
@@ -21,12 +20,12 @@ import io.camunda.connector.kafka.model.schema.OutboundSchemaRegistryStrategy;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import org.apache.avro.Schema;
 import org.apache.kafka.clients.producer.ProducerRecord;
 
 public class ProducerRecordFactory {
 
   private static final ObjectNodeConverter OBJECT_NODE_CONVERTER = new ObjectNodeConverter();
+  private static final AvroSchemaCache AVRO_SCHEMA_CACHE = AvroSchemaCache.getDefault();
   private static final GenericRecordConverter GENERIC_RECORD_CONVERTER =
       new GenericRecordConverter();
   private static final ObjectMapper OBJECT_MAPPER =
@@ -61,14 +60,11 @@ public class ProducerRecordFactory {
 
   private byte[] produceAvroMessage(AvroInlineSchemaStrategy strategy, Object messageValue)
       throws Exception {
-    var schemaString = strategy.schema();
-    Schema raw = new Schema.Parser().parse(schemaString);
-    AvroSchema schema = new AvroSchema(raw);
-    AvroMapper avroMapper = new AvroMapper();
+    var schema = AVRO_SCHEMA_CACHE.get(strategy.schema());
     if (messageValue instanceof String messageValueAsString) {
       messageValue = OBJECT_MAPPER.readTree(messageValueAsString);
     }
-    return avroMapper.writer(schema).writeValueAsBytes(messageValue);
+    return schema.writer().writeValueAsBytes(messageValue);
   }
 
   private Object produceSchemaRegistryMessage(
@@ -85,7 +81,7 @@ public class ProducerRecordFactory {
     return switch (strategy.getSchemaType()) {
       case AVRO ->
           GENERIC_RECORD_CONVERTER.toGenericRecord(
-              new Schema.Parser().parse(schemaString), (Map) messageValue);
+              AVRO_SCHEMA_CACHE.get(schemaString).schema(), (Map) messageValue);
       case JSON -> OBJECT_NODE_CONVERTER.toObjectNode(schemaString, (Map) messageValue);
     };
   }
@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.avro.AvroFactory;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+import io.camunda.connector.kafka.converter.AvroSchemaCache;
+import io.camunda.connector.kafka.converter.GenericRecordConverter;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the per-record cost of encoding a small message with an inline Avro schema, and of
+ * converting a record received from a schema registry to JSON. The {@code *PerRecordSetup}
+ * benchmarks parse the schema and create the mapper, writer and encoder for every record, as done
+ * before the {@link AvroSchemaCache}.
+ *
+ * <p>Run from the module directory after {@code mvn test-compile}, the GC profiler is enabled by
+ * default:
+ *
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=io.camunda.connector.kafka.benchmark.AvroEncodingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvroEncodingBenchmark {
+
+  private static final String SCHEMA =
+      """
+      {"type": "record", "name": "Order", "namespace": "io.camunda.example", "fields": [
+        {"name": "id", "type": "string"},
+        {"name": "customer", "type": "string"},
+        {"name": "amount", "type": "double"},
+        {"name": "items", "type": {"type": "array", "items": "string"}},
+        {"name": "note", "type": ["null", "string"], "default": null}
+      ]}
+      """;
+
+  private static final Map<String, Object> MESSAGE =
+      Map.of(
+          "id",
+          "4711",
+          "customer",
+          "Jane Doe",
+          "amount",
+          42.5,
+          "items",
+          List.of("first", "second"),
+          "note",
+          "deliver to the back door");
+
+  private AvroSchemaCache cache;
+  private GenericRecordConverter converter;
+  private GenericRecord record;
+
+  @Setup
+  public void setUp() {
+    cache = new AvroSchemaCache(AvroSchemaCache.DEFAULT_MAXIMUM_SIZE);
+    converter = new GenericRecordConverter(cache);
+    record = converter.toGenericRecord(new Schema.Parser().parse(SCHEMA), MESSAGE);
+  }
+
+  @Benchmark
+  public byte[] encodePerRecordSetup() throws Exception {
+    AvroSchema schema = new AvroSchema(new Schema.Parser().parse(SCHEMA));
+    return new AvroMapper().writer(schema).writeValueAsBytes(MESSAGE);
+  }
+
+  @Benchmark
+  public byte[] encode() throws Exception {
+    return cache.get(SCHEMA).writer().writeValueAsBytes(MESSAGE);
+  }
+
+  @Benchmark
+  public ObjectNode toObjectNodePerRecordSetup() throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
+    new GenericDatumWriter<GenericRecord>(record.getSchema()).write(record, encoder);
+    encoder.flush();
+    return new ObjectMapper(new AvroFactory())
+        .readerFor(ObjectNode.class)
+        .with(new AvroSchema(record.getSchema()))
+        .readValue(outputStream.toByteArray());
+  }
+
+  @Benchmark
+  public ObjectNode toObjectNode() {
+    return converter.toObjectNode(record);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(AvroEncodingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
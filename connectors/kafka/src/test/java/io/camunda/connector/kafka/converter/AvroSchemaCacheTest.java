@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaParseException;
+import org.junit.jupiter.api.Test;
+
+class AvroSchemaCacheTest {
+
+  private static final String SCHEMA =
+      """
+      {"type": "record", "name": "Employee", "fields": [
+        {"name": "name", "type": "string"},
+        {"name": "age", "type": "int"}
+      ]}
+      """;
+
+  private final AvroSchemaCache cache = new AvroSchemaCache(AvroSchemaCache.DEFAULT_MAXIMUM_SIZE);
+
+  @Test
+  void shouldParseSchemaOnce_WhenSchemaTextIsEqual() {
+    // when
+    var first = cache.get(SCHEMA);
+    var second = cache.get(new String(SCHEMA));
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldShareEntry_WhenSchemaIsEqual() {
+    // when
+    var first = cache.get(new Schema.Parser().parse(SCHEMA));
+    var second = cache.get(new Schema.Parser().parse(SCHEMA));
+
+    // then
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void shouldNotCacheSchema_WhenSchemaIsInvalid() {
+    // when
+    assertThatThrownBy(() -> cache.get("{\"type\": \"record\"}"))
+        .isInstanceOf(SchemaParseException.class);
+
+    // then
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldReadWrittenValue() throws Exception {
+    // given
+    var schema = cache.get(SCHEMA);
+
+    // when
+    byte[] bytes = schema.writer().writeValueAsBytes(Map.of("name", "John Doe", "age", 30));
+    JsonNode node = schema.reader().readTree(bytes);
+
+    // then
+    assertThat(node.get("name").asText()).isEqualTo("John Doe");
+    assertThat(node.get("age").asInt()).isEqualTo(30);
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.inbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PartitionedRecordDispatcherTest {
+
+  private static final TopicPartition PARTITION = new TopicPartition("topic", 0);
+
+  @SuppressWarnings("unchecked")
+  private final Consumer<Object, Object> consumer = mock(Consumer.class);
+
+  private final ConsumerRebalanceListener delegate = mock(ConsumerRebalanceListener.class);
+  private PartitionedRecordDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    when(consumer.paused()).thenReturn(Set.of());
+    when(consumer.assignment()).thenReturn(Set.of(PARTITION));
+    when(consumer.currentLag(PARTITION)).thenReturn(OptionalLong.of(5));
+  }
+
+  @AfterEach
+  void close() {
+    dispatcher.close();
+  }
+
+  @Test
+  void shouldCommitContiguousOffsetsOnly() {
+    // given
+    var release = new CountDownLatch(1);
+    dispatcher =
+        newDispatcher(
+            KafkaConsumptionMode.Ordering.KEY,
+            16,
+            record -> {
+              if (record.offset() == 0) {
+                awaitQuietly(release);
+              }
+            });
+
+    // when
+    dispatcher.dispatch(records(record(0, "a"), record(1, "b"), record(2, "c")));
+    await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.inFlight() == 1);
+    dispatcher.maintain();
+
+    // then
+    verify(consumer).commitAsync(eq(Map.of(PARTITION, new OffsetAndMetadata(0))), any());
+    assertThat(dispatcher.lag()).isEqualTo(6);
+
+    release.countDown();
+    await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.inFlight() == 0);
+    dispatcher.maintain();
+    verify(consumer).commitAsync(eq(Map.of(PARTITION, new OffsetAndMetadata(3))), any());
+  }
+
+  @Test
+  void shouldKeepOrderPerKey() {
+    // given
+    List<Long> handledOffsetsOfKeyA = Collections.synchronizedList(new ArrayList<>());
+    dispatcher =
+        newDispatcher(
+            KafkaConsumptionMode.Ordering.KEY,
+            16,
+            record -> {
+              if ("a".equals(record.key())) {
+                // give a concurrently running record of the same key the chance to overtake
+                sleepQuietly(10 - record.offset());
+                handledOffsetsOfKeyA.add(record.offset());
+              }
+            });
+
+    // when
+    dispatcher.dispatch(
+        records(record(0, "a"), record(1, "b"), record(2, "a"), record(3, null), record(4, "a")));
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .until(() -> handledOffsetsOfKeyA.size() == 3 && dispatcher.inFlight() == 0);
+
+    // then
+    assertThat(handledOffsetsOfKeyA).containsExactly(0L, 2L, 4L);
+  }
+
+  @Test
+  void shouldPausePartition_WhenWindowIsFull() {
+    // given
+    var release = new CountDownLatch(1);
+    dispatcher =
+        newDispatcher(KafkaConsumptionMode.Ordering.KEY, 2, record -> awaitQuietly(release));
+
+    // when
+    dispatcher.dispatch(records(record(0, "a"), record(1, "b"), record(2, "c")));
+
+    // then
+    verify(consumer).pause(List.of(PARTITION));
+    assertThat(dispatcher.inFlight()).isEqualTo(2);
+
+    when(consumer.paused()).thenReturn(Set.of(PARTITION));
+    release.countDown();
+    await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.inFlight() == 0);
+    dispatcher.maintain();
+    verify(consumer).resume(List.of(PARTITION));
+  }
+
+  @Test
+  void shouldThrowFailure_WhenRecordsInFlightCompleted() {
+    // given
+    dispatcher =
+        newDispatcher(
+            KafkaConsumptionMode.Ordering.PARTITION,
+            16,
+            record -> {
+              if (record.offset() == 1) {
+                throw new IllegalStateException("expected");
+              }
+            });
+
+    // when
+    dispatcher.dispatch(records(record(0, "a"), record(1, "a"), record(2, "a")));
+    await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.inFlight() == 0);
+
+    // then
+    assertThatThrownBy(dispatcher::maintain).hasMessage("expected");
+    verify(consumer).pause(Set.of(PARTITION));
+    verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(1)));
+    verify(consumer, never()).resume(any());
+  }
+
+  @Test
+  void shouldCommitCompletedOffsets_WhenPartitionsRevoked() {
+    // given
+    dispatcher = newDispatcher(KafkaConsumptionMode.Ordering.PARTITION, 16, record -> {});
+    dispatcher.dispatch(records(record(0, "a"), record(1, "b")));
+    await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.inFlight() == 0);
+
+    // when
+    dispatcher.onPartitionsRevoked(List.of(PARTITION));
+
+    // then
+    verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(2)));
+    verify(delegate).onPartitionsRevoked(List.of(PARTITION));
+  }
+
+  private PartitionedRecordDispatcher newDispatcher(
+      KafkaConsumptionMode.Ordering ordering,
+      int maxInFlightPerPartition,
+      java.util.function.Consumer<ConsumerRecord<Object, Object>> handler) {
+    return new PartitionedRecordDispatcher(
+        consumer, delegate, new KafkaConsumptionMode(ordering, maxInFlightPerPartition), handler);
+  }
+
+  @SafeVarargs
+  private static ConsumerRecords<Object, Object> records(
+      ConsumerRecord<Object, Object>... records) {
+    return new ConsumerRecords<>(Map.of(PARTITION, List.of(records)), Map.of());
+  }
+
+  private static ConsumerRecord<Object, Object> record(long offset, String key) {
+    return new ConsumerRecord<>(PARTITION.topic(), PARTITION.partition(), offset, key, "value");
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleepQuietly(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
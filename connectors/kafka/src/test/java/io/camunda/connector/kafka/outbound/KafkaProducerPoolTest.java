@@ -0,0 +1,238 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.outbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.config.SaslConfigs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class KafkaProducerPoolTest {
+
+  private final List<Producer<String, Object>> created = new ArrayList<>();
+  private KafkaProducerPool pool;
+
+  @AfterEach
+  void close() {
+    pool.close();
+  }
+
+  @Test
+  void shouldReuseProducer_WhenPropertiesAreEqual() {
+    // given
+    pool = newPool(KafkaProducerPool.DEFAULT_IDLE_TIMEOUT);
+
+    // when
+    Producer<String, Object> first;
+    try (var lease = pool.acquire(properties("password"))) {
+      first = lease.producer();
+    }
+    Producer<String, Object> second;
+    try (var lease = pool.acquire(properties("password"))) {
+      second = lease.producer();
+    }
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(created).hasSize(1);
+    verify(first, never()).close(any(Duration.class));
+  }
+
+  @Test
+  void shouldCreateProducer_WhenPropertiesDiffer() {
+    // given
+    pool = newPool(KafkaProducerPool.DEFAULT_IDLE_TIMEOUT);
+    var otherCluster = properties("password");
+    otherCluster.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "other:9092");
+
+    // when
+    try (var first = pool.acquire(properties("password"));
+        var second = pool.acquire(otherCluster)) {
+
+      // then
+      assertThat(second.producer()).isNotSameAs(first.producer());
+      assertThat(pool.size()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldSeparateProducers_WhenFactoriesDiffer() {
+    // given
+    pool = newPool(KafkaProducerPool.DEFAULT_IDLE_TIMEOUT);
+    Producer<String, Object> ownProducer = mock(Producer.class);
+
+    // when
+    try (var pooled = pool.acquire(properties("password"));
+        var own = pool.acquire(properties -> ownProducer, properties("password"))) {
+
+      // then
+      assertThat(own.producer()).isSameAs(ownProducer);
+      assertThat(pooled.producer()).isNotSameAs(ownProducer);
+      assertThat(pool.size()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void shouldCloseRetiredProducerAfterLastLease_WhenCredentialsAreRotated() {
+    // given
+    pool = newPool(KafkaProducerPool.DEFAULT_IDLE_TIMEOUT);
+    var oldLease = pool.acquire(properties("old-password"));
+
+    // when
+    try (var newLease = pool.acquire(properties("new-password"))) {
+
+      // then
+      assertThat(newLease.producer()).isNotSameAs(oldLease.producer());
+      verify(oldLease.producer(), never()).close(any(Duration.class));
+      oldLease.close();
+      verify(oldLease.producer()).close(any(Duration.class));
+      assertThat(pool.size()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void shouldKeepProducersOfOtherPrincipals_WhenTheyShareACluster() {
+    // given
+    pool = newPool(KafkaProducerPool.DEFAULT_IDLE_TIMEOUT);
+    Producer<String, Object> alice;
+    try (var lease = pool.acquire(properties("alice", "password"))) {
+      alice = lease.producer();
+    }
+
+    // when
+    try (var bob = pool.acquire(properties("bob", "password"));
+        var aliceAgain = pool.acquire(properties("alice", "password"))) {
+
+      // then
+      assertThat(aliceAgain.producer()).isSameAs(alice);
+      assertThat(bob.producer()).isNotSameAs(alice);
+      verify(alice, never()).close(any(Duration.class));
+      verify(bob.producer(), never()).close(any(Duration.class));
+      assertThat(pool.size()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldLeaseOtherProducers_WhileAProducerIsCreated() throws Exception {
+    // given
+    var creationStarted = new CountDownLatch(1);
+    var finishCreation = new CountDownLatch(1);
+    pool =
+        new KafkaProducerPool(
+            properties -> {
+              if (properties.get(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG).equals("slow:9092")) {
+                creationStarted.countDown();
+                awaitQuietly(finishCreation);
+              }
+              return mock(Producer.class);
+            },
+            KafkaProducerPool.DEFAULT_IDLE_TIMEOUT);
+    var slowCluster = properties("password");
+    slowCluster.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "slow:9092");
+    var slowLease = CompletableFuture.supplyAsync(() -> pool.acquire(slowCluster));
+    assertThat(creationStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    var otherLease = CompletableFuture.supplyAsync(() -> pool.acquire(properties("password")));
+
+    // then
+    otherLease.get(5, TimeUnit.SECONDS).close();
+    assertThat(slowLease).isNotDone();
+    finishCreation.countDown();
+    slowLease.get(5, TimeUnit.SECONDS).close();
+    assertThat(pool.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldCreateNewProducer_WhenLeaseIsInvalidated() {
+    // given
+    pool = newPool(KafkaProducerPool.DEFAULT_IDLE_TIMEOUT);
+    Producer<String, Object> invalidated;
+    try (var lease = pool.acquire(properties("password"))) {
+      invalidated = lease.producer();
+      lease.invalidate();
+    }
+
+    // when
+    try (var lease = pool.acquire(properties("password"))) {
+
+      // then
+      assertThat(lease.producer()).isNotSameAs(invalidated);
+      verify(invalidated).close(any(Duration.class));
+    }
+  }
+
+  @Test
+  void shouldCloseIdleProducers_WhenNotLeased() {
+    // given
+    pool = newPool(Duration.ZERO);
+    var idle = pool.acquire(properties("password"));
+    idle.close();
+    var leased = pool.acquire(properties("other-password"));
+
+    // when
+    pool.evictIdle();
+
+    // then
+    verify(idle.producer()).close(any(Duration.class));
+    verify(leased.producer(), never()).close(any(Duration.class));
+    assertThat(pool.size()).isEqualTo(1);
+    leased.close();
+  }
+
+  @SuppressWarnings("unchecked")
+  private KafkaProducerPool newPool(Duration idleTimeout) {
+    return new KafkaProducerPool(
+        properties -> {
+          Producer<String, Object> producer = mock(Producer.class);
+          created.add(producer);
+          return producer;
+        },
+        idleTimeout);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static Properties properties(String password) {
+    return properties("user", password);
+  }
+
+  private static Properties properties(String username, String password) {
+    var properties = new Properties();
+    properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "kafka:9092");
+    properties.put(
+        SaslConfigs.SASL_JAAS_CONFIG,
+        "org.apache.kafka.common.security.plain.PlainLoginModule required username='"
+            + username
+            + "' password='"
+            + password
+            + "';");
+    return properties;
+  }
+}
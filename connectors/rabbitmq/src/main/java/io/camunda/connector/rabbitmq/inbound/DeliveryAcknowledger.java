@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.rabbitmq.inbound;
+
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Acknowledges the deliveries of a channel, which may complete in any order.
+ *
+ * <p>The broker is only told about the run of completed deliveries that starts at the oldest
+ * outstanding delivery tag. Consecutive deliveries with the same {@link Outcome} are settled with a
+ * single {@code basic.ack} or {@code basic.nack} with the {@code multiple} flag, which covers all
+ * outstanding tags up to the last one of the run. A delivery that completes before an older one
+ * waits until the older one completes as well.
+ *
+ * <p>Acknowledgements are sent while holding the lock, so that a multiple acknowledgement never
+ * overtakes an earlier one on the channel.
+ */
+class DeliveryAcknowledger {
+
+  enum Outcome {
+    ACK,
+    REQUEUE,
+    DISCARD
+  }
+
+  private final Channel channel;
+
+  /** Delivery tags not yet acknowledged, mapped to their outcome or {@code null} while pending. */
+  private final NavigableMap<Long, Outcome> outstanding = new TreeMap<>();
+
+  DeliveryAcknowledger(Channel channel) {
+    this.channel = channel;
+  }
+
+  /** Must be called in delivery order, before the delivery is handed to a worker. */
+  synchronized void register(long deliveryTag) {
+    outstanding.put(deliveryTag, null);
+  }
+
+  synchronized void complete(long deliveryTag, Outcome outcome) throws IOException {
+    if (!outstanding.containsKey(deliveryTag)) {
+      // delivered before the channel was shut down, the broker requeues it by itself
+      return;
+    }
+    outstanding.put(deliveryTag, outcome);
+    settleCompletedRuns();
+  }
+
+  /** Forgets all outstanding deliveries, called when the channel has been shut down. */
+  synchronized void reset() {
+    outstanding.clear();
+  }
+
+  synchronized int outstanding() {
+    return outstanding.size();
+  }
+
+  private void settleCompletedRuns() throws IOException {
+    while (!outstanding.isEmpty()) {
+      Outcome outcome = outstanding.firstEntry().getValue();
+      if (outcome == null) {
+        return;
+      }
+      long last = 0;
+      int count = 0;
+      var iterator = outstanding.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<Long, Outcome> entry = iterator.next();
+        if (entry.getValue() != outcome) {
+          break;
+        }
+        last = entry.getKey();
+        count++;
+        iterator.remove();
+      }
+      settle(last, count > 1, outcome);
+    }
+  }
+
+  private void settle(long deliveryTag, boolean multiple, Outcome outcome) throws IOException {
+    switch (outcome) {
+      case ACK -> channel.basicAck(deliveryTag, multiple);
+      case REQUEUE, DISCARD -> {
+        boolean requeue = outcome == Outcome.REQUEUE;
+        if (multiple) {
+          channel.basicNack(deliveryTag, true, requeue);
+        } else {
+          channel.basicReject(deliveryTag, requeue);
+        }
+      }
+    }
+  }
+}
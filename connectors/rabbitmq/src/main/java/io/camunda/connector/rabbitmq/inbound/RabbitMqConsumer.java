@@ -20,23 +20,50 @@ import io.camunda.connector.api.inbound.CorrelationFailureHandlingStrategy.Forwa
 import io.camunda.connector.api.inbound.CorrelationFailureHandlingStrategy.Ignore;
 import io.camunda.connector.api.inbound.CorrelationResult.Failure;
 import io.camunda.connector.api.inbound.CorrelationResult.Success;
+import io.camunda.connector.rabbitmq.inbound.DeliveryAcknowledger.Outcome;
 import io.camunda.connector.rabbitmq.inbound.model.RabbitMqInboundResult;
 import io.camunda.connector.rabbitmq.inbound.model.RabbitMqInboundResult.RabbitMqInboundMessage;
 import io.camunda.connector.rabbitmq.supplier.ObjectMapperSupplier;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Correlates the messages delivered to a channel.
+ *
+ * <p>With a single worker, messages are correlated one by one on the dispatch thread of the
+ * connection. With more workers, they are handed to a pool of worker threads and correlated
+ * concurrently, so messages may be correlated in a different order than they were delivered. The
+ * number of messages in progress is bounded by the prefetch count of the channel. Acknowledgements
+ * are coalesced by the {@link DeliveryAcknowledger}.
+ */
 public class RabbitMqConsumer extends DefaultConsumer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RabbitMqConsumer.class);
+  private static final long CLOSE_TIMEOUT_SECONDS = 30;
 
   private final InboundConnectorContext context;
+  private final DeliveryAcknowledger acknowledger;
+  private final ExecutorService workers; // null if messages are correlated on the dispatch thread
 
   public RabbitMqConsumer(Channel channel, InboundConnectorContext context) {
+    this(channel, context, 1);
+  }
+
+  public RabbitMqConsumer(Channel channel, InboundConnectorContext context, int workers) {
     super(channel);
     this.context = context;
+    this.acknowledger = new DeliveryAcknowledger(channel);
+    this.workers =
+        workers > 1
+            ? Executors.newFixedThreadPool(
+                workers, Thread.ofVirtual().name("connectors-rabbitmq-consumer-", 0).factory())
+            : null;
   }
 
   @Override
@@ -52,6 +79,35 @@ public class RabbitMqConsumer extends DefaultConsumer {
                 .withMessage(
                     "Received AMQP message with delivery tag " + envelope.getDeliveryTag()));
 
+    acknowledger.register(envelope.getDeliveryTag());
+    if (workers == null) {
+      correlate(consumerTag, envelope, properties, body);
+      return;
+    }
+    try {
+      workers.execute(
+          () -> {
+            try {
+              correlate(consumerTag, envelope, properties, body);
+            } catch (IOException e) {
+              // the channel is gone, the broker redelivers the message
+              LOGGER.warn(
+                  "Failed to acknowledge AMQP message with delivery tag {}: {}",
+                  envelope.getDeliveryTag(),
+                  e.getMessage());
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // the consumer is being closed, the message is redelivered when the channel is closed
+      LOGGER.debug(
+          "Consumer closed, AMQP message with delivery tag {} is not correlated",
+          envelope.getDeliveryTag());
+    }
+  }
+
+  private void correlate(
+      String consumerTag, Envelope envelope, BasicProperties properties, byte[] body)
+      throws IOException {
     try {
       RabbitMqInboundResult variables = prepareVariables(consumerTag, properties, body);
       var result =
@@ -68,7 +124,7 @@ public class RabbitMqConsumer extends DefaultConsumer {
                   .withSeverity(Severity.ERROR)
                   .withTag(ActivityLogTag.MESSAGE)
                   .withMessage("NACK (requeue) - failed to correlate event", e));
-      getChannel().basicReject(envelope.getDeliveryTag(), true);
+      acknowledger.complete(envelope.getDeliveryTag(), Outcome.REQUEUE);
     }
   }
 
@@ -83,7 +139,7 @@ public class RabbitMqConsumer extends DefaultConsumer {
                     .withSeverity(Severity.INFO)
                     .withTag(ActivityLogTag.MESSAGE)
                     .withMessage("Message correlated successfully"));
-        getChannel().basicAck(envelope.getDeliveryTag(), false);
+        acknowledger.complete(envelope.getDeliveryTag(), Outcome.ACK);
       }
 
       case Failure failure -> {
@@ -102,7 +158,7 @@ public class RabbitMqConsumer extends DefaultConsumer {
                           .withSeverity(Severity.WARNING)
                           .withTag(ActivityLogTag.MESSAGE)
                           .withMessage(errorLogMessage + ". Message will be requeued."));
-              getChannel().basicReject(envelope.getDeliveryTag(), true);
+              acknowledger.complete(envelope.getDeliveryTag(), Outcome.REQUEUE);
             } else {
               context.log(
                   activity ->
@@ -110,7 +166,7 @@ public class RabbitMqConsumer extends DefaultConsumer {
                           .withSeverity(Severity.WARNING)
                           .withTag(ActivityLogTag.MESSAGE)
                           .withMessage(errorLogMessage + ". Message will be dropped."));
-              getChannel().basicReject(envelope.getDeliveryTag(), false);
+              acknowledger.complete(envelope.getDeliveryTag(), Outcome.DISCARD);
             }
           }
           case Ignore ignored -> {
@@ -120,7 +176,7 @@ public class RabbitMqConsumer extends DefaultConsumer {
                         .withSeverity(Severity.WARNING)
                         .withTag(ActivityLogTag.MESSAGE)
                         .withMessage(errorLogMessage + ". Message will be acknowledged."));
-            getChannel().basicAck(envelope.getDeliveryTag(), false);
+            acknowledger.complete(envelope.getDeliveryTag(), Outcome.ACK);
           }
         }
       }
@@ -146,6 +202,8 @@ public class RabbitMqConsumer extends DefaultConsumer {
   @Override
   public void handleShutdownSignal(String consumerTag, ShutdownSignalException sig) {
     LOGGER.error("Consumer shutdown: {}", consumerTag, sig);
+    // unacknowledged messages are requeued by the broker, their delivery tags are not valid anymore
+    acknowledger.reset();
     context.log(
         activity ->
             activity
@@ -154,6 +212,28 @@ public class RabbitMqConsumer extends DefaultConsumer {
                 .withMessage("Consumer shutdown: " + consumerTag + sig));
   }
 
+  /**
+   * Stops accepting deliveries and waits for the messages in progress to be correlated and
+   * acknowledged. Must be called after cancelling the consumer and before closing the channel.
+   */
+  public void close() {
+    if (workers == null) {
+      return;
+    }
+    workers.shutdown();
+    try {
+      if (!workers.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOGGER.warn(
+            "Messages still in progress after {} seconds, they will be redelivered",
+            CLOSE_TIMEOUT_SECONDS);
+        workers.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      workers.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
   private RabbitMqInboundResult prepareVariables(
       String consumerTag, BasicProperties rawProperties, byte[] body) {
 
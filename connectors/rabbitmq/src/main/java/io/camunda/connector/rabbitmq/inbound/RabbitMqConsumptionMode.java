@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.rabbitmq.inbound;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * How the inbound RabbitMQ connector correlates the messages it consumes.
+ *
+ * <p>The mode is configured for the whole runtime with the {@value #WORKERS_ENV_NAME} and {@value
+ * #PREFETCH_ENV_NAME} environment variables.
+ *
+ * @param workers the number of messages that are correlated at the same time, with a single worker
+ *     messages are correlated one by one in the order they were delivered
+ * @param prefetchCount the number of unacknowledged messages the broker delivers to the consumer,
+ *     {@code 0} for no limit. Defaults to {@value #DEFAULT_PREFETCH_PER_WORKER} per worker when
+ *     more than one worker is configured, so that the workers always find a message to correlate
+ *     while the acknowledgements of the previous ones are on their way.
+ */
+public record RabbitMqConsumptionMode(int workers, int prefetchCount) {
+
+  public static final String WORKERS_ENV_NAME = "CAMUNDA_CONNECTOR_RABBITMQ_INBOUND_WORKERS";
+  public static final String PREFETCH_ENV_NAME = "CAMUNDA_CONNECTOR_RABBITMQ_INBOUND_PREFETCH";
+
+  public static final RabbitMqConsumptionMode SEQUENTIAL = new RabbitMqConsumptionMode(1, 0);
+
+  static final int DEFAULT_PREFETCH_PER_WORKER = 4;
+
+  public RabbitMqConsumptionMode {
+    if (workers <= 0) {
+      throw new IllegalArgumentException("workers must be positive, got " + workers);
+    }
+    if (prefetchCount < 0) {
+      throw new IllegalArgumentException(
+          "prefetchCount must not be negative, got " + prefetchCount);
+    }
+    if (prefetchCount == 0 && workers > 1) {
+      // without a limit the broker pushes the whole queue into the work queue of the workers
+      prefetchCount = workers * DEFAULT_PREFETCH_PER_WORKER;
+    }
+  }
+
+  public static RabbitMqConsumptionMode fromEnvironment() {
+    return from(System::getenv);
+  }
+
+  static RabbitMqConsumptionMode from(Function<String, String> environment) {
+    int workers =
+        Optional.ofNullable(environment.apply(WORKERS_ENV_NAME))
+            .map(value -> Integer.parseInt(value.trim()))
+            .orElse(1);
+    int prefetchCount =
+        Optional.ofNullable(environment.apply(PREFETCH_ENV_NAME))
+            .map(value -> Integer.parseInt(value.trim()))
+            .orElse(0);
+    return new RabbitMqConsumptionMode(workers, prefetchCount);
+  }
+}
@@ -8,7 +8,6 @@ package io.camunda.connector.rabbitmq.inbound;
 
 import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.Connection;
-import com.rabbitmq.client.Consumer;
 import com.rabbitmq.client.Recoverable;
 import com.rabbitmq.client.RecoveryListener;
 import io.camunda.connector.api.annotation.InboundConnector;
@@ -72,16 +71,25 @@ public class RabbitMqExecutable implements InboundConnectorExecutable<InboundCon
   private static final Logger LOGGER = LoggerFactory.getLogger(RabbitMqExecutable.class);
   private static final int CLOSE_TIMEOUT_MILLIS = 3000;
   private final ConnectionFactorySupplier connectionFactorySupplier;
+  private final RabbitMqConsumptionMode consumptionMode;
   private Connection connection;
   private Channel channel;
+  private RabbitMqConsumer consumer;
   private String consumerTag; // either provided in properties or generated by RabbitMQ server
 
   public RabbitMqExecutable() {
-    this.connectionFactorySupplier = new ConnectionFactorySupplier();
+    this(new ConnectionFactorySupplier());
   }
 
   public RabbitMqExecutable(final ConnectionFactorySupplier connectionFactorySupplier) {
+    this(connectionFactorySupplier, RabbitMqConsumptionMode.fromEnvironment());
+  }
+
+  public RabbitMqExecutable(
+      final ConnectionFactorySupplier connectionFactorySupplier,
+      final RabbitMqConsumptionMode consumptionMode) {
     this.connectionFactorySupplier = connectionFactorySupplier;
+    this.consumptionMode = consumptionMode;
   }
 
   @Override
@@ -112,6 +120,9 @@ public class RabbitMqExecutable implements InboundConnectorExecutable<InboundCon
     } catch (Exception e) {
       LOGGER.warn("Failed to cancel consumer", e);
     } finally {
+      if (consumer != null) {
+        consumer.close();
+      }
       if (connection != null) {
         connection.close(CLOSE_TIMEOUT_MILLIS);
       }
@@ -152,7 +163,10 @@ public class RabbitMqExecutable implements InboundConnectorExecutable<InboundCon
     }
 
     channel = connection.createChannel();
-    Consumer consumer = new RabbitMqConsumer(channel, context);
+    if (consumptionMode.prefetchCount() > 0) {
+      channel.basicQos(consumptionMode.prefetchCount());
+    }
+    consumer = new RabbitMqConsumer(channel, context, consumptionMode.workers());
 
     var data = new HashMap<String, Object>();
     data.put("connection-id", connection.getId());
@@ -177,7 +191,7 @@ public class RabbitMqExecutable implements InboundConnectorExecutable<InboundCon
         .newConnection();
   }
 
-  private String startConsumer(RabbitMqInboundProperties properties, Consumer consumer)
+  private String startConsumer(RabbitMqInboundProperties properties, RabbitMqConsumer consumer)
       throws IOException {
 
     if (StringUtils.isBlank(properties.getConsumerTag())) {
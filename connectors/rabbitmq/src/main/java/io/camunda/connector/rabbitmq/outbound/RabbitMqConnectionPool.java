@@ -0,0 +1,486 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.rabbitmq.outbound;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import com.rabbitmq.client.ShutdownSignalException;
+import io.camunda.connector.rabbitmq.common.model.FactoryRoutingData;
+import io.camunda.connector.rabbitmq.common.model.RabbitMqAuthentication;
+import io.camunda.connector.rabbitmq.common.model.UriAuthentication;
+import io.camunda.connector.rabbitmq.supplier.ConnectionFactorySupplier;
+import io.camunda.connector.util.concurrent.DaemonThreads;
+import io.camunda.connector.util.metrics.MicrometerHelper;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shares long-lived AMQP connections and channels between jobs publishing to the same broker with
+ * the same credentials.
+ *
+ * <p>Opening a connection for every message costs several round trips plus the TLS handshake, and
+ * brokers treat high connection churn as abuse. The pool keys connections by the authentication and
+ * routing data of the request and keeps up to {@code maxIdleChannels} open channels per connection
+ * for reuse. A connection that is found closed, e.g. after a network failure, is replaced by a new
+ * one instead of waiting for the automatic recovery of the client. A connection and its channels
+ * are closed once the connection was not used for the idle timeout. Connections are also keyed by
+ * the {@link ConnectionFactorySupplier}, so functions with their own supplier share the pool.
+ *
+ * <p>With publisher confirms enabled, every channel is put into confirm mode and a message only
+ * counts as published once the broker acknowledged it. A channel is kept by its publisher until the
+ * confirm arrived, and only then returned to the pool or closed. Closing a channel earlier would
+ * fail the pending confirms of messages the broker may already have accepted, and their jobs would
+ * publish them again.
+ */
+public class RabbitMqConnectionPool implements AutoCloseable {
+
+  public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+  public static final int DEFAULT_MAX_IDLE_CHANNELS = 16;
+  public static final Duration DEFAULT_CONFIRM_TIMEOUT = Duration.ofSeconds(30);
+  public static final String PUBLISHER_CONFIRMS_ENV_VARIABLE =
+      "CAMUNDA_CONNECTOR_RABBITMQ_PUBLISHER_CONFIRMS";
+
+  private static final Logger LOG = LoggerFactory.getLogger(RabbitMqConnectionPool.class);
+  private static final int CLOSE_TIMEOUT_MILLIS = 5000;
+  private static final Duration MIN_EVICTION_INTERVAL = Duration.ofSeconds(1);
+
+  private final ConnectionFactorySupplier connectionFactorySupplier;
+  private final Duration idleTimeout;
+  private final int maxIdleChannels;
+  private final boolean publisherConfirms;
+  private final Map<ConnectionKey, PooledConnection> connections = new HashMap<>();
+  private final Map<String, BrokerStats> brokers = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService evictor;
+  private boolean closed;
+
+  /**
+   * @param connectionFactorySupplier creates the connection factory for the authentication and
+   *     routing data of a request
+   * @param idleTimeout the time after which a connection that is not used is closed
+   * @param maxIdleChannels the number of open channels kept per connection for reuse
+   * @param publisherConfirms whether to wait for the broker to confirm every published message
+   */
+  public RabbitMqConnectionPool(
+      ConnectionFactorySupplier connectionFactorySupplier,
+      Duration idleTimeout,
+      int maxIdleChannels,
+      boolean publisherConfirms) {
+    if (maxIdleChannels <= 0) {
+      throw new IllegalArgumentException(
+          "maxIdleChannels must be positive, got " + maxIdleChannels);
+    }
+    this.connectionFactorySupplier = connectionFactorySupplier;
+    this.idleTimeout = idleTimeout;
+    this.maxIdleChannels = maxIdleChannels;
+    this.publisherConfirms = publisherConfirms;
+    long interval = Math.max(idleTimeout.toMillis() / 2, MIN_EVICTION_INTERVAL.toMillis());
+    this.evictor =
+        DaemonThreads.scheduleWithFixedDelay(
+            "connectors-rabbitmq-connection-eviction",
+            this::evictIdle,
+            Duration.ofMillis(interval));
+  }
+
+  /**
+   * The pool shared by all RabbitMQ producer connectors of the runtime. Publisher confirms are
+   * enabled with the {@value #PUBLISHER_CONFIRMS_ENV_VARIABLE} environment variable.
+   */
+  public static RabbitMqConnectionPool getDefault() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Publishes the message on a pooled channel of the broker, opening a connection with the supplier
+   * of the pool if there is none yet. With publisher confirms enabled, blocks until the broker
+   * confirmed the message.
+   *
+   * @throws IOException if publishing failed or the broker rejected the message
+   * @throws TimeoutException if the broker did not confirm the message in time
+   */
+  public void publish(
+      RabbitMqAuthentication authentication,
+      FactoryRoutingData routing,
+      String exchange,
+      String routingKey,
+      AMQP.BasicProperties properties,
+      byte[] body)
+      throws Exception {
+    publish(
+        connectionFactorySupplier, authentication, routing, exchange, routingKey, properties, body);
+  }
+
+  /**
+   * Publishes the message like {@link #publish(RabbitMqAuthentication, FactoryRoutingData, String,
+   * String, AMQP.BasicProperties, byte[])}, opening connections with the given supplier.
+   */
+  public void publish(
+      ConnectionFactorySupplier connectionFactorySupplier,
+      RabbitMqAuthentication authentication,
+      FactoryRoutingData routing,
+      String exchange,
+      String routingKey,
+      AMQP.BasicProperties properties,
+      byte[] body)
+      throws Exception {
+    // the routing data is part of the URI when authenticating with a URI
+    var key =
+        new ConnectionKey(
+            connectionFactorySupplier,
+            authentication,
+            authentication instanceof UriAuthentication ? null : routing);
+    PooledConnection pooled = lease(key);
+    try {
+      PooledChannel channel = pooled.borrowChannel();
+      try {
+        CompletableFuture<Void> confirmed = channel.publish(exchange, routingKey, properties, body);
+        if (confirmed != null) {
+          awaitConfirm(confirmed);
+        }
+      } finally {
+        pooled.giveBack(channel);
+      }
+    } finally {
+      release(pooled);
+    }
+  }
+
+  @Override
+  public void close() {
+    List<PooledConnection> toClose;
+    synchronized (this) {
+      closed = true;
+      toClose = new ArrayList<>(connections.values());
+      connections.clear();
+    }
+    evictor.shutdownNow();
+    toClose.forEach(PooledConnection::close);
+    brokers.values().forEach(BrokerStats::close);
+    brokers.clear();
+  }
+
+  ConnectionFactorySupplier connectionFactorySupplier() {
+    return connectionFactorySupplier;
+  }
+
+  synchronized int size() {
+    return connections.size();
+  }
+
+  void evictIdle() {
+    List<PooledConnection> toClose = new ArrayList<>();
+    synchronized (this) {
+      long now = System.nanoTime();
+      connections
+          .values()
+          .removeIf(
+              pooled -> {
+                boolean idle =
+                    pooled.leases == 0 && now - pooled.lastReleasedNanos > idleTimeout.toNanos();
+                if (idle) {
+                  toClose.add(pooled);
+                }
+                return idle;
+              });
+    }
+    if (!toClose.isEmpty()) {
+      LOG.debug("Closing {} idle RabbitMQ connections", toClose.size());
+    }
+    toClose.forEach(PooledConnection::close);
+  }
+
+  private synchronized PooledConnection lease(ConnectionKey key) {
+    if (closed) {
+      throw new IllegalStateException("RabbitMQ connection pool is closed");
+    }
+    PooledConnection pooled = connections.computeIfAbsent(key, PooledConnection::new);
+    pooled.leases++;
+    return pooled;
+  }
+
+  private synchronized void release(PooledConnection pooled) {
+    pooled.leases--;
+    pooled.lastReleasedNanos = System.nanoTime();
+  }
+
+  private static void awaitConfirm(CompletableFuture<Void> confirmed) throws Exception {
+    try {
+      confirmed.get(DEFAULT_CONFIRM_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Exception cause) {
+        throw cause;
+      }
+      throw e;
+    } catch (TimeoutException e) {
+      throw new TimeoutException(
+          "The broker did not confirm the message within " + DEFAULT_CONFIRM_TIMEOUT);
+    }
+  }
+
+  private static String broker(ConnectionFactory factory) {
+    String virtualHost = Optional.ofNullable(factory.getVirtualHost()).orElse("/");
+    return factory.getHost()
+        + ":"
+        + factory.getPort()
+        + (virtualHost.startsWith("/") ? virtualHost : "/" + virtualHost);
+  }
+
+  private record ConnectionKey(
+      ConnectionFactorySupplier connectionFactorySupplier,
+      RabbitMqAuthentication authentication,
+      FactoryRoutingData routing) {}
+
+  private final class PooledConnection {
+
+    private final ConnectionKey key;
+    private final BlockingQueue<PooledChannel> idleChannels =
+        new ArrayBlockingQueue<>(maxIdleChannels);
+    // guarded by the lock of the pool
+    private int leases;
+    private long lastReleasedNanos = System.nanoTime();
+    // guarded by this
+    private Connection connection;
+    private BrokerStats stats;
+
+    private PooledConnection(ConnectionKey key) {
+      this.key = key;
+    }
+
+    private PooledChannel borrowChannel() throws Exception {
+      PooledChannel channel;
+      while ((channel = idleChannels.poll()) != null) {
+        if (channel.isOpen()) {
+          return channel;
+        }
+        channel.close();
+      }
+      return openChannel();
+    }
+
+    /** Must only be called once no confirm of the borrower is pending any more. */
+    private void giveBack(PooledChannel channel) {
+      // a confirm that timed out may still be pending, the channel must not be reused then
+      if (!channel.isOpen() || channel.hasPendingConfirms() || !idleChannels.offer(channel)) {
+        channel.close();
+      }
+    }
+
+    private synchronized PooledChannel openChannel() throws Exception {
+      Channel channel = connection().createChannel();
+      if (channel == null) {
+        throw new IOException(
+            "Cannot open a channel, the channel limit of the connection is reached");
+      }
+      stats.openChannels.incrementAndGet();
+      return new PooledChannel(channel, stats, publisherConfirms);
+    }
+
+    /** Must be called while holding the lock of the pooled connection. */
+    private Connection connection() throws Exception {
+      if (connection != null && connection.isOpen()) {
+        return connection;
+      }
+      if (connection != null) {
+        LOG.debug("RabbitMQ connection to {} was closed, opening a new one", stats.broker);
+        closeConnection();
+      }
+      ConnectionFactory factory =
+          key.connectionFactorySupplier().createFactory(key.authentication(), key.routing());
+      // closed connections are replaced, a recovery in the background would only race with that
+      factory.setAutomaticRecoveryEnabled(false);
+      stats = brokers.computeIfAbsent(broker(factory), BrokerStats::new);
+      connection = factory.newConnection();
+      stats.openConnections.incrementAndGet();
+      return connection;
+    }
+
+    private synchronized void close() {
+      if (connection != null) {
+        closeConnection();
+      }
+    }
+
+    /** Must be called while holding the lock of the pooled connection. */
+    private void closeConnection() {
+      PooledChannel channel;
+      while ((channel = idleChannels.poll()) != null) {
+        channel.close();
+      }
+      try {
+        // unlike close, also stops a recovery in progress
+        connection.abort(CLOSE_TIMEOUT_MILLIS);
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to close RabbitMQ connection to {}", stats.broker, e);
+      } finally {
+        connection = null;
+        stats.openConnections.decrementAndGet();
+      }
+    }
+  }
+
+  private static final class PooledChannel {
+
+    private final Channel channel;
+    private final BrokerStats stats;
+    // messages waiting for a confirm by publish sequence number, null without publisher confirms
+    private final ConcurrentNavigableMap<Long, PendingConfirm> pendingConfirms;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private PooledChannel(Channel channel, BrokerStats stats, boolean publisherConfirms)
+        throws IOException {
+      this.channel = channel;
+      this.stats = stats;
+      if (publisherConfirms) {
+        this.pendingConfirms = new ConcurrentSkipListMap<>();
+        channel.confirmSelect();
+        channel.addConfirmListener(
+            (deliveryTag, multiple) -> confirm(deliveryTag, multiple, null),
+            (deliveryTag, multiple) ->
+                confirm(
+                    deliveryTag,
+                    multiple,
+                    new IOException("The broker rejected the message, it was not published")));
+        channel.addShutdownListener(this::failPendingConfirms);
+      } else {
+        this.pendingConfirms = null;
+      }
+    }
+
+    /** Must only be called by the thread that borrowed the channel. */
+    private CompletableFuture<Void> publish(
+        String exchange, String routingKey, AMQP.BasicProperties properties, byte[] body)
+        throws IOException {
+      if (pendingConfirms == null) {
+        channel.basicPublish(exchange, routingKey, properties, body);
+        return null;
+      }
+      long sequenceNumber = channel.getNextPublishSeqNo();
+      var pending = new PendingConfirm(System.nanoTime(), new CompletableFuture<>());
+      pendingConfirms.put(sequenceNumber, pending);
+      try {
+        channel.basicPublish(exchange, routingKey, properties, body);
+      } catch (IOException | RuntimeException e) {
+        pendingConfirms.remove(sequenceNumber);
+        throw e;
+      }
+      return pending.confirmed();
+    }
+
+    private void confirm(long deliveryTag, boolean multiple, Exception error) {
+      Map<Long, PendingConfirm> confirmed =
+          multiple
+              ? pendingConfirms.headMap(deliveryTag, true)
+              : pendingConfirms.subMap(deliveryTag, true, deliveryTag, true);
+      // removed before completing, so a woken publisher no longer sees its confirm as pending
+      List<PendingConfirm> completed = new ArrayList<>(confirmed.values());
+      confirmed.clear();
+      long now = System.nanoTime();
+      for (PendingConfirm pending : completed) {
+        if (error == null) {
+          stats.confirmLatency.accept(now - pending.publishedNanos());
+          pending.confirmed().complete(null);
+        } else {
+          pending.confirmed().completeExceptionally(error);
+        }
+      }
+    }
+
+    private void failPendingConfirms(ShutdownSignalException cause) {
+      var error = new IOException("The channel was closed before the broker confirmed", cause);
+      List<PendingConfirm> failed = new ArrayList<>(pendingConfirms.values());
+      pendingConfirms.clear();
+      failed.forEach(pending -> pending.confirmed().completeExceptionally(error));
+    }
+
+    private boolean isOpen() {
+      return !closed.get() && channel.isOpen();
+    }
+
+    private boolean hasPendingConfirms() {
+      return pendingConfirms != null && !pendingConfirms.isEmpty();
+    }
+
+    private void close() {
+      if (!closed.compareAndSet(false, true)) {
+        return;
+      }
+      stats.openChannels.decrementAndGet();
+      try {
+        if (channel.isOpen()) {
+          channel.close();
+        }
+      } catch (IOException | TimeoutException | ShutdownSignalException e) {
+        LOG.debug("Failed to close RabbitMQ channel", e);
+      }
+    }
+  }
+
+  private record PendingConfirm(long publishedNanos, CompletableFuture<Void> confirmed) {}
+
+  /** Shared by all pooled connections to the same broker. */
+  private static final class BrokerStats {
+
+    private final String broker;
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicInteger openChannels = new AtomicInteger();
+    private final AutoCloseable metrics;
+    private final LongConsumer confirmLatency;
+
+    private BrokerStats(String broker) {
+      this.broker = broker;
+      if (MicrometerHelper.isMicrometerAvailable()) {
+        var publisherMetrics =
+            RabbitMqPublisherMetrics.bindToGlobalRegistry(broker, openConnections, openChannels);
+        this.metrics = publisherMetrics;
+        this.confirmLatency = publisherMetrics::recordConfirmLatency;
+      } else {
+        this.metrics = null;
+        this.confirmLatency = nanos -> {};
+      }
+    }
+
+    private void close() {
+      try {
+        if (metrics != null) {
+          metrics.close();
+        }
+      } catch (Exception e) {
+        LOG.debug("Failed to remove RabbitMQ metrics of {}", broker, e);
+      }
+    }
+  }
+
+  private static final class Holder {
+    private static final RabbitMqConnectionPool INSTANCE =
+        new RabbitMqConnectionPool(
+            new ConnectionFactorySupplier(),
+            DEFAULT_IDLE_TIMEOUT,
+            DEFAULT_MAX_IDLE_CHANNELS,
+            Boolean.parseBoolean(System.getenv(PUBLISHER_CONFIRMS_ENV_VARIABLE)));
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.rabbitmq.outbound;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes the open connections and channels of the pooled RabbitMQ connections to a broker, and
+ * the latency of publisher confirms, tagged with the broker address.
+ *
+ * <p>Micrometer is an optional dependency, this class must only be loaded after checking that it is
+ * on the classpath.
+ */
+public class RabbitMqPublisherMetrics implements AutoCloseable {
+
+  public static final String METRIC_NAME_CONNECTIONS = "camunda.connector.rabbitmq.connections";
+  public static final String METRIC_NAME_CHANNELS = "camunda.connector.rabbitmq.channels";
+  public static final String METRIC_NAME_CONFIRM_LATENCY =
+      "camunda.connector.rabbitmq.publisher.confirm-latency";
+  public static final String TAG_BROKER = "broker";
+
+  private final MeterRegistry meterRegistry;
+  private final Timer confirmLatency;
+  private final List<Meter> meters;
+
+  public RabbitMqPublisherMetrics(
+      String broker,
+      AtomicInteger openConnections,
+      AtomicInteger openChannels,
+      MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.confirmLatency =
+        Timer.builder(METRIC_NAME_CONFIRM_LATENCY)
+            .description("Time until the broker confirmed a published message")
+            .tag(TAG_BROKER, broker)
+            .register(meterRegistry);
+    this.meters =
+        List.of(
+            Gauge.builder(METRIC_NAME_CONNECTIONS, openConnections, AtomicInteger::get)
+                .description("Open pooled connections")
+                .tag(TAG_BROKER, broker)
+                .register(meterRegistry),
+            Gauge.builder(METRIC_NAME_CHANNELS, openChannels, AtomicInteger::get)
+                .description("Open channels of the pooled connections")
+                .tag(TAG_BROKER, broker)
+                .register(meterRegistry),
+            confirmLatency);
+  }
+
+  static RabbitMqPublisherMetrics bindToGlobalRegistry(
+      String broker, AtomicInteger openConnections, AtomicInteger openChannels) {
+    return new RabbitMqPublisherMetrics(
+        broker, openConnections, openChannels, Metrics.globalRegistry);
+  }
+
+  void recordConfirmLatency(long nanos) {
+    confirmLatency.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  /** Removes the meters of the broker from the registry. */
+  @Override
+  public void close() {
+    meters.forEach(meterRegistry::remove);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.rabbitmq.inbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.rabbitmq.client.Channel;
+import io.camunda.connector.rabbitmq.inbound.DeliveryAcknowledger.Outcome;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class DeliveryAcknowledgerTest {
+
+  private final Channel channel = mock(Channel.class);
+  private final DeliveryAcknowledger acknowledger = new DeliveryAcknowledger(channel);
+
+  @Test
+  void shouldAckSingleDelivery() throws IOException {
+    // given
+    acknowledger.register(1);
+
+    // when
+    acknowledger.complete(1, Outcome.ACK);
+
+    // then
+    verify(channel).basicAck(1, false);
+    assertThat(acknowledger.outstanding()).isZero();
+  }
+
+  @Test
+  void shouldWaitForOldestDelivery_AndAckContiguousRunAtOnce() throws IOException {
+    // given
+    register(1, 2, 3);
+
+    // when
+    acknowledger.complete(3, Outcome.ACK);
+    acknowledger.complete(2, Outcome.ACK);
+
+    // then
+    verifyNoInteractions(channel);
+
+    // when
+    acknowledger.complete(1, Outcome.ACK);
+
+    // then
+    verify(channel).basicAck(3, true);
+    verifyNoMoreInteractions(channel);
+  }
+
+  @Test
+  void shouldSettleRunsOfDifferentOutcomesSeparately() throws IOException {
+    // given
+    register(1, 2, 3, 4, 5, 6);
+    acknowledger.complete(2, Outcome.ACK);
+    acknowledger.complete(3, Outcome.REQUEUE);
+    acknowledger.complete(4, Outcome.REQUEUE);
+    acknowledger.complete(5, Outcome.DISCARD);
+    acknowledger.complete(6, Outcome.ACK);
+
+    // when
+    acknowledger.complete(1, Outcome.ACK);
+
+    // then
+    var inOrder = inOrder(channel);
+    inOrder.verify(channel).basicAck(2, true);
+    inOrder.verify(channel).basicNack(4, true, true);
+    inOrder.verify(channel).basicReject(5, false);
+    inOrder.verify(channel).basicAck(6, false);
+    verifyNoMoreInteractions(channel);
+  }
+
+  @Test
+  void shouldStopAtPendingDelivery() throws IOException {
+    // given
+    register(1, 2, 3);
+    acknowledger.complete(3, Outcome.ACK);
+
+    // when
+    acknowledger.complete(1, Outcome.DISCARD);
+
+    // then
+    verify(channel).basicReject(1, false);
+    verifyNoMoreInteractions(channel);
+    assertThat(acknowledger.outstanding()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldIgnoreDeliveriesFromBeforeReset() throws IOException {
+    // given
+    register(1, 2);
+    acknowledger.reset();
+    register(3);
+
+    // when
+    acknowledger.complete(1, Outcome.ACK);
+    acknowledger.complete(3, Outcome.ACK);
+
+    // then
+    verify(channel).basicAck(3, false);
+    verifyNoMoreInteractions(channel);
+  }
+
+  private void register(long... deliveryTags) {
+    for (long deliveryTag : deliveryTags) {
+      acknowledger.register(deliveryTag);
+    }
+  }
+}
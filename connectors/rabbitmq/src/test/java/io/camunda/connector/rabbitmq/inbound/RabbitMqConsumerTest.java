@@ -8,8 +8,13 @@ package io.camunda.connector.rabbitmq.inbound;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -21,12 +26,15 @@ import io.camunda.connector.api.inbound.CorrelationRequest;
 import io.camunda.connector.api.inbound.CorrelationResult.Failure.ActivationConditionNotMet;
 import io.camunda.connector.api.inbound.CorrelationResult.Failure.InvalidInput;
 import io.camunda.connector.api.inbound.CorrelationResult.Failure.ZeebeClientStatus;
+import io.camunda.connector.api.inbound.CorrelationResult.Success.MessageAlreadyCorrelated;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
 import io.camunda.connector.rabbitmq.inbound.model.RabbitMqInboundResult;
 import io.camunda.connector.rabbitmq.inbound.model.RabbitMqInboundResult.RabbitMqInboundMessage;
 import io.camunda.connector.runtime.test.inbound.InboundConnectorContextBuilder.TestInboundConnectorContext;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -196,6 +204,47 @@ public class RabbitMqConsumerTest extends InboundBaseTest {
     verify(mockChannel, times(1)).basicAck(1, false);
   }
 
+  @Test
+  void consumer_shouldCorrelateConcurrently_WhenWorkersConfigured() throws Exception {
+    // Given that the first message is correlated only after the second one
+    var mockContext = mock(InboundConnectorContext.class);
+    var secondCorrelated = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              RabbitMqInboundResult result =
+                  (RabbitMqInboundResult)
+                      invocation.getArgument(0, CorrelationRequest.class).getVariables();
+              if ("first".equals(result.message().body())) {
+                assertThat(secondCorrelated.await(5, TimeUnit.SECONDS)).isTrue();
+              } else {
+                secondCorrelated.countDown();
+              }
+              return new MessageAlreadyCorrelated(null);
+            })
+        .when(mockContext)
+        .correlate(any(CorrelationRequest.class));
+    var consumer = new RabbitMqConsumer(mockChannel, mockContext, 2);
+    BasicProperties properties = new BasicProperties.Builder().build();
+
+    // When
+    consumer.handleDelivery(
+        "consumerTag",
+        new Envelope(1, false, "exchange", "routingKey"),
+        properties,
+        "first".getBytes());
+    consumer.handleDelivery(
+        "consumerTag",
+        new Envelope(2, false, "exchange", "routingKey"),
+        properties,
+        "second".getBytes());
+    consumer.close();
+
+    // Then both messages are acknowledged, the second one never before the first one
+    verify(mockContext, times(2)).correlate(any(CorrelationRequest.class));
+    verify(mockChannel).basicAck(eq(2L), anyBoolean());
+    verify(mockChannel, never()).basicReject(anyLong(), anyBoolean());
+  }
+
   @Nested
   class SuccessCases {
 
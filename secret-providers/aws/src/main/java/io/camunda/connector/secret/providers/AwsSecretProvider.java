@@ -48,6 +48,13 @@ public class AwsSecretProvider extends AbstractSecretProvider implements AutoClo
   @Override
   protected String loadSecrets(
       String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger) {
+    return loadVersionedSecrets(clusterId, secretsProjectId, secretsNamePrefix, logger)
+        .secretsAsJson();
+  }
+
+  @Override
+  protected VersionedSecrets loadVersionedSecrets(
+      String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger) {
     Objects.requireNonNull(clusterId, "You need to specify the clusterId to load secrets for");
     logger.info("Fetching secrets for cluster {} from aws secret manager", clusterId);
 
@@ -56,7 +63,7 @@ public class AwsSecretProvider extends AbstractSecretProvider implements AutoClo
       GetSecretValueRequest valueRequest =
           GetSecretValueRequest.builder().secretId(secretName).build();
       GetSecretValueResponse valueResponse = secretsClient.getSecretValue(valueRequest);
-      return valueResponse.secretString();
+      return new VersionedSecrets(valueResponse.versionId(), valueResponse.secretString());
     } catch (final SecretsManagerException e) {
       logger.error("Error loading secret from aws: {}", e.awsErrorDetails().errorMessage());
       throw new ConnectorException(
@@ -67,6 +74,7 @@ public class AwsSecretProvider extends AbstractSecretProvider implements AutoClo
 
   @Override
   public void close() {
+    super.close();
     if (secretsClient != null) {
       secretsClient.close();
     }
@@ -58,6 +58,14 @@ public class GcpSecretProvider extends AbstractSecretProvider {
   @Override
   protected String loadSecrets(
       String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger) {
+    return loadVersionedSecrets(clusterId, secretsProjectId, secretsNamePrefix, logger)
+        .secretsAsJson();
+  }
+
+  /** The version is the resolved name of the latest secret version, which contains its number. */
+  @Override
+  protected VersionedSecrets loadVersionedSecrets(
+      String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger) {
     Objects.requireNonNull(clusterId, "You need to specify the clusterId to load secrets for");
     logger.info("Fetching secrets for cluster {} from gcp secret manager", clusterId);
     try {
@@ -66,7 +74,8 @@ public class GcpSecretProvider extends AbstractSecretProvider {
           SecretVersionName.of(secretsProjectId, secretName, "latest");
       final AccessSecretVersionResponse response =
           secretsClient.accessSecretVersion(secretVersionName);
-      return response.getPayload().getData().toStringUtf8();
+      return new VersionedSecrets(
+          response.getName(), response.getPayload().getData().toStringUtf8());
     } catch (final Exception e) {
       logger.trace("Failed to load secrets from secret manager", e);
       throw new RuntimeException("Failed to load secrets from secret manager", e);
@@ -75,6 +84,7 @@ public class GcpSecretProvider extends AbstractSecretProvider {
 
   @Override
   public void close() {
+    super.close();
     if (secretsClient != null) {
       secretsClient.close();
     }
@@ -22,20 +22,29 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.secret.SecretContext;
 import io.camunda.connector.api.secret.SecretProvider;
+import io.camunda.connector.util.secret.SecretsRefresher;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Base class of secret providers that load all secrets of a cluster as one JSON document.
+ *
+ * <p>The secrets are reloaded in the background by a {@link SecretsRefresher} once they are older
+ * than the interval configured by {@code CAMUNDA_CONNECTOR_SECRETS_CACHE_MILLIS} (5 seconds by
+ * default).
+ *
+ * <p>Providers that know the version of the loaded secrets should override {@link
+ * #loadVersionedSecrets(String, String, String, Logger)}. The secrets are then only parsed again
+ * when the version changed.
+ */
 public abstract class AbstractSecretProvider implements SecretProvider, AutoCloseable {
 
   /** Secrets used as fallback if SecretProvider is loaded via SPI */
@@ -53,11 +62,13 @@ public abstract class AbstractSecretProvider implements SecretProvider, AutoClos
           .registerModule(new JavaTimeModule())
           .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
           .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-  private static final String CACHE_KEY = "SECRETS";
+  private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(5);
   private final String clusterId;
   private final String secretsProjectId;
   private final String secretsNamePrefix;
-  LoadingCache<String, Map<String, String>> secretsCache;
+  private final SecretsRefresher<SecretsSnapshot> refresher =
+      new SecretsRefresher<>(
+          "connectors-secrets-refresh", DEFAULT_REFRESH_INTERVAL, this::loadSnapshot);
   private ObjectMapper mapper;
 
   public AbstractSecretProvider() {
@@ -83,24 +94,23 @@ public abstract class AbstractSecretProvider implements SecretProvider, AutoClos
             secretsNamePrefix, "Configuration for Secrets name prefix is missing");
 
     this.setupSecretsCache();
+    refresher.bindMetricsToGlobalRegistry(getClass().getSimpleName());
   }
 
+  /**
+   * Reads the refresh interval and discards the loaded secrets, they are loaded again on the next
+   * lookup.
+   */
   public void setupSecretsCache() {
-    // Load secrets via this loader function whenever necessary
-    CacheLoader<String, Map<String, String>> loader =
-        new CacheLoader<>() {
-          @Override
-          public Map<String, String> load(String key) throws JsonProcessingException {
-            return unwrapSecrets(
-                loadSecrets(clusterId, secretsProjectId, secretsNamePrefix, logger));
-          }
-        };
     long millis =
         Long.parseLong(
             Optional.ofNullable(System.getenv(SECRETS_CACHE_MILLIS_ENV_NAME))
                 .orElseGet(() -> "5000"));
-    secretsCache =
-        CacheBuilder.newBuilder().refreshAfterWrite(millis, TimeUnit.MILLISECONDS).build(loader);
+    setupSecretsCache(Duration.ofMillis(Math.max(millis, 1)));
+  }
+
+  void setupSecretsCache(Duration refreshInterval) {
+    refresher.reset(refreshInterval);
   }
 
   protected Map<String, String> unwrapSecrets(final String secretsAsJson)
@@ -111,12 +121,59 @@ public abstract class AbstractSecretProvider implements SecretProvider, AutoClos
   protected abstract String loadSecrets(
       String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger);
 
+  /**
+   * Loads the secrets together with their version in the remote secret store. The default
+   * implementation delegates to {@link #loadSecrets(String, String, String, Logger)} and reports no
+   * version, which makes every refresh parse the secrets again.
+   */
+  protected VersionedSecrets loadVersionedSecrets(
+      String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger) {
+    return new VersionedSecrets(
+        null, loadSecrets(clusterId, secretsProjectId, secretsNamePrefix, logger));
+  }
+
   @Override
   public String getSecret(String name, SecretContext context) {
+    SecretsSnapshot current;
     try {
-      return secretsCache.get(CACHE_KEY).get(name);
-    } catch (ExecutionException e) {
+      current = refresher.get();
+    } catch (RuntimeException e) {
       throw new ConnectorException("Could not resolve secrets: " + e.getMessage(), e);
     }
+    return current.secrets().get(name);
+  }
+
+  @Override
+  public void close() {
+    refresher.close();
   }
+
+  long getRefreshFailureCount() {
+    return refresher.getRefreshFailureCount();
+  }
+
+  Duration getStaleness() {
+    return refresher.getStaleness();
+  }
+
+  private SecretsSnapshot loadSnapshot(SecretsSnapshot current) throws JsonProcessingException {
+    VersionedSecrets loaded =
+        loadVersionedSecrets(clusterId, secretsProjectId, secretsNamePrefix, logger);
+    if (current != null && loaded.version() != null && loaded.version().equals(current.version())) {
+      logger.debug("Secrets unchanged at version {}", loaded.version());
+      return current;
+    }
+    Map<String, String> secrets = unwrapSecrets(loaded.secretsAsJson());
+    return new SecretsSnapshot(Collections.unmodifiableMap(secrets), loaded.version());
+  }
+
+  /**
+   * Secrets as loaded from the remote secret store.
+   *
+   * @param version the version of the secrets, or {@code null} if unknown
+   * @param secretsAsJson the secrets as JSON object
+   */
+  protected record VersionedSecrets(String version, String secretsAsJson) {}
+
+  private record SecretsSnapshot(Map<String, String> secrets, String version) {}
 }
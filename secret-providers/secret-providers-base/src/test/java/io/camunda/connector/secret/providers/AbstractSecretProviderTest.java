@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.secret.providers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.camunda.connector.api.error.ConnectorException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+class AbstractSecretProviderTest {
+
+  private final TestSecretProvider provider = new TestSecretProvider();
+
+  @AfterEach
+  void close() {
+    provider.close();
+  }
+
+  @Test
+  void shouldFail_WhenInitialLoadFails() {
+    // given
+    provider.failing = true;
+
+    // when & then
+    assertThatThrownBy(() -> provider.getSecret("key", null))
+        .isInstanceOf(ConnectorException.class)
+        .hasRootCauseMessage("expected");
+    assertThat(provider.getRefreshFailureCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotReloadSecrets_WhenNoSecretsAreResolved() {
+    // given
+    provider.setSecrets("v1", "{\"key\":\"value\"}");
+    assertThat(provider.getSecret("key", null)).isEqualTo("value");
+
+    // when & then
+    await().during(Duration.ofMillis(100)).until(() -> provider.loads.get() == 1);
+  }
+
+  @Test
+  void shouldRefreshSecretsInBackground() {
+    // given
+    provider.setSecrets("v1", "{\"key\":\"value\"}");
+    assertThat(provider.getSecret("key", null)).isEqualTo("value");
+
+    // when
+    provider.setSecrets("v2", "{\"key\":\"newValue\"}");
+
+    // then
+    await().untilAsserted(() -> assertThat(provider.getSecret("key", null)).isEqualTo("newValue"));
+  }
+
+  @Test
+  void shouldServeStaleSecrets_WhenRefreshFails() {
+    // given
+    provider.setSecrets("v1", "{\"key\":\"value\"}");
+    assertThat(provider.getSecret("key", null)).isEqualTo("value");
+
+    // when
+    provider.failing = true;
+
+    // then
+    await()
+        .until(
+            () -> {
+              assertThat(provider.getSecret("key", null)).isEqualTo("value");
+              return provider.getRefreshFailureCount() >= 3;
+            });
+
+    provider.setSecrets("v2", "{\"key\":\"newValue\"}");
+    provider.failing = false;
+    await().untilAsserted(() -> assertThat(provider.getSecret("key", null)).isEqualTo("newValue"));
+  }
+
+  @Test
+  void shouldNotParseSecrets_WhenVersionIsUnchanged() {
+    // given
+    provider.setSecrets("v1", "{\"key\":\"value\"}");
+    assertThat(provider.getSecret("key", null)).isEqualTo("value");
+
+    // when
+    await()
+        .until(
+            () -> {
+              provider.getSecret("key", null);
+              return provider.loads.get() >= 5;
+            });
+
+    // then
+    assertThat(provider.parses.get()).isEqualTo(1);
+    assertThat(provider.getStaleness()).isLessThan(Duration.ofSeconds(1));
+  }
+
+  private static class TestSecretProvider extends AbstractSecretProvider {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger parses = new AtomicInteger();
+    private volatile VersionedSecrets secrets = new VersionedSecrets(null, "{}");
+    private volatile boolean failing;
+
+    private TestSecretProvider() {
+      super("cluster", null, "prefix");
+      setupSecretsCache(Duration.ofMillis(5));
+    }
+
+    private void setSecrets(String version, String secretsAsJson) {
+      secrets = new VersionedSecrets(version, secretsAsJson);
+    }
+
+    @Override
+    protected String loadSecrets(
+        String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger) {
+      return loadVersionedSecrets(clusterId, secretsProjectId, secretsNamePrefix, logger)
+          .secretsAsJson();
+    }
+
+    @Override
+    protected VersionedSecrets loadVersionedSecrets(
+        String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger) {
+      loads.incrementAndGet();
+      if (failing) {
+        throw new IllegalStateException("expected");
+      }
+      return secrets;
+    }
+
+    @Override
+    protected Map<String, String> unwrapSecrets(String secretsAsJson)
+        throws JsonProcessingException {
+      parses.incrementAndGet();
+      return super.unwrapSecrets(secretsAsJson);
+    }
+  }
+}